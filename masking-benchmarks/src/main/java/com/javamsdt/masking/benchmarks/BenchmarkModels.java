@@ -0,0 +1,165 @@
+/**
+ * Copyright (c) 2025: Ahmed Samy, All rights reserved.
+ * LinkedIn: https://www.linkedin.com/in/java-msdt/
+ * GitHub: https://github.com/JAVA-MSDT
+ * Email: serenitydiver@hotmail.com
+ */
+package com.javamsdt.masking.benchmarks;
+
+import com.javamsdt.masking.maskme.api.masking.MaskCondition;
+import com.javamsdt.masking.maskme.api.masking.MaskMe;
+import com.javamsdt.masking.maskme.api.masking.MaskMeException;
+import com.javamsdt.masking.maskme.implemintation.masking.AlwaysMaskCondition;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Objects and conditions measured by the benchmarks, in addition to the application's
+ * {@code UserDto} and {@code User} graphs.
+ *
+ * <p>Shapes:
+ * - {@link CustomerRecord} / {@link CustomerBean}: the same flat fields as a record and as a regular class
+ * - {@link MeterRecord} / {@link MeterBean}: flat {@code int}, {@code long}, {@code double} and {@code boolean} fields
+ * - {@link NoConditions}, {@link OneCondition}, {@link ThreeConditions}: 0, 1 and 3 conditions per field
+ * - {@link ConstantMasks} / {@link PlaceholderMasks}: constant and {@code [placeholder]} mask values
+ *
+ * @author Ahmed Samy
+ * @since 1.1.0
+ */
+public final class BenchmarkModels {
+
+    private BenchmarkModels() {
+        throw new MaskMeException("BenchmarkModels is not to be initialized");
+    }
+
+    public record CustomerRecord(
+            Long id,
+            @MaskMe(conditions = {AlwaysMaskCondition.class}) String name,
+            @MaskMe(conditions = {AlwaysMaskCondition.class}, maskValue = "hidden@example.com") String email,
+            String city,
+            @MaskMe(conditions = {AlwaysMaskCondition.class}, maskValue = "0") BigDecimal balance,
+            @MaskMe(conditions = {AlwaysMaskCondition.class}, maskValue = "1900-01-01") LocalDate birthDate
+    ) {}
+
+    public static class CustomerBean {
+        private Long id;
+        @MaskMe(conditions = {AlwaysMaskCondition.class})
+        private String name;
+        @MaskMe(conditions = {AlwaysMaskCondition.class}, maskValue = "hidden@example.com")
+        private String email;
+        private String city;
+        @MaskMe(conditions = {AlwaysMaskCondition.class}, maskValue = "0")
+        private BigDecimal balance;
+        @MaskMe(conditions = {AlwaysMaskCondition.class}, maskValue = "1900-01-01")
+        private LocalDate birthDate;
+
+        public CustomerBean() {
+        }
+
+        public CustomerBean(Long id, String name, String email, String city, BigDecimal balance, LocalDate birthDate) {
+            this.id = id;
+            this.name = name;
+            this.email = email;
+            this.city = city;
+            this.balance = balance;
+            this.birthDate = birthDate;
+        }
+    }
+
+    public record MeterRecord(
+            long meterId,
+            @MaskMe(conditions = {AlwaysMaskCondition.class}, maskValue = "0") long accountNumber,
+            @MaskMe(conditions = {AlwaysMaskCondition.class}, maskValue = "0") int pin,
+            @MaskMe(conditions = {AlwaysMaskCondition.class}, maskValue = "0.0") double reading,
+            double tariff,
+            boolean active
+    ) {}
+
+    public static class MeterBean {
+        private long meterId;
+        @MaskMe(conditions = {AlwaysMaskCondition.class}, maskValue = "0")
+        private long accountNumber;
+        @MaskMe(conditions = {AlwaysMaskCondition.class}, maskValue = "0")
+        private int pin;
+        @MaskMe(conditions = {AlwaysMaskCondition.class}, maskValue = "0.0")
+        private double reading;
+        private double tariff;
+        private boolean active;
+
+        public MeterBean() {
+        }
+
+        public MeterBean(long meterId, long accountNumber, int pin, double reading, double tariff, boolean active) {
+            this.meterId = meterId;
+            this.accountNumber = accountNumber;
+            this.pin = pin;
+            this.reading = reading;
+            this.tariff = tariff;
+            this.active = active;
+        }
+    }
+
+    public record NoConditions(String first, String second, String third, String fourth) {}
+
+    public record OneCondition(
+            @MaskMe(conditions = {NonNullValueCondition.class}) String first,
+            @MaskMe(conditions = {NonNullValueCondition.class}) String second,
+            @MaskMe(conditions = {NonNullValueCondition.class}) String third,
+            @MaskMe(conditions = {NonNullValueCondition.class}) String fourth
+    ) {}
+
+    public record ThreeConditions(
+            @MaskMe(conditions = {BlankValueCondition.class, DigitsValueCondition.class, NonNullValueCondition.class}) String first,
+            @MaskMe(conditions = {BlankValueCondition.class, DigitsValueCondition.class, NonNullValueCondition.class}) String second,
+            @MaskMe(conditions = {BlankValueCondition.class, DigitsValueCondition.class, NonNullValueCondition.class}) String third,
+            @MaskMe(conditions = {BlankValueCondition.class, DigitsValueCondition.class, NonNullValueCondition.class}) String fourth
+    ) {}
+
+    public record ConstantMasks(
+            String firstName,
+            String lastName,
+            @MaskMe(conditions = {AlwaysMaskCondition.class}, maskValue = "****") String login,
+            @MaskMe(conditions = {AlwaysMaskCondition.class}, maskValue = "hidden@example.com") String email
+    ) {}
+
+    public record PlaceholderMasks(
+            String firstName,
+            String lastName,
+            @MaskMe(conditions = {AlwaysMaskCondition.class}, maskValue = "[firstName]-[lastName]") String login,
+            @MaskMe(conditions = {AlwaysMaskCondition.class}, maskValue = "[firstName].[lastName]@example.com") String email
+    ) {}
+
+    /**
+     * Per-value condition that masks every non-null value.
+     */
+    public static class NonNullValueCondition implements MaskCondition {
+
+        @Override
+        public boolean shouldMask(Object fieldValue, Object containingObject) {
+            return fieldValue != null;
+        }
+    }
+
+    /**
+     * Per-value condition that masks blank strings (never true for the benchmark data).
+     */
+    public static class BlankValueCondition implements MaskCondition {
+
+        @Override
+        public boolean shouldMask(Object fieldValue, Object containingObject) {
+            return fieldValue instanceof String text && text.isBlank();
+        }
+    }
+
+    /**
+     * Per-value condition that masks digit-only strings (never true for the benchmark data).
+     */
+    public static class DigitsValueCondition implements MaskCondition {
+
+        @Override
+        public boolean shouldMask(Object fieldValue, Object containingObject) {
+            return fieldValue instanceof String text && !text.isEmpty() && text.chars().allMatch(Character::isDigit);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/**
+ * Copyright (c) 2025: Ahmed Samy, All rights reserved.
+ * LinkedIn: https://www.linkedin.com/in/java-msdt/
+ * GitHub: https://github.com/JAVA-MSDT
+ * Email: serenitydiver@hotmail.com
+ */
+package com.javamsdt.masking.benchmarks;
+
+import com.javamsdt.masking.domain.Gender;
+import com.javamsdt.masking.maskconverter.CustomStringConverter;
+import com.javamsdt.masking.maskme.api.converter.ConverterFactory;
+import com.javamsdt.masking.maskme.api.converter.ConverterRegistry;
+import com.javamsdt.masking.maskme.api.masking.MaskProcessor;
+import com.javamsdt.masking.maskme.api.masking.MaskingContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Converter costs: one conversion through each default converter, and a full {@code process()}
+ * call with the same custom converter registered in each scope of the registry.
+ *
+ * @author Ahmed Samy
+ * @since 1.1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConverterBenchmark {
+
+    /**
+     * One field type per default converter.
+     */
+    public enum Target {
+        // PrimitiveConverter
+        STRING("****", String.class, "Jane Doe"),
+        // NumberConverter, parsing and rounding the original for a blank mask
+        LONG("1000", Long.class, 42L),
+        LONG_UNPARSEABLE("****", Long.class, 42L),
+        BIG_DECIMAL("", BigDecimal.class, new BigDecimal("1520.75")),
+        // DateTimeConverter
+        LOCAL_DATE("1900-01-01", LocalDate.class, LocalDate.of(1990, 4, 12)),
+        LOCAL_DATE_UNPARSEABLE("****", LocalDate.class, LocalDate.of(1990, 4, 12)),
+        INSTANT("1900-01-01T00:00:00Z", Instant.class, Instant.EPOCH),
+        // SpecialTypeConverter
+        UUID_VALUE("00000000-0000-0000-0000-000000000000", UUID.class, UUID.fromString("3f1c4a52-8d0e-4f7b-9a61-2c5e7b8d9f10")),
+        ENUM("MALE", Gender.class, Gender.FEMALE),
+        ENUM_LOWER_CASE("male", Gender.class, Gender.FEMALE),
+        // FallbackConverter
+        OTHER("****", StringBuilder.class, new StringBuilder("x"));
+
+        private final String maskValue;
+        private final Class<?> type;
+        private final Object original;
+
+        Target(String maskValue, Class<?> type, Object original) {
+            this.maskValue = maskValue;
+            this.type = type;
+            this.original = original;
+        }
+    }
+
+    /**
+     * Where {@link CustomStringConverter} is registered for the scope benchmark.
+     */
+    public enum ConverterScope {
+        NONE, GLOBAL, THREAD, REQUEST, CONTEXT
+    }
+
+    @State(Scope.Benchmark)
+    public static class DefaultConverters {
+
+        @Param
+        private Target target;
+
+        private final Object containingObject = new Object();
+    }
+
+    @State(Scope.Thread)
+    public static class ScopedConverters {
+
+        @Param
+        private ConverterScope scope;
+
+        private final MaskProcessor processor = new MaskProcessor();
+        private final CustomStringConverter converter = new CustomStringConverter();
+        private MaskingContext context = MaskingContext.empty();
+        private BenchmarkModels.CustomerRecord customer;
+
+        // Thread-scoped state: setup and teardown run on the benchmark thread, like a request would
+        @Setup
+        public void setUp() {
+            customer = Fixtures.customerRecord();
+            switch (scope) {
+                case GLOBAL -> ConverterRegistry.registerGlobal(converter);
+                case THREAD -> ConverterRegistry.registerThreadLocal(converter);
+                case REQUEST -> {
+                    ConverterRegistry.startRequestScope("benchmark");
+                    ConverterRegistry.registerRequestScoped(converter);
+                }
+                case CONTEXT -> context = context.withConverter(converter);
+                case NONE -> {
+                    // Default converters only
+                }
+            }
+        }
+
+        @TearDown
+        public void tearDown() {
+            ConverterRegistry.unregisterGlobal(converter);
+            ConverterRegistry.clearThreadLocal();
+            ConverterRegistry.endRequestScope();
+        }
+    }
+
+    @Benchmark
+    public Object defaultConverter(DefaultConverters state) {
+        Target target = state.target;
+        return ConverterFactory.convertToFieldType(target.maskValue, target.type, target.original,
+                state.containingObject, "field");
+    }
+
+    @Benchmark
+    public Object scopedConverter(ScopedConverters state) {
+        // NONE/GLOBAL/THREAD/REQUEST resolve converters from the registry scopes, CONTEXT from the context
+        return state.scope == ConverterScope.CONTEXT
+                ? state.processor.process(state.customer, state.context)
+                : state.processor.process(state.customer);
+    }
+}
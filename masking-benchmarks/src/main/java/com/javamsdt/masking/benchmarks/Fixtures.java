@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) 2025: Ahmed Samy, All rights reserved.
+ * LinkedIn: https://www.linkedin.com/in/java-msdt/
+ * GitHub: https://github.com/JAVA-MSDT
+ * Email: serenitydiver@hotmail.com
+ */
+package com.javamsdt.masking.benchmarks;
+
+import com.javamsdt.masking.domain.Address;
+import com.javamsdt.masking.domain.Gender;
+import com.javamsdt.masking.domain.GeoLocation;
+import com.javamsdt.masking.domain.User;
+import com.javamsdt.masking.dto.AddressDto;
+import com.javamsdt.masking.dto.GeoLocationDto;
+import com.javamsdt.masking.dto.UserDto;
+import com.javamsdt.masking.maskme.api.masking.FrameworkProvider;
+import com.javamsdt.masking.maskme.api.masking.MaskConditionFactory;
+import com.javamsdt.masking.maskme.api.masking.MaskMeException;
+import com.javamsdt.masking.maskme.api.masking.MaskingContext;
+import com.javamsdt.masking.maskme.implemintation.masking.MaskOnInput;
+import com.javamsdt.masking.maskme.implemintation.masking.MaskPhone;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Builds the benchmark objects and the runtime setup the application normally gets from Spring.
+ *
+ * @author Ahmed Samy
+ * @since 1.1.0
+ */
+final class Fixtures {
+
+    private Fixtures() {
+        throw new MaskMeException("Fixtures is not to be initialized");
+    }
+
+    /**
+     * Registers the provider the Spring configuration would install, so {@link MaskOnInput}
+     * (a Spring component without a no-arg constructor) can be created outside the container.
+     */
+    static void installConditionProvider() {
+        MaskConditionFactory.setFrameworkProvider(new FrameworkProvider() {
+            @Override
+            public <T> T getInstance(Class<T> type) {
+                return type == MaskOnInput.class ? type.cast(new MaskOnInput(null)) : null;
+            }
+        });
+    }
+
+    /**
+     * @return context masking both request-driven fields of {@link UserDto}
+     */
+    static MaskingContext requestContext() {
+        return MaskingContext.empty()
+                .withInput(MaskOnInput.class, Map.of(MaskOnInput.MASK_ON_INPUT_ONE_KEY, "mask",
+                        MaskOnInput.MASK_ON_INPUT_TWO_KEY, "mask"))
+                .withInput(MaskPhone.class, Map.of(MaskPhone.MASK_PHONE_KEY_ONE, "yes",
+                        MaskPhone.MASK_PHONE_KEY_TWO, "yes"));
+    }
+
+    static UserDto userDto() {
+        return userDto(addressDto());
+    }
+
+    static AddressDto addressDto() {
+        GeoLocationDto geoLocation = new GeoLocationDto(UUID.fromString("3f1c4a52-8d0e-4f7b-9a61-2c5e7b8d9f10"), 13.4050, 52.5200);
+        return new AddressDto(7L, "Main Street", "12B", "Berlin", "Berlin", "10115", "Germany", geoLocation);
+    }
+
+    static UserDto userDto(AddressDto address) {
+        return new UserDto(1L, "Jane Doe", "jane.doe@example.com", "s3cr3t!", "+49-30-1234567", address,
+                LocalDate.of(1990, 4, 12), "F", "Female", new BigDecimal("1520.75"), Instant.parse("2024-01-15T10:15:30Z"));
+    }
+
+    static User user() {
+        GeoLocation geoLocation = new GeoLocation(UUID.fromString("3f1c4a52-8d0e-4f7b-9a61-2c5e7b8d9f10"), 13.4050, 52.5200);
+        Address address = new Address(7L, "Main Street", "12B", "Berlin", "Berlin", "10115", "Germany", geoLocation);
+        return new User(1L, "Jane Doe", "jane.doe@example.com", "s3cr3t!", "+49-30-1234567", address,
+                LocalDate.of(1990, 4, 12), Gender.FEMALE, new BigDecimal("1520.75"), Instant.parse("2024-01-15T10:15:30Z"));
+    }
+
+    static BenchmarkModels.CustomerRecord customerRecord() {
+        return new BenchmarkModels.CustomerRecord(1L, "Jane Doe", "jane.doe@example.com", "Berlin",
+                new BigDecimal("1520.75"), LocalDate.of(1990, 4, 12));
+    }
+
+    static BenchmarkModels.CustomerBean customerBean() {
+        return new BenchmarkModels.CustomerBean(1L, "Jane Doe", "jane.doe@example.com", "Berlin",
+                new BigDecimal("1520.75"), LocalDate.of(1990, 4, 12));
+    }
+
+    static BenchmarkModels.MeterRecord meterRecord() {
+        return new BenchmarkModels.MeterRecord(4_200_017L, 9_876_543_210L, 4821, 1834.25, 0.31, true);
+    }
+
+    static BenchmarkModels.MeterBean meterBean() {
+        return new BenchmarkModels.MeterBean(4_200_017L, 9_876_543_210L, 4821, 1834.25, 0.31, true);
+    }
+}
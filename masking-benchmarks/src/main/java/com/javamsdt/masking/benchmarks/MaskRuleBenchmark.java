@@ -0,0 +1,81 @@
+/**
+ * Copyright (c) 2025: Ahmed Samy, All rights reserved.
+ * LinkedIn: https://www.linkedin.com/in/java-msdt/
+ * GitHub: https://github.com/JAVA-MSDT
+ * Email: serenitydiver@hotmail.com
+ */
+package com.javamsdt.masking.benchmarks;
+
+import com.javamsdt.masking.maskme.api.masking.MaskProcessor;
+import com.javamsdt.masking.maskme.api.masking.MaskingContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the {@code @MaskMe} rules themselves: 0, 1 and 3 per-value conditions on each of four fields
+ * (the third condition masks), and constant vs. {@code [placeholder]} mask values.
+ *
+ * @author Ahmed Samy
+ * @since 1.1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MaskRuleBenchmark {
+
+    private final MaskProcessor processor = new MaskProcessor();
+    private final MaskingContext context = MaskingContext.empty();
+
+    private BenchmarkModels.NoConditions noConditions;
+    private BenchmarkModels.OneCondition oneCondition;
+    private BenchmarkModels.ThreeConditions threeConditions;
+    private BenchmarkModels.ConstantMasks constantMasks;
+    private BenchmarkModels.PlaceholderMasks placeholderMasks;
+
+    @Setup
+    public void setUp() {
+        noConditions = new BenchmarkModels.NoConditions("alpha", "bravo", "charlie", "delta");
+        oneCondition = new BenchmarkModels.OneCondition("alpha", "bravo", "charlie", "delta");
+        threeConditions = new BenchmarkModels.ThreeConditions("alpha", "bravo", "charlie", "delta");
+        constantMasks = new BenchmarkModels.ConstantMasks("Jane", "Doe", "jdoe", "jane.doe@example.com");
+        placeholderMasks = new BenchmarkModels.PlaceholderMasks("Jane", "Doe", "jdoe", "jane.doe@example.com");
+    }
+
+    @Benchmark
+    public BenchmarkModels.NoConditions zeroConditions() {
+        return processor.process(noConditions, context);
+    }
+
+    @Benchmark
+    public BenchmarkModels.OneCondition oneCondition() {
+        return processor.process(oneCondition, context);
+    }
+
+    @Benchmark
+    public BenchmarkModels.ThreeConditions threeConditions() {
+        return processor.process(threeConditions, context);
+    }
+
+    @Benchmark
+    public BenchmarkModels.ConstantMasks constantMaskValues() {
+        return processor.process(constantMasks, context);
+    }
+
+    @Benchmark
+    public BenchmarkModels.PlaceholderMasks placeholderMaskValues() {
+        return processor.process(placeholderMasks, context);
+    }
+}
@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) 2025: Ahmed Samy, All rights reserved.
+ * LinkedIn: https://www.linkedin.com/in/java-msdt/
+ * GitHub: https://github.com/JAVA-MSDT
+ * Email: serenitydiver@hotmail.com
+ */
+package com.javamsdt.masking.benchmarks;
+
+import com.javamsdt.masking.domain.User;
+import com.javamsdt.masking.dto.UserDto;
+import com.javamsdt.masking.maskme.api.masking.MaskEngine;
+import com.javamsdt.masking.maskme.api.masking.MaskProcessor;
+import com.javamsdt.masking.maskme.api.masking.MaskingContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Masks records vs. regular classes, flat vs. nested, on both runtime engines.
+ *
+ * <p>Nested graphs are the application's {@code UserDto -> AddressDto -> GeoLocationDto} records
+ * (compiled with generated maskers) and the {@code User -> Address -> GeoLocation} classes;
+ * flat ones are {@link BenchmarkModels.CustomerRecord} and {@link BenchmarkModels.CustomerBean}, and the
+ * primitive-only {@link BenchmarkModels.MeterRecord} and {@link BenchmarkModels.MeterBean}.
+ *
+ * @author Ahmed Samy
+ * @since 1.1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ObjectShapeBenchmark {
+
+    @Param({"REFLECTIVE", "BYTECODE"})
+    private MaskEngine engine;
+
+    private MaskProcessor processor;
+    private MaskingContext context;
+    private BenchmarkModels.CustomerRecord customerRecord;
+    private BenchmarkModels.CustomerBean customerBean;
+    private BenchmarkModels.MeterRecord meterRecord;
+    private BenchmarkModels.MeterBean meterBean;
+    private UserDto userDto;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        Fixtures.installConditionProvider();
+        processor = new MaskProcessor(engine);
+        context = Fixtures.requestContext();
+        customerRecord = Fixtures.customerRecord();
+        customerBean = Fixtures.customerBean();
+        meterRecord = Fixtures.meterRecord();
+        meterBean = Fixtures.meterBean();
+        userDto = Fixtures.userDto();
+        user = Fixtures.user();
+    }
+
+    @Benchmark
+    public BenchmarkModels.CustomerRecord flatRecord() {
+        return processor.process(customerRecord, context);
+    }
+
+    @Benchmark
+    public BenchmarkModels.CustomerBean flatClass() {
+        return processor.process(customerBean, context);
+    }
+
+    @Benchmark
+    public BenchmarkModels.MeterRecord primitiveRecord() {
+        return processor.process(meterRecord, context);
+    }
+
+    @Benchmark
+    public BenchmarkModels.MeterBean primitiveClass() {
+        return processor.process(meterBean, context);
+    }
+
+    @Benchmark
+    public UserDto nestedRecord() {
+        return processor.process(userDto, context);
+    }
+
+    @Benchmark
+    public User nestedClass() {
+        return processor.process(user, context);
+    }
+}
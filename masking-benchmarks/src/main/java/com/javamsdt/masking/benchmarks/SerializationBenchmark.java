@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2025: Ahmed Samy, All rights reserved.
+ * LinkedIn: https://www.linkedin.com/in/java-msdt/
+ * GitHub: https://github.com/JAVA-MSDT
+ * Email: serenitydiver@hotmail.com
+ */
+package com.javamsdt.masking.benchmarks;
+
+import com.javamsdt.masking.dto.UserDto;
+import com.javamsdt.masking.maskme.api.masking.MaskProcessor;
+import com.javamsdt.masking.maskme.api.masking.MaskingContext;
+import com.javamsdt.masking.maskme.api.masking.MaskingSerializerModifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Masked JSON responses: {@code process()} followed by plain serialization vs. masking while
+ * serializing with {@link MaskingSerializerModifier}. Both produce the same bytes.
+ *
+ * @author Ahmed Samy
+ * @since 1.1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    private MaskProcessor processor;
+    private MaskingContext context;
+    private JsonMapper plainMapper;
+    private ObjectWriter maskingWriter;
+    private UserDto userDto;
+
+    @Setup
+    public void setUp() {
+        Fixtures.installConditionProvider();
+        processor = new MaskProcessor();
+        context = Fixtures.requestContext();
+        plainMapper = JsonMapper.builder().build();
+        maskingWriter = JsonMapper.builder()
+                .addModule(MaskingSerializerModifier.module(processor))
+                .build()
+                .writer()
+                .withAttribute(MaskingContext.class, context);
+        userDto = Fixtures.userDto();
+    }
+
+    @Benchmark
+    public byte[] processThenSerialize() {
+        return plainMapper.writeValueAsBytes(processor.process(userDto, context));
+    }
+
+    @Benchmark
+    public byte[] maskWhileSerializing() {
+        return maskingWriter.writeValueAsBytes(userDto);
+    }
+}
@@ -0,0 +1,81 @@
+/**
+ * Copyright (c) 2025: Ahmed Samy, All rights reserved.
+ * LinkedIn: https://www.linkedin.com/in/java-msdt/
+ * GitHub: https://github.com/JAVA-MSDT
+ * Email: serenitydiver@hotmail.com
+ */
+package com.javamsdt.masking.benchmarks;
+
+import com.javamsdt.masking.domain.User;
+import com.javamsdt.masking.dto.AddressDto;
+import com.javamsdt.masking.dto.UserDto;
+import com.javamsdt.masking.maskme.api.masking.MaskProcessor;
+import com.javamsdt.masking.maskme.api.masking.MaskingContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * One {@code process()} call over a wide list: nested records ({@code UserDto -> AddressDto -> GeoLocationDto},
+ * whose type graph is acyclic) vs. nested classes ({@code User -> Address -> GeoLocation}, tracked for
+ * circular references), and nested records all pointing to one shared {@code AddressDto}, which is
+ * masked once per call.
+ *
+ * @author Ahmed Samy
+ * @since 1.1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WideListBenchmark {
+
+    @Param({"1000"})
+    private int size;
+
+    private MaskProcessor processor;
+    private MaskingContext context;
+    private List<UserDto> records;
+    private List<UserDto> sharedRecords;
+    private List<User> classes;
+
+    @Setup
+    public void setUp() {
+        Fixtures.installConditionProvider();
+        processor = new MaskProcessor();
+        context = Fixtures.requestContext();
+        records = Stream.generate(Fixtures::userDto).limit(size).toList();
+        classes = Stream.generate(Fixtures::user).limit(size).toList();
+        AddressDto address = Fixtures.addressDto();
+        sharedRecords = Stream.generate(() -> Fixtures.userDto(address)).limit(size).toList();
+    }
+
+    @Benchmark
+    public List<UserDto> nestedRecords() {
+        return processor.process(records, context);
+    }
+
+    @Benchmark
+    public List<UserDto> sharedRecords() {
+        return processor.process(sharedRecords, context);
+    }
+
+    @Benchmark
+    public List<User> nestedClasses() {
+        return processor.process(classes, context);
+    }
+}
@@ -0,0 +1,87 @@
+#!/usr/bin/env bash
+#
+# Copyright (c) 2025: Ahmed Samy, All rights reserved.
+# LinkedIn: https://www.linkedin.com/in/java-msdt/
+# GitHub: https://github.com/JAVA-MSDT
+#
+# Measures startup time and resident memory of the masking application, on the JVM or as a native
+# image, and smoke-tests masking a UserDto through /users/masked/{id}.
+#
+#   ./scripts/measure-startup.sh jvm      # after: mvn -f .. package -DskipTests
+#   ./scripts/measure-startup.sh native   # after: mvn -Pnative native:compile (GraalVM with native-image)
+#
+# Prints one line per run and the medians:
+#   startup_s    "Started MaskingApplication in ..." from the application log
+#   ready_ms     launch until /actuator/health answers
+#   rss_idle_mb  resident memory once ready
+#   rss_load_mb  resident memory after REQUESTS masked responses
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+mode=${1:?usage: measure-startup.sh jvm|native}
+port=${PORT:-9090}
+runs=${RUNS:-5}
+requests=${REQUESTS:-500}
+
+case "$mode" in
+    jvm)
+        [ -f target/classpath.txt ] || mvn -q dependency:build-classpath -Dmdep.outputFile=target/classpath.txt
+        command=("${JAVA_HOME:+$JAVA_HOME/bin/}java" -cp "target/classes:$(cat target/classpath.txt)"
+                 com.javamsdt.masking.MaskingApplication) ;;
+    native)
+        command=(./target/masking) ;;
+    *)
+        echo "unknown mode: $mode (expected jvm or native)" >&2
+        exit 2 ;;
+esac
+
+masked_url="http://localhost:$port/users/masked/1"
+log="target/startup-$mode.log"
+
+rss_mb() {
+    awk '/VmRSS/ { printf "%.1f", $2 / 1024 }' "/proc/$1/status"
+}
+
+median() {
+    sort -n | awk '{ values[NR] = $1 } END { print values[int((NR + 1) / 2)] }'
+}
+
+results=()
+for run in $(seq 1 "$runs"); do
+    start=$(date +%s%N)
+    "${command[@]}" --server.port="$port" > "$log" 2>&1 &
+    pid=$!
+    trap 'kill $pid 2>/dev/null || true' EXIT
+
+    until curl -sf "http://localhost:$port/actuator/health" > /dev/null; do
+        kill -0 "$pid" 2>/dev/null || { echo "application exited, see $log" >&2; exit 1; }
+        sleep 0.01
+    done
+    ready_ms=$(( ($(date +%s%N) - start) / 1000000 ))
+    startup_s=$(sed -n 's/.*Started MaskingApplication in \([0-9.]*\) seconds.*/\1/p' "$log")
+    rss_idle=$(rss_mb "$pid")
+
+    # Smoke test: id and password are always masked, the phone only when its input matches
+    body=$(curl -sf -H "Mask-Input: none" -H "Mask-Phone: MaskPhone" "$masked_url")
+    if ! grep -q '"id":1000,' <<< "$body" || ! grep -Eq '"password":"\*+"' <<< "$body" \
+            || ! grep -q '"phone":"\[PHONE_MASKED\]"' <<< "$body"; then
+        echo "smoke test failed, masked user was: $body" >&2
+        exit 1
+    fi
+    for _ in $(seq 1 "$requests"); do
+        curl -sf -H "Mask-Input: none" -H "Mask-Phone: MaskPhone" "$masked_url" > /dev/null
+    done
+    rss_load=$(rss_mb "$pid")
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    trap - EXIT
+
+    results+=("$startup_s $ready_ms $rss_idle $rss_load")
+    echo "$mode run $run: startup_s=$startup_s ready_ms=$ready_ms rss_idle_mb=$rss_idle rss_load_mb=$rss_load"
+done
+
+column() {
+    printf '%s\n' "${results[@]}" | awk -v c="$1" '{ print $c }' | median
+}
+echo "$mode median: startup_s=$(column 1) ready_ms=$(column 2) rss_idle_mb=$(column 3) rss_load_mb=$(column 4)"
@@ -0,0 +1,62 @@
+/**
+ * Copyright (c) 2025: Ahmed Samy, All rights reserved.
+ * LinkedIn: https://www.linkedin.com/in/java-msdt/
+ * GitHub: https://github.com/JAVA-MSDT
+ */
+package com.javamsdt.masking.config;
+
+import com.javamsdt.masking.maskme.api.masking.MaskMeException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Finds the classes under base packages that may carry @MaskMe, for the startup warm-up and the
+ * AOT reflection hints. Classes are loaded without being initialized; classes that cannot be
+ * loaded are skipped.
+ *
+ * @author Ahmed Samy
+ * @since 1.1.0
+ */
+@Slf4j
+final class MaskedTypeScanner {
+
+    private MaskedTypeScanner() {
+        throw new MaskMeException("MaskedTypeScanner is not to be initialized");
+    }
+
+    /**
+     * Loads every concrete or abstract class, record and nested type under the packages.
+     *
+     * @param classLoader the loader to load the classes with
+     * @param packages the base packages to scan
+     * @return the classes found, in scan order
+     */
+    static Set<Class<?>> scan(ClassLoader classLoader, Iterable<String> packages) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                // Records, abstract classes and nested types can all carry @MaskMe
+                return !beanDefinition.getMetadata().isInterface() && !beanDefinition.getMetadata().isAnnotation();
+            }
+        };
+        scanner.addIncludeFilter((metadataReader, metadataReaderFactory) -> true);
+        scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+        Set<Class<?>> types = new LinkedHashSet<>();
+        for (String basePackage : packages) {
+            for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage.trim())) {
+                try {
+                    types.add(Class.forName(candidate.getBeanClassName(), false, classLoader));
+                } catch (ClassNotFoundException | LinkageError e) {
+                    log.debug("Could not load {} while scanning for masked types: {}", candidate.getBeanClassName(), e.getMessage());
+                }
+            }
+        }
+        return types;
+    }
+}
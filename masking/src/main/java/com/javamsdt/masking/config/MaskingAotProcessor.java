@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2025: Ahmed Samy, All rights reserved.
+ * LinkedIn: https://www.linkedin.com/in/java-msdt/
+ * GitHub: https://github.com/JAVA-MSDT
+ */
+package com.javamsdt.masking.config;
+
+import com.javamsdt.masking.maskme.api.masking.MaskCondition;
+import com.javamsdt.masking.maskme.api.masking.MaskInPlace;
+import com.javamsdt.masking.maskme.api.masking.MaskMe;
+import com.javamsdt.masking.maskme.api.masking.MaskReflection;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.ReflectionHints;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Registers the reflection metadata masking needs in a GraalVM native image. At build time the
+ * application's packages are scanned for classes that need masking, and for each of them
+ * {@link MaskReflection} lists what the engine reads or creates reflectively:
+ * <ul>
+ *   <li>masked types and their superclasses: declared fields, constructors and record accessors</li>
+ *   <li>conditions: constructors, and public methods for the {@code setInput} override check</li>
+ *   <li>application-defined @MaskMe field types: constructors and {@code valueOf}/{@code setValue} style
+ *       methods used by the fallback converter, and enum constants</li>
+ *   <li>compile-time generated maskers: their constructor, since they are loaded by name</li>
+ * </ul>
+ * Standard collection classes get their public constructors, which are used when a masked
+ * container is copied. Classes outside the scanned packages need their own hints.
+ *
+ * <p>Registered through {@code META-INF/spring/aot.factories}.
+ *
+ * @author Ahmed Samy
+ * @since 1.1.0
+ */
+@Slf4j
+public class MaskingAotProcessor implements BeanFactoryInitializationAotProcessor {
+
+    private static final List<Class<?>> COPIED_CONTAINERS = List.of(
+            ArrayList.class, LinkedList.class, ArrayDeque.class,
+            HashSet.class, LinkedHashSet.class, TreeSet.class,
+            HashMap.class, LinkedHashMap.class, TreeMap.class);
+
+    @Override
+    public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+        if (!AutoConfigurationPackages.has(beanFactory)) {
+            return null;
+        }
+        List<String> packages = AutoConfigurationPackages.get(beanFactory);
+        Set<Class<?>> types = MaskedTypeScanner.scan(beanFactory.getBeanClassLoader(), packages);
+        return (generationContext, beanFactoryInitializationCode) -> {
+            int registered = registerHints(generationContext.getRuntimeHints(), types);
+            log.info("Registered MaskMe reflection hints for {} classes from {}", registered, packages);
+        };
+    }
+
+    /**
+     * Registers the hints for every class that needs masking.
+     *
+     * @return the number of classes that need masking
+     */
+    static int registerHints(RuntimeHints hints, Iterable<Class<?>> types) {
+        ReflectionHints reflection = hints.reflection();
+        reflection.registerType(MaskMe.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        reflection.registerType(MaskInPlace.class);
+        for (Class<?> container : COPIED_CONTAINERS) {
+            reflection.registerType(container, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        }
+        int masked = 0;
+        for (Class<?> type : types) {
+            MaskReflection.Targets targets = MaskReflection.of(type);
+            if (targets.isEmpty()) {
+                continue;
+            }
+            masked++;
+            for (Class<?> maskedType : targets.maskedTypes()) {
+                registerMaskedType(reflection, maskedType);
+            }
+            for (Class<? extends MaskCondition> condition : targets.conditions()) {
+                reflection.registerType(condition,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+            for (Class<?> fieldType : targets.fieldTypes()) {
+                // JDK types are handled by the built-in converters without reflection
+                if (!fieldType.isPrimitive() && !fieldType.isArray() && fieldType.getClassLoader() != null) {
+                    reflection.registerType(fieldType, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                            MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+                }
+            }
+            for (Class<?> masker : targets.generatedMaskers()) {
+                reflection.registerType(masker, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+            }
+        }
+        return masked;
+    }
+
+    private static void registerMaskedType(ReflectionHints reflection, Class<?> type) {
+        reflection.registerType(type, MemberCategory.ACCESS_DECLARED_FIELDS,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS);
+        // Inherited fields are read from each superclass
+        for (Class<?> superclass = type.getSuperclass(); superclass != null && superclass != Object.class;
+             superclass = superclass.getSuperclass()) {
+            reflection.registerType(superclass, MemberCategory.ACCESS_DECLARED_FIELDS);
+        }
+    }
+}
@@ -9,14 +9,24 @@ import com.javamsdt.masking.maskconverter.CustomStringConverter;
 import com.javamsdt.masking.maskme.api.converter.ConverterRegistry;
 import com.javamsdt.masking.maskme.api.masking.FrameworkProvider;
 import com.javamsdt.masking.maskme.api.masking.MaskConditionFactory;
+import com.javamsdt.masking.maskme.api.masking.MaskEngine;
+import com.javamsdt.masking.maskme.api.masking.MaskInstrumentation;
 import com.javamsdt.masking.maskme.api.masking.MaskProcessor;
+import com.javamsdt.masking.maskme.api.masking.MaskingSerializerModifier;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.NativeDetector;
+import tools.jackson.databind.JacksonModule;
 
+@Slf4j
 @Configuration
 @RequiredArgsConstructor
 public class MaskingConfiguration {
@@ -33,8 +43,38 @@ public class MaskingConfiguration {
     }
 
     @Bean
-    public MaskProcessor maskProcessor() {
-        return new MaskProcessor();
+    public MaskProcessor maskProcessor(@Value("${maskme.engine:REFLECTIVE}") MaskEngine engine,
+                                       @Value("${maskme.parallel-threshold:" + MaskProcessor.DEFAULT_PARALLEL_THRESHOLD + "}") int parallelThreshold) {
+        if (engine == MaskEngine.BYTECODE && NativeDetector.inNativeImage()) {
+            // Native images cannot define hidden classes at runtime
+            log.warn("maskme.engine=BYTECODE is not supported in a native image, using REFLECTIVE");
+            engine = MaskEngine.REFLECTIVE;
+        }
+        MaskProcessor processor = new MaskProcessor(engine);
+        processor.setParallelThreshold(parallelThreshold);
+        return processor;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "maskme.jackson.enabled", havingValue = "true")
+    public JacksonModule maskingJacksonModule(MaskProcessor maskProcessor) {
+        return MaskingSerializerModifier.module(maskProcessor);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "maskme.metrics.enabled", havingValue = "true")
+    public MicrometerMaskMetrics maskMetrics(MeterRegistry meterRegistry) {
+        MicrometerMaskMetrics metrics = new MicrometerMaskMetrics(meterRegistry);
+        MaskInstrumentation.setMetrics(metrics);
+        return metrics;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "maskme.warmup.enabled", havingValue = "true")
+    public MaskingWarmup maskingWarmup(MaskProcessor maskProcessor,
+                                       @Value("${maskme.warmup.packages:com.javamsdt.masking}") String[] packages,
+                                       @Value("${maskme.warmup.iterations:200}") int iterations) {
+        return new MaskingWarmup(maskProcessor, packages, iterations);
     }
 
     public void registerMaskConditionProvider() {
@@ -54,5 +94,6 @@ public class MaskingConfiguration {
     @PreDestroy
     public void destroy() {
         ConverterRegistry.clearGlobal();
+        MaskInstrumentation.clearMetrics();
     }
 }
\ No newline at end of file
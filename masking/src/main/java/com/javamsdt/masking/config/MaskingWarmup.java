@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) 2025: Ahmed Samy, All rights reserved.
+ * LinkedIn: https://www.linkedin.com/in/java-msdt/
+ * GitHub: https://github.com/JAVA-MSDT
+ */
+package com.javamsdt.masking.config;
+
+import com.javamsdt.masking.maskme.api.masking.MaskInstrumentation;
+import com.javamsdt.masking.maskme.api.masking.MaskMetrics;
+import com.javamsdt.masking.maskme.api.masking.MaskProcessor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.util.ClassUtils;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Prepares the masking of the @MaskMe types in the configured packages once all singletons are
+ * created, before the web server takes requests. Each class found is prepared with
+ * {@link MaskProcessor#prepare} and then masked a few times with {@link MaskProcessor#warmUp}.
+ * Classes outside the packages, or that fail to prepare, are resolved lazily on first use.
+ *
+ * <p>Warm-up calls are kept out of the published metrics.
+ *
+ * <p>Use cases:
+ * - Take plan building, condition instantiation and converter resolution off the first requests
+ * - Report at startup how many classes were prepared and how long it took
+ *
+ * @author Ahmed Samy
+ * @since 1.1.0
+ */
+@Slf4j
+public class MaskingWarmup implements SmartInitializingSingleton {
+
+    private final MaskProcessor maskProcessor;
+    private final String[] packages;
+    private final int iterations;
+    private int preparedClasses;
+    private Duration elapsed = Duration.ZERO;
+
+    public MaskingWarmup(MaskProcessor maskProcessor, String[] packages, int iterations) {
+        this.maskProcessor = maskProcessor;
+        this.packages = packages.clone();
+        this.iterations = iterations;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long start = System.nanoTime();
+        MaskMetrics metrics = MaskInstrumentation.getMetrics();
+        MaskInstrumentation.clearMetrics();
+        try {
+            for (Class<?> type : MaskedTypeScanner.scan(ClassUtils.getDefaultClassLoader(), Arrays.asList(packages))) {
+                if (prepare(type)) {
+                    preparedClasses++;
+                }
+            }
+        } finally {
+            if (metrics != MaskMetrics.NONE) {
+                MaskInstrumentation.setMetrics(metrics);
+            }
+        }
+        elapsed = Duration.ofNanos(System.nanoTime() - start);
+        log.info("MaskMe warm-up prepared {} classes from {} in {} ms",
+                preparedClasses, String.join(", ", packages), elapsed.toMillis());
+    }
+
+    public int getPreparedClasses() {
+        return preparedClasses;
+    }
+
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    private boolean prepare(Class<?> type) {
+        try {
+            if (!maskProcessor.prepare(type)) {
+                return false;
+            }
+            maskProcessor.warmUp(type, iterations);
+            return true;
+        } catch (RuntimeException | LinkageError e) {
+            log.warn("MaskMe warm-up skipped {}: {}", type.getName(), e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/**
+ * Copyright (c) 2025: Ahmed Samy, All rights reserved.
+ * LinkedIn: https://www.linkedin.com/in/java-msdt/
+ * GitHub: https://github.com/JAVA-MSDT
+ */
+package com.javamsdt.masking.config;
+
+import com.javamsdt.masking.maskme.api.converter.Converter;
+import com.javamsdt.masking.maskme.api.masking.MaskCondition;
+import com.javamsdt.masking.maskme.api.masking.MaskMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes masking measurements as Micrometer meters, visible under {@code /actuator/metrics}:
+ * <ul>
+ *   <li>{@code maskme.process} timer, tagged with the {@code type} and whether it is the {@code root} object</li>
+ *   <li>{@code maskme.fields.masked} counter per root {@code type}</li>
+ *   <li>{@code maskme.condition} timer per {@code condition} and {@code masked} result</li>
+ *   <li>{@code maskme.converter.selections} counter per {@code converter}, {@code target} type and {@code cache} hit/miss</li>
+ * </ul>
+ * Meters are looked up once per tag combination and kept.
+ *
+ * @author Ahmed Samy
+ * @since 1.1.0
+ */
+public class MicrometerMaskMetrics implements MaskMetrics {
+
+    private final MeterRegistry registry;
+    private final Map<Class<?>, ProcessMeters> processMeters = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Timer[]> conditionTimers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Map<Class<?>, Counter[]>> selectionCounters = new ConcurrentHashMap<>();
+
+    public MicrometerMaskMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void recordProcess(Class<?> type, int depth, int fieldsMasked, long durationNanos) {
+        ProcessMeters meters = processMeters.computeIfAbsent(type, this::processMeters);
+        if (depth == 0) {
+            meters.root().record(durationNanos, TimeUnit.NANOSECONDS);
+            // Nested objects are counted in their root
+            meters.fieldsMasked().increment(fieldsMasked);
+        } else {
+            meters.nested().record(durationNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void recordCondition(Class<? extends MaskCondition> conditionClass, boolean masked, long durationNanos) {
+        Timer[] timers = conditionTimers.computeIfAbsent(conditionClass, this::conditionTimers);
+        timers[masked ? 1 : 0].record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordConverterSelection(Class<? extends Converter> converterClass, Class<?> targetType, boolean cacheHit) {
+        Counter[] counters = selectionCounters
+                .computeIfAbsent(converterClass, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(targetType, target -> selectionCounters(converterClass, target));
+        counters[cacheHit ? 1 : 0].increment();
+    }
+
+    private ProcessMeters processMeters(Class<?> type) {
+        return new ProcessMeters(processTimer(type, true), processTimer(type, false),
+                Counter.builder("maskme.fields.masked")
+                        .description("Fields masked per processed root object type")
+                        .tag("type", type.getName())
+                        .register(registry));
+    }
+
+    private Timer processTimer(Class<?> type, boolean root) {
+        return Timer.builder("maskme.process")
+                .description("Time spent masking one object, nested objects included")
+                .tag("type", type.getName())
+                .tag("root", String.valueOf(root))
+                .register(registry);
+    }
+
+    private Timer[] conditionTimers(Class<?> conditionClass) {
+        return new Timer[]{conditionTimer(conditionClass, false), conditionTimer(conditionClass, true)};
+    }
+
+    private Timer conditionTimer(Class<?> conditionClass, boolean masked) {
+        return Timer.builder("maskme.condition")
+                .description("Time spent resolving and evaluating a mask condition")
+                .tag("condition", conditionClass.getName())
+                .tag("masked", String.valueOf(masked))
+                .register(registry);
+    }
+
+    private Counter[] selectionCounters(Class<?> converterClass, Class<?> targetType) {
+        return new Counter[]{selectionCounter(converterClass, targetType, "miss"),
+                selectionCounter(converterClass, targetType, "hit")};
+    }
+
+    private Counter selectionCounter(Class<?> converterClass, Class<?> targetType, String cache) {
+        return Counter.builder("maskme.converter.selections")
+                .description("Converters selected for mask values, and whether the converted constant was reused")
+                .tag("converter", converterClass.getName())
+                .tag("target", targetType.getName())
+                .tag("cache", cache)
+                .register(registry);
+    }
+
+    private record ProcessMeters(Timer root, Timer nested, Counter fieldsMasked) {
+    }
+}
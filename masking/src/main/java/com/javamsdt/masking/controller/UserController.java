@@ -10,6 +10,7 @@ import com.javamsdt.masking.domain.User;
 import com.javamsdt.masking.dto.UserDto;
 import com.javamsdt.masking.mapper.UserMapper;
 import com.javamsdt.masking.maskme.api.masking.MaskProcessor;
+import com.javamsdt.masking.maskme.api.masking.MaskingContext;
 import com.javamsdt.masking.maskme.implemintation.masking.MaskOnInput;
 import com.javamsdt.masking.maskme.implemintation.masking.MaskPhone;
 import com.javamsdt.masking.service.UserService;
@@ -38,38 +39,31 @@ public class UserController {
                                      @RequestHeader("Mask-Input") String maskInput,
                                      @RequestHeader("Mask-Phone") String maskPhone) {
 
-        try {
-            Map<String, Object> maskOnInputConditions = Map.of(MaskOnInput.MASK_ON_INPUT_ONE_KEY, maskInput,
-                    MaskOnInput.MASK_ON_INPUT_TWO_KEY, "MaskInput");
+        Map<String, Object> maskOnInputConditions = Map.of(MaskOnInput.MASK_ON_INPUT_ONE_KEY, maskInput,
+                MaskOnInput.MASK_ON_INPUT_TWO_KEY, "MaskInput");
 
-            Map<String, Object> maskPhoneInputCondition = Map.of(MaskPhone.MASK_PHONE_KEY_ONE, maskPhone,
-                    MaskPhone.MASK_PHONE_KEY_TWO, "MaskPhone");
+        Map<String, Object> maskPhoneInputCondition = Map.of(MaskPhone.MASK_PHONE_KEY_ONE, maskPhone,
+                MaskPhone.MASK_PHONE_KEY_TWO, "MaskPhone");
 
-            processor.setConditionInput(MaskOnInput.class, maskOnInputConditions);
-            processor.setConditionInput(MaskPhone.class, maskPhoneInputCondition);
-            return processor.process(userMapper.toDto(userService.findUserById(id)));
-        } finally {
-            processor.clearInputs();
-        }
+        MaskingContext context = MaskingContext.empty()
+                .withInput(MaskOnInput.class, maskOnInputConditions)
+                .withInput(MaskPhone.class, maskPhoneInputCondition);
+        return processor.process(userMapper.toDto(userService.findUserById(id)), context);
     }
 
     @GetMapping("/user/{id}")
     public User getUser(@PathVariable final Long id) {
-        return processor.process(userService.findUserById(id));
+        return processor.processInPlace(userService.findUserById(id), MaskingContext.empty());
     }
 
     @GetMapping
     public List<UserDto> getUsers(@RequestHeader("Mask-Input") String maskInput) {
-        try {
-            Map<String, Object> maskOnInputConditions = Map.of(MaskOnInput.MASK_ON_INPUT_ONE_KEY, maskInput,
-                    MaskOnInput.MASK_ON_INPUT_TWO_KEY, "MaskMe");
-            processor.setConditionInput(MaskOnInput.class, maskOnInputConditions);
+        Map<String, Object> maskOnInputConditions = Map.of(MaskOnInput.MASK_ON_INPUT_ONE_KEY, maskInput,
+                MaskOnInput.MASK_ON_INPUT_TWO_KEY, "MaskMe");
+        MaskingContext context = MaskingContext.empty().withInput(MaskOnInput.class, maskOnInputConditions);
 
-            return userService.findUsers().stream()
-                    .map(user -> processor.process(userMapper.toDto(user)))
-                    .toList();
-        } finally {
-            processor.clearInputs();
-        }
+        return processor.processAll(userService.findUsers().stream()
+                .map(userMapper::toDto)
+                .toList(), context);
     }
 }
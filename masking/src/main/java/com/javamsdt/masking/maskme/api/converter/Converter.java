@@ -64,4 +64,23 @@ public interface Converter {
     default int getPriority() {
         return 0;
     }
+
+    /**
+     * Declares whether {@link #convert} depends only on the mask value and the target type.
+     * When every converter consulted for a value is context-free, ConverterRegistry converts
+     * the value once per type and hands the same instance to every field, so only opt in
+     * for immutable results that ignore originalValue, containingObject and fieldName.
+     *
+     * <p>Use cases:
+     * - Parse constant numbers, dates or UUIDs once instead of on every masked field
+     * - Opt out for placeholders, blank-value manipulation or field-name specific logic
+     *
+     * @param value the string maskme value to convert
+     * @param targetType the target field type
+     * @return true if the converted value can be cached and shared, false by default
+     * @since 1.1.0
+     */
+    default boolean isContextFree(String value, Class<?> targetType) {
+        return false;
+    }
 }
\ No newline at end of file
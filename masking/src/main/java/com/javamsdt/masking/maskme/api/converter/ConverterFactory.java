@@ -7,6 +7,7 @@
 package com.javamsdt.masking.maskme.api.converter;
 
 import com.javamsdt.masking.maskme.api.masking.MaskMeException;
+import com.javamsdt.masking.maskme.api.masking.MaskingContext;
 
 /**
  * Factory for orchestrating type conversion using specialized converter chain.
@@ -59,5 +60,71 @@ public class ConverterFactory {
                 containingObject, fieldName);
     }
 
+    /**
+     * Converts a maskme value with the converters of an explicit masking context
+     * in place of the thread and request scopes.
+     *
+     * @param maskValue the string value to convert (can be null)
+     * @param fieldType the target type for conversion
+     * @param originalValue the original field value for context
+     * @param containingObject the object containing this field
+     * @param fieldName the name of the field being processed
+     * @param context the masking context, or null to use the current thread's scopes
+     * @return converted value or appropriate default
+     */
+    public static Object convertToFieldType(String maskValue, Class<?> fieldType,
+                                            Object originalValue, Object containingObject,
+                                            String fieldName, MaskingContext context) {
+        return ConverterRegistry.convertToFieldType(maskValue, fieldType, originalValue,
+                containingObject, fieldName, context);
+    }
+
+    /**
+     * Converts a maskme value for an {@code int} field without boxing.
+     *
+     * @param maskValue the string value to convert (can be null)
+     * @param originalValue the original field value for context
+     * @param containingObject the object containing this field
+     * @param fieldName the name of the field being processed
+     * @param context the masking context, or null to use the current thread's scopes
+     * @return converted value, 0 when no converter applies
+     * @since 1.1.0
+     */
+    public static int convertToInt(String maskValue, int originalValue, Object containingObject,
+                                   String fieldName, MaskingContext context) {
+        return ConverterRegistry.convertToInt(maskValue, originalValue, containingObject, fieldName, context);
+    }
+
+    /**
+     * Converts a maskme value for a {@code long} field without boxing.
+     *
+     * @param maskValue the string value to convert (can be null)
+     * @param originalValue the original field value for context
+     * @param containingObject the object containing this field
+     * @param fieldName the name of the field being processed
+     * @param context the masking context, or null to use the current thread's scopes
+     * @return converted value, 0 when no converter applies
+     * @since 1.1.0
+     */
+    public static long convertToLong(String maskValue, long originalValue, Object containingObject,
+                                     String fieldName, MaskingContext context) {
+        return ConverterRegistry.convertToLong(maskValue, originalValue, containingObject, fieldName, context);
+    }
+
+    /**
+     * Converts a maskme value for a {@code double} field without boxing.
+     *
+     * @param maskValue the string value to convert (can be null)
+     * @param originalValue the original field value for context
+     * @param containingObject the object containing this field
+     * @param fieldName the name of the field being processed
+     * @param context the masking context, or null to use the current thread's scopes
+     * @return converted value, 0 when no converter applies
+     * @since 1.1.0
+     */
+    public static double convertToDouble(String maskValue, double originalValue, Object containingObject,
+                                         String fieldName, MaskingContext context) {
+        return ConverterRegistry.convertToDouble(maskValue, originalValue, containingObject, fieldName, context);
+    }
 }
 
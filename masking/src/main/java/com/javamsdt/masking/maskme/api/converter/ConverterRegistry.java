@@ -6,19 +6,23 @@
  */
 package com.javamsdt.masking.maskme.api.converter;
 
+import com.javamsdt.masking.maskme.api.masking.MaskInstrumentation;
 import com.javamsdt.masking.maskme.api.masking.MaskMeException;
 import com.javamsdt.masking.maskme.api.masking.MaskProcessor;
+import com.javamsdt.masking.maskme.api.masking.MaskingContext;
 import com.javamsdt.masking.maskme.implemintation.converter.DateTimeConverter;
 import com.javamsdt.masking.maskme.implemintation.converter.NumberConverter;
 import com.javamsdt.masking.maskme.implemintation.converter.PrimitiveConverter;
 import com.javamsdt.masking.maskme.implemintation.converter.SpecialTypeConverter;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Scoped converter registry for managing type conversion in the masking system.
@@ -41,6 +45,18 @@ import java.util.concurrent.CopyOnWriteArrayList;
  * <p><b>Thread Safety:</b>
  * Fully thread-safe with concurrent collections. Scope operations are isolated.
  *
+ * <p><b>Resolution Cache:</b>
+ * Global and default converters are kept in an immutable, priority-sorted snapshot that is
+ * rebuilt only after a global register/unregister/clear bumps the version counter. Each snapshot
+ * caches the converter chain per target type. Thread and request converters form a small sorted
+ * per-thread snapshot that is merged with the global chain during conversion, without copying it.
+ * Thread and request storage is only created on threads that register converters, and clearing
+ * a scope removes it, so unrelated (virtual) threads carry no converter state.
+ *
+ * <p><b>Explicit Context:</b>
+ * Converters of a {@link MaskingContext} replace the thread and request scopes for conversions
+ * made with that context, so request-specific converters need no thread-local registration.
+ *
  * <p><b>Example:</b>
  * <pre>{@code
  * // Register global converter (affects all threads)
@@ -73,13 +89,11 @@ public class ConverterRegistry {
     // Global converters - application-wide
     private static final List<Converter> GLOBAL_CONVERTERS = new CopyOnWriteArrayList<>();
 
-    // Thread-local converters - isolated per thread
-    private static final ThreadLocal<List<Converter>> THREAD_CONVERTERS =
-            ThreadLocal.withInitial(CopyOnWriteArrayList::new);
+    // Thread-local converters - isolated per thread, unset until the first registration
+    private static final ThreadLocal<List<Converter>> THREAD_CONVERTERS = new ThreadLocal<>();
 
-    // Request-scoped converters (for web applications)
-    private static final ThreadLocal<List<Converter>> REQUEST_CONVERTERS =
-            ThreadLocal.withInitial(CopyOnWriteArrayList::new);
+    // Request-scoped converters (for web applications), unset until the first registration
+    private static final ThreadLocal<List<Converter>> REQUEST_CONVERTERS = new ThreadLocal<>();
 
     // Test-scoped converters (by test ID)
     private static final Map<String, List<Converter>> TEST_CONVERTERS =
@@ -97,6 +111,29 @@ public class ConverterRegistry {
     // Current request scope identifier (for web apps)
     private static final ThreadLocal<String> CURRENT_REQUEST_ID = new ThreadLocal<>();
 
+    // ==================== RESOLUTION SNAPSHOTS ====================
+
+    // Bumped after every change of the global scope
+    private static final AtomicLong GLOBAL_VERSION = new AtomicLong();
+
+    // Immutable sorted global + default converters with per-type chains
+    private static volatile Snapshot globalSnapshot = Snapshot.of(-1, List.of());
+
+    // Sorted thread + request converters of the current thread, null when they changed
+    private static final ThreadLocal<Snapshot> SCOPED_SNAPSHOT = new ThreadLocal<>();
+
+    // Marks a (type, mask value) pair whose conversion depends on the field context
+    private static final Object NOT_CONSTANT = new Object();
+
+    // Returned by a converter call to let the next converter try, and by select when none converted
+    private static final Object NEXT = new Object();
+
+    private static final ConverterCall CONVERT = ConverterRegistry::callConvert;
+    private static final ConverterCall CONVERT_PRIMITIVE = ConverterRegistry::callConvertPrimitive;
+
+    // Upper bound of remembered mask values per target type
+    private static final int MAX_CONSTANTS_PER_TYPE = 256;
+
     // ==================== GLOBAL SCOPE METHODS ====================
 
     /**
@@ -115,6 +152,7 @@ public class ConverterRegistry {
     public static void registerGlobal(Converter converter) {
         if (converter != null) {
             GLOBAL_CONVERTERS.add(converter);
+            GLOBAL_VERSION.incrementAndGet();
         }
     }
 
@@ -125,7 +163,9 @@ public class ConverterRegistry {
      * @return true if the converter was found and removed
      */
     public static boolean unregisterGlobal(Converter converter) {
-        return GLOBAL_CONVERTERS.remove(converter);
+        boolean removed = GLOBAL_CONVERTERS.remove(converter);
+        GLOBAL_VERSION.incrementAndGet();
+        return removed;
     }
 
     /**
@@ -134,6 +174,7 @@ public class ConverterRegistry {
      */
     public static void clearGlobal() {
         GLOBAL_CONVERTERS.clear();
+        GLOBAL_VERSION.incrementAndGet();
     }
 
     // ==================== THREAD SCOPE METHODS ====================
@@ -153,7 +194,8 @@ public class ConverterRegistry {
      */
     public static void registerThreadLocal(Converter converter) {
         if (converter != null) {
-            THREAD_CONVERTERS.get().add(converter);
+            scopeConverters(THREAD_CONVERTERS).add(converter);
+            SCOPED_SNAPSHOT.remove();
         }
     }
 
@@ -164,7 +206,9 @@ public class ConverterRegistry {
      * @return true if the converter was found and removed
      */
     public static boolean unregisterThreadLocal(Converter converter) {
-        return THREAD_CONVERTERS.get().remove(converter);
+        SCOPED_SNAPSHOT.remove();
+        List<Converter> converters = THREAD_CONVERTERS.get();
+        return converters != null && converters.remove(converter);
     }
 
     /**
@@ -172,7 +216,8 @@ public class ConverterRegistry {
      * Safe to call - only affects the current thread.
      */
     public static void clearThreadLocal() {
-        THREAD_CONVERTERS.get().clear();
+        THREAD_CONVERTERS.remove();
+        SCOPED_SNAPSHOT.remove();
     }
 
     // ==================== REQUEST SCOPE METHODS ====================
@@ -185,7 +230,8 @@ public class ConverterRegistry {
      */
     public static void startRequestScope(String requestId) {
         CURRENT_REQUEST_ID.set(requestId);
-        REQUEST_CONVERTERS.get().clear(); // Clear previous request converters
+        REQUEST_CONVERTERS.remove(); // Clear previous request converters
+        SCOPED_SNAPSHOT.remove();
     }
 
     /**
@@ -193,8 +239,9 @@ public class ConverterRegistry {
      * Call this at the end of each request.
      */
     public static void endRequestScope() {
-        REQUEST_CONVERTERS.get().clear();
+        REQUEST_CONVERTERS.remove();
         CURRENT_REQUEST_ID.remove();
+        SCOPED_SNAPSHOT.remove();
     }
 
     /**
@@ -212,7 +259,8 @@ public class ConverterRegistry {
      */
     public static void registerRequestScoped(Converter converter) {
         if (converter != null && CURRENT_REQUEST_ID.get() != null) {
-            REQUEST_CONVERTERS.get().add(converter);
+            scopeConverters(REQUEST_CONVERTERS).add(converter);
+            SCOPED_SNAPSHOT.remove();
         }
     }
 
@@ -220,7 +268,8 @@ public class ConverterRegistry {
      * Clears all converters from the current request scope.
      */
     public static void clearRequestScope() {
-        REQUEST_CONVERTERS.get().clear();
+        REQUEST_CONVERTERS.remove();
+        SCOPED_SNAPSHOT.remove();
     }
 
     // ==================== TEST SCOPE METHODS ====================
@@ -257,11 +306,90 @@ public class ConverterRegistry {
         return TEST_CONVERTERS.getOrDefault(testId, List.of());
     }
 
+    // ==================== SCOPE CAPTURE ====================
+
+    /**
+     * Captures the current thread's thread and request converters, so work handed to other threads
+     * converts with them rather than with the scopes of whichever thread runs it.
+     *
+     * <p>Use case: Called by {@code MaskProcessor} for batches and streams that may run on other threads
+     *
+     * @return the captured converters
+     * @since 1.1.0
+     */
+    public static CapturedScope captureScope() {
+        return new CapturedScope(scopedSnapshot());
+    }
+
+    /**
+     * Thread and request converters captured on one thread by {@link #captureScope()}.
+     * Safe to bind on several threads at once.
+     *
+     * @since 1.1.0
+     */
+    public static final class CapturedScope {
+
+        private static final Binding UNCHANGED = () -> { };
+
+        private final Snapshot snapshot;
+
+        private CapturedScope(Snapshot snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        /**
+         * Makes the captured converters the current thread's thread and request converters until the
+         * binding is closed. Nothing is bound when they already are, e.g. on the capturing thread.
+         *
+         * @return the binding to close once the work is done
+         */
+        public Binding bind() {
+            if (scopedSnapshot() == snapshot) {
+                return UNCHANGED;
+            }
+            Snapshot previous = SCOPED_SNAPSHOT.get();
+            SCOPED_SNAPSHOT.set(snapshot);
+            return () -> {
+                if (previous != null) {
+                    SCOPED_SNAPSHOT.set(previous);
+                } else {
+                    SCOPED_SNAPSHOT.remove();
+                }
+            };
+        }
+
+        /**
+         * Restores the thread's own converters when closed.
+         */
+        @FunctionalInterface
+        public interface Binding extends AutoCloseable {
+            @Override
+            void close();
+        }
+    }
+
     // ==================== CONVERSION CORE ====================
 
+    /**
+     * Resolves and caches the global and default converter chain for a field type ahead of the
+     * first conversion. Registering a global converter afterwards rebuilds the chains lazily.
+     *
+     * <p>Use case: Called by {@code MaskProcessor.prepare} while warming up at startup
+     *
+     * @param fieldType the field type to resolve converters for
+     */
+    public static void prepare(Class<?> fieldType) {
+        globalSnapshot().chain(fieldType);
+    }
+
     /**
      * Converts a mask value to the target field type using all active scopes.
-     * Collects converters from all applicable scopes in priority order.
+     * Walks the thread/request snapshot and the cached global chain for the type
+     * in merged priority order (scoped converters first on equal priority).
+     *
+     * <p>When no thread/request converters are active, the result is kept per (type, mask value)
+     * as long as every converter consulted declares itself {@link Converter#isContextFree context-free}
+     * and the value has no field placeholders, so constant mask values are converted once.
      *
      * @param maskValue the string value to convert
      * @param fieldType the target field type
@@ -273,50 +401,286 @@ public class ConverterRegistry {
     public static Object convertToFieldType(String maskValue, Class<?> fieldType,
                                             Object originalValue, Object containingObject,
                                             String fieldName) {
+        if (maskValue == null) {
+            return getDefaultValue(fieldType);
+        }
+        return convert(maskValue, fieldType, originalValue, containingObject, fieldName,
+                scopedSnapshot().chain(fieldType));
+    }
 
+    /**
+     * Converts a mask value using the converters of an explicit context instead of the
+     * thread and request scopes. Global and default converters apply as usual.
+     *
+     * @param maskValue the string value to convert
+     * @param fieldType the target field type
+     * @param originalValue the original field value
+     * @param containingObject the containing object
+     * @param fieldName the field name
+     * @param context the masking context, or null to use the current thread's scopes
+     * @return converted value or appropriate default
+     */
+    public static Object convertToFieldType(String maskValue, Class<?> fieldType,
+                                            Object originalValue, Object containingObject,
+                                            String fieldName, MaskingContext context) {
         if (maskValue == null) {
             return getDefaultValue(fieldType);
         }
+        return convert(maskValue, fieldType, originalValue, containingObject, fieldName, scopedChain(fieldType, context));
+    }
 
-        for (Converter converter : getAllActiveConverters()) {
-            if (converter.canConvert(fieldType)) {
-                Object result = converter.convert(maskValue, fieldType, originalValue,
-                        containingObject, fieldName);
-                if (result != null || !shouldTryNextConverter(converter)) {
-                    return result;
+    /**
+     * Converts a mask value for an {@code int} field without boxing. An {@link IntMaskConverter}
+     * selected for {@code int} converts it directly; other converters go through {@link Converter#convert}.
+     * Scopes, priorities and constant caching are the same as for {@link #convertToFieldType}.
+     *
+     * @param maskValue the string value to convert
+     * @param originalValue the original field value
+     * @param containingObject the containing object
+     * @param fieldName the field name
+     * @param context the masking context, or null to use the current thread's scopes
+     * @return converted value, 0 when no converter applies
+     * @since 1.1.0
+     */
+    public static int convertToInt(String maskValue, int originalValue, Object containingObject,
+                                   String fieldName, MaskingContext context) {
+        return (int) convertPrimitive(maskValue, int.class, originalValue, containingObject, fieldName, context);
+    }
+
+    /**
+     * Converts a mask value for a {@code long} field without boxing, like {@link #convertToInt}
+     * with {@link LongMaskConverter}.
+     *
+     * @param maskValue the string value to convert
+     * @param originalValue the original field value
+     * @param containingObject the containing object
+     * @param fieldName the field name
+     * @param context the masking context, or null to use the current thread's scopes
+     * @return converted value, 0 when no converter applies
+     * @since 1.1.0
+     */
+    public static long convertToLong(String maskValue, long originalValue, Object containingObject,
+                                     String fieldName, MaskingContext context) {
+        return convertPrimitive(maskValue, long.class, originalValue, containingObject, fieldName, context);
+    }
+
+    /**
+     * Converts a mask value for a {@code double} field without boxing, like {@link #convertToInt}
+     * with {@link DoubleMaskConverter}.
+     *
+     * @param maskValue the string value to convert
+     * @param originalValue the original field value
+     * @param containingObject the containing object
+     * @param fieldName the field name
+     * @param context the masking context, or null to use the current thread's scopes
+     * @return converted value, 0 when no converter applies
+     * @since 1.1.0
+     */
+    public static double convertToDouble(String maskValue, double originalValue, Object containingObject,
+                                         String fieldName, MaskingContext context) {
+        return Double.longBitsToDouble(convertPrimitive(maskValue, double.class, Double.doubleToRawLongBits(originalValue),
+                containingObject, fieldName, context));
+    }
+
+    /**
+     * Gets the thread/request chain for the type, or the chain of an explicit context's converters.
+     */
+    private static Chain scopedChain(Class<?> fieldType, MaskingContext context) {
+        if (context == null) {
+            return scopedSnapshot().chain(fieldType);
+        }
+        List<Converter> converters = context.converters();
+        // Context converters are few and short-lived, so their chain is matched per conversion, without constants
+        return converters.isEmpty() ? Chain.NONE : Chain.matching(converters, fieldType, Map.of());
+    }
+
+    private static Object convert(String maskValue, Class<?> fieldType, Object originalValue,
+                                  Object containingObject, String fieldName, Chain scoped) {
+        Object result = select(maskValue, fieldType, originalValue, 0L, containingObject, fieldName, scoped, CONVERT);
+        return result != NEXT ? result : getDefaultValue(fieldType);
+    }
+
+    /**
+     * Primitive counterpart of {@code convert} for int, long and double fields. Values travel as the
+     * int or long value itself, or as the raw bits of a double. Cached constants are returned without
+     * boxing; otherwise only the result of the selected converter is boxed on its way out of {@code select}.
+     */
+    private static long convertPrimitive(String maskValue, Class<?> fieldType, long originalValue,
+                                         Object containingObject, String fieldName, MaskingContext context) {
+        if (maskValue == null) {
+            return 0L;
+        }
+        Object result = select(maskValue, fieldType, null, originalValue, containingObject, fieldName,
+                scopedChain(fieldType, context), CONVERT_PRIMITIVE);
+        return result != NEXT ? toPrimitive(result, fieldType) : 0L;
+    }
+
+    /**
+     * Walks the scoped chain and the cached global chain for the type in merged priority order
+     * (scoped converters first on equal priority) and returns the first result of the call.
+     * Without scoped converters, the result is kept per mask value when every converter consulted
+     * is {@link Converter#isContextFree context-free} and the value has no field placeholders.
+     *
+     * @param originalValue the original field value, null for primitive conversions
+     * @param originalBits the original value or raw double bits of a primitive conversion, 0 otherwise
+     * @param call the conversion made with each converter in turn
+     * @return the converted value, or {@code NEXT} when no converter produced one
+     */
+    private static Object select(String maskValue, Class<?> fieldType, Object originalValue, long originalBits,
+                                 Object containingObject, String fieldName, Chain scoped, ConverterCall call) {
+        Chain global = globalSnapshot().chain(fieldType);
+        Converter[] scopedChain = scoped.converters();
+        Converter[] globalChain = global.converters();
+        int[] scopedPriorities = scoped.priorities();
+        int[] globalPriorities = global.priorities();
+
+        boolean cacheable = scopedChain.length == 0;
+        if (cacheable) {
+            Object constant = global.constants().get(maskValue);
+            if (constant == NOT_CONSTANT) {
+                cacheable = false;
+            } else if (constant != null) {
+                return ((Constant) constant).value(fieldType);
+            } else {
+                cacheable = !FieldAccessUtil.hasFieldPlaceholders(maskValue);
+            }
+        }
+
+        int i = 0;
+        int j = 0;
+        while (i < scopedChain.length || j < globalChain.length) {
+            Converter converter;
+            if (j >= globalChain.length || i < scopedChain.length && scopedPriorities[i] >= globalPriorities[j]) {
+                converter = scopedChain[i++];
+            } else {
+                converter = globalChain[j++];
+            }
+            cacheable = cacheable && converter.isContextFree(maskValue, fieldType);
+            Object result = call.call(converter, maskValue, fieldType, originalValue, originalBits,
+                    containingObject, fieldName);
+            if (result != NEXT) {
+                if (scopedChain.length == 0) {
+                    global.remember(maskValue, converter, cacheable ? result : null);
                 }
+                return selected(converter, fieldType, result);
             }
         }
+        return NEXT;
+    }
 
-        return getDefaultValue(fieldType);
+    private static Object callConvert(Converter converter, String maskValue, Class<?> fieldType, Object originalValue,
+                                      long originalBits, Object containingObject, String fieldName) {
+        Object result = converter.convert(maskValue, fieldType, originalValue, containingObject, fieldName);
+        return result == null && shouldTryNextConverter(converter) ? NEXT : result;
     }
 
     /**
-     * Gets all active converters in priority order:
-     * 1. Thread-local converters (highest priority)
-     * 2. Request-scoped converters
-     * 3. Global converters
-     * 4. Default converters (lowest priority)
+     * Converts with the primitive method of an {@link IntMaskConverter}, {@link LongMaskConverter} or
+     * {@link DoubleMaskConverter} for its type, boxing the original value only for other converters.
      */
-    private static List<Converter> getAllActiveConverters() {
-        List<Converter> allConverters = new ArrayList<>();
+    private static Object callConvertPrimitive(Converter converter, String maskValue, Class<?> fieldType,
+                                               Object originalValue, long originalBits,
+                                               Object containingObject, String fieldName) {
+        if (fieldType == int.class && converter instanceof IntMaskConverter intConverter) {
+            return intConverter.convertInt(maskValue, (int) originalBits, containingObject, fieldName);
+        }
+        if (fieldType == long.class && converter instanceof LongMaskConverter longConverter) {
+            return longConverter.convertLong(maskValue, originalBits, containingObject, fieldName);
+        }
+        if (fieldType == double.class && converter instanceof DoubleMaskConverter doubleConverter) {
+            return doubleConverter.convertDouble(maskValue, Double.longBitsToDouble(originalBits),
+                    containingObject, fieldName);
+        }
+        return callConvert(converter, maskValue, fieldType, fromPrimitive(originalBits, fieldType),
+                originalBits, containingObject, fieldName);
+    }
 
-        // 1. Thread-local (highest priority)
-        allConverters.addAll(THREAD_CONVERTERS.get());
+    private static long toPrimitive(Object value, Class<?> fieldType) {
+        if (!(value instanceof Number number)) {
+            return 0L;
+        }
+        return fieldType == double.class ? Double.doubleToRawLongBits(number.doubleValue()) : number.longValue();
+    }
 
-        // 2. Request-scoped
-        allConverters.addAll(REQUEST_CONVERTERS.get());
+    private static Object fromPrimitive(long value, Class<?> fieldType) {
+        if (fieldType == int.class) {
+            return (int) value;
+        }
+        if (fieldType == double.class) {
+            return Double.longBitsToDouble(value);
+        }
+        return value;
+    }
 
-        // 3. Global
-        allConverters.addAll(GLOBAL_CONVERTERS);
+    /**
+     * Returns the converted value, reporting the converter selection while instrumentation is active.
+     * Kept out of {@code convert} so the hot conversion path stays small enough to inline.
+     */
+    private static Object selected(Converter converter, Class<?> fieldType, Object result) {
+        if (MaskInstrumentation.isActive()) {
+            reportSelection(converter, fieldType, false);
+        }
+        return result;
+    }
 
-        // 4. Default (lowest priority)
-        allConverters.addAll(DEFAULT_CONVERTERS);
+    private static void reportSelection(Converter converter, Class<?> fieldType, boolean cacheHit) {
+        ConverterSelectionEvent event = new ConverterSelectionEvent();
+        if (event.shouldCommit()) {
+            event.converter = converter.getClass();
+            event.targetType = fieldType;
+            event.cacheHit = cacheHit;
+            event.commit();
+        }
+        MaskInstrumentation.getMetrics().recordConverterSelection(converter.getClass(), fieldType, cacheHit);
+    }
 
-        // Sort by priority within each scope
-        allConverters.sort((c1, c2) -> Integer.compare(c2.getPriority(), c1.getPriority()));
+    /**
+     * Gets the global + default snapshot, rebuilding it if the global scope changed since it was built.
+     */
+    private static Snapshot globalSnapshot() {
+        Snapshot snapshot = globalSnapshot;
+        long version = GLOBAL_VERSION.get();
+        if (snapshot.version != version) {
+            List<Converter> converters = new ArrayList<>(GLOBAL_CONVERTERS);
+            converters.addAll(DEFAULT_CONVERTERS);
+            snapshot = Snapshot.of(version, converters);
+            globalSnapshot = snapshot;
+        }
+        return snapshot;
+    }
 
-        return allConverters;
+    /**
+     * Gets the current thread's thread + request snapshot, rebuilding it after a scoped change.
+     * Threads without scoped converters get the shared empty snapshot and store nothing.
+     */
+    private static Snapshot scopedSnapshot() {
+        Snapshot snapshot = SCOPED_SNAPSHOT.get();
+        if (snapshot == null) {
+            List<Converter> threadConverters = scopeConvertersOrEmpty(THREAD_CONVERTERS);
+            List<Converter> requestConverters = scopeConvertersOrEmpty(REQUEST_CONVERTERS);
+            if (threadConverters.isEmpty() && requestConverters.isEmpty()) {
+                return Snapshot.EMPTY;
+            }
+            List<Converter> converters = new ArrayList<>(threadConverters);
+            converters.addAll(requestConverters);
+            snapshot = Snapshot.of(0, converters);
+            SCOPED_SNAPSHOT.set(snapshot);
+        }
+        return snapshot;
+    }
+
+    private static List<Converter> scopeConverters(ThreadLocal<List<Converter>> scope) {
+        List<Converter> converters = scope.get();
+        if (converters == null) {
+            converters = new CopyOnWriteArrayList<>();
+            scope.set(converters);
+        }
+        return converters;
+    }
+
+    private static List<Converter> scopeConvertersOrEmpty(ThreadLocal<List<Converter>> scope) {
+        List<Converter> converters = scope.get();
+        return converters != null ? converters : List.of();
     }
 
     /**
@@ -325,7 +689,10 @@ public class ConverterRegistry {
      */
     public static void activateTestConverters(String testId) {
         List<Converter> testConverters = getTestConverters(testId);
-        THREAD_CONVERTERS.get().addAll(testConverters);
+        if (!testConverters.isEmpty()) {
+            scopeConverters(THREAD_CONVERTERS).addAll(testConverters);
+        }
+        SCOPED_SNAPSHOT.remove();
     }
 
     /**
@@ -370,12 +737,12 @@ public class ConverterRegistry {
                 .toList());
 
         // Thread-local converters
-        result.put("THREAD", THREAD_CONVERTERS.get().stream()
+        result.put("THREAD", scopeConvertersOrEmpty(THREAD_CONVERTERS).stream()
                 .map(c -> c.getClass().getSimpleName() + " (Priority: " + c.getPriority() + ")")
                 .toList());
 
         // Request-scoped converters
-        result.put("REQUEST", REQUEST_CONVERTERS.get().stream()
+        result.put("REQUEST", scopeConvertersOrEmpty(REQUEST_CONVERTERS).stream()
                 .map(c -> c.getClass().getSimpleName() + " (Priority: " + c.getPriority() + ")")
                 .toList());
 
@@ -394,9 +761,111 @@ public class ConverterRegistry {
     public static String getCurrentScopeInfo() {
         return String.format(
                 "Thread: %d converters, Request: %s, Global: %d converters",
-                THREAD_CONVERTERS.get().size(),
+                scopeConvertersOrEmpty(THREAD_CONVERTERS).size(),
                 CURRENT_REQUEST_ID.get() != null ? "active" : "inactive",
                 GLOBAL_CONVERTERS.size()
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * One converter's attempt at a conversion, with the context of {@link Converter#convert}.
+     * Returns {@code NEXT} to let the following converter in priority order try.
+     */
+    @FunctionalInterface
+    private interface ConverterCall {
+        Object call(Converter converter, String maskValue, Class<?> fieldType, Object originalValue,
+                    long originalBits, Object containingObject, String fieldName);
+    }
+
+    // ==================== SNAPSHOT ====================
+
+    /**
+     * Immutable, priority-sorted converter list with a lazily filled chain per target type.
+     * Sorting is stable, so registration order (and scope order) breaks priority ties.
+     */
+    private static final class Snapshot {
+
+        private static final Converter[] NO_CONVERTERS = new Converter[0];
+
+        static final Snapshot EMPTY = of(0, List.of());
+
+        final long version;
+        private final Converter[] converters;
+        private final Map<Class<?>, Chain> chains = new ConcurrentHashMap<>();
+
+        private Snapshot(long version, Converter[] converters) {
+            this.version = version;
+            this.converters = converters;
+        }
+
+        static Snapshot of(long version, List<Converter> converters) {
+            List<Converter> sorted = new ArrayList<>(converters);
+            sorted.sort(Comparator.comparingInt(Converter::getPriority).reversed());
+            return new Snapshot(version, sorted.toArray(NO_CONVERTERS));
+        }
+
+        Chain chain(Class<?> type) {
+            Chain chain = chains.get(type);
+            if (chain == null) {
+                chain = chains.computeIfAbsent(type, this::resolve);
+            }
+            return chain;
+        }
+
+        private Chain resolve(Class<?> type) {
+            return Chain.matching(List.of(converters), type, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * Converters able to handle one target type, in priority order, with their priorities
+     * and the converted {@link Constant}s (or {@code NOT_CONSTANT}) per mask value.
+     */
+    private record Chain(Converter[] converters, int[] priorities, Map<String, Object> constants) {
+
+        static final Chain NONE = new Chain(Snapshot.NO_CONVERTERS, new int[0], Map.of());
+
+        /**
+         * Builds the chain of the converters (already in priority order) able to handle the type.
+         */
+        static Chain matching(List<Converter> converters, Class<?> type, Map<String, Object> constants) {
+            List<Converter> matching = new ArrayList<>();
+            for (Converter converter : converters) {
+                if (converter.canConvert(type)) {
+                    matching.add(converter);
+                }
+            }
+            Converter[] chain = matching.toArray(Snapshot.NO_CONVERTERS);
+            int[] priorities = new int[chain.length];
+            for (int i = 0; i < chain.length; i++) {
+                priorities[i] = chain[i].getPriority();
+            }
+            return new Chain(chain, priorities, constants);
+        }
+
+        /**
+         * Remembers the converted constant for the mask value, or that it is not constant when null.
+         */
+        void remember(String maskValue, Converter converter, Object constant) {
+            if (constants.size() < MAX_CONSTANTS_PER_TYPE) {
+                constants.putIfAbsent(maskValue, constant != null ? new Constant(converter, constant) : NOT_CONSTANT);
+            }
+        }
+    }
+
+    /**
+     * A converted constant with the converter that produced it.
+     */
+    private record Constant(Converter converter, Object value) {
+
+        /**
+         * Returns the constant, reporting a cache hit while instrumentation is active.
+         */
+        Object value(Class<?> fieldType) {
+            if (MaskInstrumentation.isActive()) {
+                reportSelection(converter, fieldType, true);
+            }
+            return value;
+        }
+    }
+}
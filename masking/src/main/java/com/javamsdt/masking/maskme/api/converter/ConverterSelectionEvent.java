@@ -0,0 +1,37 @@
+/**
+ * Copyright (c) 2025: Ahmed Samy, All rights reserved.
+ * LinkedIn: https://www.linkedin.com/in/java-msdt/
+ * GitHub: https://github.com/JAVA-MSDT
+ * Email: serenitydiver@hotmail.com
+ */
+package com.javamsdt.masking.maskme.api.converter;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for the converter selected for one mask value.
+ *
+ * @author Ahmed Samy
+ * @since 1.1.0
+ */
+@Name("com.javamsdt.maskme.ConverterSelection")
+@Label("Converter Selection")
+@Category("MaskMe")
+@Description("Converter producing a masked field value, or the constant it produced before")
+@StackTrace(false)
+final class ConverterSelectionEvent extends Event {
+
+    @Label("Converter")
+    Class<?> converter;
+
+    @Label("Target Type")
+    Class<?> targetType;
+
+    @Label("Cache Hit")
+    boolean cacheHit;
+}
@@ -0,0 +1,34 @@
+/**
+ * Copyright (c) 2025: Ahmed Samy, All rights reserved.
+ * LinkedIn: https://www.linkedin.com/in/java-msdt/
+ * GitHub: https://github.com/JAVA-MSDT
+ * Email: serenitydiver@hotmail.com
+ */
+package com.javamsdt.masking.maskme.api.converter;
+
+/**
+ * A {@link Converter} that also converts mask values for {@code double} fields and record components
+ * without boxing. When it is the converter selected for {@code double}, the processor calls
+ * {@link #convertDouble} and writes the result straight into the field; {@link #convert} still
+ * serves {@code Double} and any other type the converter supports.
+ *
+ * <p>Use cases:
+ * - Mask amounts or coordinates held in double fields without a Double per field
+ * - Keep custom numeric converters allocation-free on primitive fields
+ *
+ * @author Ahmed Samy
+ * @since 1.1.0
+ */
+public interface DoubleMaskConverter extends Converter {
+
+    /**
+     * Converts the mask value to a {@code double}, with the same context as {@link #convert}.
+     *
+     * @param value the string maskme value to convert
+     * @param originalValue the original field value
+     * @param containingObject the object containing this field
+     * @param fieldName the name of the field being processed
+     * @return converted value
+     */
+    double convertDouble(String value, double originalValue, Object containingObject, String fieldName);
+}
@@ -6,8 +6,9 @@
  */
 package com.javamsdt.masking.maskme.api.converter;
 
-import org.jspecify.annotations.NonNull;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 
 /**
  * Last-resort converter using reflection for unknown types.
@@ -20,6 +21,9 @@ import java.lang.reflect.InvocationTargetException;
  * 3. Return empty instance from default constructor
  * 4. Return null if all strategies fail
  * 
+ * <p>The constructors and the setValue method are looked up once per type, so types without
+ * them fail fast instead of throwing NoSuchMethodException on every conversion.
+ * 
  * <p>Use cases:
  * - Handle custom domain objects with string constructors
  * - Support third-party types not covered by other converters
@@ -33,6 +37,13 @@ import java.lang.reflect.InvocationTargetException;
  * @since 1.0.0
  */
 public class FallbackConverter implements Converter {
+
+    private static final ClassValue<Factories> FACTORIES = new ClassValue<>() {
+        @Override
+        protected Factories computeValue(Class<?> type) {
+            return Factories.of(type);
+        }
+    };
     
     @Override
     public boolean canConvert(Class<?> type) {
@@ -41,39 +52,76 @@ public class FallbackConverter implements Converter {
     
     @Override
     public Object convert(String value, Class<?> targetType, Object originalValue, Object containingObject, String fieldName) {
+        Factories factories = FACTORIES.get(targetType);
         // Try string constructor
-        try {
-            return targetType.getConstructor(String.class).newInstance(value);
-        } catch (Exception e) {
-            // Try default constructor with setValue method
+        if (factories.fromString() != null) {
             try {
-                return getInstanceFromDefaultConstructor(value, targetType);
-            } catch (Exception ex) {
-                return null;
+                return factories.fromString().newInstance(value);
+            } catch (Exception e) {
+                // The constructor rejected the value; fall through to the default constructor
             }
         }
+        return factories.noArgs() != null ? getInstanceFromDefaultConstructor(value, factories) : null;
     }
 
     /**
      * Creates instance using default constructor and attempts to set value.
-     * Tries to call setValue(String) method if available, otherwise returns empty instance.
+     * Calls setValue(String) method if available, otherwise returns empty instance.
      * 
      * @param value the string value to set
-     * @param targetType the target class type
-     * @return configured instance or empty instance
-     * @throws InstantiationException if constructor fails
-     * @throws IllegalAccessException if constructor not accessible
-     * @throws InvocationTargetException if constructor throws exception
-     * @throws NoSuchMethodException if default constructor not found
+     * @param factories the target type's constructors and setter
+     * @return configured instance, empty instance, or null if the constructor fails
      */
-    private static @NonNull Object getInstanceFromDefaultConstructor(String value, Class<?> targetType) throws InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
-        Object instance = targetType.getDeclaredConstructor().newInstance();
+    private static Object getInstanceFromDefaultConstructor(String value, Factories factories) {
+        Object instance;
         try {
-            targetType.getMethod("setValue", String.class).invoke(instance, value);
-            return instance;
-        } catch (Exception ex) {
-            // Return the empty instance
-            return instance;
+            instance = factories.noArgs().newInstance();
+        } catch (Exception e) {
+            return null;
+        }
+        if (factories.setValue() != null) {
+            try {
+                factories.setValue().invoke(instance, value);
+            } catch (Exception ex) {
+                // Return the empty instance
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * The public String constructor, the default constructor and the public setValue(String)
+     * method of a type; each is null when the type does not have it.
+     */
+    private record Factories(Constructor<?> fromString, Constructor<?> noArgs, Method setValue) {
+
+        static Factories of(Class<?> type) {
+            if (type.isPrimitive() || type.isArray() || type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+                return new Factories(null, null, null);
+            }
+            Constructor<?> fromString = null;
+            // JDK numbers reach this converter only after NumberConverter rejected the value with the
+            // grammar of their String constructors, so calling those could only throw
+            boolean jdkNumber = Number.class.isAssignableFrom(type) && type.getClassLoader() == null;
+            for (Constructor<?> constructor : type.getConstructors()) {
+                if (!jdkNumber && constructor.getParameterCount() == 1 && constructor.getParameterTypes()[0] == String.class) {
+                    fromString = constructor;
+                }
+            }
+            Constructor<?> noArgs = null;
+            for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+                if (constructor.getParameterCount() == 0) {
+                    noArgs = constructor;
+                }
+            }
+            Method setValue = null;
+            for (Method method : type.getMethods()) {
+                if (method.getName().equals("setValue") && method.getParameterCount() == 1
+                        && method.getParameterTypes()[0] == String.class) {
+                    setValue = method;
+                }
+            }
+            return new Factories(fromString, noArgs, setValue);
         }
     }
-}
\ No newline at end of file
+}
@@ -12,8 +12,6 @@ import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.RecordComponent;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * Utility class for field access and placeholder replacement in maskme values.
@@ -43,8 +41,6 @@ public class FieldAccessUtil {
     private FieldAccessUtil() {
         throw new MaskMeException("FieldAccessUtil is not to be initialized");
     }
-    
-    private static final Pattern CONTEXT_PATTERN = Pattern.compile("\\[([^]]+)]");
 
     private static  Class<?> clazz;
 
@@ -87,9 +83,10 @@ public class FieldAccessUtil {
      * 
      * @param value the maskme value to check
      * @return true if placeholders are present
+     * @see PlaceholderTemplate#hasPlaceholders()
      */
     public static boolean hasFieldPlaceholders(String value) {
-        return value != null && CONTEXT_PATTERN.matcher(value).find();
+        return value != null && PlaceholderTemplate.of(value).hasPlaceholders();
     }
     
     /**
@@ -105,31 +102,13 @@ public class FieldAccessUtil {
      * @param maskValue the maskme value containing placeholders
      * @param containingObject the object to extract field values from
      * @return processed maskme value with placeholders replaced
+     * @see PlaceholderTemplate#render(Object)
      */
     public static String replaceFieldPlaceholders(String maskValue, Object containingObject) {
         if (maskValue == null || containingObject == null) {
             return maskValue;
         }
-        
-        Matcher matcher = CONTEXT_PATTERN.matcher(maskValue);
-        if (!matcher.find()) {
-            return maskValue;
-        }
-        
-        String result = maskValue;
-        matcher.reset();
-        
-        while (matcher.find()) {
-            String placeholder = matcher.group(0); // [fieldName]
-            String fieldName = matcher.group(1);   // fieldName
-            
-            Object fieldValue = getFieldValue(containingObject, fieldName);
-            if (fieldValue != null) {
-                result = result.replace(placeholder, fieldValue.toString());
-            }
-        }
-        
-        return result;
+        return PlaceholderTemplate.of(maskValue).render(containingObject);
     }
     
     private static Object getRecordFieldValue(Object recordToProcess, String fieldName) throws InvocationTargetException, IllegalAccessException {
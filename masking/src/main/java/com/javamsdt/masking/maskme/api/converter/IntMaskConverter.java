@@ -0,0 +1,34 @@
+/**
+ * Copyright (c) 2025: Ahmed Samy, All rights reserved.
+ * LinkedIn: https://www.linkedin.com/in/java-msdt/
+ * GitHub: https://github.com/JAVA-MSDT
+ * Email: serenitydiver@hotmail.com
+ */
+package com.javamsdt.masking.maskme.api.converter;
+
+/**
+ * A {@link Converter} that also converts mask values for {@code int} fields and record components
+ * without boxing. When it is the converter selected for {@code int}, the processor calls
+ * {@link #convertInt} and writes the result straight into the field; {@link #convert} still
+ * serves {@code Integer} and any other type the converter supports.
+ *
+ * <p>Use cases:
+ * - Parse an int from the mask value or a placeholder without an Integer per field
+ * - Keep custom numeric converters allocation-free on primitive fields
+ *
+ * @author Ahmed Samy
+ * @since 1.1.0
+ */
+public interface IntMaskConverter extends Converter {
+
+    /**
+     * Converts the mask value to a {@code int}, with the same context as {@link #convert}.
+     *
+     * @param value the string maskme value to convert
+     * @param originalValue the original field value
+     * @param containingObject the object containing this field
+     * @param fieldName the name of the field being processed
+     * @return converted value
+     */
+    int convertInt(String value, int originalValue, Object containingObject, String fieldName);
+}
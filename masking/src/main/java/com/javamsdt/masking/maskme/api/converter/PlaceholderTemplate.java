@@ -0,0 +1,197 @@
+/**
+ * Copyright (c) 2025: Ahmed Samy, All rights reserved.
+ * LinkedIn: https://www.linkedin.com/in/java-msdt/
+ * GitHub: https://github.com/JAVA-MSDT
+ * Email: serenitydiver@hotmail.com
+ */
+package com.javamsdt.masking.maskme.api.converter;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Mask value parsed once into literal and [fieldName] placeholder segments.
+ * Field readers are resolved once per containing class, so rendering is a single pass
+ * into a pre-sized StringBuilder without regex matching or intermediate strings.
+ *
+ * <p>Parsing follows the {@code \[([^]]+)]} placeholder syntax: a placeholder is a '['
+ * followed by at least one character and the next ']'. Placeholders whose field is missing
+ * or null are rendered as written.
+ *
+ * <p>Use cases:
+ * - Render "[firstName].[lastName]@company.com" for every masked object without re-parsing
+ * - Tell converters cheaply whether a mask value depends on the containing object
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * PlaceholderTemplate template = PlaceholderTemplate.of("[id]-[genderId]");
+ * template.hasPlaceholders();     // true
+ * template.render(user);          // "7-2"
+ * }</pre>
+ *
+ * @author Ahmed Samy
+ * @since 1.1.0
+ */
+public final class PlaceholderTemplate {
+
+    // Parsed mask values; bounded so arbitrary runtime strings cannot grow it without limit
+    private static final Map<String, PlaceholderTemplate> TEMPLATES = new ConcurrentHashMap<>();
+    private static final int MAX_TEMPLATES = 1024;
+
+    private static final FieldReader MISSING = target -> null;
+
+    private final String source;
+    // literals.length == fieldNames.length + 1; literal i precedes placeholder i
+    private final String[] literals;
+    private final String[] fieldNames;
+    private final int literalLength;
+    private final ClassValue<FieldReader[]> readers = new ClassValue<>() {
+        @Override
+        protected FieldReader[] computeValue(Class<?> type) {
+            FieldReader[] bound = new FieldReader[fieldNames.length];
+            for (int i = 0; i < fieldNames.length; i++) {
+                bound[i] = resolve(type, fieldNames[i]);
+            }
+            return bound;
+        }
+    };
+
+    private PlaceholderTemplate(String source, String[] literals, String[] fieldNames) {
+        this.source = source;
+        this.literals = literals;
+        this.fieldNames = fieldNames;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Gets the parsed template of a mask value.
+     *
+     * @param maskValue the maskme value, not null
+     * @return the cached or freshly parsed template
+     */
+    public static PlaceholderTemplate of(String maskValue) {
+        PlaceholderTemplate template = TEMPLATES.get(maskValue);
+        if (template == null) {
+            template = parse(maskValue);
+            if (TEMPLATES.size() < MAX_TEMPLATES) {
+                TEMPLATES.putIfAbsent(maskValue, template);
+            }
+        }
+        return template;
+    }
+
+    /**
+     * @return true if the mask value contains at least one [fieldName] placeholder
+     */
+    public boolean hasPlaceholders() {
+        return fieldNames.length > 0;
+    }
+
+    /**
+     * Renders the template against the containing object.
+     *
+     * @param containingObject the object to read placeholder fields from
+     * @return the rendered value, or the mask value itself when there is nothing to replace
+     */
+    public String render(Object containingObject) {
+        if (fieldNames.length == 0 || containingObject == null) {
+            return source;
+        }
+        FieldReader[] bound = readers.get(containingObject.getClass());
+        String[] values = new String[bound.length];
+        int length = literalLength;
+        for (int i = 0; i < bound.length; i++) {
+            Object value = read(bound[i], containingObject);
+            String text = value != null ? value.toString() : "[" + fieldNames[i] + "]";
+            values[i] = text;
+            length += text.length();
+        }
+
+        StringBuilder out = new StringBuilder(length);
+        out.append(literals[0]);
+        for (int i = 0; i < values.length; i++) {
+            out.append(values[i]).append(literals[i + 1]);
+        }
+        return out.toString();
+    }
+
+    private static Object read(FieldReader reader, Object target) {
+        try {
+            return reader.read(target);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static PlaceholderTemplate parse(String value) {
+        List<String> literals = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        int literalStart = 0;
+        int from = 0;
+        while (true) {
+            int open = value.indexOf('[', from);
+            if (open < 0) {
+                break;
+            }
+            int close = value.indexOf(']', open + 1);
+            if (close < 0) {
+                break;
+            }
+            if (close == open + 1) {
+                from = open + 1;
+                continue;
+            }
+            literals.add(value.substring(literalStart, open));
+            names.add(value.substring(open + 1, close));
+            literalStart = close + 1;
+            from = close + 1;
+        }
+        literals.add(value.substring(literalStart));
+        return new PlaceholderTemplate(value, literals.toArray(String[]::new), names.toArray(String[]::new));
+    }
+
+    private static FieldReader resolve(Class<?> type, String fieldName) {
+        try {
+            if (type.isRecord()) {
+                for (RecordComponent component : type.getRecordComponents()) {
+                    if (component.getName().equals(fieldName)) {
+                        Method accessor = component.getAccessor();
+                        accessor.trySetAccessible();
+                        return accessor::invoke;
+                    }
+                }
+                return MISSING;
+            }
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                try {
+                    Field field = current.getDeclaredField(fieldName);
+                    if (field.trySetAccessible()) {
+                        return field::get;
+                    }
+                } catch (NoSuchFieldException e) {
+                    // keep looking in the superclass
+                }
+            }
+        } catch (RuntimeException e) {
+            return MISSING;
+        }
+        return MISSING;
+    }
+
+    /**
+     * Reads one placeholder field from the containing object.
+     */
+    @FunctionalInterface
+    private interface FieldReader {
+        Object read(Object target) throws ReflectiveOperationException;
+    }
+}
@@ -0,0 +1,366 @@
+/**
+ * Copyright (c) 2025: Ahmed Samy, All rights reserved.
+ * LinkedIn: https://www.linkedin.com/in/java-msdt/
+ * GitHub: https://github.com/JAVA-MSDT
+ * Email: serenitydiver@hotmail.com
+ */
+package com.javamsdt.masking.maskme.api.masking;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Accessor layer used by compiled masking plans.
+ * Turns fields, record accessors and constructors into direct {@link MethodHandle}s
+ * with erased, uniform signatures so the processor's copy loop can call them with
+ * {@code invokeExact} and the JIT can inline the underlying field access.
+ *
+ * <p>Resolution strategy (first that works wins):
+ * 1. Private lookup into the target class (direct field/method handles)
+ * 2. Unreflecting the already accessible Field/Method/Constructor
+ * 3. Reflection fallback: a handle bound to Field.get/set, Method.invoke or Constructor.newInstance
+ *
+ * <p>Handle shapes:
+ * - getter: (Object)Object
+ * - setter: (Object,Object)void
+ * - default constructor: ()Object
+ * - canonical record constructor: (Object[])Object
+ *
+ * <p>Primitive slots also get handles that carry the value as a {@code long} ("bits": the
+ * integral value, 1/0 for booleans, the raw IEEE bits for floats and doubles), so copies and
+ * masked writes of primitives box nothing:
+ * - primitive getter: (Object)long
+ * - primitive setter: (Object,long)void
+ * - canonical record constructor with primitive components: (Object[],long[])Object, taking each
+ *   component from the array matching its kind at the same index
+ *
+ * @author Ahmed Samy
+ * @since 1.1.0
+ */
+final class Accessors {
+
+    static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    static final MethodType FACTORY_TYPE = MethodType.methodType(Object.class);
+    static final MethodType RECORD_FACTORY_TYPE = MethodType.methodType(Object.class, Object[].class);
+    static final MethodType BITS_GETTER_TYPE = MethodType.methodType(long.class, Object.class);
+    static final MethodType BITS_SETTER_TYPE = MethodType.methodType(void.class, Object.class, long.class);
+    static final MethodType RECORD_BITS_FACTORY_TYPE = MethodType.methodType(Object.class, Object[].class, long[].class);
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private Accessors() {
+        throw new MaskMeException("Accessors is not to be initialized");
+    }
+
+    /**
+     * Creates a getter handle for a field.
+     *
+     * @param field the (accessible) field
+     * @return handle of type (Object)Object
+     */
+    static MethodHandle getter(Field field) {
+        try {
+            return lookupFor(field.getDeclaringClass()).unreflectGetter(field).asType(GETTER_TYPE);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return bind(REFLECTIVE_FIELD_GET, field, GETTER_TYPE);
+        }
+    }
+
+    /**
+     * Creates a setter handle for a field.
+     * Final fields are written through the reflection fallback, which honours setAccessible.
+     *
+     * @param field the (accessible) field
+     * @return handle of type (Object,Object)void
+     */
+    static MethodHandle setter(Field field) {
+        try {
+            return lookupFor(field.getDeclaringClass()).unreflectSetter(field).asType(SETTER_TYPE);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return bind(REFLECTIVE_FIELD_SET, field, SETTER_TYPE);
+        }
+    }
+
+    /**
+     * Creates a getter handle for a record component accessor method.
+     *
+     * @param accessor the (accessible) accessor method
+     * @return handle of type (Object)Object
+     */
+    static MethodHandle getter(Method accessor) {
+        try {
+            return lookupFor(accessor.getDeclaringClass()).unreflect(accessor).asType(GETTER_TYPE);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return bind(REFLECTIVE_METHOD_INVOKE, accessor, MethodType.methodType(Object.class, Object.class, Object[].class))
+                    .asCollector(Object[].class, 0)
+                    .asType(GETTER_TYPE);
+        }
+    }
+
+    /**
+     * Creates a factory handle for a default constructor.
+     *
+     * @param constructor the (accessible) no-arg constructor
+     * @return handle of type ()Object
+     */
+    static MethodHandle factory(Constructor<?> constructor) {
+        try {
+            return lookupFor(constructor.getDeclaringClass()).unreflectConstructor(constructor).asType(FACTORY_TYPE);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return bind(REFLECTIVE_NEW_INSTANCE, constructor, RECORD_FACTORY_TYPE)
+                    .asCollector(Object[].class, 0)
+                    .asType(FACTORY_TYPE);
+        }
+    }
+
+    /**
+     * Creates a factory handle for a canonical record constructor taking all components as an array.
+     *
+     * @param constructor the (accessible) canonical constructor
+     * @return handle of type (Object[])Object
+     */
+    static MethodHandle recordFactory(Constructor<?> constructor) {
+        try {
+            MethodHandle handle = lookupFor(constructor.getDeclaringClass()).unreflectConstructor(constructor);
+            return handle.asSpreader(Object[].class, constructor.getParameterCount()).asType(RECORD_FACTORY_TYPE);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return bind(REFLECTIVE_NEW_INSTANCE, constructor, RECORD_FACTORY_TYPE);
+        }
+    }
+
+    /**
+     * Creates a bits getter handle for a primitive field.
+     *
+     * @param field the (accessible) primitive field
+     * @return handle of type (Object)long
+     */
+    static MethodHandle bitsGetter(Field field) {
+        MethodType type = MethodType.methodType(field.getType(), Object.class);
+        MethodHandle getter;
+        try {
+            getter = lookupFor(field.getDeclaringClass()).unreflectGetter(field).asType(type);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            getter = bind(REFLECTIVE_FIELD_GET, field, type);
+        }
+        return MethodHandles.filterReturnValue(getter, toBits(field.getType()));
+    }
+
+    /**
+     * Creates a bits setter handle for a primitive field.
+     * Final fields are written through the reflection fallback, like {@link #setter(Field)}.
+     *
+     * @param field the (accessible) primitive field
+     * @return handle of type (Object,long)void
+     */
+    static MethodHandle bitsSetter(Field field) {
+        MethodType type = MethodType.methodType(void.class, Object.class, field.getType());
+        MethodHandle setter;
+        try {
+            setter = lookupFor(field.getDeclaringClass()).unreflectSetter(field).asType(type);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            setter = bind(REFLECTIVE_FIELD_SET, field, type);
+        }
+        return MethodHandles.filterArguments(setter, 1, fromBits(field.getType()));
+    }
+
+    /**
+     * Creates a bits getter handle for a primitive record component accessor.
+     *
+     * @param accessor the (accessible) accessor method
+     * @return handle of type (Object)long
+     */
+    static MethodHandle bitsGetter(Method accessor) {
+        MethodType type = MethodType.methodType(accessor.getReturnType(), Object.class);
+        MethodHandle getter;
+        try {
+            getter = lookupFor(accessor.getDeclaringClass()).unreflect(accessor).asType(type);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            getter = bind(REFLECTIVE_METHOD_INVOKE, accessor, MethodType.methodType(Object.class, Object.class, Object[].class))
+                    .asCollector(Object[].class, 0)
+                    .asType(type);
+        }
+        return MethodHandles.filterReturnValue(getter, toBits(accessor.getReturnType()));
+    }
+
+    /**
+     * Creates a factory handle for a canonical record constructor with primitive components.
+     * Reference components are taken from the Object[] and primitive ones from the long[] bits,
+     * both indexed by component position.
+     *
+     * @param constructor the (accessible) canonical constructor
+     * @return handle of type (Object[],long[])Object
+     */
+    static MethodHandle recordBitsFactory(Constructor<?> constructor) {
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        MethodType type = MethodType.methodType(Object.class, parameterTypes);
+        MethodHandle factory;
+        try {
+            factory = lookupFor(constructor.getDeclaringClass()).unreflectConstructor(constructor).asType(type);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            factory = bind(REFLECTIVE_NEW_INSTANCE, constructor, RECORD_FACTORY_TYPE)
+                    .asCollector(Object[].class, parameterTypes.length)
+                    .asType(type);
+        }
+        // Replace each component by an (Object[], long[]) pair reading it, from the last so positions stay valid
+        for (int i = parameterTypes.length - 1; i >= 0; i--) {
+            factory = MethodHandles.collectArguments(factory, i, componentReader(parameterTypes[i], i));
+        }
+        int[] reorder = new int[parameterTypes.length * 2];
+        for (int i = 0; i < reorder.length; i++) {
+            reorder[i] = i % 2;
+        }
+        return MethodHandles.permuteArguments(factory, RECORD_BITS_FACTORY_TYPE, reorder);
+    }
+
+    /**
+     * Boxes a bits value as the given primitive type.
+     *
+     * @param bits the bits
+     * @param type the primitive type
+     * @return the boxed value
+     */
+    static Object fromBits(long bits, Class<?> type) {
+        if (type == int.class) return (int) bits;
+        if (type == long.class) return bits;
+        if (type == double.class) return Double.longBitsToDouble(bits);
+        if (type == boolean.class) return (bits & 1) != 0;
+        if (type == float.class) return Float.intBitsToFloat((int) bits);
+        if (type == short.class) return (short) bits;
+        if (type == byte.class) return (byte) bits;
+        return (char) bits;
+    }
+
+    /**
+     * Unboxes a value of the given primitive type into bits; null (or a mismatched value) is 0.
+     *
+     * @param value the boxed value
+     * @param type the primitive type
+     * @return the bits
+     */
+    static long toBits(Object value, Class<?> type) {
+        if (type == double.class && value instanceof Double d) return Double.doubleToRawLongBits(d);
+        if (type == float.class && value instanceof Float f) return Float.floatToRawIntBits(f);
+        if (type == boolean.class && value instanceof Boolean b) return b ? 1L : 0L;
+        if (type == char.class && value instanceof Character c) return c;
+        if (value instanceof Number number && type != double.class && type != float.class) return number.longValue();
+        return 0L;
+    }
+
+    /**
+     * Rethrows failures from handle invocation as unchecked exceptions,
+     * keeping the processor's existing "catch Exception and return original" contract.
+     *
+     * @param throwable the failure raised by a handle
+     * @return never returns normally
+     */
+    static RuntimeException rethrow(Throwable throwable) {
+        if (throwable instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (throwable instanceof Error error) {
+            throw error;
+        }
+        throw new MaskMeException("Accessor invocation failed: " + throwable.getMessage(), throwable);
+    }
+
+    private static MethodHandles.Lookup lookupFor(Class<?> type) throws IllegalAccessException {
+        return MethodHandles.privateLookupIn(type, LOOKUP);
+    }
+
+    // ==================== REFLECTION FALLBACK ====================
+
+    private static final MethodHandle REFLECTIVE_FIELD_GET;
+    private static final MethodHandle REFLECTIVE_FIELD_SET;
+    private static final MethodHandle REFLECTIVE_METHOD_INVOKE;
+    private static final MethodHandle REFLECTIVE_NEW_INSTANCE;
+
+    static {
+        try {
+            REFLECTIVE_FIELD_GET = LOOKUP.findVirtual(Field.class, "get",
+                    MethodType.methodType(Object.class, Object.class));
+            REFLECTIVE_FIELD_SET = LOOKUP.findVirtual(Field.class, "set",
+                    MethodType.methodType(void.class, Object.class, Object.class));
+            REFLECTIVE_METHOD_INVOKE = LOOKUP.findVirtual(Method.class, "invoke",
+                    MethodType.methodType(Object.class, Object.class, Object[].class));
+            REFLECTIVE_NEW_INSTANCE = LOOKUP.findVirtual(Constructor.class, "newInstance",
+                    MethodType.methodType(Object.class, Object[].class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static MethodHandle bind(MethodHandle reflective, Object member, MethodType type) {
+        return reflective.bindTo(member).asType(type);
+    }
+
+    // ==================== PRIMITIVE BITS ====================
+
+    private static final MethodHandle DOUBLE_TO_BITS;
+    private static final MethodHandle BITS_TO_DOUBLE;
+    private static final MethodHandle FLOAT_TO_BITS;
+    private static final MethodHandle BITS_TO_FLOAT;
+
+    static {
+        try {
+            DOUBLE_TO_BITS = LOOKUP.findStatic(Double.class, "doubleToRawLongBits",
+                    MethodType.methodType(long.class, double.class));
+            BITS_TO_DOUBLE = LOOKUP.findStatic(Double.class, "longBitsToDouble",
+                    MethodType.methodType(double.class, long.class));
+            FLOAT_TO_BITS = LOOKUP.findStatic(Float.class, "floatToRawIntBits",
+                    MethodType.methodType(int.class, float.class));
+            BITS_TO_FLOAT = LOOKUP.findStatic(Float.class, "intBitsToFloat",
+                    MethodType.methodType(float.class, int.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * (type)long adapter matching {@link #toBits(Object, Class)}.
+     */
+    private static MethodHandle toBits(Class<?> type) {
+        if (type == double.class) {
+            return DOUBLE_TO_BITS;
+        }
+        if (type == float.class) {
+            return MethodHandles.filterReturnValue(FLOAT_TO_BITS, castBits(int.class, long.class));
+        }
+        // Integral types widen with sign (zero for char), booleans become 1/0
+        return castBits(type, long.class);
+    }
+
+    /**
+     * (long)type adapter matching {@link #fromBits(long, Class)}.
+     */
+    private static MethodHandle fromBits(Class<?> type) {
+        if (type == double.class) {
+            return BITS_TO_DOUBLE;
+        }
+        if (type == float.class) {
+            return MethodHandles.filterReturnValue(castBits(long.class, int.class), BITS_TO_FLOAT);
+        }
+        // Integral types are truncated, booleans test the low bit
+        return castBits(long.class, type);
+    }
+
+    private static MethodHandle castBits(Class<?> from, Class<?> to) {
+        return MethodHandles.explicitCastArguments(MethodHandles.identity(from), MethodType.methodType(to, from));
+    }
+
+    /**
+     * (Object[],long[])type handle reading one record component at the given index.
+     */
+    private static MethodHandle componentReader(Class<?> type, int index) {
+        if (type.isPrimitive()) {
+            MethodHandle element = MethodHandles.insertArguments(MethodHandles.arrayElementGetter(long[].class), 1, index);
+            return MethodHandles.dropArguments(MethodHandles.filterReturnValue(element, fromBits(type)), 0, Object[].class);
+        }
+        MethodHandle element = MethodHandles.insertArguments(MethodHandles.arrayElementGetter(Object[].class), 1, index);
+        return MethodHandles.dropArguments(element.asType(MethodType.methodType(type, Object[].class)), 1, long[].class);
+    }
+}
@@ -0,0 +1,25 @@
+/**
+ * Copyright (c) 2025: Ahmed Samy, All rights reserved.
+ * LinkedIn: https://www.linkedin.com/in/java-msdt/
+ * GitHub: https://github.com/JAVA-MSDT
+ * Email: serenitydiver@hotmail.com
+ */
+package com.javamsdt.masking.maskme.api.masking;
+
+/**
+ * Declares how broad the result of a {@link MaskCondition} is, so the processor
+ * can evaluate it as rarely as possible.
+ *
+ * <p>Scopes:
+ * - {@link #CONSTANT}: same result for every value, object and request; folded when the masking plan is built
+ * - {@link #PER_REQUEST}: depends only on condition inputs; evaluated once per process call and reused for all fields
+ * - {@link #PER_VALUE}: depends on the field value or containing object; evaluated for every field (default)
+ *
+ * @author Ahmed Samy
+ * @since 1.1.0
+ */
+public enum ConditionScope {
+    CONSTANT,
+    PER_REQUEST,
+    PER_VALUE
+}
@@ -0,0 +1,125 @@
+/**
+ * Copyright (c) 2025: Ahmed Samy, All rights reserved.
+ * LinkedIn: https://www.linkedin.com/in/java-msdt/
+ * GitHub: https://github.com/JAVA-MSDT
+ * Email: serenitydiver@hotmail.com
+ */
+package com.javamsdt.masking.maskme.api.masking;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The conditions of one @MaskMe declaration after constant folding.
+ * {@link ConditionScope#CONSTANT} conditions are evaluated once while the set is built:
+ * a true result makes the whole set {@link #isAlways() always mask}, a false result drops the condition.
+ * The remaining conditions keep their declared order and scope for runtime evaluation.
+ *
+ * <p>Built by:
+ * - {@link MaskSlot}, once per annotated slot when the masking plan is built
+ * - {@link #forArray(Class[])}, for the static condition arrays of generated maskers
+ *
+ * @author Ahmed Samy
+ * @since 1.1.0
+ */
+@Slf4j
+final class ConditionSet {
+
+    @SuppressWarnings("unchecked")
+    private static final Class<? extends MaskCondition>[] NO_CONDITIONS = new Class[0];
+
+    static final ConditionSet ALWAYS = new ConditionSet(NO_CONDITIONS, new ConditionScope[0], true);
+    static final ConditionSet NEVER = new ConditionSet(NO_CONDITIONS, new ConditionScope[0], false);
+
+    // Keyed by array identity: generated maskers pass the same static array on every call
+    private static final Map<Object, ConditionSet> BY_ARRAY = new ConcurrentHashMap<>();
+
+    private final Class<? extends MaskCondition>[] conditions;
+    private final ConditionScope[] scopes;
+    private final boolean always;
+
+    private ConditionSet(Class<? extends MaskCondition>[] conditions, ConditionScope[] scopes, boolean always) {
+        this.conditions = conditions;
+        this.scopes = scopes;
+        this.always = always;
+    }
+
+    /**
+     * Folds the declared conditions of a @MaskMe annotation.
+     *
+     * @param declared the condition classes in declaration order
+     * @return the folded set ({@link #ALWAYS}, {@link #NEVER} or the remaining runtime conditions)
+     */
+    @SuppressWarnings("unchecked")
+    static ConditionSet of(Class<? extends MaskCondition>[] declared) {
+        List<Class<? extends MaskCondition>> remaining = new ArrayList<>(declared.length);
+        List<ConditionScope> remainingScopes = new ArrayList<>(declared.length);
+        for (Class<? extends MaskCondition> conditionClass : declared) {
+            ConditionScope scope = scopeOf(conditionClass);
+            if (scope == ConditionScope.CONSTANT) {
+                if (evaluateConstant(conditionClass)) {
+                    return ALWAYS;
+                }
+                continue;
+            }
+            remaining.add(conditionClass);
+            remainingScopes.add(scope);
+        }
+        if (remaining.isEmpty()) {
+            return NEVER;
+        }
+        return new ConditionSet(remaining.toArray(Class[]::new), remainingScopes.toArray(ConditionScope[]::new), false);
+    }
+
+    /**
+     * Gets the folded set for a condition array passed by a generated masker, folding it on first use.
+     *
+     * @param declared the masker's static condition array
+     * @return the folded set
+     */
+    static ConditionSet forArray(Class<? extends MaskCondition>[] declared) {
+        return BY_ARRAY.computeIfAbsent(declared, key -> of(declared));
+    }
+
+    boolean isAlways() {
+        return always;
+    }
+
+    boolean isNever() {
+        return !always && conditions.length == 0;
+    }
+
+    /**
+     * @return the non-constant conditions, in declaration order
+     */
+    Class<? extends MaskCondition>[] conditions() {
+        return conditions;
+    }
+
+    ConditionScope scope(int index) {
+        return scopes[index];
+    }
+
+    private static ConditionScope scopeOf(Class<? extends MaskCondition> conditionClass) {
+        try {
+            ConditionScope scope = MaskConditionFactory.getCondition(conditionClass).scope();
+            return scope != null ? scope : ConditionScope.PER_VALUE;
+        } catch (Exception e) {
+            // Not creatable yet; evaluate at runtime where the failure is reported per field
+            return ConditionScope.PER_VALUE;
+        }
+    }
+
+    private static boolean evaluateConstant(Class<? extends MaskCondition> conditionClass) {
+        try {
+            return MaskConditionFactory.getCondition(conditionClass).shouldMask(null, null);
+        } catch (Exception e) {
+            log.warn("Constant condition {} failed, treating it as not masking: {}", conditionClass.getName(), e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/**
+ * Copyright (c) 2025: Ahmed Samy, All rights reserved.
+ * LinkedIn: https://www.linkedin.com/in/java-msdt/
+ * GitHub: https://github.com/JAVA-MSDT
+ * Email: serenitydiver@hotmail.com
+ */
+package com.javamsdt.masking.maskme.api.masking;
+
+/**
+ * Reflection-free masker for a single type, generated at compile time by the
+ * MaskMe annotation processor (module {@code maskme-processor}).
+ * A masker for {@code com.acme.UserDto} is named {@code com.acme.UserDtoMasker};
+ * nested types use underscores, e.g. {@code Outer_InnerMasker}.
+ *
+ * <p>{@link MaskProcessor} looks the masker up once per class and, when one exists,
+ * dispatches to it instead of the reflective plan. Generated code reads fields directly,
+ * evaluates conditions and calls converters through the given {@link MaskerSupport}.
+ *
+ * <p>Use cases:
+ * - Remove reflection from the hottest masking paths
+ * - Mask on restricted runtimes where setAccessible is not allowed
+ *
+ * @param <T> the masked type
+ * @author Ahmed Samy
+ * @since 1.1.0
+ */
+public interface GeneratedMasker<T> {
+
+    /**
+     * Suffix appended to the (underscore-joined) simple binary name of the masked type.
+     */
+    String SUFFIX = "Masker";
+
+    /**
+     * Creates the masked copy of the given instance.
+     *
+     * @param source the object to mask (never null)
+     * @param support runtime callbacks for conditions, conversion and recursion
+     * @return new masked instance, or the source itself when no value changed
+     */
+    T mask(T source, MaskerSupport support);
+}
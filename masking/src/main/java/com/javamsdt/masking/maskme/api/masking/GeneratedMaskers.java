@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2025: Ahmed Samy, All rights reserved.
+ * LinkedIn: https://www.linkedin.com/in/java-msdt/
+ * GitHub: https://github.com/JAVA-MSDT
+ * Email: serenitydiver@hotmail.com
+ */
+package com.javamsdt.masking.maskme.api.masking;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Optional;
+
+/**
+ * Looks up compile-time generated {@link GeneratedMasker}s by naming convention.
+ * The lookup result (including "no masker") is cached per class.
+ * A masker that exists but cannot be created is logged and ignored,
+ * so the class falls back to the reflective plan.
+ *
+ * @author Ahmed Samy
+ * @since 1.1.0
+ */
+@Slf4j
+final class GeneratedMaskers {
+
+    private static final ClassValue<Optional<GeneratedMasker<?>>> MASKERS = new ClassValue<>() {
+        @Override
+        protected Optional<GeneratedMasker<?>> computeValue(Class<?> type) {
+            return Optional.ofNullable(load(type));
+        }
+    };
+
+    private GeneratedMaskers() {
+        throw new MaskMeException("GeneratedMaskers is not to be initialized");
+    }
+
+    /**
+     * Gets the generated masker for the given class.
+     *
+     * @param <T> the masked type
+     * @param type the class to look up
+     * @return the masker or null if none was generated
+     */
+    @SuppressWarnings("unchecked")
+    static <T> GeneratedMasker<T> find(Class<T> type) {
+        return (GeneratedMasker<T>) MASKERS.get(type).orElse(null);
+    }
+
+    /**
+     * Builds the masker class name for a type: same package, nested names joined with '_'.
+     *
+     * @param type the masked type
+     * @return fully qualified masker class name
+     */
+    static String maskerName(Class<?> type) {
+        String packageName = type.getPackageName();
+        String binaryName = type.getName();
+        String simpleBinaryName = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+        String maskerSimpleName = simpleBinaryName.replace('$', '_') + GeneratedMasker.SUFFIX;
+        return packageName.isEmpty() ? maskerSimpleName : packageName + "." + maskerSimpleName;
+    }
+
+    private static GeneratedMasker<?> load(Class<?> type) {
+        if (type.isPrimitive() || type.isArray() || type.getClassLoader() == null) {
+            return null;
+        }
+        try {
+            Class<?> maskerClass = Class.forName(maskerName(type), true, type.getClassLoader());
+            if (!GeneratedMasker.class.isAssignableFrom(maskerClass)) {
+                return null;
+            }
+            return (GeneratedMasker<?>) maskerClass.getDeclaredConstructor().newInstance();
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        } catch (ReflectiveOperationException e) {
+            log.warn("Failed to create generated masker for {}: {}", type.getName(), e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,456 @@
+/**
+ * Copyright (c) 2025: Ahmed Samy, All rights reserved.
+ * LinkedIn: https://www.linkedin.com/in/java-msdt/
+ * GitHub: https://github.com/JAVA-MSDT
+ * Email: serenitydiver@hotmail.com
+ */
+package com.javamsdt.masking.maskme.api.masking;
+
+import lombok.extern.slf4j.Slf4j;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.ConstantDynamic;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Runtime counterpart of the compile-time masker generator, used by {@link MaskEngine#BYTECODE}.
+ * On first use of a class it emits a {@link GeneratedMasker} as a hidden nestmate of that class,
+ * so private fields, constructors and record accessors are reached with plain bytecode.
+ *
+ * <p>Generated routine per class:
+ * - Unannotated, non-embedded slots are copied straight from source to target (no boxing)
+ * - Masked {@code int}, {@code long} and {@code double} slots stay primitive and are converted through
+ *   {@link MaskerSupport#convertInt}, {@link MaskerSupport#convertLong} and {@link MaskerSupport#convertDouble};
+ *   they are boxed only for a condition check that did not fold at plan build
+ * - Mask values, field names and condition arrays are constants of the hidden class
+ * - Conditions folded to "always" or "never" at plan build emit no condition check
+ * - Records are built with a direct canonical constructor call,
+ *   regular classes with the default constructor and putfield
+ * - The source itself is returned when no masked or embedded value changed (reference comparison)
+ *
+ * <p>A class is skipped (and the caller keeps the reflective plan) when its plan is unsupported,
+ * it has final instance fields, a field or field type is not accessible from the class itself,
+ * or the hidden class cannot be defined (e.g. the class loader cannot see the masking API).
+ *
+ * @author Ahmed Samy
+ * @since 1.1.0
+ */
+@Slf4j
+final class HiddenClassMaskers {
+
+    private static final String OBJECT = Type.getInternalName(Object.class);
+    private static final String MASKER = Type.getInternalName(GeneratedMasker.class);
+    private static final String SUPPORT = Type.getInternalName(MaskerSupport.class);
+    private static final String MASK_DESC = Type.getMethodDescriptor(Type.getType(Object.class),
+            Type.getType(Object.class), Type.getType(MaskerSupport.class));
+    private static final String SHOULD_MASK_DESC = "([Ljava/lang/Class;Ljava/lang/Object;Ljava/lang/Object;)Z";
+    private static final String CONVERT_DESC =
+            "(Ljava/lang/String;Ljava/lang/Class;Ljava/lang/Object;Ljava/lang/Object;Ljava/lang/String;)Ljava/lang/Object;";
+    private static final String PROCESS_EMBEDDED_DESC = "(Ljava/lang/Object;)Ljava/lang/Object;";
+    private static final String DOUBLE_BITS_DESC = "(D)J";
+    private static final Handle CLASS_DATA_AT = new Handle(H_INVOKESTATIC,
+            Type.getInternalName(MethodHandles.class), "classDataAt",
+            "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;Ljava/lang/Class;I)Ljava/lang/Object;", false);
+
+    // Local variable slots of the generated mask(Object, MaskerSupport) method
+    private static final int SUPPORT_LOCAL = 2;
+    private static final int SOURCE_LOCAL = 3;
+    private static final int TARGET_LOCAL = 4;
+    private static final int FIRST_VALUE_LOCAL = 5;
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final ClassValue<Optional<GeneratedMasker<?>>> MASKERS = new ClassValue<>() {
+        @Override
+        protected Optional<GeneratedMasker<?>> computeValue(Class<?> type) {
+            return Optional.ofNullable(define(type));
+        }
+    };
+
+    private HiddenClassMaskers() {
+        throw new MaskMeException("HiddenClassMaskers is not to be initialized");
+    }
+
+    /**
+     * Gets the hidden-class masker for the given class, generating it on first access.
+     *
+     * @param <T> the masked type
+     * @param type the class to mask
+     * @return the masker or null if the class must use the reflective plan
+     */
+    @SuppressWarnings("unchecked")
+    static <T> GeneratedMasker<T> find(Class<T> type) {
+        return (GeneratedMasker<T>) MASKERS.get(type).orElse(null);
+    }
+
+    private static GeneratedMasker<?> define(Class<?> type) {
+        if (type.isPrimitive() || type.isArray() || type.isInterface() || type.isHidden()) {
+            return null;
+        }
+        MaskPlan plan = MaskPlan.of(type);
+        if (!plan.isSupported()) {
+            return null;
+        }
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, LOOKUP);
+            String unsupported = checkSupported(plan, lookup);
+            if (unsupported != null) {
+                log.debug("Bytecode engine skips {}: {}", type.getName(), unsupported);
+                return null;
+            }
+            List<Object> classData = new ArrayList<>();
+            byte[] bytes = generate(plan, classData);
+            Class<?> maskerClass = lookup
+                    .defineHiddenClassWithClassData(bytes, List.copyOf(classData), true, MethodHandles.Lookup.ClassOption.NESTMATE)
+                    .lookupClass();
+            return (GeneratedMasker<?>) maskerClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            log.debug("Bytecode engine falls back to reflection for {}: {}", type.getName(), e.toString());
+            return null;
+        }
+    }
+
+    /**
+     * Verifies every member the routine touches is reachable from a nestmate of the class.
+     *
+     * @return reason the class cannot be generated, or null when it can
+     */
+    private static String checkSupported(MaskPlan plan, MethodHandles.Lookup lookup) {
+        Class<?> type = plan.type();
+        for (MaskSlot slot : plan.slots()) {
+            Member member = slot.member();
+            if (!plan.isRecord() && Modifier.isFinal(member.getModifiers())) {
+                return "final field " + slot.name();
+            }
+            if (!isMemberAccessible(member, type)) {
+                return "inaccessible member " + member.getDeclaringClass().getName() + "." + member.getName();
+            }
+            try {
+                lookup.accessClass(slot.type());
+            } catch (IllegalAccessException e) {
+                return "inaccessible type " + slot.type().getName();
+            }
+        }
+        return null;
+    }
+
+    private static boolean isMemberAccessible(Member member, Class<?> type) {
+        Class<?> owner = member.getDeclaringClass();
+        int modifiers = member.getModifiers();
+        if (owner.getNestHost() == type.getNestHost()) {
+            return true;
+        }
+        if (Modifier.isPrivate(modifiers)) {
+            return false;
+        }
+        if (owner.getPackageName().equals(type.getPackageName()) && owner.getClassLoader() == type.getClassLoader()) {
+            return true;
+        }
+        return Modifier.isPublic(modifiers) && Modifier.isPublic(owner.getModifiers())
+                && owner.getModule().isExported(owner.getPackageName(), type.getModule());
+    }
+
+    private static byte[] generate(MaskPlan plan, List<Object> classData) {
+        Class<?> type = plan.type();
+        String owner = Type.getInternalName(type);
+        String name = owner + "$$MaskMeMasker";
+
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS) {
+            @Override
+            protected String getCommonSuperClass(String first, String second) {
+                // Generated reference locals are typed as Object, no frame needs a more precise merge
+                return OBJECT;
+            }
+        };
+        cw.visit(V21, ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC, name, null, OBJECT, new String[]{MASKER});
+
+        MethodVisitor init = cw.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
+        init.visitCode();
+        init.visitVarInsn(ALOAD, 0);
+        init.visitMethodInsn(INVOKESPECIAL, OBJECT, "<init>", "()V", false);
+        init.visitInsn(RETURN);
+        init.visitMaxs(0, 0);
+        init.visitEnd();
+
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "mask", MASK_DESC, null, null);
+        mv.visitCode();
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitTypeInsn(CHECKCAST, owner);
+        mv.visitVarInsn(ASTORE, SOURCE_LOCAL);
+
+        // Each slot that may change gets a value local and an original local, two wide for long and double
+        MaskSlot[] slots = plan.slots();
+        int[] valueLocals = new int[slots.length];
+        int nextLocal = FIRST_VALUE_LOCAL;
+        for (int i = 0; i < slots.length; i++) {
+            if (slots[i].mayChange()) {
+                valueLocals[i] = nextLocal;
+                nextLocal += 2 * localType(slots[i]).getSize();
+            }
+        }
+
+        // Resolve every slot first, so all value locals are assigned on every path to the copy
+        for (int i = 0; i < slots.length; i++) {
+            if (slots[i].mayChange()) {
+                emitResolve(mv, slots[i], valueLocals[i], classData);
+            }
+        }
+        Label copy = new Label();
+        for (int i = 0; i < slots.length; i++) {
+            if (slots[i].mayChange()) {
+                emitChangeCheck(mv, slots[i], valueLocals[i], copy);
+            }
+        }
+        mv.visitVarInsn(ALOAD, SOURCE_LOCAL);
+        mv.visitInsn(ARETURN);
+
+        mv.visitLabel(copy);
+        if (plan.isRecord()) {
+            mv.visitTypeInsn(NEW, owner);
+            mv.visitInsn(DUP);
+            Type[] parameters = new Type[slots.length];
+            for (int i = 0; i < slots.length; i++) {
+                parameters[i] = Type.getType(slots[i].type());
+                emitValue(mv, slots[i], valueLocals[i]);
+            }
+            mv.visitMethodInsn(INVOKESPECIAL, owner, "<init>", Type.getMethodDescriptor(Type.VOID_TYPE, parameters), false);
+        } else {
+            mv.visitTypeInsn(NEW, owner);
+            mv.visitInsn(DUP);
+            mv.visitMethodInsn(INVOKESPECIAL, owner, "<init>", "()V", false);
+            mv.visitVarInsn(ASTORE, TARGET_LOCAL);
+            for (int i = 0; i < slots.length; i++) {
+                MaskSlot slot = slots[i];
+                Field field = (Field) slot.member();
+                mv.visitVarInsn(ALOAD, TARGET_LOCAL);
+                emitValue(mv, slot, valueLocals[i]);
+                mv.visitFieldInsn(PUTFIELD, Type.getInternalName(field.getDeclaringClass()), field.getName(),
+                        Type.getDescriptor(field.getType()));
+            }
+            mv.visitVarInsn(ALOAD, TARGET_LOCAL);
+        }
+        mv.visitInsn(ARETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+
+    /**
+     * Whether a slot may be masked, i.e. it is annotated and its conditions did not fold to "never".
+     */
+    private static boolean isMasked(MaskSlot slot) {
+        return slot.annotation() != null && !slot.conditions().isNever();
+    }
+
+    /**
+     * Whether a slot is resolved in a primitive local and converted without boxing,
+     * like the {@code convertInt}/{@code convertLong}/{@code convertDouble} calls of compile-time maskers.
+     */
+    private static boolean isUnboxed(MaskSlot slot) {
+        Class<?> type = slot.type();
+        return isMasked(slot) && (type == int.class || type == long.class || type == double.class);
+    }
+
+    /**
+     * @return the type of the slot's value and original locals
+     */
+    private static Type localType(MaskSlot slot) {
+        return isUnboxed(slot) ? Type.getType(slot.type()) : Type.getType(Object.class);
+    }
+
+    /**
+     * Emits the equivalent of {@code MaskProcessor.resolveSlotValue} into the slot's value local,
+     * keeping the value read from the source in the next local for the change check.
+     * Slots whose conditions folded to "always" are converted without a condition check.
+     */
+    private static void emitResolve(MethodVisitor mv, MaskSlot slot, int local, List<Object> classData) {
+        if (isUnboxed(slot)) {
+            emitResolveUnboxed(mv, slot, local, classData);
+            return;
+        }
+        int originalLocal = local + 1;
+        emitRead(mv, slot);
+        box(mv, slot.type());
+        mv.visitInsn(DUP);
+        mv.visitVarInsn(ASTORE, originalLocal);
+        mv.visitVarInsn(ASTORE, local);
+
+        if (isMasked(slot) && slot.conditions().isAlways()) {
+            emitConvert(mv, slot, local, classData);
+            return;
+        }
+        Label done = new Label();
+        if (isMasked(slot)) {
+            Label keep = new Label();
+            mv.visitVarInsn(ALOAD, SUPPORT_LOCAL);
+            mv.visitLdcInsn(classDataConstant(classData, slot.conditions().conditions(), Class[].class));
+            mv.visitVarInsn(ALOAD, local);
+            mv.visitVarInsn(ALOAD, SOURCE_LOCAL);
+            mv.visitMethodInsn(INVOKEINTERFACE, SUPPORT, "shouldMask", SHOULD_MASK_DESC, true);
+            mv.visitJumpInsn(IFEQ, keep);
+            emitConvert(mv, slot, local, classData);
+            mv.visitJumpInsn(GOTO, done);
+            mv.visitLabel(keep);
+        }
+        if (slot.embeddedCandidate()) {
+            mv.visitVarInsn(ALOAD, SUPPORT_LOCAL);
+            mv.visitVarInsn(ALOAD, local);
+            mv.visitMethodInsn(INVOKEINTERFACE, SUPPORT, "processEmbedded", PROCESS_EMBEDDED_DESC, true);
+            mv.visitVarInsn(ASTORE, local);
+        }
+        mv.visitLabel(done);
+    }
+
+    /**
+     * Resolves an {@code int}, {@code long} or {@code double} slot in primitive locals. The value is
+     * boxed only to be passed to a condition check that did not fold at plan build.
+     */
+    private static void emitResolveUnboxed(MethodVisitor mv, MaskSlot slot, int local, List<Object> classData) {
+        Type type = Type.getType(slot.type());
+        int originalLocal = local + type.getSize();
+        emitRead(mv, slot);
+        mv.visitInsn(type.getSize() == 2 ? DUP2 : DUP);
+        mv.visitVarInsn(type.getOpcode(ISTORE), originalLocal);
+        mv.visitVarInsn(type.getOpcode(ISTORE), local);
+
+        Label done = new Label();
+        if (!slot.conditions().isAlways()) {
+            mv.visitVarInsn(ALOAD, SUPPORT_LOCAL);
+            mv.visitLdcInsn(classDataConstant(classData, slot.conditions().conditions(), Class[].class));
+            mv.visitVarInsn(type.getOpcode(ILOAD), local);
+            box(mv, slot.type());
+            mv.visitVarInsn(ALOAD, SOURCE_LOCAL);
+            mv.visitMethodInsn(INVOKEINTERFACE, SUPPORT, "shouldMask", SHOULD_MASK_DESC, true);
+            mv.visitJumpInsn(IFEQ, done);
+        }
+        mv.visitVarInsn(ALOAD, SUPPORT_LOCAL);
+        mv.visitLdcInsn(slot.annotation().maskValue());
+        mv.visitVarInsn(type.getOpcode(ILOAD), local);
+        mv.visitVarInsn(ALOAD, SOURCE_LOCAL);
+        mv.visitLdcInsn(slot.name());
+        String convert = "convert" + Character.toUpperCase(type.getClassName().charAt(0)) + type.getClassName().substring(1);
+        mv.visitMethodInsn(INVOKEINTERFACE, SUPPORT, convert, Type.getMethodDescriptor(type,
+                Type.getType(String.class), type, Type.getType(Object.class), Type.getType(String.class)), true);
+        mv.visitVarInsn(type.getOpcode(ISTORE), local);
+        mv.visitLabel(done);
+    }
+
+    /**
+     * Jumps to the copy when the slot's value local differs from its original: by reference for
+     * objects, by value for {@code int} and {@code long}, and by raw bits for {@code double}.
+     */
+    private static void emitChangeCheck(MethodVisitor mv, MaskSlot slot, int local, Label copy) {
+        Type type = localType(slot);
+        int originalLocal = local + type.getSize();
+        switch (type.getSort()) {
+            case Type.INT -> {
+                mv.visitVarInsn(ILOAD, local);
+                mv.visitVarInsn(ILOAD, originalLocal);
+                mv.visitJumpInsn(IF_ICMPNE, copy);
+            }
+            case Type.LONG -> {
+                mv.visitVarInsn(LLOAD, local);
+                mv.visitVarInsn(LLOAD, originalLocal);
+                mv.visitInsn(LCMP);
+                mv.visitJumpInsn(IFNE, copy);
+            }
+            case Type.DOUBLE -> {
+                String doubles = Type.getInternalName(Double.class);
+                mv.visitVarInsn(DLOAD, local);
+                mv.visitMethodInsn(INVOKESTATIC, doubles, "doubleToRawLongBits", DOUBLE_BITS_DESC, false);
+                mv.visitVarInsn(DLOAD, originalLocal);
+                mv.visitMethodInsn(INVOKESTATIC, doubles, "doubleToRawLongBits", DOUBLE_BITS_DESC, false);
+                mv.visitInsn(LCMP);
+                mv.visitJumpInsn(IFNE, copy);
+            }
+            default -> {
+                mv.visitVarInsn(ALOAD, local);
+                mv.visitVarInsn(ALOAD, originalLocal);
+                mv.visitJumpInsn(IF_ACMPNE, copy);
+            }
+        }
+    }
+
+    private static void emitConvert(MethodVisitor mv, MaskSlot slot, int local, List<Object> classData) {
+        mv.visitVarInsn(ALOAD, SUPPORT_LOCAL);
+        mv.visitLdcInsn(slot.annotation().maskValue());
+        mv.visitLdcInsn(classDataConstant(classData, slot.type(), Class.class));
+        mv.visitVarInsn(ALOAD, local);
+        mv.visitVarInsn(ALOAD, SOURCE_LOCAL);
+        mv.visitLdcInsn(slot.name());
+        mv.visitMethodInsn(INVOKEINTERFACE, SUPPORT, "convert", CONVERT_DESC, true);
+        mv.visitVarInsn(ASTORE, local);
+    }
+
+    /**
+     * Pushes the slot value with its declared type: from the resolved local, or read straight from the source.
+     */
+    private static void emitValue(MethodVisitor mv, MaskSlot slot, int local) {
+        if (isUnboxed(slot)) {
+            mv.visitVarInsn(Type.getType(slot.type()).getOpcode(ILOAD), local);
+        } else if (slot.mayChange()) {
+            mv.visitVarInsn(ALOAD, local);
+            unbox(mv, slot.type());
+        } else {
+            emitRead(mv, slot);
+        }
+    }
+
+    private static void emitRead(MethodVisitor mv, MaskSlot slot) {
+        mv.visitVarInsn(ALOAD, SOURCE_LOCAL);
+        if (slot.member() instanceof Method accessor) {
+            mv.visitMethodInsn(INVOKEVIRTUAL, Type.getInternalName(accessor.getDeclaringClass()), accessor.getName(),
+                    Type.getMethodDescriptor(accessor), false);
+        } else {
+            Field field = (Field) slot.member();
+            mv.visitFieldInsn(GETFIELD, Type.getInternalName(field.getDeclaringClass()), field.getName(),
+                    Type.getDescriptor(field.getType()));
+        }
+    }
+
+    private static ConstantDynamic classDataConstant(List<Object> classData, Object value, Class<?> constantType) {
+        classData.add(Objects.requireNonNull(value));
+        return new ConstantDynamic("_", Type.getDescriptor(constantType), CLASS_DATA_AT, classData.size() - 1);
+    }
+
+    private static void box(MethodVisitor mv, Class<?> type) {
+        if (!type.isPrimitive()) {
+            return;
+        }
+        Type wrapper = Type.getType(wrapperOf(type));
+        mv.visitMethodInsn(INVOKESTATIC, wrapper.getInternalName(), "valueOf",
+                Type.getMethodDescriptor(wrapper, Type.getType(type)), false);
+    }
+
+    private static void unbox(MethodVisitor mv, Class<?> type) {
+        if (!type.isPrimitive()) {
+            mv.visitTypeInsn(CHECKCAST, Type.getInternalName(type));
+            return;
+        }
+        String wrapper = Type.getInternalName(wrapperOf(type));
+        mv.visitTypeInsn(CHECKCAST, wrapper);
+        mv.visitMethodInsn(INVOKEVIRTUAL, wrapper, type.getName() + "Value",
+                Type.getMethodDescriptor(Type.getType(type)), false);
+    }
+
+    private static Class<?> wrapperOf(Class<?> primitive) {
+        return MethodType.methodType(primitive).wrap().returnType();
+    }
+}
@@ -14,6 +14,8 @@ import java.util.Map;
  * field values, and containing object context.
  * 
  * <p>Implementations can be Spring-managed beans to leverage dependency injection.
+ * Conditions that do not override {@link #setInput} are treated as stateless:
+ * {@link MaskConditionFactory} creates them once and shares them across threads.
  * 
  * <p>Use cases:
  * - Role-based field visibility (AdminOnlyCondition)
@@ -71,4 +73,19 @@ public interface MaskCondition {
     default void setInput(Map<String, Object> inputs) {
         // Default implementation does nothing
     }
+
+    /**
+     * Declares how broad this condition's result is.
+     * {@link ConditionScope#CONSTANT} conditions are evaluated once with null arguments;
+     * {@link ConditionScope#PER_REQUEST} conditions once per process call, after setInput.
+     *
+     * <p>Use cases:
+     * - CONSTANT for unconditional masking (AlwaysMaskCondition)
+     * - PER_REQUEST for input-driven flags (MaskOnInput, MaskPhone)
+     *
+     * @return the condition scope, {@link ConditionScope#PER_VALUE} unless overridden
+     */
+    default ConditionScope scope() {
+        return ConditionScope.PER_VALUE;
+    }
 }
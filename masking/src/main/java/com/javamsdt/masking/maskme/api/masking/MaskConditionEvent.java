@@ -0,0 +1,43 @@
+/**
+ * Copyright (c) 2025: Ahmed Samy, All rights reserved.
+ * LinkedIn: https://www.linkedin.com/in/java-msdt/
+ * GitHub: https://github.com/JAVA-MSDT
+ * Email: serenitydiver@hotmail.com
+ */
+package com.javamsdt.masking.maskme.api.masking;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one condition evaluation.
+ *
+ * @author Ahmed Samy
+ * @since 1.1.0
+ */
+@Name("com.javamsdt.maskme.Condition")
+@Label("Mask Condition")
+@Category("MaskMe")
+@Description("One MaskCondition resolved and evaluated")
+@StackTrace(false)
+final class MaskConditionEvent extends Event {
+
+    @Label("Condition")
+    Class<?> condition;
+
+    @Label("Masked")
+    boolean masked;
+
+    void report(Class<? extends MaskCondition> condition, boolean masked) {
+        end();
+        if (shouldCommit()) {
+            this.condition = condition;
+            this.masked = masked;
+            commit();
+        }
+    }
+}
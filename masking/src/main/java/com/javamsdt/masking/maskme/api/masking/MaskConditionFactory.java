@@ -8,6 +8,10 @@ package com.javamsdt.masking.maskme.api.masking;
 
 import org.jspecify.annotations.NonNull;
 
+import java.lang.reflect.Constructor;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Factory for creating MaskCondition instances with optional framework support.
  * Supports dependency injection for a single framework while maintaining
@@ -16,6 +20,11 @@ import org.jspecify.annotations.NonNull;
  * <p>Usage pattern:
  * - Framework apps: Register your framework provider once at startup
  * - Pure Java apps: Nothing to do - reflection works automatically
+ *
+ * <p>Condition cache ({@link #getCondition(Class)}):
+ * - Stateless conditions (not overriding {@link MaskCondition#setInput}) are created once and shared
+ * - Input-carrying conditions get a fresh instance per call, from the cached creation strategy
+ * - Changing or clearing the framework provider invalidates the cache
  * 
  * @author Ahmed Samy
  * @since 1.0.0
@@ -25,6 +34,9 @@ public class MaskConditionFactory {
     // Single framework provider (null for pure Java)
     private static volatile FrameworkProvider frameworkProvider = null;
 
+    // Resolved creation strategy per condition class, tagged with the provider it was resolved against
+    private static final Map<Class<?>, CachedCondition> CONDITIONS = new ConcurrentHashMap<>();
+
     private MaskConditionFactory() {
         throw new MaskMeException("MaskConditionFactory is not to be initialized");
     }
@@ -37,6 +49,7 @@ public class MaskConditionFactory {
      */
     public static void setFrameworkProvider(FrameworkProvider provider) {
         frameworkProvider = provider;
+        clearConditionCache();
     }
 
     /**
@@ -45,6 +58,15 @@ public class MaskConditionFactory {
      */
     public static void clearFrameworkProvider() {
         frameworkProvider = null;
+        clearConditionCache();
+    }
+
+    /**
+     * Drops all cached condition instances and creation strategies.
+     * Called automatically when the framework provider changes.
+     */
+    public static void clearConditionCache() {
+        CONDITIONS.clear();
     }
 
 
@@ -88,12 +110,101 @@ public class MaskConditionFactory {
         return getConditionUsingReflection(conditionClass);
     }
 
+    /**
+     * Gets a MaskCondition instance through the per-class cache.
+     * Stateless conditions are shared, so they must be thread-safe; input-carrying
+     * conditions are created per call because {@link MaskCondition#setInput} mutates them.
+     *
+     * <p>Use case: Called by MaskProcessor for every annotated field
+     *
+     * @param <T> the specific MaskCondition type
+     * @param conditionClass the condition class
+     * @return shared instance for stateless conditions, new instance otherwise
+     * @throws MaskMeException if the condition cannot be created
+     */
+    public static <T extends MaskCondition> T getCondition(Class<T> conditionClass) {
+        FrameworkProvider provider = frameworkProvider;
+        CachedCondition cached = CONDITIONS.get(conditionClass);
+        if (cached == null || cached.provider() != provider) {
+            cached = resolve(conditionClass, provider);
+            CONDITIONS.put(conditionClass, cached);
+        }
+        return conditionClass.cast(cached.get());
+    }
+
+    /**
+     * Whether a condition class keeps no per-request state, i.e. it does not override setInput.
+     *
+     * @param conditionClass the condition class
+     * @return true if a single instance can be shared
+     */
+    public static boolean isStateless(Class<? extends MaskCondition> conditionClass) {
+        try {
+            return conditionClass.getMethod("setInput", Map.class).getDeclaringClass() == MaskCondition.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static CachedCondition resolve(Class<? extends MaskCondition> conditionClass, FrameworkProvider provider) {
+        boolean stateless = isStateless(conditionClass);
+        if (provider != null) {
+            try {
+                MaskCondition instance = provider.getInstance(conditionClass);
+                if (instance != null) {
+                    // Provider-managed: share stateless beans, ask the provider again for input-carrying ones
+                    return new CachedCondition(provider, conditionClass, stateless ? instance : null, null);
+                }
+            } catch (Exception e) {
+                // Provider failed, fall through to reflection
+            }
+        }
+        Constructor<? extends MaskCondition> constructor = getConstructor(conditionClass);
+        return stateless
+                ? new CachedCondition(provider, conditionClass, newInstance(constructor), null)
+                : new CachedCondition(provider, conditionClass, null, constructor);
+    }
+
     private static <T extends MaskCondition> @NonNull T getConditionUsingReflection(Class<T> conditionClass) {
         // Reflection fallback for non-Spring contexts or non-managed beans
+        return newInstance(getConstructor(conditionClass));
+    }
+
+    private static <T extends MaskCondition> Constructor<T> getConstructor(Class<T> conditionClass) {
         try {
-            return conditionClass.getDeclaredConstructor().newInstance();
+            return conditionClass.getDeclaredConstructor();
         } catch (Exception e) {
             throw new MaskMeException("Failed to create condition: " + conditionClass.getName(), e);
         }
     }
-}
\ No newline at end of file
+
+    private static <T extends MaskCondition> @NonNull T newInstance(Constructor<T> constructor) {
+        try {
+            return constructor.newInstance();
+        } catch (Exception e) {
+            throw new MaskMeException("Failed to create condition: " + constructor.getDeclaringClass().getName(), e);
+        }
+    }
+
+    /**
+     * Cached creation strategy for one condition class.
+     *
+     * @param provider the framework provider this entry was resolved against (null for pure Java)
+     * @param conditionClass the condition class
+     * @param shared the shared instance, stateless conditions only
+     * @param constructor the resolved constructor, input-carrying conditions created by reflection only
+     */
+    private record CachedCondition(FrameworkProvider provider, Class<? extends MaskCondition> conditionClass,
+                                   MaskCondition shared, Constructor<? extends MaskCondition> constructor) {
+
+        MaskCondition get() {
+            if (shared != null) {
+                return shared;
+            }
+            if (constructor != null) {
+                return newInstance(constructor);
+            }
+            return createCondition(conditionClass);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+/**
+ * Copyright (c) 2025: Ahmed Samy, All rights reserved.
+ * LinkedIn: https://www.linkedin.com/in/java-msdt/
+ * GitHub: https://github.com/JAVA-MSDT
+ * Email: serenitydiver@hotmail.com
+ */
+package com.javamsdt.masking.maskme.api.masking;
+
+/**
+ * Selects how {@link MaskProcessor} copies and masks classes that have no
+ * compile-time generated masker.
+ *
+ * <p>Engines:
+ * - {@link #REFLECTIVE}: executes the cached {@link MaskPlan} through method handles
+ * - {@link #BYTECODE}: generates a hidden class per type on first use, with straight-line
+ *   field copies, folded mask values, unboxed {@code int}, {@code long} and {@code double}
+ *   conversions and direct constructor calls
+ *
+ * <p>Compile-time generated maskers always take precedence over both engines.
+ * Types the bytecode engine cannot handle (e.g. final fields, inaccessible
+ * superclass fields) use the reflective plan.
+ *
+ * @author Ahmed Samy
+ * @since 1.1.0
+ */
+public enum MaskEngine {
+    REFLECTIVE,
+    BYTECODE
+}
@@ -0,0 +1,42 @@
+/**
+ * Copyright (c) 2025: Ahmed Samy, All rights reserved.
+ * LinkedIn: https://www.linkedin.com/in/java-msdt/
+ * GitHub: https://github.com/JAVA-MSDT
+ * Email: serenitydiver@hotmail.com
+ */
+package com.javamsdt.masking.maskme.api.masking;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a mutable class whose instances are masked in place: {@link MaskProcessor#process(Object)}
+ * overwrites masked fields on the given instance instead of returning a masked copy.
+ * Per-call equivalent: {@link MaskProcessor#processInPlace(Object)}.
+ *
+ * <p>Only use it for instances that are built per request and discarded after serialization,
+ * since the original values are lost. Records and classes whose masked or embedded fields are
+ * final are rejected with a {@link MaskMeException}.
+ *
+ * <p>Use cases:
+ * - Skip the defensive copy of throw-away entities mapped per request
+ * - Mask large mutable graphs without doubling their memory
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * @MaskInPlace
+ * public class User {
+ *     @MaskMe(conditions = {AlwaysMaskCondition.class})
+ *     private String email;
+ * }
+ * }</pre>
+ *
+ * @author Ahmed Samy
+ * @since 1.1.0
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MaskInPlace {
+}
@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) 2025: Ahmed Samy, All rights reserved.
+ * LinkedIn: https://www.linkedin.com/in/java-msdt/
+ * GitHub: https://github.com/JAVA-MSDT
+ * Email: serenitydiver@hotmail.com
+ */
+package com.javamsdt.masking.maskme.api.masking;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+import java.util.Objects;
+
+/**
+ * Global registration point for {@link MaskMetrics}.
+ *
+ * <p>The processor and converter registry also emit JDK Flight Recorder events
+ * ({@code com.javamsdt.maskme.Process}, {@code com.javamsdt.maskme.Condition} and
+ * {@code com.javamsdt.maskme.ConverterSelection}, category "MaskMe") while a recording is running,
+ * independently of the metrics registered here. With no metrics and no recording, the hot paths only
+ * read one flag: nothing is timed or allocated.
+ *
+ * <p>Use cases:
+ * - Framework apps: Register a metrics bridge once at startup
+ * - Tests: Register a recording implementation and clear it afterwards
+ *
+ * @author Ahmed Samy
+ * @since 1.1.0
+ */
+public final class MaskInstrumentation {
+
+    private static volatile MaskMetrics metrics = MaskMetrics.NONE;
+    private static volatile boolean recording;
+    // Metrics registered or a recording running
+    private static volatile boolean active;
+
+    static {
+        FlightRecorder.addListener(new FlightRecorderListener() {
+            @Override
+            public void recordingStateChanged(Recording changed) {
+                updateRecording();
+            }
+        });
+        if (FlightRecorder.isInitialized()) {
+            updateRecording();
+        }
+    }
+
+    private MaskInstrumentation() {
+        throw new MaskMeException("MaskInstrumentation is not to be initialized");
+    }
+
+    /**
+     * Registers the metrics receiving measurements from all processors.
+     *
+     * @param maskMetrics the metrics implementation
+     */
+    public static void setMetrics(MaskMetrics maskMetrics) {
+        metrics = Objects.requireNonNull(maskMetrics, "metrics");
+        updateActive();
+    }
+
+    /**
+     * Removes the registered metrics.
+     */
+    public static void clearMetrics() {
+        metrics = MaskMetrics.NONE;
+        updateActive();
+    }
+
+    /**
+     * @return the registered metrics, {@link MaskMetrics#NONE} if none
+     */
+    public static MaskMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * @return true if metrics other than {@link MaskMetrics#NONE} are registered
+     */
+    public static boolean hasMetrics() {
+        return metrics != MaskMetrics.NONE;
+    }
+
+    /**
+     * Checked by the hot paths before measuring anything.
+     *
+     * @return true if metrics are registered or a flight recording is running
+     */
+    public static boolean isActive() {
+        return active;
+    }
+
+    private static synchronized void updateRecording() {
+        recording = FlightRecorder.getFlightRecorder().getRecordings().stream()
+                .anyMatch(running -> running.getState() == RecordingState.RUNNING);
+        updateActive();
+    }
+
+    private static synchronized void updateActive() {
+        active = recording || hasMetrics();
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ * Copyright (c) 2025: Ahmed Samy, All rights reserved.
+ * LinkedIn: https://www.linkedin.com/in/java-msdt/
+ * GitHub: https://github.com/JAVA-MSDT
+ * Email: serenitydiver@hotmail.com
+ */
+package com.javamsdt.masking.maskme.api.masking;
+
+import com.javamsdt.masking.maskme.api.converter.Converter;
+
+/**
+ * Receives measurements from the masking hot paths, e.g. to publish them as Micrometer meters.
+ * Register one with {@link MaskInstrumentation#setMetrics(MaskMetrics)}; every method defaults to a no-op.
+ *
+ * <p>While {@link #NONE} is registered (the default) and no flight recording is running, the processor
+ * skips timing altogether, so instrumentation costs nothing on the hot path.
+ *
+ * <p>Use cases:
+ * - Dashboards for masking latency per DTO type
+ * - Spotting conditions that dominate request time
+ * - Checking how often converted mask values come from the constant cache
+ *
+ * @author Ahmed Samy
+ * @since 1.1.0
+ */
+public interface MaskMetrics {
+
+    /**
+     * Records nothing; registering it turns metrics off.
+     */
+    MaskMetrics NONE = new MaskMetrics() {
+    };
+
+    /**
+     * Called after one object (top-level or nested) has been processed.
+     *
+     * @param type the processed object's class
+     * @param depth the nesting depth, 0 for the object passed to the processor
+     * @param fieldsMasked fields masked in the object and its nested objects
+     * @param durationNanos time spent, including nested objects
+     */
+    default void recordProcess(Class<?> type, int depth, int fieldsMasked, long durationNanos) {
+    }
+
+    /**
+     * Called after one condition has been evaluated. Constant conditions and per-request results
+     * reused within a call are not evaluated again and are not reported.
+     *
+     * @param conditionClass the evaluated condition
+     * @param masked the condition's result
+     * @param durationNanos time spent resolving and evaluating the condition
+     */
+    default void recordCondition(Class<? extends MaskCondition> conditionClass, boolean masked, long durationNanos) {
+    }
+
+    /**
+     * Called when a converter has been selected for a mask value.
+     *
+     * @param converterClass the converter producing the value
+     * @param targetType the field type converted to
+     * @param cacheHit true if the converted constant was reused instead of calling the converter
+     */
+    default void recordConverterSelection(Class<? extends Converter> converterClass, Class<?> targetType, boolean cacheHit) {
+    }
+}
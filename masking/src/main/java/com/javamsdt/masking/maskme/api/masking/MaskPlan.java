@@ -0,0 +1,468 @@
+/**
+ * Copyright (c) 2025: Ahmed Samy, All rights reserved.
+ * LinkedIn: https://www.linkedin.com/in/java-msdt/
+ * GitHub: https://github.com/JAVA-MSDT
+ * Email: serenitydiver@hotmail.com
+ */
+package com.javamsdt.masking.maskme.api.masking;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Compiled, immutable masking plan for a single class.
+ * Built once per class on first use and cached in a {@link ClassValue},
+ * so the class hierarchy walk, setAccessible calls, annotation lookups and
+ * constructor resolution are not repeated for every processed object.
+ *
+ * <p>Plan contents:
+ * - Ordered slots (fields for regular classes, components for records)
+ * - Resolved @MaskMe annotations per slot
+ * - Embedded-object decision per slot, based on the declared type (and element type for containers)
+ * - A factory handle for the default constructor (regular classes) or canonical constructor (records),
+ *   taking primitive components as bits when the record has any
+ * - Whether instances are masked in place ({@link MaskInPlace}) and, if they cannot be, why
+ *
+ * <p>Alongside the plans, a per-class "requires masking" decision is cached so embedded values
+ * whose type (and every type reachable through its fields) carries no @MaskMe are skipped
+ * after a single lookup, as is whether instances are {@link #isAcyclic() acyclic}.
+ *
+ * <p>If the class cannot be handled (e.g. no default constructor or inaccessible
+ * JDK internals) the plan keeps the failure reason and the processor returns the
+ * original object, exactly like the uncached implementation did. A regular class without
+ * a default constructor keeps its slots, so it can still be masked in place.
+ *
+ * @author Ahmed Samy
+ * @since 1.1.0
+ */
+final class MaskPlan {
+
+    private static final ClassValue<MaskPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected MaskPlan computeValue(Class<?> type) {
+            return build(type);
+        }
+    };
+
+    private static final ClassValue<Boolean> REQUIRES_MASKING = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return scanRequiresMasking(type);
+        }
+    };
+
+    private static final ClassValue<Boolean> ACYCLIC = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return scanAcyclic(type, new HashSet<>());
+        }
+    };
+
+    private final Class<?> type;
+    private final boolean isRecord;
+    private final boolean acyclic;
+    private final MaskSlot[] slots;
+    private final boolean hasPrimitiveSlots;
+    private final MethodHandle factory;
+    private final String failure;
+    private final boolean inPlace;
+    private final String inPlaceFailure;
+
+    private MaskPlan(Class<?> type, MaskSlot[] slots, MethodHandle factory, String failure, String inPlaceFailure) {
+        this.type = type;
+        this.isRecord = type.isRecord();
+        this.acyclic = ACYCLIC.get(type);
+        this.slots = slots;
+        this.hasPrimitiveSlots = Arrays.stream(slots).anyMatch(MaskSlot::isPrimitive);
+        this.factory = factory;
+        this.failure = failure;
+        this.inPlace = type.isAnnotationPresent(MaskInPlace.class);
+        this.inPlaceFailure = inPlaceFailure;
+    }
+
+    private MaskPlan(Class<?> type, MaskSlot[] slots, MethodHandle factory, String failure) {
+        this(type, slots, factory, failure, inPlaceFailure(type, slots));
+    }
+
+    /**
+     * Gets the cached plan for the given class, building it on first access.
+     *
+     * @param type the class to plan
+     * @return the compiled plan (never null)
+     */
+    static MaskPlan of(Class<?> type) {
+        return PLANS.get(type);
+    }
+
+    Class<?> type() {
+        return type;
+    }
+
+    boolean isRecord() {
+        return isRecord;
+    }
+
+    MaskSlot[] slots() {
+        return slots;
+    }
+
+    /**
+     * @return true if any slot is primitive; records then take their primitive components as bits
+     */
+    boolean hasPrimitiveSlots() {
+        return hasPrimitiveSlots;
+    }
+
+    /**
+     * Whether processing an instance can never lead back to itself: the class is a record and every
+     * slot worth recursing into is declared as another acyclic record. Records are immutable, so such
+     * graphs are trees and need no circular-reference tracking.
+     *
+     * @return true if instances need no cycle tracking
+     */
+    boolean isAcyclic() {
+        return acyclic;
+    }
+
+    boolean isSupported() {
+        return failure == null;
+    }
+
+    String failure() {
+        return failure;
+    }
+
+    /**
+     * @return true if the class is annotated with {@link MaskInPlace}
+     */
+    boolean isInPlace() {
+        return inPlace;
+    }
+
+    /**
+     * @return why instances cannot be masked in place, or null when they can
+     */
+    String inPlaceFailure() {
+        return inPlaceFailure;
+    }
+
+    /**
+     * Creates an empty instance through the resolved default constructor.
+     */
+    Object newInstance() {
+        try {
+            return (Object) factory.invokeExact();
+        } catch (Throwable t) {
+            throw Accessors.rethrow(t);
+        }
+    }
+
+    /**
+     * Creates a record instance through the resolved canonical constructor.
+     *
+     * @param args component values in declaration order
+     */
+    Object newRecord(Object[] args) {
+        try {
+            return (Object) factory.invokeExact(args);
+        } catch (Throwable t) {
+            throw Accessors.rethrow(t);
+        }
+    }
+
+    /**
+     * Creates a record with primitive components through the resolved canonical constructor.
+     *
+     * @param args reference component values in declaration order (primitive positions are ignored)
+     * @param bits primitive component values as bits in declaration order (reference positions are ignored)
+     */
+    Object newRecord(Object[] args, long[] bits) {
+        try {
+            return (Object) factory.invokeExact(args, bits);
+        } catch (Throwable t) {
+            throw Accessors.rethrow(t);
+        }
+    }
+
+    @SuppressWarnings("java:S3011")
+    private static MaskPlan build(Class<?> type) {
+        try {
+            if (type.isRecord()) {
+                RecordComponent[] components = type.getRecordComponents();
+                MaskSlot[] slots = new MaskSlot[components.length];
+                Class<?>[] paramTypes = new Class<?>[components.length];
+                for (int i = 0; i < components.length; i++) {
+                    slots[i] = MaskSlot.ofComponent(components[i]);
+                    paramTypes[i] = components[i].getType();
+                }
+                Constructor<?> constructor = type.getDeclaredConstructor(paramTypes);
+                constructor.setAccessible(true);
+                MethodHandle factory = Arrays.stream(paramTypes).anyMatch(Class::isPrimitive)
+                        ? Accessors.recordBitsFactory(constructor)
+                        : Accessors.recordFactory(constructor);
+                return new MaskPlan(type, slots, factory, null);
+            }
+
+            List<MaskSlot> slots = new ArrayList<>();
+            Class<?> currentClass = type;
+            while (currentClass != null && currentClass != Object.class) {
+                for (Field field : currentClass.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        slots.add(MaskSlot.ofField(field));
+                    }
+                }
+                currentClass = currentClass.getSuperclass();
+            }
+            MaskSlot[] resolved = slots.toArray(MaskSlot[]::new);
+            Constructor<?> constructor;
+            try {
+                constructor = type.getDeclaredConstructor();
+            } catch (NoSuchMethodException e) {
+                // Copies are impossible, in-place masking only needs the slots
+                return new MaskPlan(type, resolved, null, failureOf(e));
+            }
+            constructor.setAccessible(true);
+            return new MaskPlan(type, resolved, Accessors.factory(constructor), null);
+        } catch (Exception e) {
+            String failure = failureOf(e);
+            return new MaskPlan(type, new MaskSlot[0], null, failure, failure);
+        }
+    }
+
+    private static String failureOf(Exception e) {
+        return e.getClass().getSimpleName() + ": " + e.getMessage();
+    }
+
+    /**
+     * Finds why instances of the class cannot be masked in place: records are immutable and
+     * final fields that may be masked or recursed into cannot be overwritten.
+     */
+    private static String inPlaceFailure(Class<?> type, MaskSlot[] slots) {
+        if (type.isRecord()) {
+            return "records are immutable";
+        }
+        for (MaskSlot slot : slots) {
+            if (slot.mayChange() && Modifier.isFinal(slot.member().getModifiers())) {
+                return "final field " + slot.name();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Decides whether a runtime value of the given class needs recursive processing:
+     * the class is not a standard Java type and it, or a type reachable through the declared
+     * types of its fields/components, has a @MaskMe annotation. Cached per class.
+     *
+     * @param type the runtime class of an embedded value
+     * @return true if values of this class should be processed
+     */
+    static boolean requiresMasking(Class<?> type) {
+        return REQUIRES_MASKING.get(type);
+    }
+
+    /**
+     * Walks the declared-type graph from the given class looking for any @MaskMe slot.
+     * Each type is visited once, so cyclic graphs terminate. Only the root result is
+     * cached; a type visited halfway through a cycle computes its own answer later.
+     */
+    private static boolean scanRequiresMasking(Class<?> root) {
+        if (!isEmbeddedCandidate(root)) {
+            return false;
+        }
+        Set<Class<?>> seen = new HashSet<>();
+        Deque<Class<?>> pending = new ArrayDeque<>();
+        seen.add(root);
+        pending.add(root);
+        while (!pending.isEmpty()) {
+            if (hasMaskedSlot(pending.poll(), seen, pending)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Lists the class and every embedded-candidate type reachable through the declared types of its
+     * fields/components, container element types included, in breadth-first order.
+     *
+     * @param root the class to start from
+     * @return the reachable types, empty when the class itself is not an embedded candidate
+     */
+    static List<Class<?>> reachableTypes(Class<?> root) {
+        List<Class<?>> types = new ArrayList<>();
+        if (!isEmbeddedCandidate(root)) {
+            return types;
+        }
+        Set<Class<?>> seen = new HashSet<>();
+        Deque<Class<?>> pending = new ArrayDeque<>();
+        seen.add(root);
+        pending.add(root);
+        while (!pending.isEmpty()) {
+            Class<?> type = pending.poll();
+            types.add(type);
+            hasMaskedSlot(type, seen, pending, false);
+        }
+        return types;
+    }
+
+    private static boolean hasMaskedSlot(Class<?> type, Set<Class<?>> seen, Deque<Class<?>> pending) {
+        return hasMaskedSlot(type, seen, pending, true);
+    }
+
+    /**
+     * Checks the slots of one class for @MaskMe and queues the unseen embedded-candidate slot types.
+     * Stops at the first @MaskMe slot when {@code stopAtMasked} is set.
+     */
+    private static boolean hasMaskedSlot(Class<?> type, Set<Class<?>> seen, Deque<Class<?>> pending, boolean stopAtMasked) {
+        boolean masked = false;
+        try {
+            if (type.isRecord()) {
+                for (RecordComponent component : type.getRecordComponents()) {
+                    if (component.isAnnotationPresent(MaskMe.class)) {
+                        masked = true;
+                        if (stopAtMasked) {
+                            return true;
+                        }
+                    }
+                    enqueue(component.getGenericType(), seen, pending);
+                }
+                return masked;
+            }
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers())) {
+                        continue;
+                    }
+                    if (field.isAnnotationPresent(MaskMe.class)) {
+                        masked = true;
+                        if (stopAtMasked) {
+                            return true;
+                        }
+                    }
+                    enqueue(field.getGenericType(), seen, pending);
+                }
+            }
+        } catch (RuntimeException | LinkageError e) {
+            // Types whose members cannot be loaded contribute nothing
+        }
+        return masked;
+    }
+
+    /**
+     * Walks the record components whose declared type may be recursed into: each must be a record
+     * that is itself acyclic. Containers, interfaces, regular classes and types reachable from
+     * themselves make the root possibly cyclic, so those stay tracked.
+     */
+    private static boolean scanAcyclic(Class<?> type, Set<Class<?>> path) {
+        if (!type.isRecord() || !path.add(type)) {
+            return false;
+        }
+        try {
+            for (RecordComponent component : type.getRecordComponents()) {
+                Class<?> componentType = component.getType();
+                boolean embedded = isEmbeddedCandidate(componentType)
+                        || MaskedContainers.mayHoldMaskedElements(component.getGenericType());
+                if (embedded && !scanAcyclic(componentType, path)) {
+                    return false;
+                }
+            }
+        } catch (RuntimeException | LinkageError e) {
+            return false;
+        } finally {
+            path.remove(type);
+        }
+        return true;
+    }
+
+    /**
+     * Queues the declared slot type, or the element type for containers such as List&lt;AddressDto&gt;.
+     */
+    private static void enqueue(Type slotType, Set<Class<?>> seen, Deque<Class<?>> pending) {
+        Type elementType = MaskedContainers.elementType(slotType);
+        if (elementType != null) {
+            enqueue(elementType, seen, pending);
+            return;
+        }
+        Class<?> type = MaskedContainers.erasure(slotType);
+        if (isEmbeddedCandidate(type) && seen.add(type)) {
+            pending.add(type);
+        }
+    }
+
+    /**
+     * Decides from the declared type alone whether a slot may hold an embedded
+     * object that needs recursive processing.
+     * Skips primitive types, enums, and standard Java API types.
+     *
+     * @param fieldType the declared type of the field/component
+     * @return true if values of this slot should be checked for recursion
+     */
+    static boolean isEmbeddedCandidate(Class<?> fieldType) {
+        return !(fieldType.isPrimitive() ||
+                fieldType.isEnum() ||
+                isJavaLangType(fieldType) ||
+                isJavaTimeType(fieldType) ||
+                isCommonJavaType(fieldType));
+    }
+
+    /**
+     * Identifies types from java.lang package (excluding primitives).
+     * Used to skip recursive processing of standard Java types like String, Integer.
+     *
+     * @param type the class type to check
+     * @return true if type is from java.lang package
+     */
+    private static boolean isJavaLangType(Class<?> type) {
+        return type.getPackage() != null &&
+                type.getPackage().getName().equals("java.lang") &&
+                !type.isPrimitive();
+    }
+
+    /**
+     * Identifies temporal types from java.time package.
+     * Used to skip recursive processing of date/time types like LocalDate, Instant.
+     *
+     * @param type the class type to check
+     * @return true if type is from java.time package
+     */
+    private static boolean isJavaTimeType(Class<?> type) {
+        return type.getPackage() != null &&
+                type.getPackage().getName().equals("java.time");
+    }
+
+    /**
+     * Identifies common Java API types that should not be recursively processed.
+     * Includes math, networking, I/O, collections, and other standard library types.
+     * Prevents unnecessary deep traversal of Java framework objects.
+     *
+     * @param type the class type to check
+     * @return true if type is a common Java API type
+     */
+    private static boolean isCommonJavaType(Class<?> type) {
+        String typeName = type.getName();
+        return typeName.startsWith("java.math.") ||
+                typeName.startsWith("java.net.") ||
+                typeName.startsWith("java.io.") ||
+                typeName.startsWith("java.nio.") ||
+                typeName.startsWith("java.util.") && !typeName.contains("$") ||
+                type == UUID.class ||
+                type == Locale.class ||
+                type == Currency.class ||
+                type == Class.class;
+    }
+}
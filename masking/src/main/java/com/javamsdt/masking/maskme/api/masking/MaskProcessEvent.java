@@ -0,0 +1,48 @@
+/**
+ * Copyright (c) 2025: Ahmed Samy, All rights reserved.
+ * LinkedIn: https://www.linkedin.com/in/java-msdt/
+ * GitHub: https://github.com/JAVA-MSDT
+ * Email: serenitydiver@hotmail.com
+ */
+package com.javamsdt.masking.maskme.api.masking;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one processed object.
+ *
+ * @author Ahmed Samy
+ * @since 1.1.0
+ */
+@Name("com.javamsdt.maskme.Process")
+@Label("Mask Process")
+@Category("MaskMe")
+@Description("One object masked by MaskProcessor, nested objects included")
+@StackTrace(false)
+final class MaskProcessEvent extends Event {
+
+    @Label("Type")
+    Class<?> type;
+
+    @Label("Depth")
+    @Description("Nesting depth, 0 for the object passed to the processor")
+    int depth;
+
+    @Label("Fields Masked")
+    int fieldsMasked;
+
+    void report(Class<?> type, int depth, int fieldsMasked) {
+        end();
+        if (shouldCommit()) {
+            this.type = type;
+            this.depth = depth;
+            this.fieldsMasked = fieldsMasked;
+            commit();
+        }
+    }
+}
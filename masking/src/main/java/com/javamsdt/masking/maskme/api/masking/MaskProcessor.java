@@ -1,13 +1,15 @@
 package com.javamsdt.masking.maskme.api.masking;
 
 import com.javamsdt.masking.maskme.api.converter.ConverterFactory;
+import com.javamsdt.masking.maskme.api.converter.ConverterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
-import java.lang.reflect.RecordComponent;
 import java.util.*;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 /**
  * Core engine for processing objects with @MaskMe annotations.
@@ -26,14 +28,69 @@ import java.util.*;
 @Slf4j
 public final class MaskProcessor {
 
-    private final ThreadLocal<Map<Class<?>, Map<String, Object>>> conditionInputs = new ThreadLocal<>();
+    // Inputs set through setConditionInput, for callers not passing a MaskingContext
+    private final ThreadLocal<MaskingContext> threadContext = new ThreadLocal<>();
 
-    // Prevent infinite recursion with circular references
-    private final ThreadLocal<Set<Object>> processingObjects =
-            ThreadLocal.withInitial(() -> Collections.newSetFromMap(new IdentityHashMap<>()));
+    // Masks one element of a lazy view with the reading thread's inputs
+    private final UnaryOperator<Object> lazyElementMasker =
+            value -> processEmbedded(value, new MaskCall(threadContext(), true, null));
+
+    private final MaskEngine engine;
+
+    /**
+     * Default number of objects below which {@link #processAll} stays on the calling thread.
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 2048;
+
+    private volatile int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
+    // Marks slots left as they are when masking in place or serializing
+    static final Object UNCHANGED = new Object();
+
+    // Path length up to which circular references are found by scanning instead of hashing
+    private static final int PATH_SCAN_LIMIT = 16;
+
+    // Number of masked results per call up to which they are found by scanning instead of hashing
+    private static final int MEMO_SCAN_LIMIT = 8;
 
     public MaskProcessor() {
-        log.info("MaskProcessor initialized");
+        this(MaskEngine.REFLECTIVE);
+    }
+
+    /**
+     * Creates a processor using the given engine for classes without a compile-time generated masker.
+     *
+     * <p>Use case: Opt into runtime generated copy routines
+     * <pre>{@code
+     * MaskProcessor processor = new MaskProcessor(MaskEngine.BYTECODE);
+     * }</pre>
+     *
+     * @param engine the masking engine
+     */
+    public MaskProcessor(MaskEngine engine) {
+        this.engine = Objects.requireNonNull(engine, "engine");
+        log.info("MaskProcessor initialized with {} engine", engine);
+    }
+
+    public MaskEngine getEngine() {
+        return engine;
+    }
+
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Sets the batch size from which {@link #processAll} splits work across the common fork/join pool.
+     * Chunks are split until they are at most this size.
+     *
+     * @param parallelThreshold minimum number of objects for parallel processing, at least 1
+     */
+    public void setParallelThreshold(int parallelThreshold) {
+        if (parallelThreshold < 1) {
+            throw new MaskMeException("Parallel threshold must be at least 1 but was " + parallelThreshold);
+        }
+        this.parallelThreshold = parallelThreshold;
     }
 
     /**
@@ -45,16 +102,14 @@ public final class MaskProcessor {
      * processor.setConditionInput(RoleBasedCondition.class, UserRole.ADMIN);
      * }</pre>
      * 
+     * <p>The input is kept in a thread-local until {@link #clearInputs()}; prefer passing a
+     * {@link MaskingContext} to {@link #process(Object, MaskingContext)}, which needs no cleanup.
+     * 
      * @param conditionClass the condition class to receive the input
      * @param input the runtime input for the condition
      */
     public void setConditionInput(Class<? extends MaskCondition> conditionClass, Map<String, Object> input) {
-        Map<Class<?>, Map<String, Object>> inputs = conditionInputs.get();
-        if (inputs == null) {
-            inputs = new HashMap<>();
-            conditionInputs.set(inputs);
-        }
-        inputs.put(conditionClass, input);
+        threadContext.set(threadContext().withInput(conditionClass, input));
     }
 
     /**
@@ -72,12 +127,100 @@ public final class MaskProcessor {
      * }</pre>
      */
     public void clearInputs() {
-        Map<Class<?>, Map<String, Object>> inputs = conditionInputs.get();
-        if (inputs != null) {
-            log.info("Conditional inputs have {} Objects.", inputs.size());
-            conditionInputs.remove();
+        MaskingContext context = threadContext.get();
+        if (context != null) {
+            log.info("Conditional inputs have {} Objects.", context.inputCount());
+            threadContext.remove();
+        }
+    }
+
+    /**
+     * Builds and caches everything the first masking of the class would otherwise resolve lazily:
+     * the plans of the class and of the types reachable from it, their condition instances, the
+     * converter chains of the @MaskMe field types and the generated or hidden-class maskers.
+     * Classes that are never prepared keep being resolved on first use.
+     *
+     * <p>Use cases:
+     * - Warm up the masking caches at application startup, before the first request
+     * - Move reflection and class generation out of latency-sensitive paths
+     *
+     * @param type the class to prepare
+     * @return true if the class needs masking and was prepared, false if nothing in it is masked
+     * @since 1.1.0
+     */
+    public boolean prepare(Class<?> type) {
+        if (!MaskPlan.requiresMasking(type)) {
+            return false;
+        }
+        for (Class<?> reachable : MaskPlan.reachableTypes(type)) {
+            if (!MaskPlan.requiresMasking(reachable)) {
+                continue;
+            }
+            // Building the plan also instantiates and caches the slot conditions
+            MaskPlan plan = MaskPlan.of(reachable);
+            for (MaskSlot slot : plan.slots()) {
+                if (slot.annotation() != null) {
+                    ConverterRegistry.prepare(slot.type());
+                }
+            }
+            if (GeneratedMaskers.find(reachable) == null && engine == MaskEngine.BYTECODE) {
+                HiddenClassMaskers.find(reachable);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Masks a blank instance of the class a number of times, so the masking code for it has run
+     * before the first real call. Blank instances come from the default constructor, or from the
+     * canonical constructor with null and zero components for records.
+     *
+     * <p>Use cases:
+     * - Follow {@link #prepare} at startup to warm up the conversion and condition paths
+     *
+     * @param type the class to warm up
+     * @param iterations how many times to mask the blank instance
+     * @return the number of calls made, 0 when no blank instance can be created
+     * @since 1.1.0
+     */
+    public int warmUp(Class<?> type, int iterations) {
+        Object blank = blankInstance(type);
+        if (blank == null) {
+            return 0;
+        }
+        MaskingContext context = MaskingContext.empty();
+        for (int i = 0; i < iterations; i++) {
+            process(blank, context);
+        }
+        return iterations;
+    }
+
+    private static Object blankInstance(Class<?> type) {
+        if (!MaskPlan.requiresMasking(type)) {
+            return null;
+        }
+        MaskPlan plan = MaskPlan.of(type);
+        if (!plan.isSupported()) {
+            return null;
+        }
+        try {
+            if (!plan.isRecord()) {
+                return plan.newInstance();
+            }
+            int size = plan.slots().length;
+            return plan.hasPrimitiveSlots()
+                    ? plan.newRecord(new Object[size], new long[size])
+                    : plan.newRecord(new Object[size]);
+        } catch (RuntimeException e) {
+            // Constructors that reject blank values leave the class to warm up on real calls
+            log.debug("No blank instance of {} for warm-up: {}", type.getName(), e.getMessage());
+            return null;
         }
-        processingObjects.remove();
+    }
+
+    private MaskingContext threadContext() {
+        MaskingContext context = threadContext.get();
+        return context != null ? context : MaskingContext.empty();
     }
 
     /**
@@ -90,79 +233,501 @@ public final class MaskProcessor {
      * - Apply role-based field visibility
      * - Sanitize objects for logging
      * 
+     * <p>Collections, maps (values only), optionals and reference arrays are traversed element by element;
+     * they are copied only when an element changed.
+     * 
+     * <p>Objects are copied only when one of their values changed, so untouched subtrees keep their
+     * original references and only the path from a masked value up to the root is copied. When nothing
+     * is masked, the original object itself is returned.
+     * 
+     * <p>An object reached more than once in the graph is masked once and its result shared, so
+     * aliasing is kept in the output. Per-value conditions therefore run once per shared object.
+     * 
+     * <p>Condition inputs are taken from {@link #setConditionInput}, converters from the thread and
+     * request scopes of {@link com.javamsdt.masking.maskme.api.converter.ConverterRegistry}.
+     * 
      * @param <T> the type of object to process
      * @param object the object to maskme (can be null)
-     * @return new masked instance or null if input is null
+     * @return new masked instance, the object itself when nothing changed, or null if input is null
      */
     public <T> T process(T object) {
+        return process(object, new MaskCall(threadContext(), true, null));
+    }
+
+    /**
+     * Processes an object like {@link #process(Object)}, with condition inputs and request converters
+     * taken from the given context only. Nothing is stored on the calling thread, so there is
+     * nothing to clear afterwards and the call is safe on virtual threads and pooled workers.
+     * 
+     * <p>Use case: Mask a response with header-driven inputs
+     * <pre>{@code
+     * MaskingContext context = MaskingContext.empty()
+     *         .withInput(MaskOnInput.class, Map.of(MaskOnInput.MASK_ON_INPUT_ONE_KEY, maskInput));
+     * return processor.process(dto, context);
+     * }</pre>
+     * 
+     * @param <T> the type of object to process
+     * @param object the object to maskme (can be null)
+     * @param context the masking context, not null
+     * @return new masked instance or null if input is null
+     */
+    public <T> T process(T object, MaskingContext context) {
+        return process(object, new MaskCall(requireContext(context), false, null));
+    }
+
+    /**
+     * Masks a mutable object in place: masked fields are overwritten on the given instance and
+     * embedded mutable objects are masked in place too, so no copies are allocated. Embedded
+     * records cannot change and are replaced by masked copies in their (non-final) fields.
+     * Every object is masked at most once per call, so shared and circular references are safe.
+     * 
+     * <p>Only use it for objects built per request and discarded after serialization; the original
+     * values are lost. Per-class equivalent: {@link MaskInPlace}.
+     * 
+     * <p>Use case: Mask a freshly loaded entity before returning it
+     * <pre>{@code
+     * return processor.processInPlace(userService.findUserById(id));
+     * }</pre>
+     * 
+     * @param <T> the type of object to mask
+     * @param object the mutable object to mask (can be null)
+     * @return the given object, masked; for containers, the container itself unless record elements were copied
+     * @throws MaskMeException if the object is a record or a masked or embedded field is final
+     */
+    public <T> T processInPlace(T object) {
+        return processInPlace(object, new MaskCall(threadContext(), true, null, true));
+    }
+
+    /**
+     * Masks a mutable object in place like {@link #processInPlace(Object)}, using the given context.
+     * 
+     * @param <T> the type of object to mask
+     * @param object the mutable object to mask (can be null)
+     * @param context the masking context, not null
+     * @return the given object, masked
+     * @throws MaskMeException if the object is a record or a masked or embedded field is final
+     */
+    public <T> T processInPlace(T object, MaskingContext context) {
+        return processInPlace(object, new MaskCall(requireContext(context), false, null, true));
+    }
+
+    private <T> T processInPlace(T object, MaskCall call) {
+        if (object != null && object.getClass().isRecord()) {
+            throw new MaskMeException("Cannot mask " + object.getClass().getName() + " in place: records are immutable");
+        }
+        return process(object, call);
+    }
+
+    private static MaskingContext requireContext(MaskingContext context) {
+        return Objects.requireNonNull(context, "context");
+    }
+
+    /**
+     * Processes one object within a top-level call, sharing its inputs, per-request results and
+     * the objects on the current path.
+     */
+    private <T> T process(T object, MaskCall call) {
         if (object == null) {
             return null;
         }
+        if (MaskInstrumentation.isActive()) {
+            return processObserved(object, call);
+        }
+        return processObject(object, call);
+    }
+
+    /**
+     * Processes an object while a flight recording or metrics are active, reporting its type,
+     * nesting depth, duration and the fields masked within it.
+     */
+    private <T> T processObserved(T object, MaskCall call) {
+        MaskProcessEvent event = new MaskProcessEvent();
+        event.begin();
+        long start = System.nanoTime();
+        int depth = call.depth++;
+        int maskedBefore = call.maskedFields;
+        try {
+            return processObject(object, call);
+        } finally {
+            call.depth--;
+            long duration = System.nanoTime() - start;
+            int fieldsMasked = call.maskedFields - maskedBefore;
+            event.report(object.getClass(), depth, fieldsMasked);
+            MaskInstrumentation.getMetrics().recordProcess(object.getClass(), depth, fieldsMasked, duration);
+        }
+    }
+
+    /**
+     * Processes an object, tracking it on the current path unless its plan proves it acyclic.
+     */
+    private <T> T processObject(T object, MaskCall call) {
+        MaskPlan plan = MaskedContainers.isContainer(object) ? null : MaskPlan.of(object.getClass());
+        if (plan != null && plan.isAcyclic()) {
+            return processNode(object, plan, call);
+        }
 
         // Check for circular references
-        if (processingObjects.get().contains(object)) {
+        if (!call.enter(object)) {
             log.warn("Circular reference detected, returning original object");
+            call.cycles++;
             return object;
         }
-
         try {
-            processingObjects.get().add(object);
+            return processNode(object, plan, call);
+        } finally {
+            call.exit(object);
+        }
+    }
+
+    /**
+     * Dispatches an object to the container, in-place, generated-masker or reflective path.
+     *
+     * @param plan the object's plan, null for containers
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T processNode(T object, MaskPlan plan, MaskCall call) {
+        if (plan == null) {
+            return (T) MaskedContainers.mask(object, call::processEmbedded);
+        }
 
-            Class<?> clazz = object.getClass();
+        if (plan.isInPlace() || call.inPlace && !plan.isRecord()) {
+            return maskInPlace(object, plan, call);
+        }
 
-            if (clazz.isRecord()) {
-                return processRecord(object);
-            } else {
-                return processRegularClass(object);
-            }
+        GeneratedMasker<T> masker = GeneratedMaskers.find(getClassOf(object));
+        if (masker == null && engine == MaskEngine.BYTECODE) {
+            masker = HiddenClassMaskers.find(getClassOf(object));
+        }
+        if (masker != null) {
+            return processWithMasker(object, masker, call);
+        }
+
+        if (!plan.isSupported()) {
+            log.warn("Failed to process {}: {}", plan.type().getName(), plan.failure());
+            return object;
+        }
+
+        if (plan.isRecord()) {
+            return processRecord(object, plan, call);
+        } else {
+            return processRegularClass(object, plan, call);
+        }
+    }
+
+    /**
+     * Processes a batch of objects, keeping their order.
+     * Per-request condition results are evaluated once for the whole batch, and objects shared by
+     * several elements are masked once (once per chunk when split across workers). Batches smaller than
+     * {@link #getParallelThreshold()} (or on a single-core pool) run on the calling thread; larger ones
+     * are split across {@link ForkJoinPool#commonPool()} with the calling thread's condition inputs
+     * and thread and request converters made visible to every worker.
+     * 
+     * <p>Use case: Mask a large export
+     * <pre>{@code
+     * try {
+     *     processor.setConditionInput(SomeCondition.class, input);
+     *     return processor.processAll(dtos);
+     * } finally {
+     *     processor.clearInputs();
+     * }
+     * }</pre>
+     * 
+     * @param <T> the element type
+     * @param objects the objects to process (can be null)
+     * @return unmodifiable list of masked objects in input order, or null if input is null
+     */
+    public <T> List<T> processAll(List<T> objects) {
+        return processAll(objects, new MaskCall(threadContext(), true, new MaskSession()));
+    }
+
+    /**
+     * Processes a batch like {@link #processAll(List)}, with inputs and request converters taken from
+     * the given context. Worker threads read the context directly, nothing is bound to them.
+     * 
+     * @param <T> the element type
+     * @param objects the objects to process (can be null)
+     * @param context the masking context, not null
+     * @return unmodifiable list of masked objects in input order, or null if input is null
+     */
+    public <T> List<T> processAll(List<T> objects, MaskingContext context) {
+        return processAll(objects, new MaskCall(requireContext(context), false, new MaskSession()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<T> processAll(List<T> objects, MaskCall call) {
+        if (objects == null) {
+            return null;
+        }
+        Object[] input = objects.toArray();
+        Object[] output = new Object[input.length];
+
+        int threshold = parallelThreshold;
+        if (input.length < threshold || ForkJoinPool.getCommonPoolParallelism() < 2) {
+            processRange(input, output, 0, input.length, call);
+        } else {
+            ForkJoinPool.commonPool().invoke(new BatchTask(input, output, 0, input.length, threshold, call));
+        }
+        return Collections.unmodifiableList((List<T>) Arrays.asList(output));
+    }
+
+    private void processRange(Object[] input, Object[] output, int from, int to, MaskCall call) {
+        for (int i = from; i < to; i++) {
+            output[i] = process(input[i], call);
+        }
+    }
+
+    // ==================== STREAMING ====================
+
+    /**
+     * Masks the elements of a stream as they are pulled, keeping memory constant.
+     * The condition inputs and the thread and request converters of the calling thread are captured
+     * when this method is called, and per-request condition results are shared by all elements,
+     * whichever thread pulls them.
+     * 
+     * <p>Use case: Stream a large export without materializing it
+     * <pre>{@code
+     * try (Stream<UserDto> users = repository.streamAll().map(mapper::toDto)) {
+     *     processor.maskStream(users).forEach(writer::write);
+     * }
+     * }</pre>
+     * 
+     * @param <T> the element type
+     * @param source the stream to mask
+     * @return lazily masking stream (parallel if the source is parallel)
+     */
+    public <T> Stream<T> maskStream(Stream<T> source) {
+        return maskStream(source, new MaskCall(threadContext(), true, new MaskSession()));
+    }
+
+    /**
+     * Masks the elements of a stream as they are pulled, using the given context.
+     * 
+     * @param <T> the element type
+     * @param source the stream to mask
+     * @param context the masking context, not null
+     * @return lazily masking stream (parallel if the source is parallel)
+     */
+    public <T> Stream<T> maskStream(Stream<T> source, MaskingContext context) {
+        return maskStream(source, new MaskCall(requireContext(context), false, new MaskSession()));
+    }
+
+    private <T> Stream<T> maskStream(Stream<T> source, MaskCall call) {
+        if (source.isParallel()) {
+            return source.map(element -> processForked(element, call));
+        }
+        return source.map(element -> processElement(element, call));
+    }
+
+    /**
+     * Processes one element of a sequential stream or iterator, then forgets the masked results
+     * so the shared call does not grow with the source.
+     */
+    private <T> T processElement(T element, MaskCall call) {
+        try (ConverterRegistry.CapturedScope.Binding ignored = call.bindConverters()) {
+            return process(element, call);
         } finally {
-            processingObjects.get().remove(object);
+            call.forget();
         }
     }
 
     /**
-     * Processes regular Java classes using reflection to access fields.
-     * Creates new instance via default constructor and copies/masks fields based on annotations.
-     * Supports inheritance hierarchy traversal and embedded object processing.
+     * Processes one element of a parallel stream or flow with its own fork of the shared call,
+     * using the converters captured with the call.
+     */
+    private <T> T processForked(T element, MaskCall call) {
+        try (ConverterRegistry.CapturedScope.Binding ignored = call.bindConverters()) {
+            return process(element, call.fork());
+        }
+    }
+
+    /**
+     * Wraps an iterator so that each element is masked when {@code next()} is called.
+     * Condition inputs are captured like in {@link #maskStream(Stream)}.
      * 
-     * @param <T> the type of regular class
-     * @param object the class instance to process
+     * @param <T> the element type
+     * @param source the iterator to mask
+     * @return masking iterator
+     */
+    public <T> Iterator<T> maskIterator(Iterator<T> source) {
+        return maskIterator(source, new MaskCall(threadContext(), true, new MaskSession()));
+    }
+
+    /**
+     * Wraps an iterator so that each element is masked with the given context when {@code next()} is called.
+     * 
+     * @param <T> the element type
+     * @param source the iterator to mask
+     * @param context the masking context, not null
+     * @return masking iterator
+     */
+    public <T> Iterator<T> maskIterator(Iterator<T> source, MaskingContext context) {
+        return maskIterator(source, new MaskCall(requireContext(context), false, new MaskSession()));
+    }
+
+    private <T> Iterator<T> maskIterator(Iterator<T> source, MaskCall call) {
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return source.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return processElement(source.next(), call);
+            }
+
+            @Override
+            public void remove() {
+                source.remove();
+            }
+        };
+    }
+
+    /**
+     * Creates a reactive-streams style processor that masks every item passing from its upstream
+     * publisher to its single downstream subscriber. Demand is forwarded one-to-one, so no items
+     * are buffered. Condition inputs are captured like in {@link #maskStream(Stream)}.
+     * 
+     * <p>Use case: Mask inside a {@link Flow} pipeline
+     * <pre>{@code
+     * Flow.Processor<UserDto, UserDto> masking = processor.maskFlow();
+     * publisher.subscribe(masking);
+     * masking.subscribe(responseWriter);
+     * }</pre>
+     * 
+     * @param <T> the item type
+     * @return masking flow processor
+     */
+    public <T> Flow.Processor<T, T> maskFlow() {
+        return maskFlow(new MaskCall(threadContext(), true, new MaskSession()));
+    }
+
+    /**
+     * Creates a masking flow processor like {@link #maskFlow()}, using the given context.
+     * 
+     * @param <T> the item type
+     * @param context the masking context, not null
+     * @return masking flow processor
+     */
+    public <T> Flow.Processor<T, T> maskFlow(MaskingContext context) {
+        return maskFlow(new MaskCall(requireContext(context), false, new MaskSession()));
+    }
+
+    private <T> Flow.Processor<T, T> maskFlow(MaskCall call) {
+        // Publishers deliver onNext serially, but not necessarily from the same thread
+        return new MaskedFlowProcessor<>(item -> processForked(item, call));
+    }
+
+    /**
+     * Splits a batch in halves until a chunk is at most the threshold, then processes it.
+     */
+    private final class BatchTask extends RecursiveAction {
+
+        private final Object[] input;
+        private final Object[] output;
+        private final int from;
+        private final int to;
+        private final int threshold;
+        private final transient MaskCall call;
+
+        private BatchTask(Object[] input, Object[] output, int from, int to, int threshold, MaskCall call) {
+            this.input = input;
+            this.output = output;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+            this.call = call;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                try (ConverterRegistry.CapturedScope.Binding ignored = call.bindConverters()) {
+                    processRange(input, output, from, to, call.fork());
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new BatchTask(input, output, from, middle, threshold, call),
+                    new BatchTask(input, output, middle, to, threshold, call));
+        }
+    }
+
+    /**
+     * Processes an object through its compile-time or hidden-class generated masker.
+     *
+     * @param <T> the type of object
+     * @param object the instance to process
+     * @param masker the generated masker for the object's class
+     * @param call the current top-level call, also the masker's runtime support
      * @return new masked instance or original if processing fails
      */
-    @SuppressWarnings({"unchecked", "java:S3011"})
-    private <T> T processRegularClass(T object) {
+    private <T> T processWithMasker(T object, GeneratedMasker<T> masker, MaskCall call) {
         try {
-            Class<T> clazz = (Class<T>) object.getClass();
-            T result = clazz.getDeclaredConstructor().newInstance();
+            return masker.mask(object, call);
+        } catch (Exception e) {
+            log.warn("Failed to process with generated masker: {}", e.getMessage());
+            return object;
+        }
+    }
 
-            Class<?> currentClass = clazz;
-            while (currentClass != null && currentClass != Object.class) {
-                for (Field field : currentClass.getDeclaredFields()) {
-                    field.setAccessible(true);
-                    Object fieldValue = field.get(object);
+    @SuppressWarnings("unchecked")
+    private static <T> Class<T> getClassOf(T object) {
+        return (Class<T>) object.getClass();
+    }
 
-                    MaskMe annotation = field.getAnnotation(MaskMe.class);
+    /**
+     * Processes regular Java classes by executing their compiled {@link MaskPlan}.
+     * Creates new instance via the resolved default constructor and copies/masks fields based on annotations.
+     * Supports inheritance hierarchy traversal and embedded object processing.
+     * 
+     * <p>The instance is only created once a slot value actually changes; the slots before it are
+     * copied at that point. When nothing changes, the original object is returned. Primitive slots
+     * are read, masked and written as bits, without boxing.
+     * 
+     * @param <T> the type of regular class
+     * @param object the class instance to process
+     * @param plan the compiled plan for the object's class
+     * @param call the current top-level call
+     * @return new masked instance, or original if nothing changed or processing fails
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T processRegularClass(T object, MaskPlan plan, MaskCall call) {
+        try {
+            MaskSlot[] slots = plan.slots();
+            T result = null;
 
-                    if (annotation != null && shouldMask(annotation, fieldValue, object)) {
-                        // MaskMe this field
-                        Object maskedValue = convertToFieldType(annotation.maskValue(), field.getType(), fieldValue, object, field.getName());
-                        field.set(result, maskedValue);
-                    } else {
-                        // Check if a field is an embedded object that needs recursive processing
-                        if (shouldProcessEmbeddedObject(field, fieldValue)) {
-                            // Recursively process the embedded object
-                            Object processedEmbeddedObject = process(fieldValue);
-                            field.set(result, processedEmbeddedObject);
-                        } else {
-                            // Keep the original value
-                            field.set(result, fieldValue);
+            for (int i = 0; i < slots.length; i++) {
+                MaskSlot slot = slots[i];
+                if (result == null && !slot.mayChange()) {
+                    continue;
+                }
+                if (slot.isPrimitive()) {
+                    long fieldBits = slot.getBits(object);
+                    long bits = resolvePrimitiveSlot(slot, fieldBits, object, call);
+                    if (result == null) {
+                        if (bits == fieldBits) {
+                            continue;
                         }
+                        result = (T) plan.newInstance();
+                        copySlots(slots, i, object, result);
                     }
+                    slot.setBits(result, bits);
+                    continue;
                 }
-                currentClass = currentClass.getSuperclass();
+                Object fieldValue = slot.get(object);
+                Object value = resolveSlotValue(slot, fieldValue, object, call);
+                if (result == null) {
+                    if (value == fieldValue) {
+                        continue;
+                    }
+                    result = (T) plan.newInstance();
+                    copySlots(slots, i, object, result);
+                }
+                slot.set(result, value);
             }
 
-            return result;
+            return result != null ? result : object;
 
         } catch (Exception e) {
             log.warn("Failed to process regular class: {}", e.getMessage());
@@ -171,46 +736,60 @@ public final class MaskProcessor {
     }
 
     /**
-     * Processes Java Records using record components and canonical constructor.
-     * Builds new record instance with masked component values based on annotations.
-     * Leverages record accessor methods for field value extraction.
+     * Processes Java Records by executing their compiled {@link MaskPlan}.
+     * Builds new record instance with masked component values based on annotations
+     * through the resolved canonical constructor, or returns the original record when
+     * no component value changed. Primitive components travel as bits, without boxing.
      * 
      * @param <T> the record type
      * @param recordToProcess the record instance to process
-     * @return new masked record instance or original if processing fails
+     * @param plan the compiled plan for the record's class
+     * @param call the current top-level call
+     * @return new masked record instance, or original if nothing changed or processing fails
      */
     @SuppressWarnings("unchecked")
-    private <T> T processRecord(T recordToProcess) {
+    private <T> T processRecord(T recordToProcess, MaskPlan plan, MaskCall call) {
         try {
-            Class<?> recordClass = recordToProcess.getClass();
-            RecordComponent[] components = recordClass.getRecordComponents();
-
-            Class<?>[] paramTypes = Arrays.stream(components)
-                    .map(RecordComponent::getType)
-                    .toArray(Class[]::new);
-            Constructor<?> constructor = recordClass.getDeclaredConstructor(paramTypes);
-
-            Object[] args = new Object[components.length];
-
-            for (int i = 0; i < components.length; i++) {
-                RecordComponent component = components[i];
-                Method accessor = component.getAccessor();
-                Object originalValue = accessor.invoke(recordToProcess);
-
-                MaskMe annotation = component.getAnnotation(MaskMe.class);
-                if (annotation != null && shouldMask(annotation, originalValue, recordToProcess)) {
-                    args[i] = convertToFieldType(annotation.maskValue(), component.getType(), originalValue, recordToProcess, component.getName());
-                } else {
-                    // Check if this is an embedded object that needs recursive processing
-                    if (shouldProcessEmbeddedObject(component, originalValue)) {
-                        args[i] = process(originalValue);
-                    } else {
-                        args[i] = originalValue;
+            MaskSlot[] slots = plan.slots();
+            Object[] args = null;
+            long[] bits = null;
+
+            for (int i = 0; i < slots.length; i++) {
+                MaskSlot slot = slots[i];
+                if (args == null && !slot.mayChange()) {
+                    continue;
+                }
+                if (slot.isPrimitive()) {
+                    long componentBits = slot.getBits(recordToProcess);
+                    long valueBits = resolvePrimitiveSlot(slot, componentBits, recordToProcess, call);
+                    if (args == null) {
+                        if (valueBits == componentBits) {
+                            continue;
+                        }
+                        args = new Object[slots.length];
+                        bits = new long[slots.length];
+                        readSlots(slots, i, recordToProcess, args, bits);
+                    }
+                    bits[i] = valueBits;
+                    continue;
+                }
+                Object componentValue = slot.get(recordToProcess);
+                Object value = resolveSlotValue(slot, componentValue, recordToProcess, call);
+                if (args == null) {
+                    if (value == componentValue) {
+                        continue;
                     }
+                    args = new Object[slots.length];
+                    bits = plan.hasPrimitiveSlots() ? new long[slots.length] : null;
+                    readSlots(slots, i, recordToProcess, args, bits);
                 }
+                args[i] = value;
             }
 
-            return (T) constructor.newInstance(args);
+            if (args == null) {
+                return recordToProcess;
+            }
+            return (T) (bits != null ? plan.newRecord(args, bits) : plan.newRecord(args));
 
         } catch (Exception e) {
             log.warn("Failed to process recordToProcess: {}", e.getMessage());
@@ -219,168 +798,643 @@ public final class MaskProcessor {
     }
 
     /**
-     * Determines whether a field value should be recursively processed for masking.
-     * Skips primitive types, Java standard types, and objects without @MaskMe annotations.
-     * Prevents unnecessary processing of simple types and circular references.
+     * Masks a regular class instance in place by executing its compiled {@link MaskPlan}.
+     * All slots are resolved before any is written, so conditions and [field] placeholders
+     * see the original values, exactly like in a copy.
      * 
-     * @param fieldOrComponent Field or RecordComponent being evaluated
-     * @param fieldValue the actual field value
-     * @return true if field should be recursively processed
+     * @param <T> the type of regular class
+     * @param object the instance to mask
+     * @param plan the compiled plan for the object's class
+     * @param call the current top-level call
+     * @return the object itself
+     * @throws MaskMeException if the class is a record or a masked or embedded field is final
      */
-    private boolean shouldProcessEmbeddedObject(Object fieldOrComponent, Object fieldValue) {
-        if (fieldValue == null) {
-            return false;
+    private <T> T maskInPlace(T object, MaskPlan plan, MaskCall call) {
+        if (plan.inPlaceFailure() != null) {
+            throw new MaskMeException("Cannot mask " + plan.type().getName() + " in place: " + plan.inPlaceFailure());
         }
+        if (!call.markMaskedInPlace(object)) {
+            return object;
+        }
+        try {
+            MaskSlot[] slots = plan.slots();
+            Object[] values = null;
+            long[] bits = null;
 
-        Class<?> fieldType = getFieldType(fieldOrComponent);
+            for (int i = 0; i < slots.length; i++) {
+                MaskSlot slot = slots[i];
+                if (!slot.mayChange()) {
+                    continue;
+                }
+                if (slot.isPrimitive()) {
+                    long fieldBits = slot.getBits(object);
+                    long valueBits = resolvePrimitiveSlot(slot, fieldBits, object, call);
+                    if (valueBits != fieldBits) {
+                        if (values == null) {
+                            values = new Object[slots.length];
+                            Arrays.fill(values, UNCHANGED);
+                        }
+                        if (bits == null) {
+                            bits = new long[slots.length];
+                        }
+                        values[i] = null;
+                        bits[i] = valueBits;
+                    }
+                    continue;
+                }
+                Object fieldValue = slot.get(object);
+                Object value = resolveSlotValue(slot, fieldValue, object, call);
+                if (value != fieldValue) {
+                    if (values == null) {
+                        values = new Object[slots.length];
+                        Arrays.fill(values, UNCHANGED);
+                    }
+                    values[i] = value;
+                }
+            }
 
-        // Skip primitive types, wrappers, and common Java types
-        if (fieldType.isPrimitive() ||
-                fieldType.isEnum() ||
-                isJavaLangType(fieldType) ||
-                isJavaTimeType(fieldType) ||
-                isCommonJavaType(fieldType)) {
-            return false;
+            if (values != null) {
+                for (int i = 0; i < slots.length; i++) {
+                    if (values[i] == UNCHANGED) {
+                        continue;
+                    }
+                    if (slots[i].isPrimitive()) {
+                        slots[i].setBits(object, bits[i]);
+                    } else {
+                        slots[i].set(object, values[i]);
+                    }
+                }
+            }
+            return object;
+
+        } catch (MaskMeException e) {
+            throw e;
+        } catch (Exception e) {
+            log.warn("Failed to mask in place: {}", e.getMessage());
+            return object;
         }
+    }
 
-        // Check if the embedded object has any @MaskMe annotations
-        return hasMaskAnnotations(fieldValue.getClass());
+    /**
+     * Copies the unchanged slots before the first changed one into the new instance.
+     */
+    private static void copySlots(MaskSlot[] slots, int to, Object source, Object target) {
+        for (int j = 0; j < to; j++) {
+            MaskSlot slot = slots[j];
+            if (slot.isPrimitive()) {
+                slot.setBits(target, slot.getBits(source));
+            } else {
+                slot.set(target, slot.get(source));
+            }
+        }
     }
 
     /**
-     * Extracts the declared type from either a Field or RecordComponent.
-     * Provides unified type access for both regular classes and records.
-     * 
-     * @param fieldOrComponent Field or RecordComponent instance
-     * @return the declared type of the field/component
+     * Reads the unchanged components before the first changed one into the record arguments.
      */
-    private Class<?> getFieldType(Object fieldOrComponent) {
-        if (fieldOrComponent instanceof Field field) {
-            return  field.getType();
-        } else if (fieldOrComponent instanceof RecordComponent recordField) {
-            return recordField.getType();
+    private static void readSlots(MaskSlot[] slots, int to, Object source, Object[] args, long[] bits) {
+        for (int j = 0; j < to; j++) {
+            MaskSlot slot = slots[j];
+            if (slot.isPrimitive()) {
+                bits[j] = slot.getBits(source);
+            } else {
+                args[j] = slot.get(source);
+            }
         }
-        return Object.class;
     }
 
     /**
-     * Scans a class to determine if it contains any @MaskMe annotations.
-     * Used to optimize processing by skipping classes without masking requirements.
-     * Handles both regular classes and records appropriately.
-     * 
-     * @param clazz the class to scan
-     * @return true if class has @MaskMe annotations
+     * Resolves the value to store for one slot: the masked value when the slot's
+     * conditions apply, the recursively processed value for embedded objects,
+     * or the original value otherwise.
+     *
+     * @param slot the compiled slot
+     * @param originalValue the current slot value
+     * @param containingObject the object being processed
+     * @param call the current top-level call
+     * @return value for the new instance
      */
-    private boolean hasMaskAnnotations(Class<?> clazz) {
-        if (!clazz.isRecord()) {
-            return checkRegularClassFields(clazz);
-        } else {
-            return checkRecordComponents(clazz);
+    private Object resolveSlotValue(MaskSlot slot, Object originalValue, Object containingObject, MaskCall call) {
+        MaskMe annotation = slot.annotation();
+        if (annotation != null && shouldMask(slot.conditions(), originalValue, containingObject, call)) {
+            return convertToFieldType(annotation.maskValue(), slot.type(), originalValue, containingObject, slot.name(), call);
         }
+        // Check if this is an embedded object or container that needs recursive processing
+        return slot.embeddedCandidate() ? processEmbedded(originalValue, call) : originalValue;
     }
 
-    private boolean checkRegularClassFields(Class<?> clazz) {
-        Class<?> currentClass = clazz;
-        while (currentClass != null && currentClass != Object.class) {
-            for (Field field : currentClass.getDeclaredFields()) {
-                if (field.getAnnotation(MaskMe.class) != null) {
-                    return true;
-                }
-            }
-            currentClass = currentClass.getSuperclass();
+    /**
+     * Resolves the bits to store for a primitive slot: the masked value when the slot's conditions
+     * apply, the original bits otherwise. The value is only boxed for conditions that need it.
+     *
+     * @param slot the compiled primitive slot
+     * @param originalBits the current slot value's bits
+     * @param containingObject the object being processed
+     * @param call the current top-level call
+     * @return bits for the new instance
+     */
+    private long resolvePrimitiveSlot(MaskSlot slot, long originalBits, Object containingObject, MaskCall call) {
+        MaskMe annotation = slot.annotation();
+        if (annotation == null) {
+            return originalBits;
         }
-        return false;
+        ConditionSet conditions = slot.conditions();
+        if (conditions.isAlways() || !conditions.isNever() && shouldMask(conditions, slot.box(originalBits), containingObject, call)) {
+            return convertToBits(annotation.maskValue(), slot, originalBits, containingObject, call);
+        }
+        return originalBits;
     }
 
-    private boolean checkRecordComponents(Class<?> clazz) {
-        for (RecordComponent component : clazz.getRecordComponents()) {
-            if (component.getAnnotation(MaskMe.class) != null) {
-                return true;
-            }
+    /**
+     * Recursively processes an embedded value when it needs masking.
+     * The declared-type decision (primitives, Java standard types) is taken from the plan;
+     * containers are always traversed, other runtime classes are checked through the cached,
+     * transitive {@link MaskPlan#requiresMasking(Class)} decision.
+     * 
+     * <p>A value already masked within the call returns its earlier result, so shared objects are
+     * masked once and stay shared in the output. Values returned unchanged keep their identity
+     * without being remembered.
+     * 
+     * @param value the actual field or element value
+     * @param call the current top-level call
+     * @return masked copy, or the value itself when nothing needs masking
+     */
+    private Object processEmbedded(Object value, MaskCall call) {
+        if (value == null || !MaskedContainers.isContainer(value) && !MaskPlan.requiresMasking(value.getClass())) {
+            return value;
         }
-        return false;
+        Object masked = call.masked(value);
+        if (masked != null) {
+            return masked;
+        }
+        int cycles = call.cycles;
+        masked = process(value, call);
+        // A result cut at a circular reference depends on the path it was reached from, and an
+        // unchanged value keeps its identity without being remembered
+        if (cycles == call.cycles && masked != value) {
+            call.remember(value, masked);
+        }
+        return masked;
+    }
+
+    /**
+     * Starts the state of one serialization for {@link MaskingSerializerModifier}, shared by every
+     * masked property written in it so per-request conditions are evaluated once.
+     * 
+     * @param context the context attached to the serialization, or null to use the calling thread's
+     *                inputs and converter scopes like {@link #process(Object)}
+     * @return the call state
+     */
+    MaskCall serializationCall(MaskingContext context) {
+        return context != null ? new MaskCall(context, false, null) : new MaskCall(threadContext(), true, null);
+    }
+
+    /**
+     * Resolves the masked value of one annotated slot without copying its containing object.
+     * Conditions and converters are applied exactly as {@link #process(Object)} applies them.
+     * 
+     * @param slot the annotated slot
+     * @param containingObject the object holding the slot
+     * @param call the serialization call state
+     * @return the masked value, or {@link #UNCHANGED} when the conditions keep the original
+     */
+    Object maskSlot(MaskSlot slot, Object containingObject, MaskCall call) {
+        Object originalValue = slot.get(containingObject);
+        if (shouldMask(slot.conditions(), originalValue, containingObject, call)) {
+            return convertToFieldType(slot.annotation().maskValue(), slot.type(), originalValue, containingObject,
+                    slot.name(), call);
+        }
+        return UNCHANGED;
+    }
+
+    /**
+     * Returns a read-only view of the list that masks each element when it is first read.
+     * Use it for large lists of which only a part is paginated or serialized.
+     * 
+     * <p>Elements are masked on the reading thread at access time, so condition inputs set through
+     * {@link #setConditionInput} must still be present on that thread when the view is consumed.
+     * 
+     * <p>Use case: Mask only the serialized page of a large result
+     * <pre>{@code
+     * List<UserDto> view = processor.processLazily(users);
+     * return view.subList(offset, offset + pageSize);
+     * }</pre>
+     * 
+     * @param <T> the element type
+     * @param list the list to view (can be null)
+     * @return masked read-only view or null if input is null
+     */
+    public <T> List<T> processLazily(List<T> list) {
+        return list == null ? null : MaskedContainers.lazyList(list, lazyElementMasker);
     }
 
     /**
-     * Identifies types from java.lang package (excluding primitives).
-     * Used to skip recursive processing of standard Java types like String, Integer.
+     * Returns a read-only view of the list that masks each element with the given context when it is read.
+     * Unlike {@link #processLazily(List)}, the view can be consumed on any thread.
      * 
-     * @param type the class type to check
-     * @return true if type is from java.lang package
+     * @param <T> the element type
+     * @param list the list to view (can be null)
+     * @param context the masking context, not null
+     * @return masked read-only view or null if input is null
      */
-    private boolean isJavaLangType(Class<?> type) {
-        return type.getPackage() != null &&
-                type.getPackage().getName().equals("java.lang") &&
-                !type.isPrimitive();
+    public <T> List<T> processLazily(List<T> list, MaskingContext context) {
+        return list == null ? null : MaskedContainers.lazyList(list, contextElementMasker(context));
     }
 
     /**
-     * Identifies temporal types from java.time package.
-     * Used to skip recursive processing of date/time types like LocalDate, Instant.
+     * Returns a read-only view of the map that masks each value when it is read. Keys are not masked.
+     * The same thread rules as {@link #processLazily(List)} apply.
      * 
-     * @param type the class type to check
-     * @return true if type is from java.time package
+     * @param <K> the key type
+     * @param <V> the value type
+     * @param map the map to view (can be null)
+     * @return masked read-only view or null if input is null
      */
-    private boolean isJavaTimeType(Class<?> type) {
-        return type.getPackage() != null &&
-                type.getPackage().getName().equals("java.time");
+    public <K, V> Map<K, V> processLazily(Map<K, V> map) {
+        return map == null ? null : MaskedContainers.lazyMap(map, lazyElementMasker);
     }
 
     /**
-     * Identifies common Java API types that should not be recursively processed.
-     * Includes math, networking, I/O, collections, and other standard library types.
-     * Prevents unnecessary deep traversal of Java framework objects.
+     * Returns a read-only view of the map that masks each value with the given context when it is read.
      * 
-     * @param type the class type to check
-     * @return true if type is a common Java API type
+     * @param <K> the key type
+     * @param <V> the value type
+     * @param map the map to view (can be null)
+     * @param context the masking context, not null
+     * @return masked read-only view or null if input is null
      */
-    private boolean isCommonJavaType(Class<?> type) {
-        String typeName = type.getName();
-        return typeName.startsWith("java.math.") ||
-                typeName.startsWith("java.net.") ||
-                typeName.startsWith("java.io.") ||
-                typeName.startsWith("java.nio.") ||
-                typeName.startsWith("java.util.") && !typeName.contains("$") ||
-                type == UUID.class ||
-                type == Locale.class ||
-                type == Currency.class ||
-                type == Class.class;
+    public <K, V> Map<K, V> processLazily(Map<K, V> map, MaskingContext context) {
+        return map == null ? null : MaskedContainers.lazyMap(map, contextElementMasker(context));
+    }
+
+    private UnaryOperator<Object> contextElementMasker(MaskingContext context) {
+        MaskCall call = new MaskCall(requireContext(context), false, new MaskSession());
+        return value -> processEmbedded(value, call.fork());
     }
 
     /**
-     * Evaluates all maskme conditions for a field to determine if masking should occur.
-     * Creates condition instances, applies runtime inputs, and checks masking criteria.
+     * Evaluates the folded maskme conditions for a field to determine if masking should occur.
+     * Constant conditions were already folded into the set; per-request conditions are evaluated
+     * once per top-level process call and reused, per-value conditions are evaluated for every field.
      * Returns true if any condition indicates the field should be masked.
      * 
      * <p>Use case: Field masked when user lacks admin role
      * 
-     * @param annotation the @MaskMe annotation containing conditions
+     * @param conditions the folded conditions declared in @MaskMe
      * @param fieldValue the current field value
      * @param containingObject the object containing this field
+     * @param call the current top-level call
      * @return true if field should be masked
      */
-    private boolean shouldMask(MaskMe annotation, Object fieldValue, Object containingObject) {
-        for (Class<? extends MaskCondition> conditionClass : annotation.conditions()) {
-            try {
-                MaskCondition condition = MaskConditionFactory.createCondition(conditionClass);
+    private boolean shouldMask(ConditionSet conditions, Object fieldValue, Object containingObject, MaskCall call) {
+        if (conditions.isAlways()) {
+            return true;
+        }
+        Class<? extends MaskCondition>[] conditionClasses = conditions.conditions();
+        for (int i = 0; i < conditionClasses.length; i++) {
+            Class<? extends MaskCondition> conditionClass = conditionClasses[i];
+            boolean result;
+            if (conditions.scope(i) == ConditionScope.PER_REQUEST) {
+                result = evaluatePerRequest(conditionClass, fieldValue, containingObject, call);
+            } else {
+                result = evaluate(conditionClass, fieldValue, containingObject, call.context);
+            }
+            if (result) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-                // Apply input if available
-                Map<Class<?>, Map<String, Object>> inputs = conditionInputs.get();
-                if (inputs != null && inputs.containsKey(conditionClass)) {
-                    condition.setInput(inputs.get(conditionClass));
-                }
+    private boolean evaluatePerRequest(Class<? extends MaskCondition> conditionClass, Object fieldValue, Object containingObject,
+                                       MaskCall call) {
+        MaskSession session = call.session();
+        Boolean result = session.requestResult(conditionClass);
+        if (result == null) {
+            result = evaluate(conditionClass, fieldValue, containingObject, call.context);
+            session.rememberRequestResult(conditionClass, result);
+        }
+        return result;
+    }
 
-                if (condition.shouldMask(fieldValue, containingObject)) {
-                    return true;
-                }
-            } catch (Exception e) {
-                log.warn("Failed to instantiate condition: {}", conditionClass.getName());
+    /**
+     * Resolves one condition instance through the factory cache, applies runtime input and evaluates it.
+     */
+    private boolean evaluate(Class<? extends MaskCondition> conditionClass, Object fieldValue, Object containingObject,
+                             MaskingContext context) {
+        if (MaskInstrumentation.isActive()) {
+            return evaluateObserved(conditionClass, fieldValue, containingObject, context);
+        }
+        return evaluateCondition(conditionClass, fieldValue, containingObject, context);
+    }
+
+    private boolean evaluateObserved(Class<? extends MaskCondition> conditionClass, Object fieldValue, Object containingObject,
+                                     MaskingContext context) {
+        MaskConditionEvent event = new MaskConditionEvent();
+        event.begin();
+        long start = System.nanoTime();
+        boolean masked = evaluateCondition(conditionClass, fieldValue, containingObject, context);
+        long duration = System.nanoTime() - start;
+        event.report(conditionClass, masked);
+        MaskInstrumentation.getMetrics().recordCondition(conditionClass, masked, duration);
+        return masked;
+    }
+
+    private boolean evaluateCondition(Class<? extends MaskCondition> conditionClass, Object fieldValue, Object containingObject,
+                                      MaskingContext context) {
+        try {
+            MaskCondition condition = MaskConditionFactory.getCondition(conditionClass);
+
+            // Apply input if available
+            if (context.hasInput(conditionClass)) {
+                condition.setInput(context.input(conditionClass));
             }
+
+            return condition.shouldMask(fieldValue, containingObject);
+        } catch (Exception e) {
+            log.warn("Failed to instantiate condition: {}", conditionClass.getName());
+            return false;
         }
-        return false;
     }
     
-    private Object convertToFieldType(String maskValue, Class<?> fieldType, Object originalValue, Object containingObject, String fieldName) {
-        return ConverterFactory.convertToFieldType(maskValue, fieldType, originalValue, containingObject, fieldName);
+    private Object convertToFieldType(String maskValue, Class<?> fieldType, Object originalValue, Object containingObject,
+                                      String fieldName, MaskCall call) {
+        call.maskedFields++;
+        return ConverterFactory.convertToFieldType(maskValue, fieldType, originalValue, containingObject, fieldName,
+                call.converterContext());
+    }
+
+    /**
+     * Converts a mask value for a primitive slot: int, long and double without boxing, the other
+     * primitives through their (cached) wrappers.
+     */
+    private long convertToBits(String maskValue, MaskSlot slot, long originalBits, Object containingObject, MaskCall call) {
+        Class<?> type = slot.type();
+        if (type == int.class) {
+            return call.convertInt(maskValue, (int) originalBits, containingObject, slot.name());
+        }
+        if (type == long.class) {
+            return call.convertLong(maskValue, originalBits, containingObject, slot.name());
+        }
+        if (type == double.class) {
+            return Double.doubleToRawLongBits(call.convertDouble(maskValue, Double.longBitsToDouble(originalBits),
+                    containingObject, slot.name()));
+        }
+        return slot.unbox(convertToFieldType(maskValue, type, slot.box(originalBits), containingObject, slot.name(), call));
+    }
+
+    /**
+     * State of one top-level process call: the masking context, the per-request condition results,
+     * the results of objects already masked (to share them) and the possibly cyclic objects on the
+     * current path (to stop at circular references). Also serves as the
+     * runtime callbacks for generated maskers, so they share this state with the reflective engine.
+     *
+     * <p>A call is used by one thread at a time; batches and parallel streams {@link #fork()} it
+     * per unit of work, sharing the context and the (thread-safe) session.
+     */
+    final class MaskCall implements MaskerSupport {
+
+        private final MaskingContext context;
+        // Converters come from the thread and request scopes instead of the context
+        private final boolean threadScoped;
+        // The caller's thread and request converters, for work that may run on other threads
+        private final ConverterRegistry.CapturedScope converterScope;
+        // Mutable objects are masked in place instead of copied
+        private final boolean inPlace;
+        // Possibly cyclic objects on the current path, created on first use
+        private Object[] path;
+        private int pathSize;
+        // Replaces the path once it is deeper than PATH_SCAN_LIMIT
+        private Set<Object> deepPath;
+        // Circular references cut so far
+        private int cycles;
+        // Embedded objects already masked and their results as key/value pairs, created on first use
+        private Object[] memo;
+        private int memoSize;
+        // Replaces the memo once it holds more than MEMO_SCAN_LIMIT results, as key/value pairs by identity hash
+        private Object[] memoTable;
+        // Objects already masked in place by this call, created on first use
+        private Set<Object> maskedInPlace;
+        private MaskSession session;
+        // Nesting depth and fields masked so far, for instrumentation
+        private int depth;
+        private int maskedFields;
+
+        private MaskCall(MaskingContext context, boolean threadScoped, MaskSession session) {
+            this(context, threadScoped, session, false);
+        }
+
+        private MaskCall(MaskingContext context, boolean threadScoped, MaskSession session, boolean inPlace) {
+            // Batches and streams may run on other threads, so they keep the caller's converters
+            this(context, threadScoped, session, inPlace,
+                    threadScoped && session != null ? ConverterRegistry.captureScope() : null);
+        }
+
+        private MaskCall(MaskingContext context, boolean threadScoped, MaskSession session, boolean inPlace,
+                         ConverterRegistry.CapturedScope converterScope) {
+            this.context = context;
+            this.threadScoped = threadScoped;
+            this.session = session;
+            this.inPlace = inPlace;
+            this.converterScope = converterScope;
+        }
+
+        MaskCall fork() {
+            return new MaskCall(context, threadScoped, session(), inPlace, converterScope);
+        }
+
+        /**
+         * Makes the thread and request converters captured with the call current on this thread.
+         *
+         * @return the binding to close after the work, null when the call captured none
+         */
+        ConverterRegistry.CapturedScope.Binding bindConverters() {
+            return converterScope != null ? converterScope.bind() : null;
+        }
+
+        /**
+         * Puts the object on the current path. Shallow paths are scanned by identity, which is
+         * cheaper than hashing; deeper ones move to an identity set.
+         *
+         * @return false if the object is already on the path (a circular reference)
+         */
+        boolean enter(Object object) {
+            if (deepPath == null) {
+                for (int i = 0; i < pathSize; i++) {
+                    if (path[i] == object) {
+                        return false;
+                    }
+                }
+                if (pathSize < PATH_SCAN_LIMIT) {
+                    if (path == null) {
+                        path = new Object[4];
+                    } else if (pathSize == path.length) {
+                        path = Arrays.copyOf(path, pathSize * 2);
+                    }
+                    path[pathSize++] = object;
+                    return true;
+                }
+                deepPath = Collections.newSetFromMap(new IdentityHashMap<>());
+                deepPath.addAll(Arrays.asList(path).subList(0, pathSize));
+                path = null;
+            }
+            return deepPath.add(object);
+        }
+
+        /**
+         * Removes the object entered last from the current path.
+         */
+        void exit(Object object) {
+            if (deepPath != null) {
+                deepPath.remove(object);
+            } else {
+                path[--pathSize] = null;
+            }
+        }
+
+        /**
+         * @return the result of the object if it was already masked within this call, otherwise null
+         */
+        @SuppressWarnings("unchecked")
+        <T> T masked(T object) {
+            if (memoTable != null) {
+                Object[] table = memoTable;
+                for (int i = memoIndex(object, table.length); table[i] != null; i = (i + 2) & (table.length - 1)) {
+                    if (table[i] == object) {
+                        return (T) table[i + 1];
+                    }
+                }
+                return null;
+            }
+            for (int i = 0; i < memoSize; i += 2) {
+                if (memo[i] == object) {
+                    return (T) memo[i + 1];
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Records the result of an object for later references to it within this call. Shallow
+         * memos are scanned by identity; larger ones move to an open-addressed identity table,
+         * filled up to three quarters so a graph without sharing pays little for it.
+         */
+        void remember(Object object, Object result) {
+            if (memoTable == null) {
+                if (memoSize < MEMO_SCAN_LIMIT * 2) {
+                    if (memo == null) {
+                        memo = new Object[4];
+                    } else if (memoSize == memo.length) {
+                        memo = Arrays.copyOf(memo, memoSize * 2);
+                    }
+                    memo[memoSize++] = object;
+                    memo[memoSize++] = result;
+                    return;
+                }
+                memoTable = new Object[MEMO_SCAN_LIMIT * 8];
+                for (int i = 0; i < memoSize; i += 2) {
+                    putMemo(memoTable, memo[i], memo[i + 1]);
+                }
+                memo = null;
+            }
+            putMemo(memoTable, object, result);
+            // memoSize counts the pairs of the table once it is used
+            if (++memoSize * 8 > memoTable.length * 3) {
+                Object[] larger = new Object[memoTable.length * 2];
+                for (int i = 0; i < memoTable.length; i += 2) {
+                    if (memoTable[i] != null) {
+                        putMemo(larger, memoTable[i], memoTable[i + 1]);
+                    }
+                }
+                memoTable = larger;
+            }
+        }
+
+        private static void putMemo(Object[] table, Object object, Object result) {
+            int i = memoIndex(object, table.length);
+            while (table[i] != null && table[i] != object) {
+                i = (i + 2) & (table.length - 1);
+            }
+            table[i] = object;
+            table[i + 1] = result;
+        }
+
+        /**
+         * @return the even start index of the object's key/value pair in a table of the given length
+         */
+        private static int memoIndex(Object object, int length) {
+            int hash = System.identityHashCode(object);
+            return ((hash << 1) - (hash << 8)) & (length - 1);
+        }
+
+        /**
+         * Forgets the masked results, so a long-lived call does not keep every element alive.
+         */
+        void forget() {
+            if (memoTable != null) {
+                memoTable = null;
+            } else if (memoSize > 0) {
+                Arrays.fill(memo, 0, memoSize, null);
+            }
+            memoSize = 0;
+        }
+
+        /**
+         * @return true the first time the object is masked in place within this call
+         */
+        boolean markMaskedInPlace(Object object) {
+            if (maskedInPlace == null) {
+                maskedInPlace = Collections.newSetFromMap(new IdentityHashMap<>());
+            }
+            return maskedInPlace.add(object);
+        }
+
+        MaskSession session() {
+            if (session == null) {
+                session = new MaskSession();
+            }
+            return session;
+        }
+
+        @Override
+        public boolean shouldMask(Class<? extends MaskCondition>[] conditions, Object fieldValue, Object containingObject) {
+            return MaskProcessor.this.shouldMask(ConditionSet.forArray(conditions), fieldValue, containingObject, this);
+        }
+
+        @Override
+        public Object convert(String maskValue, Class<?> fieldType, Object originalValue, Object containingObject, String fieldName) {
+            return convertToFieldType(maskValue, fieldType, originalValue, containingObject, fieldName, this);
+        }
+
+        @Override
+        public int convertInt(String maskValue, int originalValue, Object containingObject, String fieldName) {
+            maskedFields++;
+            return ConverterFactory.convertToInt(maskValue, originalValue, containingObject, fieldName, converterContext());
+        }
+
+        @Override
+        public long convertLong(String maskValue, long originalValue, Object containingObject, String fieldName) {
+            maskedFields++;
+            return ConverterFactory.convertToLong(maskValue, originalValue, containingObject, fieldName, converterContext());
+        }
+
+        @Override
+        public double convertDouble(String maskValue, double originalValue, Object containingObject, String fieldName) {
+            maskedFields++;
+            return ConverterFactory.convertToDouble(maskValue, originalValue, containingObject, fieldName, converterContext());
+        }
+
+        /**
+         * @return the context whose converters apply, null for the thread and request scopes
+         */
+        private MaskingContext converterContext() {
+            return threadScoped ? null : context;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <V> V processEmbedded(V value) {
+            return (V) MaskProcessor.this.processEmbedded(value, this);
+        }
     }
-}
\ No newline at end of file
+}
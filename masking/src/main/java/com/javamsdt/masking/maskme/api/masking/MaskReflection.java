@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2025: Ahmed Samy, All rights reserved.
+ * LinkedIn: https://www.linkedin.com/in/java-msdt/
+ * GitHub: https://github.com/JAVA-MSDT
+ * Email: serenitydiver@hotmail.com
+ */
+package com.javamsdt.masking.maskme.api.masking;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Lists the classes that masking a type reaches through reflection, so ahead-of-time tools can
+ * register them (for example as GraalVM native-image reflection metadata).
+ *
+ * <p>Targets of a type:
+ * - Masked types: the type and every type reachable from it that needs masking; their declared
+ *   fields, record components and constructors are read reflectively
+ * - Conditions: the {@link MaskCondition} classes of their @MaskMe slots, created by constructor
+ * - Field types: the declared types of their @MaskMe slots, which converters may construct or parse
+ * - Generated maskers: compile-time {@link GeneratedMasker} classes, loaded by name
+ *
+ * <p>Use cases:
+ * - Register reflection hints for native images in a Spring AOT processor
+ * - Check which classes a masked DTO depends on at runtime
+ *
+ * @author Ahmed Samy
+ * @since 1.1.0
+ */
+public final class MaskReflection {
+
+    private MaskReflection() {
+        throw new MaskMeException("MaskReflection is not to be initialized");
+    }
+
+    /**
+     * Collects the reflection targets for masking instances of the type.
+     *
+     * @param type the class to inspect
+     * @return the targets, empty when nothing in the class is masked
+     */
+    public static Targets of(Class<?> type) {
+        Set<Class<?>> maskedTypes = new LinkedHashSet<>();
+        Set<Class<? extends MaskCondition>> conditions = new LinkedHashSet<>();
+        Set<Class<?>> fieldTypes = new LinkedHashSet<>();
+        Set<Class<?>> generatedMaskers = new LinkedHashSet<>();
+        if (MaskPlan.requiresMasking(type)) {
+            for (Class<?> reachable : MaskPlan.reachableTypes(type)) {
+                if (!MaskPlan.requiresMasking(reachable)) {
+                    continue;
+                }
+                maskedTypes.add(reachable);
+                // Read from the annotations rather than the plan, so no condition is created
+                for (AnnotatedElement slot : maskedSlots(reachable)) {
+                    Collections.addAll(conditions, slot.getAnnotation(MaskMe.class).conditions());
+                    fieldTypes.add(slot instanceof Field field ? field.getType() : ((RecordComponent) slot).getType());
+                }
+                GeneratedMasker<?> masker = GeneratedMaskers.find(reachable);
+                if (masker != null) {
+                    generatedMaskers.add(masker.getClass());
+                }
+            }
+        }
+        return new Targets(Collections.unmodifiableSet(maskedTypes), Collections.unmodifiableSet(conditions),
+                Collections.unmodifiableSet(fieldTypes), Collections.unmodifiableSet(generatedMaskers));
+    }
+
+    private static List<AnnotatedElement> maskedSlots(Class<?> type) {
+        List<AnnotatedElement> slots = new ArrayList<>();
+        if (type.isRecord()) {
+            for (RecordComponent component : type.getRecordComponents()) {
+                if (component.isAnnotationPresent(MaskMe.class)) {
+                    slots.add(component);
+                }
+            }
+            return slots;
+        }
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && field.isAnnotationPresent(MaskMe.class)) {
+                    slots.add(field);
+                }
+            }
+        }
+        return slots;
+    }
+
+    /**
+     * Reflection targets of one masked type.
+     *
+     * @param maskedTypes the type and the reachable types that need masking, in breadth-first order
+     * @param conditions the condition classes of the @MaskMe slots
+     * @param fieldTypes the declared types of the @MaskMe slots
+     * @param generatedMaskers the compile-time generated masker classes
+     */
+    public record Targets(Set<Class<?>> maskedTypes,
+                          Set<Class<? extends MaskCondition>> conditions,
+                          Set<Class<?>> fieldTypes,
+                          Set<Class<?>> generatedMaskers) {
+
+        /**
+         * @return true if nothing in the inspected class is masked
+         */
+        public boolean isEmpty() {
+            return maskedTypes.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/**
+ * Copyright (c) 2025: Ahmed Samy, All rights reserved.
+ * LinkedIn: https://www.linkedin.com/in/java-msdt/
+ * GitHub: https://github.com/JAVA-MSDT
+ * Email: serenitydiver@hotmail.com
+ */
+package com.javamsdt.masking.maskme.api.masking;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * State of one top-level {@link MaskProcessor#process} call, shared by all nested objects it visits,
+ * or of one {@link MaskProcessor#processAll} batch, shared by all of its worker threads.
+ *
+ * <p>Holds:
+ * - Results of {@link ConditionScope#PER_REQUEST} conditions, evaluated once per call
+ *
+ * @author Ahmed Samy
+ * @since 1.1.0
+ */
+final class MaskSession {
+
+    private final Map<Class<?>, Boolean> requestResults = new ConcurrentHashMap<>();
+
+    /**
+     * @param conditionClass a per-request condition class
+     * @return the memoized result or null if not evaluated yet in this call
+     */
+    Boolean requestResult(Class<?> conditionClass) {
+        return requestResults.get(conditionClass);
+    }
+
+    void rememberRequestResult(Class<?> conditionClass, boolean result) {
+        requestResults.put(conditionClass, result);
+    }
+}
@@ -0,0 +1,209 @@
+/**
+ * Copyright (c) 2025: Ahmed Samy, All rights reserved.
+ * LinkedIn: https://www.linkedin.com/in/java-msdt/
+ * GitHub: https://github.com/JAVA-MSDT
+ * Email: serenitydiver@hotmail.com
+ */
+package com.javamsdt.masking.maskme.api.masking;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+
+/**
+ * A single resolved field or record component inside a {@link MaskPlan}.
+ * Holds everything the processor needs to copy or mask one value without
+ * touching the reflection API for lookups again.
+ *
+ * <p>Resolved once per slot:
+ * - Name and declared type
+ * - The {@link MaskMe} annotation (null when the slot is copied as-is)
+ * - The annotation's conditions after constant folding ({@link ConditionSet})
+ * - Whether the declared type may hold an embedded object (or container elements) worth recursing into
+ * - Getter/setter handles built by {@link Accessors} (direct handles, reflection as fallback)
+ * - For primitive slots, getter/setter handles carrying the value as {@code long} bits, so it is never boxed
+ * - The underlying member (field or record accessor), used by the bytecode engine
+ *
+ * @author Ahmed Samy
+ * @since 1.1.0
+ */
+final class MaskSlot {
+
+    private final String name;
+    private final Class<?> type;
+    private final MaskMe annotation;
+    private final ConditionSet conditions;
+    private final boolean embeddedCandidate;
+    private final Member member;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+    private final MethodHandle bitsGetter;
+    private final MethodHandle bitsSetter;
+
+    private MaskSlot(String name, Class<?> type, Type genericType, MaskMe annotation, Member member,
+                     MethodHandle getter, MethodHandle setter, MethodHandle bitsGetter, MethodHandle bitsSetter) {
+        this.name = name;
+        this.type = type;
+        this.annotation = annotation;
+        this.conditions = annotation != null ? ConditionSet.of(annotation.conditions()) : null;
+        this.embeddedCandidate = MaskPlan.isEmbeddedCandidate(type) || MaskedContainers.mayHoldMaskedElements(genericType);
+        this.member = member;
+        this.getter = getter;
+        this.setter = setter;
+        this.bitsGetter = bitsGetter;
+        this.bitsSetter = bitsSetter;
+    }
+
+    /**
+     * Creates a slot for a regular class field, making it accessible once.
+     *
+     * @param field the declared field
+     * @return resolved slot
+     */
+    @SuppressWarnings("java:S3011")
+    static MaskSlot ofField(Field field) {
+        field.setAccessible(true);
+        boolean primitive = field.getType().isPrimitive();
+        return new MaskSlot(field.getName(), field.getType(), field.getGenericType(), field.getAnnotation(MaskMe.class), field,
+                Accessors.getter(field), Accessors.setter(field),
+                primitive ? Accessors.bitsGetter(field) : null, primitive ? Accessors.bitsSetter(field) : null);
+    }
+
+    /**
+     * Creates a slot for a record component using its accessor method.
+     *
+     * @param component the record component
+     * @return resolved slot
+     */
+    @SuppressWarnings("java:S3011")
+    static MaskSlot ofComponent(RecordComponent component) {
+        Method accessor = component.getAccessor();
+        accessor.setAccessible(true);
+        return new MaskSlot(component.getName(), component.getType(), component.getGenericType(),
+                component.getAnnotation(MaskMe.class), accessor,
+                Accessors.getter(accessor), null,
+                component.getType().isPrimitive() ? Accessors.bitsGetter(accessor) : null, null);
+    }
+
+    String name() {
+        return name;
+    }
+
+    Class<?> type() {
+        return type;
+    }
+
+    MaskMe annotation() {
+        return annotation;
+    }
+
+    /**
+     * @return the folded conditions, null when the slot has no @MaskMe
+     */
+    ConditionSet conditions() {
+        return conditions;
+    }
+
+    /**
+     * @return true if the slot is declared with a primitive type and has bits handles
+     */
+    boolean isPrimitive() {
+        return bitsGetter != null;
+    }
+
+    boolean embeddedCandidate() {
+        return embeddedCandidate;
+    }
+
+    /**
+     * Whether the processed value of this slot can differ from the original, i.e. it may be masked
+     * (annotated, conditions not folded to "never") or recursed into. Other slots are plain copies.
+     *
+     * @return true if the slot needs runtime work
+     */
+    boolean mayChange() {
+        return annotation != null && !conditions.isNever() || embeddedCandidate;
+    }
+
+    /**
+     * @return the declared {@link Field} for class slots, the accessor {@link Method} for record slots
+     */
+    Member member() {
+        return member;
+    }
+
+    /**
+     * Reads the slot value from the given instance.
+     *
+     * @param target the object to read from
+     * @return the current value
+     */
+    Object get(Object target) {
+        try {
+            return (Object) getter.invokeExact(target);
+        } catch (Throwable t) {
+            throw Accessors.rethrow(t);
+        }
+    }
+
+    /**
+     * Writes the slot value on the given instance (regular classes only).
+     *
+     * @param target the object to write to
+     * @param value the value to write
+     */
+    void set(Object target, Object value) {
+        try {
+            setter.invokeExact(target, value);
+        } catch (Throwable t) {
+            throw Accessors.rethrow(t);
+        }
+    }
+
+    /**
+     * Reads a primitive slot value as bits (see {@link Accessors}) without boxing it.
+     *
+     * @param target the object to read from
+     * @return the current value's bits
+     */
+    long getBits(Object target) {
+        try {
+            return (long) bitsGetter.invokeExact(target);
+        } catch (Throwable t) {
+            throw Accessors.rethrow(t);
+        }
+    }
+
+    /**
+     * Writes a primitive slot value from bits without boxing it (regular classes only).
+     *
+     * @param target the object to write to
+     * @param bits the value's bits
+     */
+    void setBits(Object target, long bits) {
+        try {
+            bitsSetter.invokeExact(target, bits);
+        } catch (Throwable t) {
+            throw Accessors.rethrow(t);
+        }
+    }
+
+    /**
+     * @param bits a primitive slot value's bits
+     * @return the value boxed as the slot type, for conditions and plain converters
+     */
+    Object box(long bits) {
+        return Accessors.fromBits(bits, type);
+    }
+
+    /**
+     * @param value a boxed value of the slot type
+     * @return its bits, 0 for null
+     */
+    long unbox(Object value) {
+        return Accessors.toBits(value, type);
+    }
+}
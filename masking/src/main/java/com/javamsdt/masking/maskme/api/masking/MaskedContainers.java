@@ -0,0 +1,500 @@
+/**
+ * Copyright (c) 2025: Ahmed Samy, All rights reserved.
+ * LinkedIn: https://www.linkedin.com/in/java-msdt/
+ * GitHub: https://github.com/JAVA-MSDT
+ * Email: serenitydiver@hotmail.com
+ */
+package com.javamsdt.masking.maskme.api.masking;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Traversal of container values: {@link Collection}s, {@link Map} values, {@link Optional}
+ * and reference arrays. Elements are masked through a callback supplied by the processor.
+ *
+ * <p>Eager masking copies a container only when at least one element changed and keeps
+ * its shape where possible:
+ * - The same class through its public no-arg constructor (ArrayList, HashSet, user collections, ...)
+ * - TreeSet/TreeMap with the original comparator for sorted containers
+ * - Unmodifiable ArrayList/LinkedHashSet/LinkedHashMap copies for JDK immutable containers
+ * - Map keys are never masked, only values
+ * - Sets whose elements become equal when masked are returned as read-only sets keeping every element
+ *
+ * <p>Lazy views mask each element when it is read, so callers that page or partially
+ * serialize a large container only pay for the elements they touch.
+ *
+ * @author Ahmed Samy
+ * @since 1.1.0
+ */
+final class MaskedContainers {
+
+    private static final ClassValue<Optional<Constructor<?>>> NO_ARG_CONSTRUCTORS = new ClassValue<>() {
+        @Override
+        protected Optional<Constructor<?>> computeValue(Class<?> type) {
+            if (!Modifier.isPublic(type.getModifiers()) || Modifier.isAbstract(type.getModifiers())) {
+                return Optional.empty();
+            }
+            try {
+                return Optional.of(type.getConstructor());
+            } catch (NoSuchMethodException | SecurityException e) {
+                return Optional.empty();
+            }
+        }
+    };
+
+    private MaskedContainers() {
+        throw new MaskMeException("MaskedContainers is not to be initialized");
+    }
+
+    /**
+     * @param value a non-null value
+     * @return true if the value is a collection, map, optional or reference array
+     */
+    static boolean isContainer(Object value) {
+        return value instanceof Collection<?> || value instanceof Map<?, ?> || value instanceof Optional<?>
+                || value instanceof Object[];
+    }
+
+    /**
+     * @param type a declared or runtime type
+     * @return true if values of the type are traversed as containers
+     */
+    static boolean isContainerType(Class<?> type) {
+        return Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type)
+                || type == Optional.class || type.isArray() && !type.getComponentType().isPrimitive();
+    }
+
+    /**
+     * Decides from a declared generic type whether a container slot may hold elements worth masking.
+     * Elements of standard Java types are skipped; unknown element types (raw, wildcard, type variable,
+     * Object) are checked per element at runtime.
+     *
+     * @param genericType the declared generic type of a field/component
+     * @return true if the slot is a container with possibly maskable elements
+     */
+    static boolean mayHoldMaskedElements(Type genericType) {
+        Type elementType = elementType(genericType);
+        if (elementType == null) {
+            return false;
+        }
+        Class<?> element = erasure(elementType);
+        return element == Object.class || isContainerType(element) || MaskPlan.isEmbeddedCandidate(element);
+    }
+
+    /**
+     * Gets the declared element type of a container type (the value type for maps).
+     *
+     * @param genericType a declared generic type
+     * @return the element type, Object for raw containers, null if the type is not a container
+     */
+    static Type elementType(Type genericType) {
+        if (genericType instanceof GenericArrayType arrayType) {
+            return arrayType.getGenericComponentType();
+        }
+        Class<?> raw = erasure(genericType);
+        if (!isContainerType(raw)) {
+            return null;
+        }
+        if (raw.isArray()) {
+            return raw.getComponentType();
+        }
+        if (genericType instanceof ParameterizedType parameterized) {
+            Type[] arguments = parameterized.getActualTypeArguments();
+            if (Map.class.isAssignableFrom(raw) && arguments.length == 2) {
+                return arguments[1];
+            }
+            if (arguments.length == 1) {
+                return arguments[0];
+            }
+        }
+        return Object.class;
+    }
+
+    /**
+     * Erases a generic type to its class (upper bound for wildcards and type variables).
+     */
+    static Class<?> erasure(Type type) {
+        if (type instanceof Class<?> clazz) {
+            return clazz;
+        }
+        if (type instanceof ParameterizedType parameterized) {
+            return erasure(parameterized.getRawType());
+        }
+        if (type instanceof GenericArrayType arrayType) {
+            return erasure(arrayType.getGenericComponentType()).arrayType();
+        }
+        if (type instanceof WildcardType wildcard) {
+            return erasure(wildcard.getUpperBounds()[0]);
+        }
+        if (type instanceof TypeVariable<?> variable) {
+            return erasure(variable.getBounds()[0]);
+        }
+        return Object.class;
+    }
+
+    // ==================== EAGER ====================
+
+    /**
+     * Masks every element of a container.
+     *
+     * @param container a value for which {@link #isContainer} is true
+     * @param masker masks one element, returning the element itself when nothing changed
+     * @return the container itself when no element changed, otherwise a masked copy
+     */
+    static Object mask(Object container, UnaryOperator<Object> masker) {
+        if (container instanceof Object[] array) {
+            return maskArray(array, masker);
+        }
+        if (container instanceof Optional<?> optional) {
+            return maskOptional(optional, masker);
+        }
+        if (container instanceof Map<?, ?> map) {
+            return maskMap(map, masker);
+        }
+        return maskCollection((Collection<?>) container, masker);
+    }
+
+    private static Object maskArray(Object[] array, UnaryOperator<Object> masker) {
+        Object[] copy = null;
+        for (int i = 0; i < array.length; i++) {
+            Object masked = masker.apply(array[i]);
+            if (masked != array[i]) {
+                if (copy == null) {
+                    copy = array.clone();
+                }
+                copy[i] = masked;
+            }
+        }
+        return copy != null ? copy : array;
+    }
+
+    private static Object maskOptional(Optional<?> optional, UnaryOperator<Object> masker) {
+        if (optional.isEmpty()) {
+            return optional;
+        }
+        Object value = optional.get();
+        Object masked = masker.apply(value);
+        return masked == value ? optional : Optional.ofNullable(masked);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object maskCollection(Collection<?> collection, UnaryOperator<Object> masker) {
+        Object[] elements = collection.toArray();
+        Object[] masked = (Object[]) maskArray(elements, masker);
+        if (masked == elements) {
+            return collection;
+        }
+        List<Object> values = Arrays.asList(masked);
+        Collection<Object> copy = newCollection(collection, values.size());
+        copy.addAll(values);
+        if (copy.size() < values.size() && collection instanceof Set<?>) {
+            // Masking made elements equal and the set copy merged them; keep every element instead
+            return collection instanceof SortedSet<?> sorted
+                    ? new MaskedSortedSet<>(values, (Comparator<Object>) sorted.comparator())
+                    : new MaskedSet<>(values);
+        }
+        return isUnmodifiable(collection) ? unmodifiable(copy) : copy;
+    }
+
+    private static Object maskMap(Map<?, ?> map, UnaryOperator<Object> masker) {
+        Map<Object, Object> copy = null;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            Object value = entry.getValue();
+            Object masked = masker.apply(value);
+            if (masked != value && copy == null) {
+                copy = newMap(map);
+                for (Map.Entry<?, ?> previous : map.entrySet()) {
+                    if (previous == entry) {
+                        break;
+                    }
+                    copy.put(previous.getKey(), previous.getValue());
+                }
+            }
+            if (copy != null) {
+                copy.put(entry.getKey(), masked);
+            }
+        }
+        if (copy == null) {
+            return map;
+        }
+        return isUnmodifiable(map) ? Collections.unmodifiableMap(copy) : copy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Collection<Object> newCollection(Collection<?> original, int size) {
+        if (original instanceof SortedSet<?> sorted) {
+            return new TreeSet<>((Comparator<Object>) sorted.comparator());
+        }
+        Collection<Object> sameType = (Collection<Object>) instantiate(original.getClass());
+        if (sameType != null) {
+            return sameType;
+        }
+        return original instanceof Set<?> ? new LinkedHashSet<>() : new ArrayList<>(size);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Object, Object> newMap(Map<?, ?> original) {
+        if (original instanceof SortedMap<?, ?> sorted) {
+            return new TreeMap<>((Comparator<Object>) sorted.comparator());
+        }
+        Map<Object, Object> sameType = (Map<Object, Object>) instantiate(original.getClass());
+        return sameType != null ? sameType : new LinkedHashMap<>();
+    }
+
+    private static Object instantiate(Class<?> type) {
+        Optional<Constructor<?>> constructor = NO_ARG_CONSTRUCTORS.get(type);
+        if (constructor.isEmpty()) {
+            return null;
+        }
+        try {
+            return constructor.get().newInstance();
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static boolean isUnmodifiable(Object container) {
+        String name = container.getClass().getName();
+        return name.startsWith("java.util.ImmutableCollections") || name.startsWith("java.util.Collections$Unmodifiable");
+    }
+
+    private static Collection<Object> unmodifiable(Collection<Object> copy) {
+        if (copy instanceof List<Object> list) {
+            return Collections.unmodifiableList(list);
+        }
+        if (copy instanceof Set<Object> set) {
+            return Collections.unmodifiableSet(set);
+        }
+        return Collections.unmodifiableCollection(copy);
+    }
+
+    /**
+     * Read-only set of masked elements that became equal to each other, so a regular set would have
+     * merged them. Every element is kept, in the original iteration order.
+     */
+    private static class MaskedSet<E> extends AbstractSet<E> {
+
+        final List<E> elements;
+
+        private MaskedSet(List<E> elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return Collections.unmodifiableList(elements).iterator();
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+    }
+
+    /**
+     * {@link MaskedSet} for sorted sets: elements are ordered by the original comparator, with
+     * equal elements in their original order.
+     */
+    private static final class MaskedSortedSet<E> extends MaskedSet<E> implements SortedSet<E> {
+
+        private final Comparator<? super E> comparator;
+
+        private MaskedSortedSet(List<E> elements, Comparator<? super E> comparator) {
+            super(sorted(elements, comparator));
+            this.comparator = comparator;
+        }
+
+        private static <E> List<E> sorted(List<E> elements, Comparator<? super E> comparator) {
+            List<E> copy = new ArrayList<>(elements);
+            copy.sort(comparator);
+            return copy;
+        }
+
+        @Override
+        public Comparator<? super E> comparator() {
+            return comparator;
+        }
+
+        @Override
+        public SortedSet<E> subSet(E fromElement, E toElement) {
+            return filter(element -> compare(element, fromElement) >= 0 && compare(element, toElement) < 0);
+        }
+
+        @Override
+        public SortedSet<E> headSet(E toElement) {
+            return filter(element -> compare(element, toElement) < 0);
+        }
+
+        @Override
+        public SortedSet<E> tailSet(E fromElement) {
+            return filter(element -> compare(element, fromElement) >= 0);
+        }
+
+        @Override
+        public E first() {
+            if (elements.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            return elements.getFirst();
+        }
+
+        @Override
+        public E last() {
+            if (elements.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            return elements.getLast();
+        }
+
+        private SortedSet<E> filter(Predicate<E> inRange) {
+            return new MaskedSortedSet<>(elements.stream().filter(inRange).toList(), comparator);
+        }
+
+        @SuppressWarnings("unchecked")
+        private int compare(E left, E right) {
+            return comparator != null ? comparator.compare(left, right) : ((Comparable<? super E>) left).compareTo(right);
+        }
+    }
+
+    // ==================== LAZY ====================
+
+    /**
+     * Creates a read-only list view masking each element on first access.
+     * Masked elements are remembered by index, so repeated reads do not mask again.
+     *
+     * @param source the list to view
+     * @param masker masks one element
+     * @return read-only masked view
+     */
+    static <E> List<E> lazyList(List<E> source, UnaryOperator<Object> masker) {
+        return new LazyList<>(source, masker);
+    }
+
+    /**
+     * Creates a read-only map view masking each value when it is read. Keys are not masked.
+     *
+     * @param source the map to view
+     * @param masker masks one value
+     * @return read-only masked view
+     */
+    static <K, V> Map<K, V> lazyMap(Map<K, V> source, UnaryOperator<Object> masker) {
+        return new LazyMap<>(source, masker);
+    }
+
+    private static final class LazyList<E> extends AbstractList<E> implements RandomAccess {
+
+        private final List<E> source;
+        private final UnaryOperator<Object> masker;
+        private Object[] masked;
+
+        private LazyList(List<E> source, UnaryOperator<Object> masker) {
+            this.source = source;
+            this.masker = masker;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E get(int index) {
+            if (masked == null) {
+                masked = new Object[source.size()];
+            }
+            Object value = index < masked.length ? masked[index] : null;
+            if (value == null) {
+                value = masker.apply(source.get(index));
+                if (index < masked.length) {
+                    masked[index] = value;
+                }
+            }
+            return (E) value;
+        }
+
+        @Override
+        public int size() {
+            return source.size();
+        }
+    }
+
+    private static final class LazyMap<K, V> extends AbstractMap<K, V> {
+
+        private final Map<K, V> source;
+        private final UnaryOperator<Object> masker;
+
+        private LazyMap(Map<K, V> source, UnaryOperator<Object> masker) {
+            this.source = source;
+            this.masker = masker;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return source.containsKey(key);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V get(Object key) {
+            return (V) masker.apply(source.get(key));
+        }
+
+        @Override
+        public int size() {
+            return source.size();
+        }
+
+        @Override
+        public Set<Entry<K, V>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<K, V>> iterator() {
+                    Iterator<Entry<K, V>> entries = source.entrySet().iterator();
+                    return new Iterator<>() {
+                        @Override
+                        public boolean hasNext() {
+                            return entries.hasNext();
+                        }
+
+                        @Override
+                        @SuppressWarnings("unchecked")
+                        public Entry<K, V> next() {
+                            Entry<K, V> entry = entries.next();
+                            return new SimpleImmutableEntry<>(entry.getKey(), (V) masker.apply(entry.getValue()));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return source.size();
+                }
+            };
+        }
+    }
+}
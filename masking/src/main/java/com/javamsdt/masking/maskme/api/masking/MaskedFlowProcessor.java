@@ -0,0 +1,204 @@
+/**
+ * Copyright (c) 2025: Ahmed Samy, All rights reserved.
+ * LinkedIn: https://www.linkedin.com/in/java-msdt/
+ * GitHub: https://github.com/JAVA-MSDT
+ * Email: serenitydiver@hotmail.com
+ */
+package com.javamsdt.masking.maskme.api.masking;
+
+import java.util.concurrent.Flow;
+import java.util.function.UnaryOperator;
+
+/**
+ * {@link Flow.Processor} masking each item between one upstream publisher and one downstream subscriber.
+ * Downstream demand is forwarded upstream unchanged (one masked item per received item), so the
+ * processor never buffers items and memory stays constant regardless of the stream length.
+ *
+ * <p>Signals that arrive before the other side is connected are remembered:
+ * - Demand or cancellation requested before the upstream subscription arrives
+ * - Completion or error received before the downstream subscriber's onSubscribe has returned,
+ *   so no terminal signal can overtake onSubscribe
+ *
+ * <p>A failure while masking an item cancels the upstream and is delivered as onError.
+ *
+ * @param <T> the item type
+ * @author Ahmed Samy
+ * @since 1.1.0
+ */
+final class MaskedFlowProcessor<T> implements Flow.Processor<T, T> {
+
+    private final UnaryOperator<T> masker;
+
+    // Guarded by this
+    private Flow.Subscription upstream;
+    private Flow.Subscriber<? super T> downstream;
+    // Set once the downstream subscriber's onSubscribe has returned
+    private boolean subscribed;
+    private long pendingDemand;
+    private boolean pendingCancel;
+    private boolean completed;
+    private Throwable failure;
+
+    private volatile boolean done;
+
+    MaskedFlowProcessor(UnaryOperator<T> masker) {
+        this.masker = masker;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        boolean terminated;
+        Throwable error;
+        synchronized (this) {
+            if (downstream != null) {
+                subscriber.onSubscribe(new Flow.Subscription() {
+                    @Override
+                    public void request(long n) {
+                        // Rejected subscriber
+                    }
+
+                    @Override
+                    public void cancel() {
+                        // Rejected subscriber
+                    }
+                });
+                subscriber.onError(new IllegalStateException("MaskedFlowProcessor supports a single subscriber"));
+                return;
+            }
+            downstream = subscriber;
+        }
+        subscriber.onSubscribe(new DownstreamSubscription());
+        synchronized (this) {
+            subscribed = true;
+            terminated = completed || failure != null;
+            error = failure;
+        }
+        if (terminated) {
+            done = true;
+            if (error != null) {
+                subscriber.onError(error);
+            } else {
+                subscriber.onComplete();
+            }
+        }
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        long demand;
+        boolean cancel;
+        synchronized (this) {
+            if (upstream != null) {
+                subscription.cancel();
+                return;
+            }
+            upstream = subscription;
+            demand = pendingDemand;
+            cancel = pendingCancel;
+            pendingDemand = 0;
+        }
+        if (cancel) {
+            subscription.cancel();
+        } else if (demand > 0) {
+            subscription.request(demand);
+        }
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (done) {
+            return;
+        }
+        T masked;
+        try {
+            masked = masker.apply(item);
+        } catch (RuntimeException e) {
+            done = true;
+            upstream().cancel();
+            downstream().onError(e);
+            return;
+        }
+        downstream().onNext(masked);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        Flow.Subscriber<? super T> subscriber;
+        synchronized (this) {
+            if (!subscribed) {
+                failure = throwable;
+                return;
+            }
+            subscriber = downstream;
+        }
+        if (!done) {
+            done = true;
+            subscriber.onError(throwable);
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        Flow.Subscriber<? super T> subscriber;
+        synchronized (this) {
+            if (!subscribed) {
+                completed = true;
+                return;
+            }
+            subscriber = downstream;
+        }
+        if (!done) {
+            done = true;
+            subscriber.onComplete();
+        }
+    }
+
+    private synchronized Flow.Subscription upstream() {
+        return upstream;
+    }
+
+    private synchronized Flow.Subscriber<? super T> downstream() {
+        return downstream;
+    }
+
+    /**
+     * Subscription handed to the downstream subscriber; forwards demand and cancellation upstream.
+     */
+    private final class DownstreamSubscription implements Flow.Subscription {
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                boolean notify = !done;
+                cancel();
+                if (notify) {
+                    downstream().onError(new IllegalArgumentException("Demand must be positive but was " + n));
+                }
+                return;
+            }
+            Flow.Subscription subscription;
+            synchronized (MaskedFlowProcessor.this) {
+                subscription = upstream;
+                if (subscription == null) {
+                    pendingDemand = pendingDemand + n < 0 ? Long.MAX_VALUE : pendingDemand + n;
+                    return;
+                }
+            }
+            subscription.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            done = true;
+            Flow.Subscription subscription;
+            synchronized (MaskedFlowProcessor.this) {
+                subscription = upstream;
+                if (subscription == null) {
+                    pendingCancel = true;
+                    return;
+                }
+            }
+            subscription.cancel();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/**
+ * Copyright (c) 2025: Ahmed Samy, All rights reserved.
+ * LinkedIn: https://www.linkedin.com/in/java-msdt/
+ * GitHub: https://github.com/JAVA-MSDT
+ * Email: serenitydiver@hotmail.com
+ */
+package com.javamsdt.masking.maskme.api.masking;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.PropertyName;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.ser.BeanPropertyWriter;
+import tools.jackson.databind.ser.impl.PropertySerializerMap;
+import tools.jackson.databind.util.ClassUtil;
+
+/**
+ * Jackson property writer for one {@link MaskMe} slot. Evaluates the slot's conditions on the bean
+ * being written and, when they mask, writes the converted mask value in place of the property value;
+ * otherwise the property is written by the standard writer. No masked copy of the bean is created.
+ *
+ * <p>The masked value goes through the same inclusion rules, serializers and type information as the
+ * original property, so the output matches serializing the result of {@link MaskProcessor#process(Object)}.
+ * Constant string masks made of plain characters are encoded once and written as a {@link SerializedString}.
+ *
+ * @author Ahmed Samy
+ * @since 1.1.0
+ */
+final class MaskedPropertyWriter extends BeanPropertyWriter {
+
+    private final MaskProcessor processor;
+    private final MaskSlot slot;
+    // Attribute key of the per-serialization call state, shared by the writers of one modifier
+    private final Object callKey;
+    // Pre-encoded mask value, null when the mask is not a plain constant string
+    private final SerializedString encodedMask;
+
+    MaskedPropertyWriter(BeanPropertyWriter base, MaskProcessor processor, MaskSlot slot, Object callKey) {
+        super(base);
+        this.processor = processor;
+        this.slot = slot;
+        this.callKey = callKey;
+        this.encodedMask = encodeConstant(slot);
+    }
+
+    private MaskedPropertyWriter(MaskedPropertyWriter base, PropertyName name) {
+        super(base, name);
+        this.processor = base.processor;
+        this.slot = base.slot;
+        this.callKey = base.callKey;
+        this.encodedMask = base.encodedMask;
+    }
+
+    @Override
+    protected BeanPropertyWriter _new(PropertyName newName) {
+        return new MaskedPropertyWriter(this, newName);
+    }
+
+    @Override
+    public void serializeAsProperty(Object bean, JsonGenerator g, SerializationContext ctxt) throws Exception {
+        Object masked = processor.maskSlot(slot, bean, call(ctxt));
+        if (masked == MaskProcessor.UNCHANGED) {
+            super.serializeAsProperty(bean, g, ctxt);
+            return;
+        }
+        if (masked == null) {
+            if (_suppressableValue != null && ctxt.includeFilterSuppressNulls(_suppressableValue)) {
+                return;
+            }
+            if (_nullSerializer != null) {
+                g.writeName(_name);
+                _nullSerializer.serialize(null, g, ctxt);
+            }
+            return;
+        }
+        ValueSerializer<Object> ser = serializerFor(masked, ctxt);
+        if (isSuppressed(masked, ser, ctxt)) {
+            return;
+        }
+        g.writeName(_name);
+        writeValue(masked, ser, g, ctxt);
+    }
+
+    @Override
+    public void serializeAsElement(Object bean, JsonGenerator g, SerializationContext ctxt) throws Exception {
+        Object masked = processor.maskSlot(slot, bean, call(ctxt));
+        if (masked == MaskProcessor.UNCHANGED) {
+            super.serializeAsElement(bean, g, ctxt);
+            return;
+        }
+        if (masked == null) {
+            serializeAsOmittedElement(bean, g, ctxt);
+            return;
+        }
+        ValueSerializer<Object> ser = serializerFor(masked, ctxt);
+        if (isSuppressed(masked, ser, ctxt)) {
+            // Entries cannot be left out of tabular output
+            serializeAsOmittedElement(bean, g, ctxt);
+            return;
+        }
+        writeValue(masked, ser, g, ctxt);
+    }
+
+    private MaskProcessor.MaskCall call(SerializationContext ctxt) {
+        MaskProcessor.MaskCall call = (MaskProcessor.MaskCall) ctxt.getAttribute(callKey);
+        if (call == null) {
+            call = processor.serializationCall((MaskingContext) ctxt.getAttribute(MaskingContext.class));
+            ctxt.setAttribute(callKey, call);
+        }
+        return call;
+    }
+
+    private ValueSerializer<Object> serializerFor(Object value, SerializationContext ctxt) {
+        if (_serializer != null) {
+            return _serializer;
+        }
+        PropertySerializerMap map = _dynamicSerializers;
+        ValueSerializer<Object> ser = map.serializerFor(value.getClass());
+        return ser != null ? ser : _findAndAddDynamic(map, value.getClass(), ctxt);
+    }
+
+    private boolean isSuppressed(Object value, ValueSerializer<Object> ser, SerializationContext ctxt) {
+        if (_suppressableValue == null) {
+            return false;
+        }
+        return MARKER_FOR_EMPTY == _suppressableValue ? ser.isEmpty(ctxt, value) : _suppressableValue.equals(value);
+    }
+
+    private void writeValue(Object value, ValueSerializer<Object> ser, JsonGenerator g, SerializationContext ctxt) {
+        if (_typeSerializer != null) {
+            ser.serializeWithType(value, g, ctxt, _typeSerializer);
+        } else if (encodedMask != null && encodedMask.getValue().equals(value) && ClassUtil.isJacksonStdImpl(ser)) {
+            g.writeString(encodedMask);
+        } else {
+            ser.serialize(value, g, ctxt);
+        }
+    }
+
+    /**
+     * Encodes the mask value of a String slot when it has no placeholders and no character that a
+     * generator could escape differently (quotes, backslashes, slashes, HTML-sensitive or non-ASCII
+     * characters), so the pre-encoded form is byte-for-byte what writeString would produce.
+     */
+    private static SerializedString encodeConstant(MaskSlot slot) {
+        String maskValue = slot.annotation().maskValue();
+        if (slot.type() != String.class || maskValue.isEmpty()) {
+            return null;
+        }
+        for (int i = 0; i < maskValue.length(); i++) {
+            char c = maskValue.charAt(i);
+            if (!Character.isLetterOrDigit(c) || c > 0x7E) {
+                if ("*-_.#@+: ".indexOf(c) < 0) {
+                    return null;
+                }
+            }
+        }
+        return new SerializedString(maskValue);
+    }
+}
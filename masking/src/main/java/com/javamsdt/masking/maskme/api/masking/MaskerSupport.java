@@ -0,0 +1,91 @@
+/**
+ * Copyright (c) 2025: Ahmed Samy, All rights reserved.
+ * LinkedIn: https://www.linkedin.com/in/java-msdt/
+ * GitHub: https://github.com/JAVA-MSDT
+ * Email: serenitydiver@hotmail.com
+ */
+package com.javamsdt.masking.maskme.api.masking;
+
+/**
+ * Runtime callbacks used by {@link GeneratedMasker} implementations.
+ * Provided by {@link MaskProcessor}, so generated code shares condition inputs,
+ * the converter registry and circular-reference handling with the reflective engine.
+ *
+ * @author Ahmed Samy
+ * @since 1.1.0
+ */
+public interface MaskerSupport {
+
+    /**
+     * Evaluates the given conditions for one field.
+     *
+     * @param conditions the condition classes declared in @MaskMe
+     * @param fieldValue the current field value
+     * @param containingObject the object containing this field
+     * @return true if any condition requires masking
+     */
+    boolean shouldMask(Class<? extends MaskCondition>[] conditions, Object fieldValue, Object containingObject);
+
+    /**
+     * Converts the mask value to the field type through the converter registry.
+     *
+     * @param maskValue the @MaskMe mask value
+     * @param fieldType the declared field type
+     * @param originalValue the original field value
+     * @param containingObject the object containing this field
+     * @param fieldName the field name
+     * @return converted value
+     */
+    Object convert(String maskValue, Class<?> fieldType, Object originalValue, Object containingObject, String fieldName);
+
+    /**
+     * Converts the mask value for an {@code int} field without boxing it.
+     *
+     * @param maskValue the @MaskMe mask value
+     * @param originalValue the original field value
+     * @param containingObject the object containing this field
+     * @param fieldName the field name
+     * @return converted value
+     * @since 1.1.0
+     */
+    default int convertInt(String maskValue, int originalValue, Object containingObject, String fieldName) {
+        return (Integer) convert(maskValue, int.class, originalValue, containingObject, fieldName);
+    }
+
+    /**
+     * Converts the mask value for a {@code long} field without boxing it.
+     *
+     * @param maskValue the @MaskMe mask value
+     * @param originalValue the original field value
+     * @param containingObject the object containing this field
+     * @param fieldName the field name
+     * @return converted value
+     * @since 1.1.0
+     */
+    default long convertLong(String maskValue, long originalValue, Object containingObject, String fieldName) {
+        return (Long) convert(maskValue, long.class, originalValue, containingObject, fieldName);
+    }
+
+    /**
+     * Converts the mask value for a {@code double} field without boxing it.
+     *
+     * @param maskValue the @MaskMe mask value
+     * @param originalValue the original field value
+     * @param containingObject the object containing this field
+     * @param fieldName the field name
+     * @return converted value
+     * @since 1.1.0
+     */
+    default double convertDouble(String maskValue, double originalValue, Object containingObject, String fieldName) {
+        return (Double) convert(maskValue, double.class, originalValue, containingObject, fieldName);
+    }
+
+    /**
+     * Recursively processes an embedded object when its runtime type needs masking.
+     *
+     * @param <V> the value type
+     * @param value the embedded value (can be null)
+     * @return masked copy, or the value itself when nothing needs masking
+     */
+    <V> V processEmbedded(V value);
+}
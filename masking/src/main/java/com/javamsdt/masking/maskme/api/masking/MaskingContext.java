@@ -0,0 +1,148 @@
+/**
+ * Copyright (c) 2025: Ahmed Samy, All rights reserved.
+ * LinkedIn: https://www.linkedin.com/in/java-msdt/
+ * GitHub: https://github.com/JAVA-MSDT
+ * Email: serenitydiver@hotmail.com
+ */
+package com.javamsdt.masking.maskme.api.masking;
+
+import com.javamsdt.masking.maskme.api.converter.Converter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable per-request masking state: condition inputs, request-scoped converters and the request ID.
+ * Passed explicitly to {@link MaskProcessor#process(Object, MaskingContext)} instead of being stored
+ * in thread-locals, so it works unchanged on virtual threads, fork/join workers and reactive schedulers,
+ * and there is nothing to clear after the request.
+ *
+ * <p>Every {@code with...} method returns a new context; a context can be built once per request
+ * and shared by any number of threads.
+ *
+ * <p>Use cases:
+ * - Pass header-driven condition inputs from a controller without try/finally cleanup
+ * - Apply a converter to a single request only
+ * - Hand the same inputs to a batch split across worker threads
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * MaskingContext context = MaskingContext.empty()
+ *         .withRequestId(requestId)
+ *         .withInput(MaskOnInput.class, Map.of(MaskOnInput.MASK_ON_INPUT_ONE_KEY, maskInput))
+ *         .withConverter(new TenantEmailConverter(tenant));
+ * return processor.process(dto, context);
+ * }</pre>
+ *
+ * @author Ahmed Samy
+ * @since 1.1.0
+ */
+public final class MaskingContext {
+
+    private static final MaskingContext EMPTY = new MaskingContext(Map.of(), List.of(), null);
+
+    private final Map<Class<?>, Map<String, Object>> inputs;
+    // Sorted by descending priority, registration order breaks ties
+    private final List<Converter> converters;
+    private final String requestId;
+
+    private MaskingContext(Map<Class<?>, Map<String, Object>> inputs, List<Converter> converters, String requestId) {
+        this.inputs = inputs;
+        this.converters = converters;
+        this.requestId = requestId;
+    }
+
+    /**
+     * @return the context without inputs, converters or request ID
+     */
+    public static MaskingContext empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a context with the runtime input of one condition class added or replaced.
+     *
+     * @param conditionClass the condition class to receive the input
+     * @param input the runtime input for the condition
+     * @return new context
+     */
+    public MaskingContext withInput(Class<? extends MaskCondition> conditionClass, Map<String, Object> input) {
+        Objects.requireNonNull(conditionClass, "conditionClass");
+        Map<Class<?>, Map<String, Object>> copy = new HashMap<>(inputs);
+        copy.put(conditionClass, input);
+        return new MaskingContext(Collections.unmodifiableMap(copy), converters, requestId);
+    }
+
+    /**
+     * Returns a context with one more request-scoped converter. Context converters take precedence
+     * over global converters of equal priority, like {@link com.javamsdt.masking.maskme.api.converter.ConverterRegistry#registerRequestScoped}.
+     *
+     * @param converter the converter to apply to this context only
+     * @return new context
+     */
+    public MaskingContext withConverter(Converter converter) {
+        Objects.requireNonNull(converter, "converter");
+        List<Converter> copy = new ArrayList<>(converters);
+        copy.add(converter);
+        copy.sort(Comparator.comparingInt(Converter::getPriority).reversed());
+        return new MaskingContext(inputs, List.copyOf(copy), requestId);
+    }
+
+    /**
+     * Returns a context carrying the given request identifier, used in diagnostics.
+     *
+     * @param requestId the request identifier (can be null)
+     * @return new context
+     */
+    public MaskingContext withRequestId(String requestId) {
+        return new MaskingContext(inputs, converters, requestId);
+    }
+
+    /**
+     * @param conditionClass the condition class
+     * @return the runtime input for the condition, or null if none was given
+     */
+    public Map<String, Object> input(Class<?> conditionClass) {
+        return inputs.get(conditionClass);
+    }
+
+    /**
+     * @param conditionClass the condition class
+     * @return true if runtime input was given for the condition, even a null one
+     */
+    public boolean hasInput(Class<?> conditionClass) {
+        return inputs.containsKey(conditionClass);
+    }
+
+    /**
+     * @return number of condition classes with runtime input
+     */
+    public int inputCount() {
+        return inputs.size();
+    }
+
+    /**
+     * @return the context converters in resolution order (highest priority first)
+     */
+    public List<Converter> converters() {
+        return converters;
+    }
+
+    /**
+     * @return the request identifier or null
+     */
+    public String requestId() {
+        return requestId;
+    }
+
+    @Override
+    public String toString() {
+        return "MaskingContext[requestId=" + requestId + ", inputs=" + inputs.keySet()
+                + ", converters=" + converters.size() + "]";
+    }
+}
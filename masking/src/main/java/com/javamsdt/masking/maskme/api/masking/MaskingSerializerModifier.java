@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) 2025: Ahmed Samy, All rights reserved.
+ * LinkedIn: https://www.linkedin.com/in/java-msdt/
+ * GitHub: https://github.com/JAVA-MSDT
+ * Email: serenitydiver@hotmail.com
+ */
+package com.javamsdt.masking.maskme.api.masking;
+
+import tools.jackson.databind.BeanDescription;
+import tools.jackson.databind.JacksonModule;
+import tools.jackson.databind.SerializationConfig;
+import tools.jackson.databind.module.SimpleModule;
+import tools.jackson.databind.ser.BeanPropertyWriter;
+import tools.jackson.databind.ser.ValueSerializerModifier;
+
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Jackson serializer modifier that applies {@link MaskMe} rules while properties are written, so
+ * responses are masked without building a masked copy of each object first. Conditions, condition
+ * inputs and converters are the ones {@link MaskProcessor#process(Object)} uses, and the output is the
+ * same as serializing the processed copy.
+ *
+ * <p>Condition inputs and request converters are taken from a {@link MaskingContext} attached to the
+ * serialization as the {@code MaskingContext.class} attribute, otherwise from the calling thread like
+ * {@link MaskProcessor#process(Object)}. Per-request conditions are evaluated once per serialization.
+ *
+ * <p>Use cases:
+ * - Mask API responses on the way out without doubling allocation
+ * - Mask every serialized object of a mapper, including nested objects and collection elements
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * JsonMapper mapper = JsonMapper.builder()
+ *         .addModule(MaskingSerializerModifier.module(processor))
+ *         .build();
+ * String json = mapper.writer()
+ *         .withAttribute(MaskingContext.class, context)
+ *         .writeValueAsString(dto);
+ * }</pre>
+ *
+ * <p>Getters that compute values from other fields see the original values, not the masked ones.
+ *
+ * @author Ahmed Samy
+ * @since 1.1.0
+ */
+public class MaskingSerializerModifier extends ValueSerializerModifier {
+
+    private final MaskProcessor processor;
+    // Per-serialization attribute key for the shared call state
+    private final Object callKey = new Object();
+
+    public MaskingSerializerModifier(MaskProcessor processor) {
+        this.processor = Objects.requireNonNull(processor, "processor");
+    }
+
+    /**
+     * Creates a Jackson module registering a modifier for the given processor.
+     *
+     * @param processor the processor whose engine settings and thread inputs are used
+     * @return module to add to a mapper
+     */
+    public static JacksonModule module(MaskProcessor processor) {
+        return new SimpleModule("MaskMe").setSerializerModifier(new MaskingSerializerModifier(processor));
+    }
+
+    @Override
+    public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription.Supplier beanDesc,
+                                                     List<BeanPropertyWriter> beanProperties) {
+        MaskPlan plan = MaskPlan.of(beanDesc.getBeanClass());
+        // Objects process() leaves untouched are serialized as they are
+        if (!plan.isSupported() && !plan.isInPlace()) {
+            return beanProperties;
+        }
+        List<BeanPropertyWriter> result = null;
+        for (int i = 0; i < beanProperties.size(); i++) {
+            BeanPropertyWriter writer = beanProperties.get(i);
+            MaskSlot slot = findSlot(plan, writer);
+            if (slot == null) {
+                continue;
+            }
+            if (result == null) {
+                result = new ArrayList<>(beanProperties);
+            }
+            result.set(i, new MaskedPropertyWriter(writer, processor, slot, callKey));
+        }
+        return result != null ? result : beanProperties;
+    }
+
+    /**
+     * Finds the masked slot behind a property: by member for fields and record accessors,
+     * by the bean property name for getters.
+     */
+    private static MaskSlot findSlot(MaskPlan plan, BeanPropertyWriter writer) {
+        if (writer.getMember() == null) {
+            return null;
+        }
+        Member member = writer.getMember().getMember();
+        String name = member instanceof Method method ? propertyName(method) : member.getName();
+        for (MaskSlot slot : plan.slots()) {
+            if (slot.annotation() != null && !slot.conditions().isNever()
+                    && (slot.member().equals(member) || slot.name().equals(name))) {
+                return slot;
+            }
+        }
+        return null;
+    }
+
+    private static String propertyName(Method method) {
+        String name = method.getName();
+        int prefix = name.startsWith("get") ? 3 : name.startsWith("is") ? 2 : 0;
+        if (prefix == 0 || name.length() == prefix || method.getDeclaringClass().isRecord()) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(prefix)) + name.substring(prefix + 1);
+    }
+}
@@ -11,6 +11,7 @@ import com.javamsdt.masking.maskme.api.converter.Converter;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalQuery;
 import java.util.Set;
 
 /**
@@ -28,6 +29,10 @@ import java.util.Set;
  * - Common formats: "25/12/2023", "12/25/2023"
  * - Epoch timestamps: "1703505000" (seconds), "1703505000000" (millis)
  * 
+ * <p>The shape of the value (ISO date, dd/MM/yyyy, epoch digits, ...) selects the one formatter
+ * that can parse it, so values of another shape, such as the default "****", are rejected
+ * without a DateTimeParseException.
+ * 
  * <p>Use cases:
  * - Convert "1900-01-01" to LocalDate for birth date masking
  * - Parse various date formats from maskme values
@@ -47,38 +52,48 @@ public class DateTimeConverter implements Converter {
         java.sql.Timestamp.class, java.sql.Time.class
     );
     
-    private static final DateTimeFormatter[] DATE_FORMATTERS = {
-        DateTimeFormatter.ISO_LOCAL_DATE,
-        DateTimeFormatter.ofPattern("yyyy-MM-dd"),
-        DateTimeFormatter.ofPattern("dd/MM/yyyy"),
-        DateTimeFormatter.ofPattern("MM/dd/yyyy")
-    };
-    
-    private static final DateTimeFormatter[] DATE_TIME_FORMATTERS = {
-        DateTimeFormatter.ISO_LOCAL_DATE_TIME,
-        DateTimeFormatter.ISO_INSTANT,
-        DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"),
-        DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss")
-    };
+    private static final String DATE_SHAPE = "dddd-dd-dd";
+    private static final String DATE_TIME_SHAPE = "dddd-dd-ddTdd:dd";
+
+    // Lenient (SMART) patterns: a day past the month's end is clamped, as the ISO fallback always did
+    private static final DateTimeFormatter ISO_DATE = DateTimeFormatter.ofPattern("uuuu-MM-dd");
+    private static final DateTimeFormatter DAY_FIRST_DATE = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final DateTimeFormatter MONTH_FIRST_DATE = DateTimeFormatter.ofPattern("MM/dd/yyyy");
+    private static final DateTimeFormatter ISO_DATE_TIME_SECONDS = DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss");
+    private static final DateTimeFormatter SPACED_DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final DateTimeFormatter YEAR_MONTH = DateTimeFormatter.ofPattern("yyyy-MM");
+    private static final DateTimeFormatter MONTH_DAY = DateTimeFormatter.ofPattern("MM-dd");
     
     @Override
     public boolean canConvert(Class<?> type) {
         return SUPPORTED_TYPES.contains(type);
     }
     
+    /**
+     * java.time values are immutable; the legacy java.util/java.sql dates are not, so they are never shared.
+     */
+    @Override
+    public boolean isContextFree(String value, Class<?> targetType) {
+        return targetType.getName().startsWith("java.time.");
+    }
+
     @Override
     public Object convert(String value, Class<?> targetType, Object originalValue, Object containingObject, String fieldName) {
         try {
             return switch (targetType.getName()) {
                 case "java.time.LocalDate" -> parseLocalDate(value);
                 case "java.time.LocalDateTime" -> parseLocalDateTime(value);
-                case "java.time.LocalTime" -> LocalTime.parse(value, DateTimeFormatter.ISO_LOCAL_TIME);
+                case "java.time.LocalTime" -> parseLocalTime(value);
                 case "java.time.Instant" -> parseInstant(value);
-                case "java.time.ZonedDateTime" -> ZonedDateTime.parse(value, DateTimeFormatter.ISO_ZONED_DATE_TIME);
-                case "java.time.OffsetDateTime" -> OffsetDateTime.parse(value, DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+                case "java.time.ZonedDateTime" -> TextShapes.startsWith(value, DATE_TIME_SHAPE)
+                        ? parse(value, DateTimeFormatter.ISO_ZONED_DATE_TIME, ZonedDateTime::from) : null;
+                case "java.time.OffsetDateTime" -> TextShapes.startsWith(value, DATE_TIME_SHAPE)
+                        ? parse(value, DateTimeFormatter.ISO_OFFSET_DATE_TIME, OffsetDateTime::from) : null;
                 case "java.time.Year" -> parseYear(value);
-                case "java.time.YearMonth" -> YearMonth.parse(value, DateTimeFormatter.ofPattern("yyyy-MM"));
-                case "java.time.MonthDay" -> MonthDay.parse(value, DateTimeFormatter.ofPattern("MM-dd"));
+                case "java.time.YearMonth" -> TextShapes.matches(value, "dddd-dd")
+                        ? parse(value, YEAR_MONTH, YearMonth::from) : null;
+                case "java.time.MonthDay" -> TextShapes.matches(value, "dd-dd")
+                        ? parse(value, MONTH_DAY, MonthDay::from) : null;
                 case "java.util.Date" -> parseUtilDate(value);
                 case "java.sql.Date" -> handleSqlDate(value);
                 case "java.sql.Timestamp" -> parseSqlTimestamp(value);
@@ -96,83 +111,86 @@ public class DateTimeConverter implements Converter {
     }
     
     private java.sql.Time handleSqlTime(String value) {
-        LocalTime localTime = LocalTime.parse(value);
-        return java.sql.Time.valueOf(localTime);
+        LocalTime localTime = parseLocalTime(value);
+        return localTime != null ? java.sql.Time.valueOf(localTime) : null;
     }
 
-
+    /**
+     * Parses "yyyy-MM-dd", or "dd/MM/yyyy" falling back to "MM/dd/yyyy" when the second field
+     * cannot be a month.
+     */
     private LocalDate parseLocalDate(String value) {
-        for (DateTimeFormatter formatter : DATE_FORMATTERS) {
-            try {
-                return LocalDate.parse(value, formatter);
-            } catch (DateTimeParseException ignored) {
-            }
+        if (TextShapes.matches(value, DATE_SHAPE)) {
+            return parse(value, ISO_DATE, LocalDate::from);
+        }
+        if (TextShapes.matches(value, "dd/dd/dddd")) {
+            return parse(value, TextShapes.digits(value, 3, 5) <= 12 ? DAY_FIRST_DATE : MONTH_FIRST_DATE, LocalDate::from);
         }
         return null;
     }
     
     private LocalDateTime parseLocalDateTime(String value) {
-        for (DateTimeFormatter formatter : DATE_TIME_FORMATTERS) {
-            try {
-                return LocalDateTime.parse(value, formatter);
-            } catch (DateTimeParseException ignored) {
-            }
+        if (TextShapes.matches(value, "dddd-dd-dd dd:dd:dd")) {
+            return parse(value, SPACED_DATE_TIME, LocalDateTime::from);
+        }
+        if (TextShapes.matches(value, "dddd-dd-ddTdd:dd:dd")) {
+            return parse(value, ISO_DATE_TIME_SECONDS, LocalDateTime::from);
+        }
+        if (TextShapes.startsWith(value, DATE_TIME_SHAPE)) {
+            return parse(value, DateTimeFormatter.ISO_LOCAL_DATE_TIME, LocalDateTime::from);
         }
         return null;
     }
+
+    private LocalTime parseLocalTime(String value) {
+        return TextShapes.startsWith(value, "dd:dd") ? parse(value, DateTimeFormatter.ISO_LOCAL_TIME, LocalTime::from) : null;
+    }
     
+    /**
+     * Parses an ISO instant, or epoch seconds (up to 10 digits) or milliseconds.
+     */
     private Instant parseInstant(String value) {
-        try {
-            return Instant.parse(value);
-        } catch (DateTimeParseException e) {
-            try {
-                long epoch = Long.parseLong(value);
-                return value.length() <= 10 ? 
-                    Instant.ofEpochSecond(epoch) : 
-                    Instant.ofEpochMilli(epoch);
-            } catch (NumberFormatException ex) {
-                return null;
-            }
+        if (TextShapes.startsWith(value, DATE_TIME_SHAPE)) {
+            return parse(value, DateTimeFormatter.ISO_INSTANT, Instant::from);
         }
+        if (!TextShapes.isInteger(value, Long.MIN_VALUE, Long.MAX_VALUE)) {
+            return null;
+        }
+        long epoch = Long.parseLong(value);
+        return value.length() <= 10 ? 
+            Instant.ofEpochSecond(epoch) : 
+            Instant.ofEpochMilli(epoch);
     }
     
     private Year parseYear(String value) {
-        try {
-            return Year.parse(value);
-        } catch (DateTimeParseException e) {
-            try {
-                return Year.of(Integer.parseInt(value));
-            } catch (NumberFormatException ex) {
-                return null;
-            }
-        }
+        return TextShapes.isInteger(value, Year.MIN_VALUE, Year.MAX_VALUE) ? Year.of(Integer.parseInt(value)) : null;
     }
     
     private java.util.Date parseUtilDate(String value) {
-        try {
-            Instant instant = Instant.parse(value);
-            return java.util.Date.from(instant);
-        } catch (DateTimeParseException e) {
-            try {
-                long epoch = Long.parseLong(value);
-                return new java.util.Date(epoch);
-            } catch (NumberFormatException ex) {
-                return null;
-            }
+        if (TextShapes.startsWith(value, DATE_TIME_SHAPE)) {
+            Instant instant = parse(value, DateTimeFormatter.ISO_INSTANT, Instant::from);
+            return instant != null ? java.util.Date.from(instant) : null;
         }
+        return TextShapes.isInteger(value, Long.MIN_VALUE, Long.MAX_VALUE) ? new java.util.Date(Long.parseLong(value)) : null;
     }
     
     private java.sql.Timestamp parseSqlTimestamp(String value) {
+        if (TextShapes.startsWith(value, DATE_TIME_SHAPE)) {
+            Instant instant = parse(value, DateTimeFormatter.ISO_INSTANT, Instant::from);
+            return instant != null ? java.sql.Timestamp.from(instant) : null;
+        }
+        return TextShapes.isInteger(value, Long.MIN_VALUE, Long.MAX_VALUE) ? new java.sql.Timestamp(Long.parseLong(value)) : null;
+    }
+
+    /**
+     * Parses a value whose shape already matches the formatter; only out-of-range fields,
+     * such as month 13, still end in a (caught) DateTimeParseException.
+     */
+    private static <T> T parse(String value, DateTimeFormatter formatter, TemporalQuery<T> query) {
         try {
-            Instant instant = Instant.parse(value);
-            return java.sql.Timestamp.from(instant);
-        } catch (Exception e) {
-            try {
-                long epoch = Long.parseLong(value);
-                return new java.sql.Timestamp(epoch);
-            } catch (NumberFormatException ex) {
-                return null;
-            }
+            return formatter.parse(value, query);
+        } catch (DateTimeParseException e) {
+            return null;
         }
     }
-}
\ No newline at end of file
+}
@@ -6,8 +6,11 @@
  */
 package com.javamsdt.masking.maskme.implemintation.converter;
 
-import com.javamsdt.masking.maskme.api.converter.Converter;
+import com.javamsdt.masking.maskme.api.converter.DoubleMaskConverter;
 import com.javamsdt.masking.maskme.api.converter.FieldAccessUtil;
+import com.javamsdt.masking.maskme.api.converter.IntMaskConverter;
+import com.javamsdt.masking.maskme.api.converter.LongMaskConverter;
+import com.javamsdt.masking.maskme.api.converter.PlaceholderTemplate;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -28,6 +31,11 @@ import java.util.Set;
  * - Blank maskme value triggers rounding to nearest 50
  * - Example: 123.45 becomes 100.00, 175.30 becomes 200.00
  * 
+ * <p>{@code int}, {@code long} and {@code double} fields are converted without boxing through
+ * {@link IntMaskConverter}, {@link LongMaskConverter} and {@link DoubleMaskConverter}.
+ * Values are checked with {@link TextShapes} before parsing, so a non-numeric maskme value
+ * yields the default without throwing a NumberFormatException.
+ * 
  * <p>Use cases:
  * - Convert "0" to Integer.valueOf(0)
  * - Convert "123.45" to new BigDecimal("123.45")
@@ -37,7 +45,7 @@ import java.util.Set;
  * @author Ahmed Samy
  * @since 1.0.0
  */
-public class NumberConverter implements Converter {
+public class NumberConverter implements IntMaskConverter, LongMaskConverter, DoubleMaskConverter {
 
     private static final BigDecimal ROUNDER = new BigDecimal("50");
 
@@ -56,34 +64,74 @@ public class NumberConverter implements Converter {
         return SUPPORTED_TYPES.contains(type);
     }
     
+    /**
+     * Numbers are immutable; only placeholders and blank BigDecimal rounding depend on the field.
+     */
+    @Override
+    public boolean isContextFree(String value, Class<?> targetType) {
+        return !FieldAccessUtil.hasFieldPlaceholders(value) && !(targetType == BigDecimal.class && value.isBlank());
+    }
+
     @Override
     public Object convert(String value, Class<?> targetType, Object originalValue, Object containingObject, String fieldName) {
-        // Handle context placeholders if needed for future enhancements
-        String processedValue = FieldAccessUtil.hasFieldPlaceholders(value) ?
-            FieldAccessUtil.replaceFieldPlaceholders(value, containingObject) : value;
+        // Handle context placeholders
+        String processedValue = value != null ? PlaceholderTemplate.of(value).render(containingObject) : null;
             
         // Handle null/blank maskme value - manipulate original value
         if (processedValue != null && processedValue.isBlank() && targetType == BigDecimal.class && originalValue instanceof BigDecimal original) {
             return roundToNearest50(original);
         }
         
+        if (processedValue == null) {
+            return getDefaultValue(targetType);
+        }
+
         try {
-            return switch (targetType.getName()) {
-                case "java.lang.Byte", "byte" -> Byte.parseByte(processedValue);
-                case "java.lang.Short", "short" -> Short.parseShort(processedValue);
-                case "java.lang.Integer", "int" -> Integer.parseInt(processedValue);
-                case "java.lang.Long", "long" -> Long.parseLong(processedValue);
-                case "java.lang.Float", "float" -> Float.parseFloat(processedValue);
-                case "java.lang.Double", "double" -> Double.parseDouble(processedValue);
-                case "java.math.BigInteger" -> new BigInteger(processedValue);
+            Object result = switch (targetType.getName()) {
+                case "java.lang.Byte", "byte" -> TextShapes.isInteger(processedValue, Byte.MIN_VALUE, Byte.MAX_VALUE)
+                        ? Byte.parseByte(processedValue) : null;
+                case "java.lang.Short", "short" -> TextShapes.isInteger(processedValue, Short.MIN_VALUE, Short.MAX_VALUE)
+                        ? Short.parseShort(processedValue) : null;
+                case "java.lang.Integer", "int" -> TextShapes.isInteger(processedValue, Integer.MIN_VALUE, Integer.MAX_VALUE)
+                        ? Integer.parseInt(processedValue) : null;
+                case "java.lang.Long", "long" -> TextShapes.isInteger(processedValue, Long.MIN_VALUE, Long.MAX_VALUE)
+                        ? Long.parseLong(processedValue) : null;
+                case "java.lang.Float", "float" -> TextShapes.isFloatingPoint(processedValue)
+                        ? Float.parseFloat(processedValue) : null;
+                case "java.lang.Double", "double" -> TextShapes.isFloatingPoint(processedValue)
+                        ? Double.parseDouble(processedValue) : null;
+                case "java.math.BigInteger" -> TextShapes.isBigInteger(processedValue)
+                        ? new BigInteger(processedValue) : null;
                 case "java.math.BigDecimal" -> handleBigDecimalConversion(processedValue, targetType, originalValue);
                 default -> null;
             };
+            return result != null ? result : getDefaultValue(targetType);
         } catch (NumberFormatException e) {
+            // Only reached for values the shape checks accept but the parser still rejects
             return getDefaultValue(targetType);
         }
     }
 
+    @Override
+    public int convertInt(String value, int originalValue, Object containingObject, String fieldName) {
+        String processedValue = PlaceholderTemplate.of(value).render(containingObject);
+        return TextShapes.isInteger(processedValue, Integer.MIN_VALUE, Integer.MAX_VALUE)
+                ? Integer.parseInt(processedValue) : 0;
+    }
+
+    @Override
+    public long convertLong(String value, long originalValue, Object containingObject, String fieldName) {
+        String processedValue = PlaceholderTemplate.of(value).render(containingObject);
+        return TextShapes.isInteger(processedValue, Long.MIN_VALUE, Long.MAX_VALUE)
+                ? Long.parseLong(processedValue) : 0L;
+    }
+
+    @Override
+    public double convertDouble(String value, double originalValue, Object containingObject, String fieldName) {
+        String processedValue = PlaceholderTemplate.of(value).render(containingObject);
+        return TextShapes.isFloatingPoint(processedValue) ? Double.parseDouble(processedValue) : 0.0;
+    }
+
     /**
      * Handles BigDecimal conversion with special blank maskme behavior.
      * When maskme value is blank, rounds original BigDecimal to nearest 50.
@@ -91,13 +139,13 @@ public class NumberConverter implements Converter {
      * @param value the string maskme value
      * @param targetType the BigDecimal target type
      * @param originalValue the original BigDecimal value
-     * @return converted BigDecimal or rounded original
+     * @return converted BigDecimal, rounded original, or null when the value is not a decimal
      */
     private BigDecimal handleBigDecimalConversion(String value, Class<?> targetType, Object originalValue) {
         if (value.isBlank() && targetType == BigDecimal.class && originalValue instanceof BigDecimal original) {
             return roundToNearest50(original);
         }
-        return new BigDecimal(value);
+        return TextShapes.isDecimal(value) ? new BigDecimal(value) : null;
     }
 
     /**
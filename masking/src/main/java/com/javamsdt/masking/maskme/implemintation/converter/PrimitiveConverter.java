@@ -8,6 +8,7 @@ package com.javamsdt.masking.maskme.implemintation.converter;
 
 import com.javamsdt.masking.maskme.api.converter.Converter;
 import com.javamsdt.masking.maskme.api.converter.FieldAccessUtil;
+import com.javamsdt.masking.maskme.api.converter.PlaceholderTemplate;
 
 import java.util.Set;
 
@@ -44,11 +45,18 @@ public class PrimitiveConverter implements Converter {
         return SUPPORTED_TYPES.contains(type);
     }
     
+    /**
+     * Characters and booleans without placeholders are context-free; strings depend on the field name.
+     */
+    @Override
+    public boolean isContextFree(String value, Class<?> targetType) {
+        return targetType != String.class && !FieldAccessUtil.hasFieldPlaceholders(value);
+    }
+
     @Override
     public Object convert(String value, Class<?> targetType, Object originalValue, Object containingObject, String fieldName) {
         // Handle context placeholders first
-        String processedValue = FieldAccessUtil.hasFieldPlaceholders(value) ?
-            FieldAccessUtil.replaceFieldPlaceholders(value, containingObject) : value;
+        String processedValue = value != null ? PlaceholderTemplate.of(value).render(containingObject) : null;
         
         return switch (targetType.getName()) {
             case "java.lang.String" -> handleStringConversion(processedValue, originalValue, fieldName);
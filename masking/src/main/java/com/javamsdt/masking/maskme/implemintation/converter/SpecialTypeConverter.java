@@ -13,8 +13,11 @@ import java.net.URI;
 import java.net.URL;
 import java.nio.file.Path;
 import java.util.Currency;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
 
 /**
@@ -36,6 +39,8 @@ import java.util.UUID;
  * - UUID parsing from string representation
  * - Array conversion creates single-element arrays
  * - Locale parsing from language tags
+ * - Enum constants and currencies are looked up in precomputed tables, and UUIDs, URLs
+ *   and int arrays are shape-checked first, so unmatched values return null without throwing
  * 
  * <p>Use cases:
  * - Convert "550e8400-e29b-41d4-a716-446655440000" to UUID
@@ -53,11 +58,37 @@ public class SpecialTypeConverter implements Converter {
         Locale.class, Currency.class, Class.class
     );
     
+    /**
+     * Enum constants by case-insensitive name, built once per enum type.
+     */
+    private static final ClassValue<Map<String, Object>> ENUM_CONSTANTS = new ClassValue<>() {
+        @Override
+        protected Map<String, Object> computeValue(Class<?> type) {
+            Map<String, Object> constants = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            for (Enum<?> constant : type.asSubclass(Enum.class).getEnumConstants()) {
+                String name = constant.name();
+                // Names differing only in case: the upper-case one wins, as with Enum.valueOf(value.toUpperCase())
+                if (!constants.containsKey(name) || name.equals(name.toUpperCase())) {
+                    constants.put(name, constant);
+                }
+            }
+            return constants;
+        }
+    };
+
     @Override
     public boolean canConvert(Class<?> type) {
         return SUPPORTED_TYPES.contains(type) || type.isEnum() || type.isArray();
     }
 
+    /**
+     * All supported types except arrays are immutable and ignore the field context.
+     */
+    @Override
+    public boolean isContextFree(String value, Class<?> targetType) {
+        return !targetType.isArray();
+    }
+
     @Override
     public Object convert(String value, Class<?> targetType, Object originalValue, Object containingObject, String fieldName) {
         try {
@@ -70,13 +101,13 @@ public class SpecialTypeConverter implements Converter {
             }
             
             return switch (targetType.getName()) {
-                case "java.util.UUID" -> UUID.fromString(value);
-                case "java.net.URL" -> new URL(value);
+                case "java.util.UUID" -> isUuid(value) ? UUID.fromString(value) : null;
+                case "java.net.URL" -> value.indexOf(':') > 0 ? new URL(value) : null;
                 case "java.net.URI" -> new URI(value);
                 case "java.io.File" -> new File(value);
                 case "java.nio.file.Path" -> Path.of(value);
                 case "java.util.Locale" -> Locale.forLanguageTag(value);
-                case "java.util.Currency" -> Currency.getInstance(value);
+                case "java.util.Currency" -> Currencies.BY_CODE.get(value);
                 case "java.lang.Class" -> Class.forName(value);
                 default -> null;
             };
@@ -86,27 +117,44 @@ public class SpecialTypeConverter implements Converter {
     }
 
     /**
-     * Converts enum values with case-insensitive matching.
-     * First tries exact match, then falls back to case-insensitive search.
+     * Converts enum values with case-insensitive matching through the enum's precomputed
+     * name table.
      * 
      * @param value the string value to convert to enum
      * @param enumType the target enum class
      * @return matching enum constant or null if not found
      */
-    @SuppressWarnings("unchecked")
     private Object convertEnum(String value, Class<?> enumType) {
-        try {
-            Class<Enum> enumClass = (Class<Enum>) enumType;
-            return Enum.valueOf(enumClass, value.toUpperCase());
-        } catch (IllegalArgumentException e) {
-            // Try case-insensitive match
-            for (Enum<?> constant : enumType.asSubclass(Enum.class).getEnumConstants()) {
-                if (constant.name().equalsIgnoreCase(value)) {
-                    return constant;
+        return ENUM_CONSTANTS.get(enumType).get(value);
+    }
+
+    /**
+     * Checks the layout {@link UUID#fromString} accepts: at most 36 characters in five
+     * non-empty groups of hex digits separated by dashes.
+     * 
+     * @param value the string value to check
+     * @return true if the value can be parsed as a UUID
+     */
+    private static boolean isUuid(String value) {
+        if (value.length() > 36) {
+            return false;
+        }
+        int dashes = 0;
+        int groupLength = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '-') {
+                if (groupLength == 0 || ++dashes > 4) {
+                    return false;
                 }
+                groupLength = 0;
+            } else if (Character.digit(c, 16) >= 0) {
+                groupLength++;
+            } else {
+                return false;
             }
-            return null;
         }
+        return dashes == 4 && groupLength > 0;
     }
     
     /**
@@ -125,15 +173,26 @@ public class SpecialTypeConverter implements Converter {
         }
         
         if (componentType == int.class) {
-            try {
-                int intValue = Integer.parseInt(value);
-                return new int[]{intValue};
-            } catch (NumberFormatException e) {
-                return new int[0];
-            }
+            return TextShapes.isInteger(value, Integer.MIN_VALUE, Integer.MAX_VALUE)
+                    ? new int[]{Integer.parseInt(value)}
+                    : new int[0];
         }
         
         // Add more array types as needed
         return null;
     }
-}
\ No newline at end of file
+
+    /**
+     * Currencies by ISO 4217 code, loaded on the first Currency conversion.
+     */
+    private static final class Currencies {
+
+        private static final Map<String, Currency> BY_CODE = new HashMap<>();
+
+        static {
+            for (Currency currency : Currency.getAvailableCurrencies()) {
+                BY_CODE.put(currency.getCurrencyCode(), currency);
+            }
+        }
+    }
+}
@@ -0,0 +1,289 @@
+/**
+ * Copyright (c) 2025: Ahmed Samy, All rights reserved.
+ * LinkedIn: https://www.linkedin.com/in/java-msdt/
+ * GitHub: https://github.com/JAVA-MSDT
+ * Email: serenitydiver@hotmail.com
+ */
+package com.javamsdt.masking.maskme.implemintation.converter;
+
+import com.javamsdt.masking.maskme.api.masking.MaskMeException;
+
+/**
+ * Classifies mask values by their textual shape before the default converters parse them.
+ * A value that passes a check here is accepted by the matching JDK parser, so values such as
+ * {@code "****"} are rejected without throwing and filling in a stack trace.
+ *
+ * <p>Shapes:
+ * - Integers: optional sign and decimal digits within a range, as accepted by {@link Long#parseLong}
+ * - Decimals: the {@link java.math.BigDecimal} grammar (digits, fraction, exponent)
+ * - Floating point: the {@link Double#parseDouble} grammar, including NaN, Infinity and hex floats
+ * - Patterns: fixed layouts such as {@code "dddd-dd-dd"}, where {@code d} is an ASCII digit
+ *
+ * <p>Use cases:
+ * - Return the default value for a non-numeric maskme value without a NumberFormatException
+ * - Pick the one date formatter that matches a value instead of trying each in turn
+ * - Tell epoch timestamps from ISO instants
+ *
+ * @author Ahmed Samy
+ * @since 1.1.0
+ */
+final class TextShapes {
+
+    private TextShapes() {
+        throw new MaskMeException("TextShapes is not to be initialized");
+    }
+
+    /**
+     * Checks for an optional sign followed by decimal digits whose value lies in {@code [min, max]}.
+     * Uses the same overflow checks as {@link Long#parseLong}; {@code min} must be negative.
+     *
+     * @param value the text to check
+     * @param min the smallest accepted value
+     * @param max the largest accepted value
+     * @return true when {@code Long.parseLong(value)} succeeds and is within the range
+     */
+    static boolean isInteger(String value, long min, long max) {
+        int length = value.length();
+        if (length == 0) {
+            return false;
+        }
+        int i = 0;
+        char first = value.charAt(0);
+        boolean negative = first == '-';
+        if (negative || first == '+') {
+            if (length == 1) {
+                return false;
+            }
+            i = 1;
+        }
+        // Accumulate negatively, so the most negative value fits
+        long limit = negative ? min : -max;
+        long multiplyMin = limit / 10;
+        long result = 0;
+        for (; i < length; i++) {
+            int digit = Character.digit(value.charAt(i), 10);
+            if (digit < 0 || result < multiplyMin) {
+                return false;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return false;
+            }
+            result -= digit;
+        }
+        return true;
+    }
+
+    /**
+     * Checks for an optional sign followed by at least one decimal digit, of any length.
+     *
+     * @param value the text to check
+     * @return true when {@code new BigInteger(value)} succeeds
+     */
+    static boolean isBigInteger(String value) {
+        int i = skipSign(value, 0);
+        if (i == value.length()) {
+            return false;
+        }
+        for (; i < value.length(); i++) {
+            if (!Character.isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks for the {@link java.math.BigDecimal} string grammar: an optional sign, digits with an
+     * optional fraction (at least one digit in total) and an optional exponent.
+     *
+     * @param value the text to check
+     * @return true when {@code new BigDecimal(value)} succeeds
+     */
+    static boolean isDecimal(String value) {
+        int length = value.length();
+        int i = skipSign(value, 0);
+        int digits = 0;
+        boolean point = false;
+        for (; i < length; i++) {
+            char c = value.charAt(i);
+            if (Character.isDigit(c)) {
+                digits++;
+            } else if (c == '.' && !point) {
+                point = true;
+            } else {
+                break;
+            }
+        }
+        if (digits == 0) {
+            return false;
+        }
+        if (i == length) {
+            return true;
+        }
+        char exponent = value.charAt(i);
+        if (exponent != 'e' && exponent != 'E') {
+            return false;
+        }
+        int start = skipSign(value, i + 1);
+        // Longer exponents can overflow the int scale
+        return start < length && length - start <= 9 && isDigits(value, start, length);
+    }
+
+    /**
+     * Checks for the {@link Double#parseDouble} grammar: surrounding whitespace, an optional sign,
+     * then {@code NaN}, {@code Infinity}, a hex float or a decimal with an optional exponent and an
+     * optional {@code f}/{@code d} suffix.
+     *
+     * @param value the text to check
+     * @return true when {@code Double.parseDouble(value)} succeeds
+     */
+    static boolean isFloatingPoint(String value) {
+        int end = value.length();
+        int i = 0;
+        while (i < end && value.charAt(i) <= ' ') {
+            i++;
+        }
+        while (end > i && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        i = skipSign(value, i);
+        if (i == end) {
+            return false;
+        }
+        if (value.startsWith("NaN", i) || value.startsWith("Infinity", i)) {
+            return end - i == (value.charAt(i) == 'N' ? 3 : 8);
+        }
+        if (value.startsWith("0x", i) || value.startsWith("0X", i)) {
+            return isHexFloat(value, i + 2, end);
+        }
+        char last = value.charAt(end - 1);
+        if (last == 'f' || last == 'F' || last == 'd' || last == 'D') {
+            end--;
+        }
+        int digits = 0;
+        boolean point = false;
+        for (; i < end; i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits++;
+            } else if (c == '.' && !point) {
+                point = true;
+            } else {
+                break;
+            }
+        }
+        if (digits == 0) {
+            return false;
+        }
+        if (i == end) {
+            return true;
+        }
+        char exponent = value.charAt(i);
+        if (exponent != 'e' && exponent != 'E') {
+            return false;
+        }
+        int start = skipSign(value, i + 1);
+        return start < end && isAsciiDigits(value, start, end);
+    }
+
+    /**
+     * Checks that the value has the layout of the pattern, where {@code d} stands for an ASCII
+     * digit and every other character must match literally.
+     *
+     * @param value the text to check
+     * @param pattern the layout, e.g. {@code "dd/dd/dddd"}
+     * @return true when the whole value matches the pattern
+     */
+    static boolean matches(String value, String pattern) {
+        return value.length() == pattern.length() && startsWith(value, pattern);
+    }
+
+    /**
+     * Checks that the value begins with the layout of the pattern, see {@link #matches}.
+     *
+     * @param value the text to check
+     * @param pattern the layout of the value's prefix
+     * @return true when the value's prefix matches the pattern
+     */
+    static boolean startsWith(String value, String pattern) {
+        if (value.length() < pattern.length()) {
+            return false;
+        }
+        for (int i = 0; i < pattern.length(); i++) {
+            char expected = pattern.charAt(i);
+            char c = value.charAt(i);
+            if (expected == 'd' ? c < '0' || c > '9' : c != expected) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads the ASCII digits in {@code [from, to)} as a number; the range must have been checked by
+     * {@link #matches} or {@link #startsWith}.
+     */
+    static int digits(String value, int from, int to) {
+        int result = 0;
+        for (int i = from; i < to; i++) {
+            result = result * 10 + (value.charAt(i) - '0');
+        }
+        return result;
+    }
+
+    private static boolean isHexFloat(String value, int from, int end) {
+        // Hex floats need the binary exponent: "0x<hex digits>[.<hex digits>]p<exponent>[f|d]"
+        char last = value.charAt(end - 1);
+        if (last == 'f' || last == 'F' || last == 'd' || last == 'D') {
+            end--;
+        }
+        int hexDigits = 0;
+        boolean point = false;
+        int i = from;
+        for (; i < end; i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9' || c >= 'a' && c <= 'f' || c >= 'A' && c <= 'F') {
+                hexDigits++;
+            } else if (c == '.' && !point) {
+                point = true;
+            } else {
+                break;
+            }
+        }
+        if (hexDigits == 0 || i == end || value.charAt(i) != 'p' && value.charAt(i) != 'P') {
+            return false;
+        }
+        int start = skipSign(value, i + 1);
+        return start < end && isAsciiDigits(value, start, end);
+    }
+
+    private static int skipSign(String value, int index) {
+        if (index < value.length()) {
+            char c = value.charAt(index);
+            if (c == '-' || c == '+') {
+                return index + 1;
+            }
+        }
+        return index;
+    }
+
+    private static boolean isDigits(String value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (!Character.isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAsciiDigits(String value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
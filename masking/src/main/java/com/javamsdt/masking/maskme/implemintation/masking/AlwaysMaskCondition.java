@@ -7,6 +7,7 @@
 package com.javamsdt.masking.maskme.implemintation.masking;
 
 
+import com.javamsdt.masking.maskme.api.masking.ConditionScope;
 import com.javamsdt.masking.maskme.api.masking.MaskCondition;
 
 public class AlwaysMaskCondition implements MaskCondition {
@@ -14,4 +15,9 @@ public class AlwaysMaskCondition implements MaskCondition {
     public boolean shouldMask(Object fieldValue, Object containingObject) {
         return true;
     }
+
+    @Override
+    public ConditionScope scope() {
+        return ConditionScope.CONSTANT;
+    }
 }
@@ -6,6 +6,7 @@
  */
 package com.javamsdt.masking.maskme.implemintation.masking;
 
+import com.javamsdt.masking.maskme.api.masking.ConditionScope;
 import com.javamsdt.masking.maskme.api.masking.MaskCondition;
 import com.javamsdt.masking.service.UserService;
 import lombok.RequiredArgsConstructor;
@@ -31,6 +32,11 @@ public class MaskOnInput implements MaskCondition {
         return input != null && input.equalsIgnoreCase(expectedInput);
     }
 
+    @Override
+    public ConditionScope scope() {
+        return ConditionScope.PER_REQUEST;
+    }
+
     @Override
     public void setInput(Map<String, Object> input) {
         if (!input.isEmpty()) {
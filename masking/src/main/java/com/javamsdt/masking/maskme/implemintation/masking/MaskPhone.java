@@ -6,6 +6,7 @@
  */
 package com.javamsdt.masking.maskme.implemintation.masking;
 
+import com.javamsdt.masking.maskme.api.masking.ConditionScope;
 import com.javamsdt.masking.maskme.api.masking.MaskCondition;
 import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
@@ -26,6 +27,11 @@ public class MaskPhone implements MaskCondition {
         return maskPhoneFlag.equalsIgnoreCase(expectedMaskPhone);
     }
 
+    @Override
+    public ConditionScope scope() {
+        return ConditionScope.PER_REQUEST;
+    }
+
     @Override
     public void setInput(Map<String, Object> input) {
         if (!input.isEmpty()) {
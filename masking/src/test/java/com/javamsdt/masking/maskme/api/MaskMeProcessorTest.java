@@ -1,7 +1,14 @@
 package com.javamsdt.masking.maskme.api;
 
+import com.javamsdt.masking.maskme.api.converter.Converter;
+import com.javamsdt.masking.maskme.api.converter.ConverterRegistry;
+import com.javamsdt.masking.maskme.api.masking.ConditionScope;
+import com.javamsdt.masking.maskme.api.masking.MaskCondition;
+import com.javamsdt.masking.maskme.api.masking.MaskInPlace;
 import com.javamsdt.masking.maskme.api.masking.MaskMe;
+import com.javamsdt.masking.maskme.api.masking.MaskMeException;
 import com.javamsdt.masking.maskme.api.masking.MaskProcessor;
+import com.javamsdt.masking.maskme.api.masking.MaskingContext;
 import com.javamsdt.masking.maskme.implemintation.masking.AlwaysMaskCondition;
 import com.javamsdt.masking.maskme.implemintation.masking.MaskPhone;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,10 +18,31 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("MaskProcessor Tests")
@@ -45,6 +73,560 @@ class MaskMeProcessorTest {
             assertNotNull(result1);
             assertNotNull(result2);
         }
+
+        @Test
+        @DisplayName("should stop at a circular reference deeper than the scanned path")
+        void shouldStopAtDeepCircularReference() {
+            // Given
+            ChainNode head = new ChainNode("node-0");
+            ChainNode tail = head;
+            for (int i = 1; i < 40; i++) {
+                tail.next = new ChainNode("node-" + i);
+                tail = tail.next;
+            }
+            tail.next = head;
+
+            // When
+            ChainNode result = processor.process(head);
+
+            // Then
+            ChainNode current = result;
+            for (int i = 0; i < 40; i++) {
+                assertNotSame(head, current);
+                assertEquals("****[][]", current.name);
+                current = current.next;
+            }
+            assertSame(head, current);
+        }
+
+        @Test
+        @DisplayName("should mask an object reached twice once and share the result")
+        void shouldMaskSharedObjectOnce() {
+            // Given
+            TestClass shared = new TestClass("John", "john@test.com");
+            SharedPair pair = new SharedPair(shared, shared);
+
+            // When
+            SharedPair result = processor.process(pair);
+
+            // Then
+            assertEquals("****[][]", result.left().getName());
+            assertSame(result.left(), result.right());
+        }
+
+        @Test
+        @DisplayName("should share the masked object across the elements of a batch")
+        void shouldShareMaskedObjectAcrossBatch() {
+            // Given
+            TestClass shared = new TestClass("John", "john@test.com");
+            List<SharedPair> pairs = List.of(new SharedPair(shared, null), new SharedPair(null, shared));
+
+            // When
+            List<SharedPair> result = processor.processAll(pairs);
+
+            // Then
+            assertEquals("****[][]", result.get(0).left().getName());
+            assertSame(result.get(0).left(), result.get(1).right());
+        }
+
+        @Test
+        @DisplayName("should share an object reached again after many other embedded objects")
+        void shouldShareObjectReachedAfterManyOthers() {
+            // Given
+            TestClass shared = new TestClass("John", "john@test.com");
+            List<SharedPair> pairs = new ArrayList<>();
+            pairs.add(new SharedPair(shared, null));
+            for (int i = 0; i < 20; i++) {
+                pairs.add(new SharedPair(new TestClass("user-" + i, "a"), null));
+            }
+            pairs.add(new SharedPair(null, shared));
+
+            // When
+            List<SharedPair> result = processor.processAll(pairs);
+
+            // Then
+            assertNotSame(shared, result.get(0).left());
+            assertSame(result.get(0).left(), result.get(21).right());
+        }
+
+        @Test
+        @DisplayName("should not reuse a result cut at a circular reference")
+        void shouldNotReuseResultCutAtCircularReference() {
+            // Given
+            ChainNode first = new ChainNode("first");
+            ChainNode second = new ChainNode("second");
+            first.next = second;
+            second.next = first;
+
+            // When
+            List<ChainNode> result = processor.processAll(List.of(first, second));
+
+            // Then
+            ChainNode maskedSecond = result.get(1);
+            assertEquals("****[][]", maskedSecond.name);
+            assertEquals("****[][]", maskedSecond.next.name);
+            assertSame(second, maskedSecond.next.next);
+        }
+
+        @Test
+        @DisplayName("should mask annotated record component and keep others")
+        void shouldMaskAnnotatedRecordComponent() {
+            // Given
+            TestRecord testRecord = new TestRecord("John", "john@test.com");
+
+            // When
+            TestRecord result = processor.process(testRecord);
+
+            // Then
+            assertEquals("****[][]", result.name());
+            assertEquals("john@test.com", result.email());
+        }
+
+        @Test
+        @DisplayName("should return a masked copy of a regular class")
+        void shouldReturnMaskedCopyOfRegularClass() {
+            // Given
+            TestClass testClass = new TestClass("John", "john@test.com");
+
+            // When
+            TestClass result = processor.process(testClass);
+
+            // Then
+            assertNotSame(testClass, result);
+            assertEquals("****[][]", result.getName());
+            assertEquals("john@test.com", result.getEmail());
+            assertEquals("John", testClass.getName());
+        }
+
+        @Test
+        @DisplayName("should produce the same result when the cached plan is reused")
+        void shouldProduceSameResultWhenPlanIsReused() {
+            // Given
+            NestedTestClass first = new NestedTestClass("Outer", new TestClass("John", "john@test.com"));
+            NestedTestClass second = new NestedTestClass("Outer", new TestClass("Jane", "jane@test.com"));
+
+            // When
+            NestedTestClass firstResult = processor.process(first);
+            NestedTestClass secondResult = processor.process(second);
+
+            // Then
+            assertEquals("****[][]", firstResult.getName());
+            assertEquals("****[][]", firstResult.getTestClass().getName());
+            assertEquals("****[][]", secondResult.getName());
+            assertEquals("****[][]", secondResult.getTestClass().getName());
+            assertEquals("jane@test.com", secondResult.getTestClass().getEmail());
+        }
+    }
+
+    @Nested
+    @DisplayName("processAll method")
+    class ProcessAllMethod {
+
+        @Test
+        @DisplayName("should process small batches sequentially and return an unmodifiable list")
+        void shouldProcessSmallBatchSequentially() {
+            // Given
+            List<TestRecord> input = List.of(new TestRecord("John", "a"), new TestRecord("Jane", "b"));
+
+            // When
+            List<TestRecord> result = processor.processAll(input);
+
+            // Then
+            assertEquals("****[][]", result.get(0).name());
+            assertEquals("b", result.get(1).email());
+            assertThrows(UnsupportedOperationException.class, () -> result.add(null));
+            assertNull(processor.processAll(null));
+        }
+
+        @Test
+        @DisplayName("should reject a threshold below one")
+        void shouldRejectInvalidThreshold() {
+            // Then
+            assertThrows(MaskMeException.class, () -> processor.setParallelThreshold(0));
+            assertEquals(MaskProcessor.DEFAULT_PARALLEL_THRESHOLD, processor.getParallelThreshold());
+        }
+    }
+
+    @Nested
+    @DisplayName("container traversal")
+    class ContainerTraversal {
+
+        @Test
+        @DisplayName("should traverse a list passed directly to process")
+        void shouldProcessTopLevelList() {
+            // Given
+            List<TestRecord> input = new ArrayList<>(List.of(new TestRecord("John", "john@test.com")));
+            List<String> unchanged = List.of("a", "b");
+
+            // When
+            List<TestRecord> result = processor.process(input);
+
+            // Then
+            assertInstanceOf(ArrayList.class, result);
+            assertEquals("****[][]", result.getFirst().name());
+            assertSame(unchanged, processor.process(unchanged));
+        }
+
+        @Test
+        @DisplayName("should keep JDK immutable lists unmodifiable")
+        void shouldKeepImmutableListsUnmodifiable() {
+            // Given
+            List<TestRecord> input = List.of(new TestRecord("John", "john@test.com"));
+
+            // When
+            List<TestRecord> result = processor.process(input);
+
+            // Then
+            assertThrows(UnsupportedOperationException.class, () -> result.add(null));
+            assertEquals("****[][]", result.getFirst().name());
+        }
+
+        @Test
+        @DisplayName("should mask lazy list elements only when they are read")
+        void shouldMaskLazilyOnAccess() {
+            // Given
+            List<TestRecord> input = List.of(new TestRecord("John", "a"), new TestRecord("Jane", "b"));
+
+            // When
+            List<TestRecord> view = processor.processLazily(input);
+            TestRecord second = view.get(1);
+
+            // Then
+            assertEquals(2, view.size());
+            assertEquals("****[][]", second.name());
+            assertSame(second, view.get(1));
+            assertThrows(UnsupportedOperationException.class, () -> view.add(null));
+        }
+
+        @Test
+        @DisplayName("should mask lazy map values and keep keys")
+        void shouldMaskLazyMapValues() {
+            // Given
+            Map<String, TestRecord> input = Map.of("john", new TestRecord("John", "a"));
+
+            // When
+            Map<String, TestRecord> view = processor.processLazily(input);
+
+            // Then
+            assertEquals("****[][]", view.get("john").name());
+            assertEquals("****[][]", view.values().iterator().next().name());
+            assertEquals("john", view.keySet().iterator().next());
+        }
+    }
+
+    @Nested
+    @DisplayName("condition scopes")
+    class ConditionScopes {
+
+        @Test
+        @DisplayName("should evaluate per-request conditions once per process call")
+        void shouldEvaluatePerRequestConditionsOncePerCall() {
+            // Given
+            CountingRequestCondition.EVALUATIONS.set(0);
+            processor.setConditionInput(CountingRequestCondition.class, Map.of("mask", "true"));
+            RequestScopedRecord inner = new RequestScopedRecord("inner", "inner@test.com", null);
+            RequestScopedRecord outer = new RequestScopedRecord("outer", "outer@test.com", inner);
+
+            // When
+            RequestScopedRecord first = processor.process(outer);
+            RequestScopedRecord second = processor.process(outer);
+
+            // Then
+            assertEquals("****", first.code());
+            assertEquals("****", first.nested().code());
+            assertEquals("****", second.nested().code());
+            assertEquals(2, CountingRequestCondition.EVALUATIONS.get());
+        }
+    }
+
+    @Nested
+    @DisplayName("process with context")
+    class ProcessWithContext {
+
+        @Test
+        @DisplayName("should apply context inputs without storing them on the thread")
+        void shouldApplyContextInputs() {
+            // Given
+            MaskingContext context = MaskingContext.empty()
+                    .withInput(CountingRequestCondition.class, Map.of("mask", "true"));
+            RequestScopedRecord input = new RequestScopedRecord("a", "a@test.com", null);
+
+            // When
+            RequestScopedRecord withContext = processor.process(input, context);
+            RequestScopedRecord withoutContext = processor.process(input);
+
+            // Then
+            assertEquals("****", withContext.code());
+            assertEquals("a", withoutContext.code());
+        }
+
+        @Test
+        @DisplayName("should keep contexts of concurrent virtual threads apart")
+        void shouldIsolateConcurrentContexts() throws InterruptedException {
+            // Given
+            MaskingContext masking = MaskingContext.empty()
+                    .withInput(CountingRequestCondition.class, Map.of("mask", "true"));
+            MaskingContext plain = MaskingContext.empty()
+                    .withInput(CountingRequestCondition.class, Map.of("mask", "false"));
+            RequestScopedRecord input = new RequestScopedRecord("a", "a@test.com", null);
+            RequestScopedRecord[] results = new RequestScopedRecord[2];
+
+            // When
+            Thread first = Thread.ofVirtual().start(() -> results[0] = processor.process(input, masking));
+            Thread second = Thread.ofVirtual().start(() -> results[1] = processor.process(input, plain));
+            first.join();
+            second.join();
+
+            // Then
+            assertEquals("****", results[0].code());
+            assertEquals("a", results[1].code());
+        }
+
+        @Test
+        @DisplayName("should evaluate per-request conditions once per batch with a context")
+        void shouldProcessBatchWithContext() {
+            // Given
+            CountingRequestCondition.EVALUATIONS.set(0);
+            MaskingContext context = MaskingContext.empty()
+                    .withInput(CountingRequestCondition.class, Map.of("mask", "true"));
+
+            // When
+            List<RequestScopedRecord> result = processor.processAll(List.of(
+                    new RequestScopedRecord("a", "a@test.com", null),
+                    new RequestScopedRecord("b", "b@test.com", null)), context);
+
+            // Then
+            assertEquals("****", result.get(1).code());
+            assertEquals(1, CountingRequestCondition.EVALUATIONS.get());
+        }
+
+        @Test
+        @DisplayName("should reject a null context")
+        void shouldRejectNullContext() {
+            // Then
+            assertThrows(NullPointerException.class, () -> processor.process(new TestRecord("John", "a"), null));
+        }
+    }
+
+    @Nested
+    @DisplayName("processInPlace method")
+    class ProcessInPlaceMethod {
+
+        @Test
+        @DisplayName("should overwrite masked fields on the given instances")
+        void shouldMaskInPlace() {
+            // Given
+            TestClass inner = new TestClass("John", "john@test.com");
+            NestedTestClass outer = new NestedTestClass("Outer", inner);
+
+            // When
+            NestedTestClass result = processor.processInPlace(outer);
+
+            // Then
+            assertSame(outer, result);
+            assertSame(inner, result.getTestClass());
+            assertEquals("****[][]", outer.getName());
+            assertEquals("****[][]", inner.getName());
+            assertEquals("john@test.com", inner.getEmail());
+        }
+
+        @Test
+        @DisplayName("should mask every node of a cyclic graph once")
+        void shouldMaskCyclicGraphOnce() {
+            // Given
+            CyclicNode first = new CyclicNode("first");
+            CyclicNode second = new CyclicNode("second");
+            first.next = second;
+            second.next = first;
+
+            // When
+            processor.processInPlace(first);
+
+            // Then
+            assertEquals("****[][]", first.name);
+            assertEquals("****[][]", second.name);
+            assertSame(second, first.next);
+            assertSame(first, second.next);
+        }
+
+        @Test
+        @DisplayName("should mask classes annotated with @MaskInPlace through process")
+        void shouldMaskAnnotatedClassInPlace() {
+            // Given
+            InPlaceBean bean = new InPlaceBean("secret");
+
+            // When
+            InPlaceBean result = processor.process(bean);
+
+            // Then
+            assertSame(bean, result);
+            assertEquals("****[][]", bean.name);
+        }
+
+        @Test
+        @DisplayName("should refuse records and final fields")
+        void shouldRefuseImmutableTypes() {
+            // Given
+            TestRecord record = new TestRecord("John", "john@test.com");
+            FinalSecret finalSecret = new FinalSecret("secret");
+
+            // When
+            MaskMeException recordError = assertThrows(MaskMeException.class, () -> processor.processInPlace(record));
+            MaskMeException finalError = assertThrows(MaskMeException.class, () -> processor.processInPlace(finalSecret));
+
+            // Then
+            assertTrue(recordError.getMessage().contains("records are immutable"));
+            assertTrue(finalError.getMessage().contains("final field secret"));
+            assertEquals("secret", finalSecret.secret);
+        }
+    }
+
+    @Nested
+    @DisplayName("streaming methods")
+    class StreamingMethods {
+
+        @Test
+        @DisplayName("should mask stream elements with inputs captured when the stream was created")
+        void shouldMaskStreamWithCapturedInputs() {
+            // Given
+            CountingRequestCondition.EVALUATIONS.set(0);
+            processor.setConditionInput(CountingRequestCondition.class, Map.of("mask", "true"));
+            Stream<RequestScopedRecord> masked = processor.maskStream(Stream.of(
+                    new RequestScopedRecord("a", "a@test.com", null),
+                    new RequestScopedRecord("b", "b@test.com", null)));
+            processor.clearInputs();
+
+            // When
+            List<RequestScopedRecord> result = masked.toList();
+
+            // Then
+            assertEquals("****", result.get(0).code());
+            assertEquals("****", result.get(1).mail());
+            assertEquals(1, CountingRequestCondition.EVALUATIONS.get());
+        }
+
+        @Test
+        @DisplayName("should use the converters captured when a parallel stream was created")
+        void shouldUseCapturedConvertersInParallelStream() {
+            // Given
+            assertTrue(ForkJoinPool.getCommonPoolParallelism() > 1, "needs several common-pool workers");
+            List<TestRecord> input = new ArrayList<>();
+            for (int i = 0; i < 2000; i++) {
+                input.add(new TestRecord("user-" + i, "mail-" + i));
+            }
+            ThreadRecordingConverter converter = new ThreadRecordingConverter();
+            ConverterRegistry.registerThreadLocal(converter);
+            Stream<TestRecord> masked;
+            try {
+                masked = processor.maskStream(input.parallelStream());
+            } finally {
+                ConverterRegistry.clearThreadLocal();
+            }
+
+            // When
+            List<TestRecord> result = masked.toList();
+
+            // Then
+            assertEquals(2000, result.size());
+            assertTrue(result.stream().allMatch(record -> record.name().equals("THREAD")));
+            assertTrue(converter.threads.stream().anyMatch(ForkJoinWorkerThread.class::isInstance));
+        }
+
+        @Test
+        @DisplayName("should mask iterator elements on next")
+        void shouldMaskIteratorElements() {
+            // Given
+            Iterator<TestRecord> source = List.of(new TestRecord("John", "a"), new TestRecord("Jane", "b")).iterator();
+
+            // When
+            Iterator<TestRecord> masked = processor.maskIterator(source);
+            TestRecord first = masked.next();
+
+            // Then
+            assertEquals("****[][]", first.name());
+            assertTrue(masked.hasNext());
+            assertEquals("b", masked.next().email());
+            assertFalse(masked.hasNext());
+        }
+
+        @Test
+        @DisplayName("should forward demand and mask items in a flow")
+        void shouldMaskFlowItems() {
+            // Given
+            Flow.Processor<TestRecord, TestRecord> masking = processor.maskFlow();
+            List<TestRecord> received = new ArrayList<>();
+            boolean[] completed = new boolean[1];
+            Flow.Subscription[] subscription = new Flow.Subscription[1];
+            masking.subscribe(new Flow.Subscriber<>() {
+                @Override
+                public void onSubscribe(Flow.Subscription s) { subscription[0] = s; }
+                @Override
+                public void onNext(TestRecord item) { received.add(item); }
+                @Override
+                public void onError(Throwable throwable) { throw new AssertionError(throwable); }
+                @Override
+                public void onComplete() { completed[0] = true; }
+            });
+            long[] requested = new long[1];
+            masking.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) { requested[0] += n; }
+                @Override
+                public void cancel() { requested[0] = -1; }
+            });
+
+            // When
+            subscription[0].request(1);
+            masking.onNext(new TestRecord("John", "a"));
+            masking.onComplete();
+
+            // Then
+            assertEquals(1, requested[0]);
+            assertEquals(1, received.size());
+            assertEquals("****[][]", received.getFirst().name());
+            assertTrue(completed[0]);
+        }
+
+        @Test
+        @DisplayName("should hold a completion that arrives while the subscriber is still in onSubscribe")
+        void shouldDeliverCompletionAfterOnSubscribe() throws InterruptedException {
+            // Given
+            Flow.Processor<TestRecord, TestRecord> masking = processor.maskFlow();
+            List<String> signals = Collections.synchronizedList(new ArrayList<>());
+            CountDownLatch inOnSubscribe = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            Thread subscriberThread = new Thread(() -> masking.subscribe(new Flow.Subscriber<>() {
+                @Override
+                public void onSubscribe(Flow.Subscription s) {
+                    signals.add("onSubscribe");
+                    inOnSubscribe.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    signals.add("onSubscribe returned");
+                }
+                @Override
+                public void onNext(TestRecord item) { signals.add("onNext"); }
+                @Override
+                public void onError(Throwable throwable) { signals.add("onError"); }
+                @Override
+                public void onComplete() { signals.add("onComplete"); }
+            }));
+            subscriberThread.start();
+            assertTrue(inOnSubscribe.await(5, TimeUnit.SECONDS));
+
+            // When
+            Thread publisherThread = new Thread(masking::onComplete);
+            publisherThread.start();
+            publisherThread.join(5000);
+            release.countDown();
+            subscriberThread.join(5000);
+
+            // Then
+            assertEquals(List.of("onSubscribe", "onSubscribe returned", "onComplete"), signals);
+        }
     }
 
     @Nested
@@ -65,6 +647,53 @@ class MaskMeProcessorTest {
         }
     }
 
+    @Nested
+    @DisplayName("startup preparation")
+    class StartupPreparation {
+
+        @Test
+        @DisplayName("should prepare classes that need masking and skip the rest")
+        void shouldPrepareMaskedClassesOnly() {
+            // When & Then
+            assertTrue(processor.prepare(NestedTestClass.class));
+            assertTrue(processor.prepare(SharedPair.class));
+            assertFalse(processor.prepare(String.class));
+            assertFalse(processor.prepare(UnmaskedRecord.class));
+        }
+
+        @Test
+        @DisplayName("should mask the same after preparing")
+        void shouldMaskTheSameAfterPreparing() {
+            // Given
+            processor.prepare(NestedTestClass.class);
+            NestedTestClass nested = new NestedTestClass("Jane", new TestClass("John", "john@test.com"));
+
+            // When
+            NestedTestClass result = processor.process(nested);
+
+            // Then
+            assertEquals("****[][]", result.getName());
+            assertEquals("****[][]", result.getTestClass().getName());
+            assertEquals("john@test.com", result.getTestClass().getEmail());
+        }
+
+        @Test
+        @DisplayName("should warm up with blank instances of records and classes")
+        void shouldWarmUpWithBlankInstances() {
+            // When & Then
+            assertEquals(5, processor.warmUp(TestRecord.class, 5));
+            assertEquals(5, processor.warmUp(NestedTestClass.class, 5));
+        }
+
+        @Test
+        @DisplayName("should skip warm-up when no blank instance can be created")
+        void shouldSkipWarmUpWithoutBlankInstance() {
+            // When & Then
+            assertEquals(0, processor.warmUp(CyclicNode.class, 5));
+            assertEquals(0, processor.warmUp(UnmaskedRecord.class, 5));
+        }
+    }
+
     // Test helper classes
     private record TestRecord(
         @MaskMe(conditions = {AlwaysMaskCondition.class}) String name,
@@ -76,6 +705,55 @@ class MaskMeProcessorTest {
         @MaskMe(conditions = {MaskPhone.class}) String phone
     ) {}
 
+    private static final class ThreadRecordingConverter implements Converter {
+
+        private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public boolean canConvert(Class<?> type) {
+            return type == String.class;
+        }
+
+        @Override
+        public Object convert(String maskValue, Class<?> targetType, Object originalValue,
+                              Object containingObject, String fieldName) {
+            threads.add(Thread.currentThread());
+            return "THREAD";
+        }
+
+        @Override
+        public int getPriority() {
+            return Integer.MAX_VALUE;
+        }
+    }
+
+    private record RequestScopedRecord(
+        @MaskMe(conditions = {CountingRequestCondition.class}) String code,
+        @MaskMe(conditions = {CountingRequestCondition.class}) String mail,
+        RequestScopedRecord nested
+    ) {}
+
+    public static class CountingRequestCondition implements MaskCondition {
+        static final AtomicInteger EVALUATIONS = new AtomicInteger();
+        private boolean mask;
+
+        @Override
+        public boolean shouldMask(Object fieldValue, Object containingObject) {
+            EVALUATIONS.incrementAndGet();
+            return mask;
+        }
+
+        @Override
+        public void setInput(Map<String, Object> inputs) {
+            mask = "true".equals(inputs.get("mask"));
+        }
+
+        @Override
+        public ConditionScope scope() {
+            return ConditionScope.PER_REQUEST;
+        }
+    }
+
     private static class TestClass {
         @MaskMe(conditions = {AlwaysMaskCondition.class})
         private String name;
@@ -111,4 +789,49 @@ class MaskMeProcessorTest {
         public TestClass getTestClass() { return testClass; }
         public void setTestClass(TestClass testClass) { this.testClass = testClass; }
     }
-}
\ No newline at end of file
+
+    private record SharedPair(TestClass left, TestClass right) {}
+
+    private record UnmaskedRecord(String name, int age) {}
+
+    private static class ChainNode {
+        @MaskMe(conditions = {AlwaysMaskCondition.class})
+        private String name;
+        private ChainNode next;
+
+        ChainNode() {}
+
+        ChainNode(String name) {
+            this.name = name;
+        }
+    }
+
+    private static class CyclicNode {
+        @MaskMe(conditions = {AlwaysMaskCondition.class})
+        private String name;
+        private CyclicNode next;
+
+        CyclicNode(String name) {
+            this.name = name;
+        }
+    }
+
+    @MaskInPlace
+    private static class InPlaceBean {
+        @MaskMe(conditions = {AlwaysMaskCondition.class})
+        private String name;
+
+        InPlaceBean(String name) {
+            this.name = name;
+        }
+    }
+
+    private static class FinalSecret {
+        @MaskMe(conditions = {AlwaysMaskCondition.class})
+        private final String secret;
+
+        FinalSecret(String secret) {
+            this.secret = secret;
+        }
+    }
+}
@@ -0,0 +1,489 @@
+package com.javamsdt.masking.maskme.api.converter;
+
+import com.javamsdt.masking.maskme.api.masking.MaskingContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@DisplayName("ConverterRegistry Tests")
+class ConverterRegistryTest {
+
+    @AfterEach
+    void tearDown() {
+        ConverterRegistry.clearGlobal();
+        ConverterRegistry.clearThreadLocal();
+        ConverterRegistry.endRequestScope();
+    }
+
+    @Nested
+    @DisplayName("global snapshot")
+    class GlobalSnapshot {
+
+        @Test
+        @DisplayName("should pick up converters registered after the chain was cached")
+        void shouldRebuildAfterRegister() {
+            // Given
+            assertEquals("***", convert("***"));
+            FixedConverter global = new FixedConverter("global", 10);
+
+            // When
+            ConverterRegistry.registerGlobal(global);
+            Object registered = convert("***");
+            ConverterRegistry.unregisterGlobal(global);
+            Object unregistered = convert("***");
+
+            // Then
+            assertEquals("global", registered);
+            assertEquals("***", unregistered);
+        }
+
+        @Test
+        @DisplayName("should order global converters by priority")
+        void shouldOrderByPriority() {
+            // Given
+            ConverterRegistry.registerGlobal(new FixedConverter("low", 5));
+            ConverterRegistry.registerGlobal(new FixedConverter("high", 20));
+
+            // When
+            Object result = convert("***");
+
+            // Then
+            assertEquals("high", result);
+        }
+
+        @Test
+        @DisplayName("should keep registration order for equal priorities")
+        void shouldKeepRegistrationOrderOnTies() {
+            // Given
+            ConverterRegistry.registerGlobal(new FixedConverter("first", 10));
+            ConverterRegistry.registerGlobal(new FixedConverter("second", 10));
+
+            // When
+            Object result = convert("***");
+
+            // Then
+            assertEquals("first", result);
+        }
+
+        @Test
+        @DisplayName("should skip converters returning null")
+        void shouldSkipNullResults() {
+            // Given
+            ConverterRegistry.registerGlobal(new FixedConverter(null, 30));
+
+            // When
+            Object result = convert("***");
+
+            // Then
+            assertEquals("***", result);
+        }
+    }
+
+    @Nested
+    @DisplayName("scoped converters")
+    class ScopedConverters {
+
+        @Test
+        @DisplayName("should prefer thread converters over global ones with equal priority")
+        void shouldPreferThreadConvertersOnTies() {
+            // Given
+            ConverterRegistry.registerGlobal(new FixedConverter("global", 10));
+            ConverterRegistry.registerThreadLocal(new FixedConverter("thread", 10));
+
+            // When
+            Object result = convert("***");
+
+            // Then
+            assertEquals("thread", result);
+        }
+
+        @Test
+        @DisplayName("should merge scoped and global converters by priority")
+        void shouldMergeByPriority() {
+            // Given
+            ConverterRegistry.registerGlobal(new FixedConverter("global", 20));
+            ConverterRegistry.registerThreadLocal(new FixedConverter("thread", 10));
+
+            // When
+            Object result = convert("***");
+
+            // Then
+            assertEquals("global", result);
+        }
+
+        @Test
+        @DisplayName("should drop request converters when the request scope ends")
+        void shouldDropRequestConverters() {
+            // Given
+            ConverterRegistry.startRequestScope("request-1");
+            ConverterRegistry.registerRequestScoped(new FixedConverter("request", 10));
+            Object inRequest = convert("***");
+
+            // When
+            ConverterRegistry.endRequestScope();
+            Object afterRequest = convert("***");
+
+            // Then
+            assertEquals("request", inRequest);
+            assertEquals("***", afterRequest);
+        }
+
+        @Test
+        @DisplayName("should not see thread converters of other threads")
+        void shouldIsolateThreadConverters() throws InterruptedException {
+            // Given
+            ConverterRegistry.registerThreadLocal(new FixedConverter("thread", 10));
+            Object[] otherThreadResult = new Object[1];
+
+            // When
+            Thread other = new Thread(() -> otherThreadResult[0] = convert("***"));
+            other.start();
+            other.join();
+
+            // Then
+            assertEquals("***", otherThreadResult[0]);
+            assertEquals("thread", convert("***"));
+        }
+    }
+
+    @Nested
+    @DisplayName("context converters")
+    class ContextConverters {
+
+        @Test
+        @DisplayName("should use context converters instead of thread converters")
+        void shouldReplaceThreadScope() {
+            // Given
+            ConverterRegistry.registerThreadLocal(new FixedConverter("thread", 10));
+            MaskingContext context = MaskingContext.empty().withConverter(new FixedConverter("context", 10));
+
+            // When
+            Object result = ConverterRegistry.convertToFieldType("***", String.class, "original", null, "field", context);
+
+            // Then
+            assertEquals("context", result);
+        }
+
+        @Test
+        @DisplayName("should merge context and global converters by priority")
+        void shouldMergeContextByPriority() {
+            // Given
+            ConverterRegistry.registerGlobal(new FixedConverter("global", 20));
+            MaskingContext low = MaskingContext.empty().withConverter(new FixedConverter("context", 10));
+            MaskingContext tie = MaskingContext.empty().withConverter(new FixedConverter("context", 20));
+
+            // When
+            Object lowResult = ConverterRegistry.convertToFieldType("***", String.class, "original", null, "field", low);
+            Object tieResult = ConverterRegistry.convertToFieldType("***", String.class, "original", null, "field", tie);
+
+            // Then
+            assertEquals("global", lowResult);
+            assertEquals("context", tieResult);
+        }
+
+        @Test
+        @DisplayName("should ignore thread converters for an empty context")
+        void shouldIgnoreThreadScopeForEmptyContext() {
+            // Given
+            ConverterRegistry.registerThreadLocal(new FixedConverter("thread", 10));
+
+            // When
+            Object result = ConverterRegistry.convertToFieldType("***", String.class, "original", null, "field",
+                    MaskingContext.empty());
+
+            // Then
+            assertEquals("***", result);
+        }
+    }
+
+    @Nested
+    @DisplayName("constant mask values")
+    class ConstantValues {
+
+        @Test
+        @DisplayName("should convert a context-free value once and share the result")
+        void shouldShareContextFreeResult() {
+            // Given
+            CountingConverter counting = new CountingConverter(true);
+            ConverterRegistry.registerGlobal(counting);
+
+            // When
+            Object first = ConverterRegistry.convertToFieldType("42", Long.class, 1L, new Object(), "id");
+            Object second = ConverterRegistry.convertToFieldType("42", Long.class, 2L, new Object(), "otherId");
+
+            // Then
+            assertEquals(42L, first);
+            assertSame(first, second);
+            assertEquals(1, counting.calls.get());
+        }
+
+        @Test
+        @DisplayName("should convert every time when the converter depends on the context")
+        void shouldNotCacheContextDependentResult() {
+            // Given
+            CountingConverter counting = new CountingConverter(false);
+            ConverterRegistry.registerGlobal(counting);
+
+            // When
+            ConverterRegistry.convertToFieldType("42", Long.class, 1L, new Object(), "id");
+            ConverterRegistry.convertToFieldType("42", Long.class, 2L, new Object(), "id");
+
+            // Then
+            assertEquals(2, counting.calls.get());
+        }
+
+        @Test
+        @DisplayName("should not cache values with field placeholders")
+        void shouldNotCachePlaceholders() {
+            // Given
+            CountingConverter counting = new CountingConverter(true);
+            ConverterRegistry.registerGlobal(counting);
+
+            // When
+            ConverterRegistry.convertToFieldType("[id]", Long.class, 1L, new Object(), "id");
+            ConverterRegistry.convertToFieldType("[id]", Long.class, 2L, new Object(), "id");
+
+            // Then
+            assertEquals(2, counting.calls.get());
+        }
+
+        @Test
+        @DisplayName("should bypass cached constants while scoped converters are active")
+        void shouldBypassCacheForScopedConverters() {
+            // Given
+            assertEquals(7, ConverterRegistry.convertToFieldType("7", Integer.class, 1, new Object(), "count"));
+            ConverterRegistry.registerThreadLocal(new CountingConverter(true));
+
+            // When
+            Object result = ConverterRegistry.convertToFieldType("7", Integer.class, 1, new Object(), "count");
+
+            // Then
+            assertEquals(-1, result);
+        }
+
+        @Test
+        @DisplayName("should keep rounding blank BigDecimal values per field")
+        void shouldKeepBlankBigDecimalContextual() {
+            // When
+            Object first = ConverterRegistry.convertToFieldType("", BigDecimal.class, new BigDecimal("123.45"), new Object(), "amount");
+            Object second = ConverterRegistry.convertToFieldType("", BigDecimal.class, new BigDecimal("175.30"), new Object(), "amount");
+
+            // Then
+            assertEquals(new BigDecimal("100"), first);
+            assertEquals(new BigDecimal("200"), second);
+        }
+
+        @Test
+        @DisplayName("should share immutable java.time values but not legacy dates")
+        void shouldShareOnlyImmutableDates() {
+            // When
+            Object localDate = ConverterRegistry.convertToFieldType("2024-01-01", LocalDate.class, null, new Object(), "a");
+            Object sameLocalDate = ConverterRegistry.convertToFieldType("2024-01-01", LocalDate.class, null, new Object(), "b");
+            Object date = ConverterRegistry.convertToFieldType("0", Date.class, null, new Object(), "a");
+            Object otherDate = ConverterRegistry.convertToFieldType("0", Date.class, null, new Object(), "b");
+
+            // Then
+            assertSame(localDate, sameLocalDate);
+            assertEquals(date, otherDate);
+            assertNotSame(date, otherDate);
+        }
+    }
+
+    @Nested
+    @DisplayName("primitive conversions")
+    class PrimitiveConversions {
+
+        @Test
+        @DisplayName("should convert int, long and double with the default number converter")
+        void shouldConvertWithNumberConverter() {
+            // When
+            int count = ConverterRegistry.convertToInt("7", 1, new Object(), "count", null);
+            long total = ConverterRegistry.convertToLong("70000000000", 1L, new Object(), "total", null);
+            double rate = ConverterRegistry.convertToDouble("0.5", 1.0, new Object(), "rate", null);
+
+            // Then
+            assertEquals(7, count);
+            assertEquals(70_000_000_000L, total);
+            assertEquals(0.5, rate);
+        }
+
+        @Test
+        @DisplayName("should call the unboxed method of a primitive converter")
+        void shouldUsePrimitiveConverter() {
+            // Given
+            OffsetIntConverter offset = new OffsetIntConverter();
+            ConverterRegistry.registerGlobal(offset);
+
+            // When
+            int result = ConverterRegistry.convertToInt("***", 41, new Object(), "count", null);
+
+            // Then
+            assertEquals(42, result);
+            assertEquals(0, offset.boxedCalls.get());
+        }
+
+        @Test
+        @DisplayName("should unbox the result of a plain converter for int")
+        void shouldUnboxPlainConverterResult() {
+            // Given
+            ConverterRegistry.registerThreadLocal(new CountingConverter(false) {
+                @Override
+                public boolean canConvert(Class<?> type) {
+                    return type == int.class;
+                }
+            });
+
+            // When
+            int result = ConverterRegistry.convertToInt("9", 1, new Object(), "count", null);
+
+            // Then
+            assertEquals(9, result);
+        }
+
+        @Test
+        @DisplayName("should share cached constants with boxed conversions")
+        void shouldShareConstants() {
+            // Given
+            CountingPrimitiveConverter counting = new CountingPrimitiveConverter();
+            ConverterRegistry.registerGlobal(counting);
+
+            // When
+            long first = ConverterRegistry.convertToLong("5", 1L, new Object(), "a", null);
+            Object boxed = ConverterRegistry.convertToFieldType("5", long.class, 2L, new Object(), "b");
+            long second = ConverterRegistry.convertToLong("5", 3L, new Object(), "c", null);
+
+            // Then
+            assertEquals(5L, first);
+            assertEquals(5L, boxed);
+            assertEquals(5L, second);
+            assertEquals(1, counting.calls.get());
+        }
+    }
+
+    private static Object convert(String maskValue) {
+        return ConverterRegistry.convertToFieldType(maskValue, String.class, null, new Object(), "field");
+    }
+
+    private record FixedConverter(String value, int priority) implements Converter {
+
+        @Override
+        public boolean canConvert(Class<?> type) {
+            return type == String.class;
+        }
+
+        @Override
+        public Object convert(String maskValue, Class<?> targetType, Object originalValue,
+                              Object containingObject, String fieldName) {
+            return value;
+        }
+
+        @Override
+        public int getPriority() {
+            return priority;
+        }
+    }
+
+    private static final class OffsetIntConverter implements IntMaskConverter {
+
+        private final AtomicInteger boxedCalls = new AtomicInteger();
+
+        @Override
+        public boolean canConvert(Class<?> type) {
+            return type == int.class;
+        }
+
+        @Override
+        public Object convert(String maskValue, Class<?> targetType, Object originalValue,
+                              Object containingObject, String fieldName) {
+            boxedCalls.incrementAndGet();
+            return (Integer) originalValue + 1;
+        }
+
+        @Override
+        public int convertInt(String value, int originalValue, Object containingObject, String fieldName) {
+            return originalValue + 1;
+        }
+
+        @Override
+        public int getPriority() {
+            return 10;
+        }
+    }
+
+    private static final class CountingPrimitiveConverter implements LongMaskConverter {
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public boolean canConvert(Class<?> type) {
+            return type == long.class;
+        }
+
+        @Override
+        public boolean isContextFree(String value, Class<?> targetType) {
+            return true;
+        }
+
+        @Override
+        public Object convert(String maskValue, Class<?> targetType, Object originalValue,
+                              Object containingObject, String fieldName) {
+            return convertLong(maskValue, (Long) originalValue, containingObject, fieldName);
+        }
+
+        @Override
+        public long convertLong(String value, long originalValue, Object containingObject, String fieldName) {
+            calls.incrementAndGet();
+            return Long.parseLong(value);
+        }
+
+        @Override
+        public int getPriority() {
+            return 10;
+        }
+    }
+
+    private static class CountingConverter implements Converter {
+
+        private final boolean contextFree;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        private CountingConverter(boolean contextFree) {
+            this.contextFree = contextFree;
+        }
+
+        @Override
+        public boolean canConvert(Class<?> type) {
+            return type == Long.class || type == Integer.class;
+        }
+
+        @Override
+        public Object convert(String maskValue, Class<?> targetType, Object originalValue,
+                              Object containingObject, String fieldName) {
+            calls.incrementAndGet();
+            if (targetType == Integer.class) {
+                return -1;
+            }
+            return maskValue.startsWith("[") ? 0L : Long.valueOf(maskValue);
+        }
+
+        @Override
+        public int getPriority() {
+            return 10;
+        }
+
+        @Override
+        public boolean isContextFree(String value, Class<?> targetType) {
+            return contextFree;
+        }
+    }
+}
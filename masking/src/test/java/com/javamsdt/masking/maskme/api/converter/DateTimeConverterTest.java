@@ -5,9 +5,15 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.time.OffsetDateTime;
 import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZonedDateTime;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -133,4 +139,62 @@ class DateTimeConverterTest {
             assertTrue(result instanceof java.sql.Date);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("shape selection")
+    class ShapeSelection {
+
+        @Test
+        @DisplayName("should return null for a non-temporal mask value of every type")
+        void shouldReturnNullForNonTemporalValue() {
+            // Given
+            Class<?>[] types = {LocalDate.class, LocalDateTime.class, LocalTime.class, Instant.class,
+                    ZonedDateTime.class, OffsetDateTime.class, Year.class, YearMonth.class, MonthDay.class,
+                    java.util.Date.class, java.sql.Date.class, java.sql.Timestamp.class, java.sql.Time.class};
+
+            // When & Then
+            for (Class<?> type : types) {
+                assertNull(converter.convert("****", type, null, new Object(), "field"), type.getName());
+            }
+        }
+
+        @Test
+        @DisplayName("should read day first and fall back to month first when the month is out of range")
+        void shouldPickSlashedDateOrder() {
+            // When & Then
+            assertEquals(LocalDate.of(2023, 12, 5), converter.convert("05/12/2023", LocalDate.class, null, new Object(), "field"));
+            assertEquals(LocalDate.of(2023, 12, 25), converter.convert("12/25/2023", LocalDate.class, null, new Object(), "field"));
+            assertNull(converter.convert("32/13/2023", LocalDate.class, null, new Object(), "field"));
+        }
+
+        @Test
+        @DisplayName("should clamp a day past the end of the month")
+        void shouldClampDayPastEndOfMonth() {
+            // When & Then
+            assertEquals(LocalDate.of(2023, 2, 28), converter.convert("2023-02-30", LocalDate.class, null, new Object(), "field"));
+            assertNull(converter.convert("2023-13-01", LocalDate.class, null, new Object(), "field"));
+        }
+
+        @Test
+        @DisplayName("should parse date times with and without seconds")
+        void shouldParseDateTimes() {
+            // When & Then
+            assertEquals(LocalDateTime.of(2023, 12, 25, 10, 30),
+                    converter.convert("2023-12-25T10:30", LocalDateTime.class, null, new Object(), "field"));
+            assertEquals(LocalDateTime.of(2023, 12, 25, 10, 30, 15),
+                    converter.convert("2023-12-25 10:30:15", LocalDateTime.class, null, new Object(), "field"));
+        }
+
+        @Test
+        @DisplayName("should parse ISO instants and epoch seconds or milliseconds")
+        void shouldParseInstants() {
+            // When & Then
+            assertEquals(Instant.parse("2023-12-25T10:30:00Z"),
+                    converter.convert("2023-12-25T10:30:00Z", Instant.class, null, new Object(), "field"));
+            assertEquals(Instant.ofEpochSecond(1703505000L),
+                    converter.convert("1703505000", Instant.class, null, new Object(), "field"));
+            assertEquals(Instant.ofEpochMilli(1703505000000L),
+                    converter.convert("1703505000000", Instant.class, null, new Object(), "field"));
+        }
+    }
+}
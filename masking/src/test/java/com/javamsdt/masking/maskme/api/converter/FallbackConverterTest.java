@@ -103,6 +103,36 @@ class FallbackConverterTest {
             assertNotNull(result);
             assertTrue(result instanceof CustomTypeWithDefaultConstructor);
         }
+
+        @Test
+        @DisplayName("should fall back to the default constructor when the string constructor throws")
+        void shouldFallBackWhenStringConstructorThrows() {
+            // Given
+            String value = "not-a-code";
+
+            // When
+            Object result = converter.convert(value, CustomTypeWithStrictConstructor.class, null, new Object(), "field");
+
+            // Then
+            assertTrue(result instanceof CustomTypeWithStrictConstructor);
+            assertNull(((CustomTypeWithStrictConstructor) result).code);
+        }
+
+        @Test
+        @DisplayName("should leave JDK numbers to NumberConverter")
+        void shouldLeaveJdkNumbersToNumberConverter() {
+            // When & Then
+            assertNull(converter.convert("****", Long.class, null, new Object(), "field"));
+            assertNull(converter.convert("12", java.math.BigDecimal.class, null, new Object(), "field"));
+        }
+
+        @Test
+        @DisplayName("should return null for interfaces and abstract types")
+        void shouldReturnNullForAbstractTypes() {
+            // When & Then
+            assertNull(converter.convert("test", Runnable.class, null, new Object(), "field"));
+            assertNull(converter.convert("test", Number.class, null, new Object(), "field"));
+        }
     }
 
     // Test helper classes
@@ -116,6 +146,21 @@ class FallbackConverterTest {
         }
     }
 
+    private static class CustomTypeWithStrictConstructor {
+        private final String code;
+
+        public CustomTypeWithStrictConstructor() {
+            this.code = null;
+        }
+
+        public CustomTypeWithStrictConstructor(String code) {
+            if (code.length() != 3) {
+                throw new IllegalArgumentException("Expected a three letter code");
+            }
+            this.code = code;
+        }
+    }
+
     private static class CustomTypeWithoutConstructors {
         private CustomTypeWithoutConstructors() {
             // Private constructor to prevent instantiation
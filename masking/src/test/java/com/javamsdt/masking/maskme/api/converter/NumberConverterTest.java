@@ -147,4 +147,68 @@ class NumberConverterTest {
             assertEquals(123.45d, converter.convert("123.45", double.class, null, new Object(), "field"));
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("shape checks")
+    class ShapeChecks {
+
+        @Test
+        @DisplayName("should return defaults for non-numeric values of every type")
+        void shouldReturnDefaultsForNonNumericValues() {
+            // Given & When & Then
+            assertEquals(0, converter.convert("****", int.class, null, new Object(), "field"));
+            assertEquals(0L, converter.convert("****", long.class, null, new Object(), "field"));
+            assertEquals(0.0, converter.convert("****", double.class, null, new Object(), "field"));
+            assertEquals(0.0f, converter.convert("1.2.3", float.class, null, new Object(), "field"));
+            assertNull(converter.convert("****", Integer.class, null, new Object(), "field"));
+            assertNull(converter.convert("12a", BigInteger.class, null, new Object(), "field"));
+            assertNull(converter.convert("1e", BigDecimal.class, null, new Object(), "field"));
+        }
+
+        @Test
+        @DisplayName("should return defaults for values out of the type's range")
+        void shouldReturnDefaultsForOutOfRangeValues() {
+            // Given & When & Then
+            assertEquals((byte) 0, converter.convert("128", byte.class, null, new Object(), "field"));
+            assertEquals((byte) -128, converter.convert("-128", byte.class, null, new Object(), "field"));
+            assertEquals((short) 0, converter.convert("40000", short.class, null, new Object(), "field"));
+            assertEquals(0, converter.convertInt("2147483648", 1, new Object(), "field"));
+            assertEquals(Long.MIN_VALUE, converter.convertLong("-9223372036854775808", 1L, new Object(), "field"));
+            assertEquals(0L, converter.convertLong("9223372036854775808", 1L, new Object(), "field"));
+        }
+
+        @Test
+        @DisplayName("should accept the full floating point and decimal grammars")
+        void shouldAcceptFloatingPointGrammar() {
+            // Given & When & Then
+            assertEquals(1.5, converter.convertDouble(" +1.5d ", 0.0, new Object(), "field"));
+            assertEquals(1.0e-3, converter.convertDouble(".1e-2", 0.0, new Object(), "field"));
+            assertEquals(Double.NEGATIVE_INFINITY, converter.convertDouble("-Infinity", 0.0, new Object(), "field"));
+            assertEquals(3.0, converter.convertDouble("0x1.8p1", 0.0, new Object(), "field"));
+            assertEquals(new BigDecimal("-1.25E+3"), converter.convert("-1.25E+3", BigDecimal.class, null, new Object(), "field"));
+        }
+    }
+
+    @Nested
+    @DisplayName("primitive conversions")
+    class PrimitiveConversions {
+
+        @Test
+        @DisplayName("should convert to int, long and double without boxing")
+        void shouldConvertPrimitives() {
+            // Given & When & Then
+            assertEquals(123, converter.convertInt("123", 7, new Object(), "field"));
+            assertEquals(9_000_000_000L, converter.convertLong("9000000000", 7L, new Object(), "field"));
+            assertEquals(1.5, converter.convertDouble("1.5", 7.0, new Object(), "field"));
+        }
+
+        @Test
+        @DisplayName("should return zero for invalid numbers")
+        void shouldReturnZeroForInvalidNumbers() {
+            // Given & When & Then
+            assertEquals(0, converter.convertInt("***", 7, new Object(), "field"));
+            assertEquals(0L, converter.convertLong("***", 7L, new Object(), "field"));
+            assertEquals(0.0, converter.convertDouble("***", 7.0, new Object(), "field"));
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.javamsdt.masking.maskme.api.converter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("PlaceholderTemplate Tests")
+class PlaceholderTemplateTest {
+
+    @Nested
+    @DisplayName("parsing")
+    class Parsing {
+
+        @Test
+        @DisplayName("should parse a mask value once")
+        void shouldCacheParsedTemplate() {
+            // When
+            PlaceholderTemplate first = PlaceholderTemplate.of("[id]-[genderId]");
+            PlaceholderTemplate second = PlaceholderTemplate.of("[id]-[genderId]");
+
+            // Then
+            assertSame(first, second);
+            assertTrue(first.hasPlaceholders());
+        }
+
+        @Test
+        @DisplayName("should treat empty and unclosed brackets as literals")
+        void shouldKeepIncompleteBracketsLiteral() {
+            // Given
+            Person person = new Person(7L, "John");
+
+            // When
+            PlaceholderTemplate empty = PlaceholderTemplate.of("[]***");
+            PlaceholderTemplate unclosed = PlaceholderTemplate.of("***[id");
+            String mixed = PlaceholderTemplate.of("[][id]").render(person);
+
+            // Then
+            assertFalse(empty.hasPlaceholders());
+            assertFalse(unclosed.hasPlaceholders());
+            assertEquals("[]7", mixed);
+        }
+    }
+
+    @Nested
+    @DisplayName("rendering")
+    class Rendering {
+
+        @Test
+        @DisplayName("should render record components and repeated placeholders")
+        void shouldRenderRecordComponents() {
+            // Given
+            Person person = new Person(7L, "John");
+
+            // When
+            String result = PlaceholderTemplate.of("[id]-[name]-[id]").render(person);
+
+            // Then
+            assertEquals("7-John-7", result);
+        }
+
+        @Test
+        @DisplayName("should render inherited fields of regular classes")
+        void shouldRenderInheritedFields() {
+            // Given
+            Employee employee = new Employee("Jane", "HR");
+
+            // When
+            String result = PlaceholderTemplate.of("[name]@[department].com").render(employee);
+
+            // Then
+            assertEquals("Jane@HR.com", result);
+        }
+
+        @Test
+        @DisplayName("should keep placeholders of missing or null fields")
+        void shouldKeepUnresolvedPlaceholders() {
+            // Given
+            Employee employee = new Employee(null, "HR");
+
+            // When
+            String result = PlaceholderTemplate.of("[name]-[unknown]-[department]").render(employee);
+
+            // Then
+            assertEquals("[name]-[unknown]-HR", result);
+        }
+
+        @Test
+        @DisplayName("should bind the same template to different classes")
+        void shouldBindPerClass() {
+            // Given
+            PlaceholderTemplate template = PlaceholderTemplate.of("user-[name]");
+
+            // When
+            String fromRecord = template.render(new Person(1L, "John"));
+            String fromClass = template.render(new Employee("Jane", "HR"));
+
+            // Then
+            assertEquals("user-John", fromRecord);
+            assertEquals("user-Jane", fromClass);
+        }
+    }
+
+    // Test helper classes
+    private record Person(Long id, String name) {}
+
+    private static class BaseEmployee {
+        private final String name;
+
+        BaseEmployee(String name) {
+            this.name = name;
+        }
+    }
+
+    private static class Employee extends BaseEmployee {
+        private final String department;
+
+        Employee(String name, String department) {
+            super(name);
+            this.department = department;
+        }
+    }
+}
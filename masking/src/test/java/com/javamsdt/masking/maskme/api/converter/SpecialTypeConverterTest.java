@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.net.URL;
+import java.util.Currency;
 import java.util.Locale;
 import java.util.UUID;
 
@@ -175,8 +176,51 @@ class SpecialTypeConverterTest {
         }
     }
 
+    @Nested
+    @DisplayName("lookup tables")
+    class LookupTables {
+
+        @Test
+        @DisplayName("should match lower-case enum constants ignoring case")
+        void shouldMatchLowerCaseConstants() {
+            // When & Then
+            assertEquals(MixedCaseEnum.pending, converter.convert("PENDING", MixedCaseEnum.class, null, new Object(), "field"));
+            assertEquals(MixedCaseEnum.DONE, converter.convert("done", MixedCaseEnum.class, null, new Object(), "field"));
+        }
+
+        @Test
+        @DisplayName("should prefer the upper-case constant when names differ only in case")
+        void shouldPreferUpperCaseConstant() {
+            // When & Then
+            assertEquals(MixedCaseEnum.DONE, converter.convert("Done", MixedCaseEnum.class, null, new Object(), "field"));
+        }
+
+        @Test
+        @DisplayName("should look up currencies by code")
+        void shouldLookUpCurrencies() {
+            // When & Then
+            assertEquals(Currency.getInstance("EUR"), converter.convert("EUR", Currency.class, null, new Object(), "field"));
+            assertNull(converter.convert("****", Currency.class, null, new Object(), "field"));
+        }
+
+        @Test
+        @DisplayName("should reject values that are not UUIDs")
+        void shouldRejectInvalidUuids() {
+            // When & Then
+            assertNull(converter.convert("****", UUID.class, null, new Object(), "field"));
+            assertNull(converter.convert("1-2-3-4", UUID.class, null, new Object(), "field"));
+            assertNull(converter.convert("1--2-3-4", UUID.class, null, new Object(), "field"));
+            assertEquals(new UUID(0x1_0002_0003L, 0x0004_0000_0000_0005L),
+                    converter.convert("1-2-3-4-5", UUID.class, null, new Object(), "field"));
+        }
+    }
+
     // Test enum
     private enum TestEnum {
         ACTIVE, INACTIVE
     }
+
+    private enum MixedCaseEnum {
+        done, pending, DONE
+    }
 }
\ No newline at end of file
@@ -0,0 +1,186 @@
+package com.javamsdt.masking.maskme.api.masking;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Accessors Tests")
+class AccessorsTest {
+
+    @Nested
+    @DisplayName("field handles")
+    class FieldHandles {
+
+        @Test
+        @DisplayName("should read and write a private field")
+        void shouldReadAndWritePrivateField() throws Throwable {
+            // Given
+            Field field = Holder.class.getDeclaredField("value");
+            field.setAccessible(true);
+            Holder holder = new Holder("original");
+
+            // When
+            MethodHandle getter = Accessors.getter(field);
+            MethodHandle setter = Accessors.setter(field);
+            Object before = (Object) getter.invokeExact((Object) holder);
+            setter.invokeExact((Object) holder, (Object) "changed");
+
+            // Then
+            assertEquals("original", before);
+            assertEquals("changed", holder.value);
+        }
+
+        @Test
+        @DisplayName("should write a final field through the reflection fallback")
+        void shouldWriteFinalField() throws Throwable {
+            // Given
+            Field field = FinalHolder.class.getDeclaredField("value");
+            field.setAccessible(true);
+            FinalHolder holder = new FinalHolder("original");
+
+            // When
+            Accessors.setter(field).invokeExact((Object) holder, (Object) "changed");
+
+            // Then
+            assertEquals("changed", field.get(holder));
+        }
+
+        @Test
+        @DisplayName("should fall back to reflection when no private lookup is possible")
+        void shouldFallBackToReflectionForClosedModules() throws Exception {
+            // Given
+            Field field = ArrayList.class.getDeclaredField("size");
+
+            // When
+            MethodHandle getter = Accessors.getter(field);
+
+            // Then
+            assertNotNull(getter);
+            assertEquals(Accessors.GETTER_TYPE, getter.type());
+            assertThrows(MaskMeException.class, () -> {
+                try {
+                    Object ignored = (Object) getter.invokeExact((Object) new ArrayList<>());
+                } catch (Throwable t) {
+                    throw Accessors.rethrow(t);
+                }
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("constructor handles")
+    class ConstructorHandles {
+
+        @Test
+        @DisplayName("should create instance through default constructor")
+        void shouldCreateInstanceThroughDefaultConstructor() throws Throwable {
+            // Given
+            Constructor<Holder> constructor = Holder.class.getDeclaredConstructor();
+
+            // When
+            Object instance = (Object) Accessors.factory(constructor).invokeExact();
+
+            // Then
+            assertEquals(Holder.class, instance.getClass());
+        }
+
+        @Test
+        @DisplayName("should create record through canonical constructor")
+        void shouldCreateRecordThroughCanonicalConstructor() throws Throwable {
+            // Given
+            Constructor<Pair> constructor = Pair.class.getDeclaredConstructor(String.class, int.class);
+
+            // When
+            Object instance = (Object) Accessors.recordFactory(constructor).invokeExact(new Object[]{"a", 1});
+
+            // Then
+            assertEquals(new Pair("a", 1), instance);
+        }
+    }
+
+    @Nested
+    @DisplayName("primitive bits handles")
+    class BitsHandles {
+
+        @Test
+        @DisplayName("should read and write primitive fields as bits")
+        void shouldReadAndWritePrimitiveFields() throws Throwable {
+            // Given
+            Field count = Primitives.class.getDeclaredField("count");
+            Field rate = Primitives.class.getDeclaredField("rate");
+            Primitives primitives = new Primitives();
+
+            // When
+            long countBits = (long) Accessors.bitsGetter(count).invokeExact((Object) primitives);
+            Accessors.bitsSetter(count).invokeExact((Object) primitives, 7L);
+            Accessors.bitsSetter(rate).invokeExact((Object) primitives, Double.doubleToRawLongBits(2.5));
+            long rateBits = (long) Accessors.bitsGetter(rate).invokeExact((Object) primitives);
+
+            // Then
+            assertEquals(-3L, countBits);
+            assertEquals(7, primitives.count);
+            assertEquals(2.5, primitives.rate);
+            assertEquals(2.5, Double.longBitsToDouble(rateBits));
+        }
+
+        @Test
+        @DisplayName("should create record from reference arguments and primitive bits")
+        void shouldCreateRecordFromBits() throws Throwable {
+            // Given
+            Constructor<Pair> constructor = Pair.class.getDeclaredConstructor(String.class, int.class);
+
+            // When
+            Object instance = (Object) Accessors.recordBitsFactory(constructor)
+                    .invokeExact(new Object[]{"a", null}, new long[]{0L, 1L});
+
+            // Then
+            assertEquals(new Pair("a", 1), instance);
+        }
+
+        @Test
+        @DisplayName("should round trip every primitive type through bits")
+        void shouldRoundTripPrimitives() {
+            // Given & When & Then
+            assertEquals(true, Accessors.fromBits(Accessors.toBits(true, boolean.class), boolean.class));
+            assertEquals('x', Accessors.fromBits(Accessors.toBits('x', char.class), char.class));
+            assertEquals((byte) -2, Accessors.fromBits(Accessors.toBits((byte) -2, byte.class), byte.class));
+            assertEquals((short) -300, Accessors.fromBits(Accessors.toBits((short) -300, short.class), short.class));
+            assertEquals(-1.25f, Accessors.fromBits(Accessors.toBits(-1.25f, float.class), float.class));
+            assertEquals(Long.MIN_VALUE, Accessors.fromBits(Accessors.toBits(Long.MIN_VALUE, long.class), long.class));
+        }
+    }
+
+    private record Pair(String left, int right) {}
+
+    private static class Primitives {
+        private int count = -3;
+        private double rate;
+    }
+
+    private static class Holder {
+        private String value;
+
+        Holder() {}
+
+        Holder(String value) {
+            this.value = value;
+        }
+    }
+
+    private static class FinalHolder {
+        private final String value;
+
+        FinalHolder(String value) {
+            this.value = value;
+        }
+    }
+}
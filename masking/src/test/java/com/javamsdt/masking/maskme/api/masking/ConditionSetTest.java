@@ -0,0 +1,96 @@
+package com.javamsdt.masking.maskme.api.masking;
+
+import com.javamsdt.masking.maskme.implemintation.masking.AlwaysMaskCondition;
+import com.javamsdt.masking.maskme.implemintation.masking.MaskPhone;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@DisplayName("ConditionSet Tests")
+class ConditionSetTest {
+
+    @Nested
+    @DisplayName("constant folding")
+    class ConstantFolding {
+
+        @Test
+        @DisplayName("should fold a constant true condition to always")
+        void shouldFoldConstantTrueToAlways() {
+            // When
+            ConditionSet conditions = ConditionSet.of(classes(MaskPhone.class, AlwaysMaskCondition.class));
+
+            // Then
+            assertSame(ConditionSet.ALWAYS, conditions);
+        }
+
+        @Test
+        @DisplayName("should fold only constant false conditions to never")
+        void shouldFoldConstantFalseToNever() {
+            // When
+            ConditionSet conditions = ConditionSet.of(classes(NeverMaskCondition.class));
+
+            // Then
+            assertSame(ConditionSet.NEVER, conditions);
+        }
+
+        @Test
+        @DisplayName("should keep runtime conditions with their scopes in declaration order")
+        void shouldKeepRuntimeConditions() {
+            // When
+            ConditionSet conditions = ConditionSet.of(classes(PerValueCondition.class, NeverMaskCondition.class, MaskPhone.class));
+
+            // Then
+            assertFalse(conditions.isAlways());
+            assertFalse(conditions.isNever());
+            assertArrayEquals(new Class<?>[]{PerValueCondition.class, MaskPhone.class}, conditions.conditions());
+            assertEquals(ConditionScope.PER_VALUE, conditions.scope(0));
+            assertEquals(ConditionScope.PER_REQUEST, conditions.scope(1));
+        }
+    }
+
+    @Nested
+    @DisplayName("forArray method")
+    class ForArrayMethod {
+
+        @Test
+        @DisplayName("should fold each generated masker array once")
+        void shouldCachePerArray() {
+            // Given
+            Class<? extends MaskCondition>[] declared = classes(PerValueCondition.class);
+
+            // Then
+            assertSame(ConditionSet.forArray(declared), ConditionSet.forArray(declared));
+        }
+    }
+
+    @SafeVarargs
+    private static Class<? extends MaskCondition>[] classes(Class<? extends MaskCondition>... conditions) {
+        return conditions;
+    }
+
+    public static class NeverMaskCondition implements MaskCondition {
+
+        @Override
+        public boolean shouldMask(Object fieldValue, Object containingObject) {
+            return false;
+        }
+
+        @Override
+        public ConditionScope scope() {
+            return ConditionScope.CONSTANT;
+        }
+    }
+
+    public static class PerValueCondition implements MaskCondition {
+
+        @Override
+        public boolean shouldMask(Object fieldValue, Object containingObject) {
+            return fieldValue != null;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.javamsdt.masking.maskme.api.masking;
+
+import com.javamsdt.masking.maskme.implemintation.masking.AlwaysMaskCondition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@DisplayName("GeneratedMaskers Tests")
+class GeneratedMaskersTest {
+
+    @Nested
+    @DisplayName("lookup")
+    class Lookup {
+
+        @Test
+        @DisplayName("should join nested class names with underscores")
+        void shouldBuildMaskerNameForNestedType() {
+            // When
+            String name = GeneratedMaskers.maskerName(Badge.class);
+
+            // Then
+            assertEquals("com.javamsdt.masking.maskme.api.masking.GeneratedMaskersTest_BadgeMasker", name);
+        }
+
+        @Test
+        @DisplayName("should find masker generated for a type")
+        void shouldFindMasker() {
+            // When
+            GeneratedMasker<Badge> masker = GeneratedMaskers.find(Badge.class);
+
+            // Then
+            assertInstanceOf(GeneratedMaskersTest_BadgeMasker.class, masker);
+            assertSame(masker, GeneratedMaskers.find(Badge.class));
+        }
+
+        @Test
+        @DisplayName("should return null for types without a masker")
+        void shouldReturnNullWithoutMasker() {
+            // Then
+            assertNull(GeneratedMaskers.find(Plain.class));
+            assertNull(GeneratedMaskers.find(String.class));
+            assertNull(GeneratedMaskers.find(int[].class));
+        }
+    }
+
+    @Nested
+    @DisplayName("dispatch")
+    class Dispatch {
+
+        @Test
+        @DisplayName("should prefer the generated masker over the reflective plan")
+        void shouldUseGeneratedMasker() {
+            // Given
+            MaskProcessor processor = new MaskProcessor();
+            Badge badge = new Badge("B-42", "John");
+
+            // When
+            Badge result = processor.process(badge);
+
+            // Then
+            assertEquals("****", result.code());
+            assertEquals("John", result.owner());
+        }
+    }
+
+    record Badge(String code, String owner) {
+    }
+
+    record Plain(String value) {
+    }
+}
+
+/**
+ * Hand-written stand-in for what MaskMeProcessor emits, so the dispatch path is
+ * tested without depending on the processor being on the test classpath.
+ */
+class GeneratedMaskersTest_BadgeMasker implements GeneratedMasker<GeneratedMaskersTest.Badge> {
+
+    @SuppressWarnings("unchecked")
+    private static final Class<? extends MaskCondition>[] CODE_CONDITIONS = new Class[]{AlwaysMaskCondition.class};
+
+    @Override
+    public GeneratedMaskersTest.Badge mask(GeneratedMaskersTest.Badge source, MaskerSupport support) {
+        String code = source.code();
+        if (support.shouldMask(CODE_CONDITIONS, code, source)) {
+            code = (String) support.convert("****", String.class, code, source, "code");
+        }
+        return new GeneratedMaskersTest.Badge(code, source.owner());
+    }
+}
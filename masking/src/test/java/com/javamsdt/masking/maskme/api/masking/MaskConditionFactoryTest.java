@@ -0,0 +1,134 @@
+package com.javamsdt.masking.maskme.api.masking;
+
+import com.javamsdt.masking.maskme.implemintation.masking.AlwaysMaskCondition;
+import com.javamsdt.masking.maskme.implemintation.masking.MaskPhone;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("MaskConditionFactory Tests")
+class MaskConditionFactoryTest {
+
+    @AfterEach
+    void tearDown() {
+        MaskConditionFactory.clearFrameworkProvider();
+    }
+
+    @Nested
+    @DisplayName("getCondition method")
+    class GetConditionMethod {
+
+        @Test
+        @DisplayName("should share stateless condition instances")
+        void shouldShareStatelessConditions() {
+            // When
+            AlwaysMaskCondition first = MaskConditionFactory.getCondition(AlwaysMaskCondition.class);
+            AlwaysMaskCondition second = MaskConditionFactory.getCondition(AlwaysMaskCondition.class);
+
+            // Then
+            assertSame(first, second);
+        }
+
+        @Test
+        @DisplayName("should create a new instance per call for input-carrying conditions")
+        void shouldCreateInputCarryingConditionsPerCall() {
+            // When
+            MaskPhone first = MaskConditionFactory.getCondition(MaskPhone.class);
+            MaskPhone second = MaskConditionFactory.getCondition(MaskPhone.class);
+
+            // Then
+            assertNotSame(first, second);
+        }
+
+        @Test
+        @DisplayName("should throw MaskMeException when the condition cannot be created")
+        void shouldThrowWhenConditionCannotBeCreated() {
+            // Then
+            assertThrows(MaskMeException.class, () -> MaskConditionFactory.getCondition(NoDefaultConstructorCondition.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("framework provider")
+    class FrameworkProviderCache {
+
+        @Test
+        @DisplayName("should ask the provider once for stateless conditions")
+        void shouldCacheProviderInstancesForStatelessConditions() {
+            // Given
+            AtomicInteger lookups = new AtomicInteger();
+            AlwaysMaskCondition bean = new AlwaysMaskCondition();
+            MaskConditionFactory.setFrameworkProvider(new CountingProvider(lookups, bean));
+
+            // When
+            MaskConditionFactory.getCondition(AlwaysMaskCondition.class);
+            AlwaysMaskCondition result = MaskConditionFactory.getCondition(AlwaysMaskCondition.class);
+
+            // Then
+            assertSame(bean, result);
+            assertEquals(1, lookups.get());
+        }
+
+        @Test
+        @DisplayName("should invalidate cached instances when the provider changes")
+        void shouldInvalidateOnProviderChange() {
+            // Given
+            AlwaysMaskCondition reflective = MaskConditionFactory.getCondition(AlwaysMaskCondition.class);
+            AlwaysMaskCondition bean = new AlwaysMaskCondition();
+
+            // When
+            MaskConditionFactory.setFrameworkProvider(new CountingProvider(new AtomicInteger(), bean));
+            AlwaysMaskCondition provided = MaskConditionFactory.getCondition(AlwaysMaskCondition.class);
+            MaskConditionFactory.clearFrameworkProvider();
+            AlwaysMaskCondition afterClear = MaskConditionFactory.getCondition(AlwaysMaskCondition.class);
+
+            // Then
+            assertSame(bean, provided);
+            assertNotSame(reflective, provided);
+            assertNotSame(bean, afterClear);
+        }
+    }
+
+    @Nested
+    @DisplayName("isStateless method")
+    class IsStatelessMethod {
+
+        @Test
+        @DisplayName("should detect conditions overriding setInput")
+        void shouldDetectInputCarryingConditions() {
+            // Then
+            assertTrue(MaskConditionFactory.isStateless(AlwaysMaskCondition.class));
+            assertFalse(MaskConditionFactory.isStateless(MaskPhone.class));
+        }
+    }
+
+    private record CountingProvider(AtomicInteger lookups, Object instance) implements FrameworkProvider {
+
+        @Override
+        public <T> T getInstance(Class<T> type) {
+            lookups.incrementAndGet();
+            return type.isInstance(instance) ? type.cast(instance) : null;
+        }
+    }
+
+    public static class NoDefaultConstructorCondition implements MaskCondition {
+
+        public NoDefaultConstructorCondition(String ignored) {
+        }
+
+        @Override
+        public boolean shouldMask(Object fieldValue, Object containingObject) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,672 @@
+package com.javamsdt.masking.maskme.api.masking;
+
+import com.javamsdt.masking.maskme.api.converter.Converter;
+import com.javamsdt.masking.maskme.api.converter.ConverterRegistry;
+import com.javamsdt.masking.maskme.api.converter.IntMaskConverter;
+import com.javamsdt.masking.maskme.implemintation.masking.AlwaysMaskCondition;
+import com.javamsdt.masking.maskme.implemintation.masking.MaskPhone;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("MaskEngine Parity Tests")
+class MaskEngineParityTest {
+
+    @Nested
+    @DisplayName("MaskProcessor scenarios")
+    class ProcessorScenarios {
+
+        @ParameterizedTest
+        @EnumSource(MaskEngine.class)
+        @DisplayName("should handle circular references")
+        void shouldHandleCircularReferences(MaskEngine engine) {
+            // Given
+            MaskProcessor processor = new MaskProcessor(engine);
+            TestClass testClass = new TestClass("John", "john@test.com");
+
+            // When
+            TestClass result1 = processor.process(testClass);
+            TestClass result2 = processor.process(result1);
+
+            // Then
+            assertNotNull(result1);
+            assertNotNull(result2);
+        }
+
+        @ParameterizedTest
+        @EnumSource(MaskEngine.class)
+        @DisplayName("should mask annotated record component and keep others")
+        void shouldMaskAnnotatedRecordComponent(MaskEngine engine) {
+            // Given
+            MaskProcessor processor = new MaskProcessor(engine);
+            TestRecord testRecord = new TestRecord("John", "john@test.com");
+
+            // When
+            TestRecord result = processor.process(testRecord);
+
+            // Then
+            assertEquals("****[][]", result.name());
+            assertEquals("john@test.com", result.email());
+        }
+
+        @ParameterizedTest
+        @EnumSource(MaskEngine.class)
+        @DisplayName("should return a masked copy of a regular class")
+        void shouldReturnMaskedCopyOfRegularClass(MaskEngine engine) {
+            // Given
+            MaskProcessor processor = new MaskProcessor(engine);
+            TestClass testClass = new TestClass("John", "john@test.com");
+
+            // When
+            TestClass result = processor.process(testClass);
+
+            // Then
+            assertNotSame(testClass, result);
+            assertEquals("****[][]", result.getName());
+            assertEquals("john@test.com", result.getEmail());
+            assertEquals("John", testClass.getName());
+        }
+
+        @ParameterizedTest
+        @EnumSource(MaskEngine.class)
+        @DisplayName("should produce the same result when the cached routine is reused")
+        void shouldProduceSameResultWhenRoutineIsReused(MaskEngine engine) {
+            // Given
+            MaskProcessor processor = new MaskProcessor(engine);
+            NestedTestClass first = new NestedTestClass("Outer", new TestClass("John", "john@test.com"));
+            NestedTestClass second = new NestedTestClass("Outer", new TestClass("Jane", "jane@test.com"));
+
+            // When
+            NestedTestClass firstResult = processor.process(first);
+            NestedTestClass secondResult = processor.process(second);
+
+            // Then
+            assertEquals("****[][]", firstResult.getName());
+            assertEquals("****[][]", firstResult.getTestClass().getName());
+            assertEquals("****[][]", secondResult.getName());
+            assertEquals("****[][]", secondResult.getTestClass().getName());
+            assertEquals("jane@test.com", secondResult.getTestClass().getEmail());
+        }
+
+        @ParameterizedTest
+        @EnumSource(MaskEngine.class)
+        @DisplayName("should mask annotations nested below an unannotated type")
+        void shouldMaskThroughUnannotatedType(MaskEngine engine) {
+            // Given
+            MaskProcessor processor = new MaskProcessor(engine);
+            WrapperRecord wrapper = new WrapperRecord("Outer", new TestRecord("John", "john@test.com"));
+            HolderRecord holder = new HolderRecord(wrapper);
+
+            // When
+            HolderRecord result = processor.process(holder);
+
+            // Then
+            assertEquals("****[][]", result.wrapper().inner().name());
+            assertEquals("Outer", result.wrapper().label());
+            assertEquals("John", holder.wrapper().inner().name());
+        }
+
+        @ParameterizedTest
+        @EnumSource(MaskEngine.class)
+        @DisplayName("should apply condition input and clear it")
+        void shouldApplyConditionInput(MaskEngine engine) {
+            // Given
+            MaskProcessor processor = new MaskProcessor(engine);
+            TestRecordWithPhone phone = new TestRecordWithPhone("John", "+1-555-0100");
+            processor.setConditionInput(MaskPhone.class,
+                    Map.of(MaskPhone.MASK_PHONE_KEY_ONE, "yes", MaskPhone.MASK_PHONE_KEY_TWO, "YES"));
+
+            // When
+            TestRecordWithPhone masked = processor.process(phone);
+            processor.clearInputs();
+
+            // Then
+            assertEquals("****", masked.phone());
+            assertEquals("John", masked.name());
+            assertDoesNotThrow(() -> processor.clearInputs());
+        }
+    }
+
+    @Nested
+    @DisplayName("batch processing")
+    class BatchProcessing {
+
+        @ParameterizedTest
+        @EnumSource(MaskEngine.class)
+        @DisplayName("should keep order and pass condition inputs to parallel workers")
+        void shouldProcessInParallel(MaskEngine engine) {
+            // Given
+            MaskProcessor processor = new MaskProcessor(engine);
+            processor.setParallelThreshold(8);
+            List<TestRecordWithPhone> input = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                input.add(new TestRecordWithPhone("user-" + i, "+1-555-" + i));
+            }
+            processor.setConditionInput(MaskPhone.class,
+                    Map.of(MaskPhone.MASK_PHONE_KEY_ONE, "yes", MaskPhone.MASK_PHONE_KEY_TWO, "YES"));
+
+            // When
+            List<TestRecordWithPhone> result;
+            try {
+                result = processor.processAll(input);
+            } finally {
+                processor.clearInputs();
+            }
+
+            // Then
+            assertEquals(500, result.size());
+            for (int i = 0; i < 500; i++) {
+                assertEquals("user-" + i, result.get(i).name());
+                assertEquals("****", result.get(i).phone());
+            }
+        }
+
+        @ParameterizedTest
+        @EnumSource(MaskEngine.class)
+        @DisplayName("should use the caller's thread converters on every parallel worker")
+        void shouldUseCallerConvertersOnWorkers(MaskEngine engine) {
+            // Given
+            assertTrue(ForkJoinPool.getCommonPoolParallelism() > 1, "needs several common-pool workers");
+            MaskProcessor processor = new MaskProcessor(engine);
+            processor.setParallelThreshold(4);
+            List<TestRecord> input = new ArrayList<>();
+            for (int i = 0; i < 2000; i++) {
+                input.add(new TestRecord("user-" + i, "mail-" + i));
+            }
+            ThreadRecordingConverter converter = new ThreadRecordingConverter();
+            ConverterRegistry.registerThreadLocal(converter);
+
+            // When
+            List<TestRecord> result;
+            try {
+                result = processor.processAll(input);
+            } finally {
+                ConverterRegistry.clearThreadLocal();
+            }
+
+            // Then
+            assertEquals(2000, result.size());
+            assertTrue(result.stream().allMatch(masked -> masked.name().equals("THREAD")));
+            assertTrue(converter.threads.stream().anyMatch(ForkJoinWorkerThread.class::isInstance));
+        }
+    }
+
+    @Nested
+    @DisplayName("container traversal")
+    class ContainerTraversal {
+
+        @ParameterizedTest
+        @EnumSource(MaskEngine.class)
+        @DisplayName("should mask elements of list, map, optional and array slots")
+        void shouldMaskContainerSlots(MaskEngine engine) {
+            // Given
+            MaskProcessor processor = new MaskProcessor(engine);
+            TestRecord john = new TestRecord("John", "john@test.com");
+            ContainerRecord input = new ContainerRecord(
+                    List.of(john), Map.of("k", john), Optional.of(john), new TestRecord[]{john}, List.of("plain"));
+
+            // When
+            ContainerRecord result = processor.process(input);
+
+            // Then
+            assertEquals("****[][]", result.list().getFirst().name());
+            assertEquals("****[][]", result.map().get("k").name());
+            assertEquals("****[][]", result.optional().orElseThrow().name());
+            assertEquals("****[][]", result.array()[0].name());
+            assertSame(input.names(), result.names());
+            assertEquals("John", john.name());
+        }
+
+        @ParameterizedTest
+        @EnumSource(MaskEngine.class)
+        @DisplayName("should keep every set element when masking makes elements equal")
+        void shouldKeepSetElementsThatBecomeEqual(MaskEngine engine) {
+            // Given
+            MaskProcessor processor = new MaskProcessor(engine);
+            Set<TestRecord> tags = new HashSet<>(List.of(
+                    new TestRecord("a", "tag"), new TestRecord("b", "tag"), new TestRecord("c", "tag")));
+            SortedSet<TestRecord> sorted = new TreeSet<>(Comparator.comparing(TestRecord::name));
+            sorted.addAll(tags);
+            Set<TestRecord> distinct = new HashSet<>(List.of(new TestRecord("a", "x"), new TestRecord("b", "y")));
+
+            // When
+            Set<TestRecord> maskedTags = processor.process(tags);
+            SortedSet<TestRecord> maskedSorted = processor.process(sorted);
+            Set<TestRecord> maskedDistinct = processor.process(distinct);
+
+            // Then
+            assertEquals(3, maskedTags.size());
+            assertTrue(maskedTags.stream().allMatch(tag -> tag.name().startsWith("****")));
+            assertEquals(3, maskedSorted.size());
+            assertEquals(3, maskedSorted.headSet(new TestRecord("z", "tag")).size());
+            assertSame(sorted.comparator(), maskedSorted.comparator());
+            assertThrows(UnsupportedOperationException.class, () -> maskedTags.add(new TestRecord("d", "tag")));
+            assertInstanceOf(HashSet.class, maskedDistinct);
+            assertEquals(2, maskedDistinct.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("engine equivalence")
+    class EngineEquivalence {
+
+        @Test
+        @DisplayName("should produce equal results for primitives, nulls and embedded objects")
+        void shouldProduceEqualResults() {
+            // Given
+            PrimitiveRecord input = new PrimitiveRecord(42, 7L, true, null, new TestRecord("John", "john@test.com"));
+
+            // When
+            PrimitiveRecord reflective = new MaskProcessor(MaskEngine.REFLECTIVE).process(input);
+            PrimitiveRecord bytecode = new MaskProcessor(MaskEngine.BYTECODE).process(input);
+
+            // Then
+            assertEquals(reflective, bytecode);
+            assertEquals(0, bytecode.count());
+            assertEquals(7L, bytecode.total());
+            assertEquals("****[][]", bytecode.inner().name());
+        }
+
+        @Test
+        @DisplayName("should produce equal results for every primitive type")
+        void shouldProduceEqualResultsForEveryPrimitive() {
+            // Given
+            AllPrimitivesRecord record = new AllPrimitivesRecord(1, 2L, 3.0, 4.0f, (short) 5, (byte) 6, false, 'a', 9);
+            AllPrimitivesClass object = new AllPrimitivesClass(1, 2L, 3.0, 4.0f, (short) 5, (byte) 6, false, 'a', 9);
+
+            // When
+            AllPrimitivesRecord reflectiveRecord = new MaskProcessor(MaskEngine.REFLECTIVE).process(record);
+            AllPrimitivesRecord bytecodeRecord = new MaskProcessor(MaskEngine.BYTECODE).process(record);
+            AllPrimitivesClass reflectiveObject = new MaskProcessor(MaskEngine.REFLECTIVE).process(object);
+            AllPrimitivesClass bytecodeObject = new MaskProcessor(MaskEngine.BYTECODE).process(object);
+
+            // Then
+            AllPrimitivesRecord expected = new AllPrimitivesRecord(-1, 9_000_000_000L, 0.5, 1.5f, (short) 7, (byte) 8, true, 'x', 9);
+            assertEquals(expected, reflectiveRecord);
+            assertEquals(expected, bytecodeRecord);
+            assertEquals(expected, reflectiveObject.toRecord());
+            assertEquals(expected, bytecodeObject.toRecord());
+            assertEquals(9, object.plain);
+        }
+
+        @ParameterizedTest
+        @EnumSource(MaskEngine.class)
+        @DisplayName("should convert checked int, long and double slots without boxing")
+        void shouldConvertCheckedPrimitivesWithoutBoxing(MaskEngine engine) {
+            // Given
+            MaskProcessor processor = new MaskProcessor(engine);
+            CheckedPrimitivesRecord input = new CheckedPrimitivesRecord(1, 2L, 3.0, "a");
+            CountingIntConverter converter = new CountingIntConverter();
+            ConverterRegistry.registerThreadLocal(converter);
+
+            // When
+            CheckedPrimitivesRecord masked;
+            CheckedPrimitivesRecord kept;
+            try {
+                processor.setConditionInput(MaskPhone.class,
+                        Map.of(MaskPhone.MASK_PHONE_KEY_ONE, "yes", MaskPhone.MASK_PHONE_KEY_TWO, "YES"));
+                masked = processor.process(input);
+                processor.setConditionInput(MaskPhone.class,
+                        Map.of(MaskPhone.MASK_PHONE_KEY_ONE, "yes", MaskPhone.MASK_PHONE_KEY_TWO, "no"));
+                kept = processor.process(input);
+            } finally {
+                processor.clearInputs();
+                ConverterRegistry.clearThreadLocal();
+            }
+
+            // Then
+            assertEquals(new CheckedPrimitivesRecord(-1, 9_000_000_000L, -0.0, "a"), masked);
+            assertEquals(1, converter.unboxedCalls.get());
+            assertEquals(0, converter.boxedCalls.get());
+            assertSame(input, kept);
+            assertNotNull(HiddenClassMaskers.find(CheckedPrimitivesRecord.class));
+        }
+
+        @ParameterizedTest
+        @EnumSource(MaskEngine.class)
+        @DisplayName("should process annotated embedded values whose conditions do not apply")
+        void shouldProcessUnmaskedAnnotatedEmbeddedValues(MaskEngine engine) {
+            // Given
+            MaskProcessor processor = new MaskProcessor(engine);
+            GeneratedOuter generated = new GeneratedOuter(new GeneratedInner("secret"));
+            PrivateOuter runtime = new PrivateOuter(new GeneratedInner("secret"));
+
+            // When
+            GeneratedOuter generatedResult = processor.process(generated);
+            PrivateOuter runtimeResult = processor.process(runtime);
+
+            // Then
+            assertNotNull(GeneratedMaskers.find(GeneratedOuter.class));
+            assertNull(GeneratedMaskers.find(PrivateOuter.class));
+            assertTrue(generatedResult.inner().secret().startsWith("****"));
+            assertEquals(runtimeResult.inner(), generatedResult.inner());
+            assertEquals("secret", generated.inner().secret());
+        }
+
+        @Test
+        @DisplayName("should generate hidden-class maskers for private nested types")
+        void shouldGenerateHiddenClassMasker() {
+            // Then
+            assertNotNull(HiddenClassMaskers.find(TestRecord.class));
+            assertNotNull(HiddenClassMaskers.find(TestClass.class));
+        }
+
+        @Test
+        @DisplayName("should fall back to the reflective plan for final fields")
+        void shouldFallBackForFinalFields() {
+            // Given
+            FinalFieldClass input = new FinalFieldClass("secret", "plain");
+
+            // When
+            FinalFieldClass result = new MaskProcessor(MaskEngine.BYTECODE).process(input);
+
+            // Then
+            assertNull(HiddenClassMaskers.find(FinalFieldClass.class));
+            assertEquals("****", result.secret);
+            assertEquals("plain", result.plain);
+        }
+    }
+
+    @Nested
+    @DisplayName("structural sharing")
+    class StructuralSharing {
+
+        @ParameterizedTest
+        @EnumSource(MaskEngine.class)
+        @DisplayName("should return the original objects when nothing is masked")
+        void shouldReturnOriginalWhenNothingMasked(MaskEngine engine) {
+            // Given
+            MaskProcessor processor = new MaskProcessor(engine);
+            TestRecordWithPhone phone = new TestRecordWithPhone("John", "+1-555-0100");
+            SharingClass sharing = new SharingClass("label", "+1-555-0100", null);
+
+            // When
+            TestRecordWithPhone phoneResult = processor.process(phone);
+            SharingClass sharingResult = processor.process(sharing);
+
+            // Then
+            assertSame(phone, phoneResult);
+            assertSame(sharing, sharingResult);
+        }
+
+        @ParameterizedTest
+        @EnumSource(MaskEngine.class)
+        @DisplayName("should copy only the path from a masked value to the root")
+        void shouldCopyOnlyChangedSpine(MaskEngine engine) {
+            // Given
+            MaskProcessor processor = new MaskProcessor(engine);
+            TestRecordWithPhone untouched = new TestRecordWithPhone("Jane", "+1-555-0101");
+            SpineRecord input = new SpineRecord(new WrapperRecord("w", new TestRecord("John", "john@test.com")), untouched);
+
+            // When
+            SpineRecord result = processor.process(input);
+
+            // Then
+            assertNotSame(input, result);
+            assertNotSame(input.changed(), result.changed());
+            assertEquals("****[][]", result.changed().inner().name());
+            assertSame(untouched, result.untouched());
+        }
+
+        @ParameterizedTest
+        @EnumSource(MaskEngine.class)
+        @DisplayName("should keep slots before the first changed one in the copy")
+        void shouldCopyUnchangedLeadingSlots(MaskEngine engine) {
+            // Given
+            MaskProcessor processor = new MaskProcessor(engine);
+            SharingClass input = new SharingClass("label", "+1-555-0100", new TestRecord("John", "john@test.com"));
+
+            // When
+            SharingClass result = processor.process(input);
+
+            // Then
+            assertNotSame(input, result);
+            assertEquals("label", result.label);
+            assertEquals("+1-555-0100", result.phone);
+            assertEquals("****[][]", result.inner.name());
+        }
+    }
+
+    // Test helper classes
+    private record TestRecord(
+            @MaskMe(conditions = {AlwaysMaskCondition.class}) String name,
+            String email
+    ) {}
+
+    private static final class CountingIntConverter implements IntMaskConverter {
+
+        private final AtomicInteger boxedCalls = new AtomicInteger();
+        private final AtomicInteger unboxedCalls = new AtomicInteger();
+
+        @Override
+        public boolean canConvert(Class<?> type) {
+            return type == int.class;
+        }
+
+        @Override
+        public Object convert(String maskValue, Class<?> targetType, Object originalValue,
+                              Object containingObject, String fieldName) {
+            boxedCalls.incrementAndGet();
+            return Integer.parseInt(maskValue);
+        }
+
+        @Override
+        public int convertInt(String value, int originalValue, Object containingObject, String fieldName) {
+            unboxedCalls.incrementAndGet();
+            return Integer.parseInt(value);
+        }
+
+        @Override
+        public int getPriority() {
+            return Integer.MAX_VALUE;
+        }
+    }
+
+    private static final class ThreadRecordingConverter implements Converter {
+
+        private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public boolean canConvert(Class<?> type) {
+            return type == String.class;
+        }
+
+        @Override
+        public Object convert(String maskValue, Class<?> targetType, Object originalValue,
+                              Object containingObject, String fieldName) {
+            threads.add(Thread.currentThread());
+            return "THREAD";
+        }
+
+        @Override
+        public int getPriority() {
+            return Integer.MAX_VALUE;
+        }
+    }
+
+    // Package-private, so the annotation processor generates maskers for them
+    record GeneratedOuter(@MaskMe(conditions = {NeverMaskCondition.class}) GeneratedInner inner) {}
+
+    record GeneratedInner(@MaskMe(conditions = {AlwaysMaskCondition.class}) String secret) {}
+
+    private record PrivateOuter(@MaskMe(conditions = {NeverMaskCondition.class}) GeneratedInner inner) {}
+
+    public static class NeverMaskCondition implements MaskCondition {
+        @Override
+        public boolean shouldMask(Object fieldValue, Object containingObject) {
+            return false;
+        }
+    }
+
+    private record ContainerRecord(
+            List<TestRecord> list,
+            Map<String, TestRecord> map,
+            Optional<TestRecord> optional,
+            TestRecord[] array,
+            List<String> names
+    ) {}
+
+    private record WrapperRecord(String label, TestRecord inner) {}
+
+    private record HolderRecord(WrapperRecord wrapper) {}
+
+    private record SpineRecord(WrapperRecord changed, TestRecordWithPhone untouched) {}
+
+    private record TestRecordWithPhone(
+            String name,
+            @MaskMe(conditions = {MaskPhone.class}) String phone
+    ) {}
+
+    private record PrimitiveRecord(
+            @MaskMe(conditions = {AlwaysMaskCondition.class}, maskValue = "0") int count,
+            long total,
+            boolean active,
+            @MaskMe(conditions = {AlwaysMaskCondition.class}, maskValue = "") String note,
+            TestRecord inner
+    ) {}
+
+    private record CheckedPrimitivesRecord(
+            @MaskMe(conditions = {MaskPhone.class}, maskValue = "-1") int i,
+            @MaskMe(conditions = {MaskPhone.class}, maskValue = "9000000000") long l,
+            @MaskMe(conditions = {MaskPhone.class}, maskValue = "-0.0") double d,
+            String plain
+    ) {}
+
+    private record AllPrimitivesRecord(
+            @MaskMe(conditions = {AlwaysMaskCondition.class}, maskValue = "-1") int i,
+            @MaskMe(conditions = {AlwaysMaskCondition.class}, maskValue = "9000000000") long l,
+            @MaskMe(conditions = {AlwaysMaskCondition.class}, maskValue = "0.5") double d,
+            @MaskMe(conditions = {AlwaysMaskCondition.class}, maskValue = "1.5") float f,
+            @MaskMe(conditions = {AlwaysMaskCondition.class}, maskValue = "7") short s,
+            @MaskMe(conditions = {AlwaysMaskCondition.class}, maskValue = "8") byte b,
+            @MaskMe(conditions = {AlwaysMaskCondition.class}, maskValue = "true") boolean z,
+            @MaskMe(conditions = {AlwaysMaskCondition.class}, maskValue = "x") char c,
+            int plain
+    ) {}
+
+    private static class AllPrimitivesClass {
+        @MaskMe(conditions = {AlwaysMaskCondition.class}, maskValue = "-1")
+        private int i;
+        @MaskMe(conditions = {AlwaysMaskCondition.class}, maskValue = "9000000000")
+        private long l;
+        @MaskMe(conditions = {AlwaysMaskCondition.class}, maskValue = "0.5")
+        private double d;
+        @MaskMe(conditions = {AlwaysMaskCondition.class}, maskValue = "1.5")
+        private float f;
+        @MaskMe(conditions = {AlwaysMaskCondition.class}, maskValue = "7")
+        private short s;
+        @MaskMe(conditions = {AlwaysMaskCondition.class}, maskValue = "8")
+        private byte b;
+        @MaskMe(conditions = {AlwaysMaskCondition.class}, maskValue = "true")
+        private boolean z;
+        @MaskMe(conditions = {AlwaysMaskCondition.class}, maskValue = "x")
+        private char c;
+        private int plain;
+
+        public AllPrimitivesClass() {}
+
+        public AllPrimitivesClass(int i, long l, double d, float f, short s, byte b, boolean z, char c, int plain) {
+            this.i = i;
+            this.l = l;
+            this.d = d;
+            this.f = f;
+            this.s = s;
+            this.b = b;
+            this.z = z;
+            this.c = c;
+            this.plain = plain;
+        }
+
+        AllPrimitivesRecord toRecord() {
+            return new AllPrimitivesRecord(i, l, d, f, s, b, z, c, plain);
+        }
+    }
+
+    private static class TestClass {
+        @MaskMe(conditions = {AlwaysMaskCondition.class})
+        private String name;
+        private String email;
+
+        public TestClass() {}
+
+        public TestClass(String name, String email) {
+            this.name = name;
+            this.email = email;
+        }
+
+        public String getName() { return name; }
+        public String getEmail() { return email; }
+    }
+
+    private static class NestedTestClass {
+        @MaskMe(conditions = {AlwaysMaskCondition.class})
+        private String name;
+        private TestClass testClass;
+
+        public NestedTestClass() {}
+
+        public NestedTestClass(String name, TestClass testClass) {
+            this.name = name;
+            this.testClass = testClass;
+        }
+
+        public String getName() { return name; }
+        public TestClass getTestClass() { return testClass; }
+    }
+
+    private static class FinalFieldClass {
+        @MaskMe(conditions = {AlwaysMaskCondition.class})
+        private final String secret;
+        private final String plain;
+
+        public FinalFieldClass() {
+            this(null, null);
+        }
+
+        public FinalFieldClass(String secret, String plain) {
+            this.secret = secret;
+            this.plain = plain;
+        }
+    }
+
+    private static class SharingClass {
+        private String label;
+        @MaskMe(conditions = {MaskPhone.class})
+        private String phone;
+        private TestRecord inner;
+
+        public SharingClass() {}
+
+        public SharingClass(String label, String phone, TestRecord inner) {
+            this.label = label;
+            this.phone = phone;
+            this.inner = inner;
+        }
+    }
+}
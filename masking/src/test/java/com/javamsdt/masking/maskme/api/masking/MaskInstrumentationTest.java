@@ -0,0 +1,173 @@
+package com.javamsdt.masking.maskme.api.masking;
+
+import com.javamsdt.masking.maskme.api.converter.Converter;
+import com.javamsdt.masking.maskme.implemintation.masking.AlwaysMaskCondition;
+import com.javamsdt.masking.maskme.implemintation.masking.MaskPhone;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("MaskInstrumentation Tests")
+class MaskInstrumentationTest {
+
+    private final MaskProcessor processor = new MaskProcessor();
+    private final MaskingContext context = MaskingContext.empty().withInput(MaskPhone.class,
+            Map.of(MaskPhone.MASK_PHONE_KEY_ONE, "yes", MaskPhone.MASK_PHONE_KEY_TWO, "yes"));
+    private final RecordingMetrics metrics = new RecordingMetrics();
+
+    @BeforeEach
+    void setUp() {
+        MaskInstrumentation.setMetrics(metrics);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MaskInstrumentation.clearMetrics();
+    }
+
+    @Nested
+    @DisplayName("metrics")
+    class Metrics {
+
+        @Test
+        @DisplayName("should record every processed object with its depth and masked fields")
+        void shouldRecordProcessedObjects() {
+            // Given
+            Order order = new Order("A-1", new Customer("+1-555-0100"));
+
+            // When
+            processor.process(order, context);
+
+            // Then
+            assertTrue(metrics.processed.contains("Customer@1:1"));
+            assertTrue(metrics.processed.contains("Order@0:2"));
+            assertEquals(2, metrics.processed.size());
+        }
+
+        @Test
+        @DisplayName("should record evaluated conditions but not constant ones")
+        void shouldRecordConditions() {
+            // Given
+            Order order = new Order("A-1", new Customer("+1-555-0100"));
+
+            // When
+            processor.process(order, context);
+
+            // Then
+            assertEquals(List.of("MaskPhone:true"), metrics.conditions);
+        }
+
+        @Test
+        @DisplayName("should report a converter cache miss, then a hit for the same constant")
+        void shouldRecordConverterSelections() {
+            // Given
+            Ticket ticket = new Ticket(3);
+
+            // When
+            processor.process(ticket);
+            processor.process(ticket);
+
+            // Then
+            assertEquals(2, metrics.selections.size());
+            assertTrue(metrics.selections.get(0).endsWith("->Integer:miss"));
+            assertTrue(metrics.selections.get(1).endsWith("->Integer:hit"));
+        }
+
+        @Test
+        @DisplayName("should stop recording once metrics are cleared")
+        void shouldStopAfterClear() {
+            // Given
+            MaskInstrumentation.clearMetrics();
+
+            // When
+            processor.process(new Order("A-1", new Customer("+1-555-0100")), context);
+
+            // Then
+            assertFalse(MaskInstrumentation.hasMetrics());
+            assertTrue(metrics.processed.isEmpty());
+            assertTrue(metrics.conditions.isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("flight recorder events")
+    class FlightRecorder {
+
+        @Test
+        @DisplayName("should emit process, condition and converter events while recording")
+        void shouldEmitEvents() throws Exception {
+            // Given
+            MaskInstrumentation.clearMetrics();
+            Order order = new Order("A-1", new Customer("+1-555-0100"));
+            Path file = Files.createTempFile("maskme", ".jfr");
+
+            // When
+            try (Recording recording = new Recording()) {
+                recording.enable("com.javamsdt.maskme.Process");
+                recording.enable("com.javamsdt.maskme.Condition");
+                recording.enable("com.javamsdt.maskme.ConverterSelection");
+                recording.start();
+                processor.process(order, context);
+                recording.stop();
+                recording.dump(file);
+            }
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            Files.deleteIfExists(file);
+
+            // Then
+            RecordedEvent root = events.stream()
+                    .filter(event -> event.getEventType().getName().equals("com.javamsdt.maskme.Process"))
+                    .filter(event -> event.getInt("depth") == 0)
+                    .findFirst()
+                    .orElseThrow();
+            assertEquals(Order.class.getName(), root.getClass("type").getName());
+            assertEquals(2, root.getInt("fieldsMasked"));
+            assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().equals("com.javamsdt.maskme.Condition")
+                    && event.getBoolean("masked")));
+            assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().equals("com.javamsdt.maskme.ConverterSelection")));
+        }
+    }
+
+    // Test helper classes
+    record Order(@MaskMe(conditions = {AlwaysMaskCondition.class}, maskValue = "ORDER-MASKED") String code, Customer customer) {}
+
+    record Customer(@MaskMe(conditions = {MaskPhone.class}, maskValue = "PHONE-MASKED") String phone) {}
+
+    record Ticket(@MaskMe(conditions = {AlwaysMaskCondition.class}, maskValue = "-42") Integer seats) {}
+
+    static class RecordingMetrics implements MaskMetrics {
+        final List<String> processed = new CopyOnWriteArrayList<>();
+        final List<String> conditions = new CopyOnWriteArrayList<>();
+        final List<String> selections = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void recordProcess(Class<?> type, int depth, int fieldsMasked, long durationNanos) {
+            processed.add(type.getSimpleName() + "@" + depth + ":" + fieldsMasked);
+        }
+
+        @Override
+        public void recordCondition(Class<? extends MaskCondition> conditionClass, boolean masked, long durationNanos) {
+            conditions.add(conditionClass.getSimpleName() + ":" + masked);
+        }
+
+        @Override
+        public void recordConverterSelection(Class<? extends Converter> converterClass, Class<?> targetType, boolean cacheHit) {
+            selections.add(converterClass.getSimpleName() + "->" + targetType.getSimpleName() + (cacheHit ? ":hit" : ":miss"));
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.javamsdt.masking.maskme.api.masking;
+
+import com.javamsdt.masking.maskme.implemintation.masking.AlwaysMaskCondition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("MaskPlan Tests")
+class MaskPlanTest {
+
+    @Nested
+    @DisplayName("requiresMasking method")
+    class RequiresMaskingMethod {
+
+        @Test
+        @DisplayName("should require masking for directly annotated classes and records")
+        void shouldRequireMaskingForAnnotatedTypes() {
+            // Then
+            assertTrue(MaskPlan.requiresMasking(Leaf.class));
+            assertTrue(MaskPlan.requiresMasking(LeafRecord.class));
+            assertTrue(MaskPlan.requiresMasking(SubLeaf.class));
+        }
+
+        @Test
+        @DisplayName("should require masking when annotations are reachable through nested types")
+        void shouldRequireMaskingTransitively() {
+            // Then
+            assertTrue(MaskPlan.requiresMasking(Middle.class));
+            assertTrue(MaskPlan.requiresMasking(Top.class));
+        }
+
+        @Test
+        @DisplayName("should skip unannotated graphs, including cyclic ones")
+        void shouldSkipUnannotatedGraphs() {
+            // Then
+            assertFalse(MaskPlan.requiresMasking(Plain.class));
+            assertFalse(MaskPlan.requiresMasking(CyclicNode.class));
+        }
+
+        @Test
+        @DisplayName("should skip standard Java types")
+        void shouldSkipStandardTypes() {
+            // Then
+            assertFalse(MaskPlan.requiresMasking(String.class));
+            assertFalse(MaskPlan.requiresMasking(BigDecimal.class));
+            assertFalse(MaskPlan.requiresMasking(LocalDate.class));
+            assertFalse(MaskPlan.requiresMasking(ArrayList.class));
+        }
+
+        @Test
+        @DisplayName("should find annotations behind a cycle")
+        void shouldFindAnnotationsBehindCycle() {
+            // Then
+            assertTrue(MaskPlan.requiresMasking(CycleA.class));
+            assertTrue(MaskPlan.requiresMasking(CycleB.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("isAcyclic method")
+    class IsAcyclicMethod {
+
+        @Test
+        @DisplayName("should treat records of value types and acyclic records as acyclic")
+        void shouldTreatValueRecordsAsAcyclic() {
+            // Then
+            assertTrue(MaskPlan.of(LeafRecord.class).isAcyclic());
+            assertTrue(MaskPlan.of(Envelope.class).isAcyclic());
+        }
+
+        @Test
+        @DisplayName("should track records reaching classes, containers or their own type")
+        void shouldTrackPossiblyCyclicRecords() {
+            // Then
+            assertFalse(MaskPlan.of(Top.class).isAcyclic());
+            assertFalse(MaskPlan.of(Batch.class).isAcyclic());
+            assertFalse(MaskPlan.of(TreeRecord.class).isAcyclic());
+            assertFalse(MaskPlan.of(Leaf.class).isAcyclic());
+        }
+    }
+
+    // Test helper classes
+    private static class Leaf {
+        @MaskMe(conditions = {AlwaysMaskCondition.class})
+        private String secret;
+    }
+
+    private static class SubLeaf extends Leaf {
+        private String extra;
+    }
+
+    private record LeafRecord(@MaskMe(conditions = {AlwaysMaskCondition.class}) String secret) {}
+
+    private static class Middle {
+        private String label;
+        private Leaf leaf;
+    }
+
+    private record Top(String name, Middle middle) {}
+
+    private record Envelope(String label, LocalDate sent, LeafRecord first, LeafRecord second) {}
+
+    private record Batch(String label, List<LeafRecord> items) {}
+
+    private record TreeRecord(String label, TreeRecord parent) {}
+
+    private static class Plain {
+        private String name;
+        private LocalDate date;
+    }
+
+    private static class CyclicNode {
+        private String name;
+        private CyclicNode next;
+    }
+
+    private static class CycleA {
+        private CycleB b;
+    }
+
+    private static class CycleB {
+        private CycleA a;
+        private Leaf leaf;
+    }
+}
@@ -0,0 +1,94 @@
+package com.javamsdt.masking.maskme.api.masking;
+
+import com.javamsdt.masking.maskme.implemintation.masking.AlwaysMaskCondition;
+import com.javamsdt.masking.maskme.implemintation.masking.MaskPhone;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("MaskReflection Tests")
+class MaskReflectionTest {
+
+    @Nested
+    @DisplayName("reflection targets")
+    class ReflectionTargets {
+
+        @Test
+        @DisplayName("should list the type and the masked types reachable from it")
+        void shouldListReachableMaskedTypes() {
+            // When
+            MaskReflection.Targets targets = MaskReflection.of(Customer.class);
+
+            // Then
+            assertEquals(List.of(Customer.class, Contact.class, Card.class), List.copyOf(targets.maskedTypes()));
+        }
+
+        @Test
+        @DisplayName("should list the conditions and field types of masked slots")
+        void shouldListConditionsAndFieldTypes() {
+            // When
+            MaskReflection.Targets targets = MaskReflection.of(Customer.class);
+
+            // Then
+            assertEquals(Set.of(AlwaysMaskCondition.class, MaskPhone.class), targets.conditions());
+            assertEquals(Set.of(String.class, LocalDate.class, Code.class), targets.fieldTypes());
+        }
+
+        @Test
+        @DisplayName("should include masked fields inherited from superclasses")
+        void shouldIncludeInheritedFields() {
+            // When
+            MaskReflection.Targets targets = MaskReflection.of(Card.class);
+
+            // Then
+            assertEquals(Set.of(Code.class, String.class), targets.fieldTypes());
+        }
+
+        @Test
+        @DisplayName("should return empty targets for types without masking")
+        void shouldReturnEmptyTargets() {
+            // When & Then
+            assertTrue(MaskReflection.of(Plain.class).isEmpty());
+            assertTrue(MaskReflection.of(String.class).isEmpty());
+            assertTrue(MaskReflection.of(Plain.class).conditions().isEmpty());
+        }
+    }
+
+    record Customer(@MaskMe(conditions = {AlwaysMaskCondition.class}) String name,
+                    @MaskMe(conditions = {AlwaysMaskCondition.class}) LocalDate birthDate,
+                    List<Contact> contacts,
+                    Card card,
+                    Plain plain) {
+    }
+
+    record Contact(@MaskMe(conditions = {MaskPhone.class}) String phone) {
+    }
+
+    static class Owned {
+        @MaskMe(conditions = {AlwaysMaskCondition.class})
+        private String owner;
+    }
+
+    static class Card extends Owned {
+        @MaskMe(conditions = {AlwaysMaskCondition.class})
+        private Code code;
+    }
+
+    static class Code {
+        private final String value;
+
+        Code(String value) {
+            this.value = value;
+        }
+    }
+
+    record Plain(String value) {
+    }
+}
@@ -0,0 +1,131 @@
+package com.javamsdt.masking.maskme.api.masking;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.javamsdt.masking.maskme.implemintation.masking.AlwaysMaskCondition;
+import com.javamsdt.masking.maskme.implemintation.masking.MaskPhone;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("MaskingSerializerModifier Tests")
+class MaskingSerializerModifierTest {
+
+    private final MaskProcessor processor = new MaskProcessor();
+    private final JsonMapper plainMapper = JsonMapper.builder().build();
+    private final JsonMapper maskingMapper = JsonMapper.builder()
+            .addModule(MaskingSerializerModifier.module(processor))
+            .build();
+
+    @Nested
+    @DisplayName("serialization")
+    class Serialization {
+
+        @Test
+        @DisplayName("should write the same JSON as serializing the processed copy")
+        void shouldMatchProcessedOutput() {
+            // Given
+            Account child = new Account("Child", "child@test.com", new BigDecimal("10.50"), LocalDate.of(2020, 5, 1), null);
+            Profile profile = new Profile("ABC-123", "visible");
+            Account account = new Account("John", "john@test.com", new BigDecimal("99.99"), LocalDate.of(1990, 1, 1),
+                    new Wrapper(profile, List.of(child)));
+
+            // When
+            String expected = plainMapper.writeValueAsString(processor.process(account));
+            String actual = maskingMapper.writeValueAsString(account);
+
+            // Then
+            assertEquals(expected, actual);
+            assertFalse(actual.contains("ABC-123"));
+            assertTrue(actual.contains("visible"));
+            assertEquals("John", account.name());
+        }
+
+        @Test
+        @DisplayName("should apply a masking context attached to the serialization")
+        void shouldApplyContextAttribute() {
+            // Given
+            Contact contact = new Contact("Jane", "+1-555-0100");
+            MaskingContext context = MaskingContext.empty().withInput(MaskPhone.class,
+                    Map.of(MaskPhone.MASK_PHONE_KEY_ONE, "yes", MaskPhone.MASK_PHONE_KEY_TWO, "yes"));
+
+            // When
+            String masked = maskingMapper.writer().withAttribute(MaskingContext.class, context).writeValueAsString(contact);
+            String unmasked = maskingMapper.writer()
+                    .withAttribute(MaskingContext.class, MaskingContext.empty().withInput(MaskPhone.class,
+                            Map.of(MaskPhone.MASK_PHONE_KEY_ONE, "yes", MaskPhone.MASK_PHONE_KEY_TWO, "no")))
+                    .writeValueAsString(contact);
+
+            // Then
+            assertEquals(plainMapper.writeValueAsString(processor.process(contact, context)), masked);
+            assertTrue(masked.contains("\"phone\":\"PHONE_MASKED\""));
+            assertTrue(unmasked.contains("+1-555-0100"));
+        }
+
+        @Test
+        @DisplayName("should apply inclusion rules to masked values")
+        void shouldApplyInclusionToMaskedValues() {
+            // Given
+            Profile profile = new Profile("ABC-123", "visible");
+            ClearedNote note = new ClearedNote("secret", profile);
+
+            // When
+            String expected = plainMapper.writeValueAsString(processor.process(note));
+            String actual = maskingMapper.writeValueAsString(note);
+
+            // Then
+            assertEquals(expected, actual);
+            assertFalse(actual.contains("text"));
+        }
+    }
+
+    // Test helper classes
+    record Account(
+            @MaskMe(conditions = {AlwaysMaskCondition.class}) String name,
+            String email,
+            @MaskMe(conditions = {AlwaysMaskCondition.class}, maskValue = "0") BigDecimal balance,
+            @MaskMe(conditions = {AlwaysMaskCondition.class}, maskValue = "2000-01-01") LocalDate opened,
+            Wrapper wrapper
+    ) {}
+
+    record Wrapper(Profile profile, List<Account> children) {}
+
+    record Contact(
+            String label,
+            @MaskMe(conditions = {MaskPhone.class}, maskValue = "PHONE_MASKED") String phone
+    ) {}
+
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    record ClearedNote(@MaskMe(conditions = {AlwaysMaskCondition.class}, maskValue = "") String text, Profile profile) {}
+
+    static class Profile {
+        @MaskMe(conditions = {AlwaysMaskCondition.class}, maskValue = "***-***")
+        private String code;
+        private String note;
+
+        Profile() {
+        }
+
+        Profile(String code, String note) {
+            this.code = code;
+            this.note = note;
+        }
+
+        public String getCode() {
+            return code;
+        }
+
+        public String getNote() {
+            return note;
+        }
+    }
+}
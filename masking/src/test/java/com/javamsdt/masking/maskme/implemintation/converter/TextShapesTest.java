@@ -0,0 +1,90 @@
+package com.javamsdt.masking.maskme.implemintation.converter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("TextShapes Tests")
+class TextShapesTest {
+
+    private static final List<String> SAMPLES = List.of(
+            "", "****", "-", "+", "0", "-0", "+7", "42", "007", "12a", "1.5", ".5", "5.", ".", "1e3", "1E-3",
+            "1e", "1e+", "-1.25E+3", "1.2.3", "2147483647", "2147483648", "-2147483648", "-2147483649",
+            "9223372036854775807", "9223372036854775808", "-9223372036854775808", "99999999999999999999",
+            " 1.5 ", "1.5d", "1.5F", "1f", "NaN", "-Infinity", "Infinityf", "0x1p3", "0x1.8p1f", "0x1",
+            "0xp1", "1e5f", "[name]", "1_000");
+
+    @Nested
+    @DisplayName("number shapes")
+    class NumberShapes {
+
+        @Test
+        @DisplayName("should accept exactly the integers Integer.parseInt and Long.parseLong accept")
+        void shouldMatchIntegerParsers() {
+            for (String sample : SAMPLES) {
+                assertEquals(parses(() -> Integer.parseInt(sample)),
+                        TextShapes.isInteger(sample, Integer.MIN_VALUE, Integer.MAX_VALUE), sample);
+                assertEquals(parses(() -> Long.parseLong(sample)),
+                        TextShapes.isInteger(sample, Long.MIN_VALUE, Long.MAX_VALUE), sample);
+            }
+        }
+
+        @Test
+        @DisplayName("should accept exactly the values BigInteger and BigDecimal accept")
+        void shouldMatchBigNumberParsers() {
+            for (String sample : SAMPLES) {
+                assertEquals(parses(() -> new BigInteger(sample)), TextShapes.isBigInteger(sample), sample);
+                assertEquals(parses(() -> new BigDecimal(sample)), TextShapes.isDecimal(sample), sample);
+            }
+        }
+
+        @Test
+        @DisplayName("should accept exactly the values Double.parseDouble accepts")
+        void shouldMatchDoubleParser() {
+            for (String sample : SAMPLES) {
+                assertEquals(parses(() -> Double.parseDouble(sample)), TextShapes.isFloatingPoint(sample), sample);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("pattern shapes")
+    class PatternShapes {
+
+        @Test
+        @DisplayName("should match digit placeholders and literal characters")
+        void shouldMatchPatterns() {
+            // When & Then
+            assertTrue(TextShapes.matches("2023-12-25", "dddd-dd-dd"));
+            assertFalse(TextShapes.matches("2023-12-5", "dddd-dd-dd"));
+            assertFalse(TextShapes.matches("2023/12/25", "dddd-dd-dd"));
+            assertTrue(TextShapes.startsWith("2023-12-25T10:30:00Z", "dddd-dd-ddTdd:dd"));
+            assertFalse(TextShapes.startsWith("****", "dd:dd"));
+        }
+
+        @Test
+        @DisplayName("should read digits between two positions")
+        void shouldReadDigits() {
+            // When & Then
+            assertEquals(12, TextShapes.digits("25/12/2023", 3, 5));
+            assertEquals(2023, TextShapes.digits("25/12/2023", 6, 10));
+        }
+    }
+
+    private static boolean parses(Runnable parser) {
+        try {
+            parser.run();
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,394 @@
+/**
+ * Copyright (c) 2025: Ahmed Samy, All rights reserved.
+ * LinkedIn: https://www.linkedin.com/in/java-msdt/
+ * GitHub: https://github.com/JAVA-MSDT
+ * Email: serenitydiver@hotmail.com
+ */
+package com.javamsdt.masking.maskme.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Annotation processor that generates a reflection-free masker for every type
+ * declaring {@code @MaskMe} fields or record components.
+ * For {@code com.acme.UserDto} it writes {@code com.acme.UserDtoMasker}, which reads
+ * fields directly, evaluates conditions and calls converters through {@code MaskerSupport}.
+ *
+ * <p>Supported types:
+ * - Records (accessor methods and canonical constructor)
+ * - Regular classes extending Object with a no-arg constructor, where every
+ *   instance field is non-final and either non-private or reachable through
+ *   getters/setters (explicit or generated by Lombok)
+ *
+ * <p>Unsupported types (private, generic, inner or inheriting classes) are skipped with
+ * a NOTE and keep using the runtime engine of {@code MaskProcessor}.
+ *
+ * @author Ahmed Samy
+ * @since 1.1.0
+ */
+@SupportedAnnotationTypes(MaskMeProcessor.MASK_ME)
+public class MaskMeProcessor extends AbstractProcessor {
+
+    static final String MASK_ME = "com.javamsdt.masking.maskme.api.masking.MaskMe";
+    static final String MASKER_SUFFIX = "Masker";
+
+    private static final String LOMBOK_DATA = "lombok.Data";
+    private static final String LOMBOK_GETTER = "lombok.Getter";
+    private static final String LOMBOK_SETTER = "lombok.Setter";
+    private static final String LOMBOK_NO_ARGS = "lombok.NoArgsConstructor";
+    private static final Set<String> LOMBOK_OTHER_CONSTRUCTORS = Set.of(
+            "lombok.AllArgsConstructor", "lombok.RequiredArgsConstructor", "lombok.Builder");
+
+    private final Set<String> generated = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement maskMe = processingEnv.getElementUtils().getTypeElement(MASK_ME);
+        if (maskMe == null) {
+            return false;
+        }
+
+        Set<TypeElement> types = new LinkedHashSet<>();
+        for (Element element : roundEnv.getElementsAnnotatedWith(maskMe)) {
+            if (element.getKind() == ElementKind.FIELD || element.getKind() == ElementKind.RECORD_COMPONENT) {
+                types.add((TypeElement) element.getEnclosingElement());
+            }
+        }
+
+        for (TypeElement type : types) {
+            String qualifiedName = type.getQualifiedName().toString();
+            if (generated.add(qualifiedName)) {
+                generate(type);
+            }
+        }
+        // Never claim @MaskMe, other processors may need it
+        return false;
+    }
+
+    private void generate(TypeElement type) {
+        String reason = unsupportedReason(type);
+        List<MaskerSource.Slot> slots = reason == null ? collectSlots(type) : null;
+        if (slots == null) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                    "MaskMe: no generated masker for " + type.getQualifiedName() + " ("
+                            + (reason != null ? reason : "fields are not accessible") + "), runtime engine is used", type);
+            return;
+        }
+
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String maskerSimpleName = maskerSimpleName(type, packageName);
+        MaskerSource source = new MaskerSource(packageName, maskerSimpleName,
+                type.getQualifiedName().toString(), type.getKind() == ElementKind.RECORD, slots);
+
+        String maskerName = packageName.isEmpty() ? maskerSimpleName : packageName + "." + maskerSimpleName;
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(maskerName, type);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source.render());
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "MaskMe: failed to write " + maskerName + ": " + e.getMessage(), type);
+        }
+    }
+
+    /**
+     * Builds the masker name: simple binary name with '$' replaced by '_' plus the suffix.
+     */
+    private String maskerSimpleName(TypeElement type, String packageName) {
+        String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        String simpleBinaryName = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+        return simpleBinaryName.replace('$', '_') + MASKER_SUFFIX;
+    }
+
+    private String unsupportedReason(TypeElement type) {
+        if (!type.getTypeParameters().isEmpty()) {
+            return "generic type";
+        }
+        Element current = type;
+        while (current instanceof TypeElement typeElement) {
+            if (typeElement.getModifiers().contains(Modifier.PRIVATE)) {
+                return "private type";
+            }
+            if (typeElement.getNestingKind() == NestingKind.LOCAL || typeElement.getNestingKind() == NestingKind.ANONYMOUS) {
+                return "local type";
+            }
+            if (typeElement.getNestingKind() == NestingKind.MEMBER
+                    && typeElement.getKind() == ElementKind.CLASS
+                    && !typeElement.getModifiers().contains(Modifier.STATIC)) {
+                return "inner class";
+            }
+            current = typeElement.getEnclosingElement();
+        }
+        if (type.getKind() == ElementKind.CLASS) {
+            TypeMirror superclass = type.getSuperclass();
+            if (superclass.getKind() != TypeKind.DECLARED
+                    || !"java.lang.Object".equals(erasedName(superclass))) {
+                return "class hierarchy";
+            }
+            if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+                return "abstract class";
+            }
+            if (!hasNoArgConstructor(type)) {
+                return "no accessible no-arg constructor";
+            }
+        } else if (type.getKind() != ElementKind.RECORD) {
+            return "unsupported kind " + type.getKind();
+        }
+        return null;
+    }
+
+    private List<MaskerSource.Slot> collectSlots(TypeElement type) {
+        List<MaskerSource.Slot> slots = new ArrayList<>();
+        if (type.getKind() == ElementKind.RECORD) {
+            for (RecordComponentElement component : type.getRecordComponents()) {
+                String name = component.getSimpleName().toString();
+                slots.add(slot(name, component.asType(), findMaskMe(component, type),
+                        "source." + name + "()", null));
+            }
+            return slots;
+        }
+
+        boolean lombokGetters = hasAnnotation(type, LOMBOK_DATA) || hasAnnotation(type, LOMBOK_GETTER);
+        boolean lombokSetters = hasAnnotation(type, LOMBOK_DATA) || hasAnnotation(type, LOMBOK_SETTER);
+        List<ExecutableElement> methods = ElementFilter.methodsIn(type.getEnclosedElements());
+
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            Set<Modifier> modifiers = field.getModifiers();
+            if (modifiers.contains(Modifier.STATIC)) {
+                continue;
+            }
+            if (modifiers.contains(Modifier.FINAL)) {
+                return null;
+            }
+            String name = field.getSimpleName().toString();
+            String readExpression;
+            String writeTemplate;
+            if (!modifiers.contains(Modifier.PRIVATE)) {
+                readExpression = "source." + name;
+                writeTemplate = "target." + name + " = %s";
+            } else {
+                String getter = accessorName(field, true);
+                String setter = accessorName(field, false);
+                boolean hasGetter = hasMethod(methods, getter, 0) || lombokGetters || hasAnnotation(field, LOMBOK_GETTER);
+                boolean hasSetter = hasMethod(methods, setter, 1) || lombokSetters || hasAnnotation(field, LOMBOK_SETTER);
+                if (!hasGetter || !hasSetter) {
+                    return null;
+                }
+                readExpression = "source." + getter + "()";
+                writeTemplate = "target." + setter + "(%s)";
+            }
+            slots.add(slot(name, field.asType(), getAnnotation(field, MASK_ME), readExpression, writeTemplate));
+        }
+        return slots;
+    }
+
+    private MaskerSource.Slot slot(String name, TypeMirror type, AnnotationMirror maskMe,
+                                   String readExpression, String writeTemplate) {
+        boolean primitive = type.getKind().isPrimitive();
+        String typeName = primitive ? type.toString() : erasedName(type);
+        String boxedName = primitive
+                ? processingEnv.getTypeUtils().boxedClass(processingEnv.getTypeUtils().getPrimitiveType(type.getKind()))
+                .getQualifiedName().toString()
+                : typeName;
+
+        List<String> conditions = null;
+        String maskValue = null;
+        if (maskMe != null) {
+            conditions = new ArrayList<>();
+            Map<? extends ExecutableElement, ? extends AnnotationValue> values =
+                    processingEnv.getElementUtils().getElementValuesWithDefaults(maskMe);
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet()) {
+                String attribute = entry.getKey().getSimpleName().toString();
+                if ("conditions".equals(attribute)) {
+                    for (Object condition : (List<?>) entry.getValue().getValue()) {
+                        TypeMirror conditionType = (TypeMirror) ((AnnotationValue) condition).getValue();
+                        conditions.add(erasedName(conditionType));
+                    }
+                } else if ("maskValue".equals(attribute)) {
+                    maskValue = (String) entry.getValue().getValue();
+                }
+            }
+        }
+
+        return new MaskerSource.Slot(name, typeName, boxedName, primitive, readExpression, writeTemplate,
+                conditions, maskValue == null ? null : processingEnv.getElementUtils().getConstantExpression(maskValue),
+                isEmbeddedCandidate(type));
+    }
+
+    /**
+     * Mirrors MaskProcessor's declared-type rule: only non-JDK, non-enum reference types
+     * may hold embedded objects worth recursing into. Collections, maps, optionals and
+     * reference arrays qualify when their element type does, or is not known statically.
+     */
+    private boolean isEmbeddedCandidate(TypeMirror type) {
+        TypeMirror elementType = containerElementType(type);
+        if (elementType != null) {
+            return elementType.getKind() != TypeKind.DECLARED && elementType.getKind() != TypeKind.ARRAY
+                    || "java.lang.Object".equals(erasedName(elementType))
+                    || containerElementType(elementType) != null
+                    || isEmbeddedCandidate(elementType);
+        }
+        if (type.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        Element element = ((DeclaredType) type).asElement();
+        if (element.getKind() == ElementKind.ENUM) {
+            return false;
+        }
+        String name = erasedName(type);
+        boolean nested = element.getEnclosingElement() instanceof TypeElement;
+        return !(name.startsWith("java.lang.")
+                || name.startsWith("java.time.")
+                || name.startsWith("java.math.")
+                || name.startsWith("java.net.")
+                || name.startsWith("java.io.")
+                || name.startsWith("java.nio.")
+                || name.startsWith("java.util.") && !nested);
+    }
+
+    /**
+     * Gets the element type of a container type (the value type for maps).
+     *
+     * @return the element type, java.lang.Object when unknown, null if the type is not a container
+     */
+    private TypeMirror containerElementType(TypeMirror type) {
+        if (type.getKind() == TypeKind.ARRAY) {
+            TypeMirror component = ((ArrayType) type).getComponentType();
+            return component.getKind().isPrimitive() ? null : component;
+        }
+        if (type.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        Types types = processingEnv.getTypeUtils();
+        TypeMirror erased = types.erasure(type);
+        List<? extends TypeMirror> arguments = ((DeclaredType) type).getTypeArguments();
+        if (types.isAssignable(erased, erasedType("java.util.Map"))) {
+            return arguments.size() == 2 ? arguments.get(1) : erasedType("java.lang.Object");
+        }
+        if (types.isAssignable(erased, erasedType("java.util.Collection"))
+                || types.isAssignable(erased, erasedType("java.util.Optional"))) {
+            return arguments.size() == 1 ? arguments.get(0) : erasedType("java.lang.Object");
+        }
+        return null;
+    }
+
+    private TypeMirror erasedType(String className) {
+        return processingEnv.getTypeUtils().erasure(processingEnv.getElementUtils().getTypeElement(className).asType());
+    }
+
+    private boolean hasNoArgConstructor(TypeElement type) {
+        List<ExecutableElement> constructors = ElementFilter.constructorsIn(type.getEnclosedElements());
+        for (ExecutableElement constructor : constructors) {
+            // The implicit default constructor is also reported here
+            if (constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE)) {
+                return true;
+            }
+        }
+        if (hasAnnotation(type, LOMBOK_NO_ARGS)) {
+            return true;
+        }
+        // @Data alone generates a no-arg constructor when there is nothing else
+        return constructors.isEmpty()
+                && LOMBOK_OTHER_CONSTRUCTORS.stream().noneMatch(name -> hasAnnotation(type, name));
+    }
+
+    /**
+     * Derives getter/setter names using the JavaBeans rules Lombok applies
+     * ("isActive" boolean -> isActive()/setActive()).
+     */
+    private String accessorName(VariableElement field, boolean getter) {
+        String name = field.getSimpleName().toString();
+        boolean primitiveBoolean = field.asType().getKind() == TypeKind.BOOLEAN;
+        if (primitiveBoolean && name.length() > 2 && name.startsWith("is") && Character.isUpperCase(name.charAt(2))) {
+            return getter ? name : "set" + name.substring(2);
+        }
+        String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        if (getter) {
+            return (primitiveBoolean ? "is" : "get") + capitalized;
+        }
+        return "set" + capitalized;
+    }
+
+    private AnnotationMirror findMaskMe(RecordComponentElement component, TypeElement record) {
+        AnnotationMirror mirror = getAnnotation(component, MASK_ME);
+        if (mirror != null) {
+            return mirror;
+        }
+        for (VariableElement field : ElementFilter.fieldsIn(record.getEnclosedElements())) {
+            if (field.getSimpleName().contentEquals(component.getSimpleName())) {
+                return getAnnotation(field, MASK_ME);
+            }
+        }
+        return null;
+    }
+
+    private static boolean hasMethod(List<ExecutableElement> methods, String name, int parameterCount) {
+        return methods.stream().anyMatch(method -> method.getSimpleName().contentEquals(name)
+                && method.getParameters().size() == parameterCount
+                && !method.getModifiers().contains(Modifier.PRIVATE));
+    }
+
+    private static boolean hasAnnotation(Element element, String annotationName) {
+        return getAnnotation(element, annotationName) != null;
+    }
+
+    private static AnnotationMirror getAnnotation(Element element, String annotationName) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+            if (annotationType.getQualifiedName().contentEquals(annotationName)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Source name of the erased type, without type-use annotations or type arguments.
+     */
+    private String erasedName(TypeMirror type) {
+        TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+        if (erased.getKind() == TypeKind.ARRAY) {
+            return erasedName(((ArrayType) erased).getComponentType()) + "[]";
+        }
+        if (erased.getKind().isPrimitive()) {
+            return erased.getKind().name().toLowerCase();
+        }
+        Element element = processingEnv.getTypeUtils().asElement(erased);
+        return element instanceof TypeElement typeElement ? typeElement.getQualifiedName().toString() : "java.lang.Object";
+    }
+}
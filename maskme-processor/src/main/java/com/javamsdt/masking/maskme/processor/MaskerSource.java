@@ -0,0 +1,197 @@
+/**
+ * Copyright (c) 2025: Ahmed Samy, All rights reserved.
+ * LinkedIn: https://www.linkedin.com/in/java-msdt/
+ * GitHub: https://github.com/JAVA-MSDT
+ * Email: serenitydiver@hotmail.com
+ */
+package com.javamsdt.masking.maskme.processor;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Renders the Java source of one generated masker.
+ *
+ * <p>Generated shape for a record:
+ * <pre>{@code
+ * public final class UserDtoMasker implements GeneratedMasker<UserDto> {
+ *     private static final Class<? extends MaskCondition>[] ID_CONDITIONS = new Class[]{AlwaysMaskCondition.class};
+ *
+ *     public UserDto mask(UserDto source, MaskerSupport support) {
+ *         boolean changed = false;
+ *         Long id = source.id();
+ *         if (support.shouldMask(ID_CONDITIONS, id, source)) {
+ *             id = (Long) support.convert("1000", Long.class, id, source, "id");
+ *             changed = true;
+ *         }
+ *         AddressDto address = support.processEmbedded(source.address());
+ *         changed |= address != source.address();
+ *         if (!changed) {
+ *             return source;
+ *         }
+ *         return new UserDto(id, address);
+ *     }
+ * }
+ * }</pre>
+ * Masked {@code int}, {@code long} and {@code double} slots are converted through the unboxed
+ * {@code convertInt}/{@code convertLong}/{@code convertDouble} callbacks.
+ * Regular classes are filled through a new instance and direct field writes or setters.
+ * The source is returned as-is when no value was masked and no embedded value was copied.
+ *
+ * @author Ahmed Samy
+ * @since 1.1.0
+ */
+final class MaskerSource {
+
+    private static final String API_PACKAGE = "com.javamsdt.masking.maskme.api.masking";
+    private static final Set<String> RESERVED_LOCALS = Set.of("source", "support", "target", "changed");
+
+    /**
+     * One field or record component of the masked type.
+     *
+     * @param name field/component name
+     * @param typeName erased source type name
+     * @param boxedName wrapper type name for primitives (same as typeName otherwise)
+     * @param primitive whether the declared type is primitive
+     * @param readExpression expression reading the value from {@code source}
+     * @param writeTemplate statement template writing {@code %s} to {@code target} (null for records)
+     * @param conditions condition class names, null when the slot has no @MaskMe
+     * @param maskValueLiteral Java literal of the mask value, null when the slot has no @MaskMe
+     * @param embedded whether the value may need recursive processing when it is not masked
+     */
+    record Slot(String name, String typeName, String boxedName, boolean primitive,
+                String readExpression, String writeTemplate,
+                List<String> conditions, String maskValueLiteral, boolean embedded) {
+
+        boolean masked() {
+            return conditions != null;
+        }
+
+        boolean mayChange() {
+            return masked() || embedded;
+        }
+
+        String local() {
+            return RESERVED_LOCALS.contains(name) ? name + "Value" : name;
+        }
+
+        String constant() {
+            return name.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase() + "_CONDITIONS";
+        }
+    }
+
+    private final String packageName;
+    private final String maskerSimpleName;
+    private final String typeName;
+    private final boolean isRecord;
+    private final List<Slot> slots;
+
+    MaskerSource(String packageName, String maskerSimpleName, String typeName, boolean isRecord, List<Slot> slots) {
+        this.packageName = packageName;
+        this.maskerSimpleName = maskerSimpleName;
+        this.typeName = typeName;
+        this.isRecord = isRecord;
+        this.slots = slots;
+    }
+
+    String render() {
+        StringBuilder out = new StringBuilder(2048);
+        if (!packageName.isEmpty()) {
+            out.append("package ").append(packageName).append(";\n\n");
+        }
+        out.append("import ").append(API_PACKAGE).append(".GeneratedMasker;\n");
+        out.append("import ").append(API_PACKAGE).append(".MaskCondition;\n");
+        out.append("import ").append(API_PACKAGE).append(".MaskerSupport;\n\n");
+        out.append("/**\n * Generated by MaskMeProcessor for {@link ").append(typeName).append("}. Do not edit.\n */\n");
+        out.append("@javax.annotation.processing.Generated(\"").append(MaskMeProcessor.class.getName()).append("\")\n");
+        out.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+        out.append("public final class ").append(maskerSimpleName)
+                .append(" implements GeneratedMasker<").append(typeName).append("> {\n\n");
+
+        for (Slot slot : slots) {
+            if (slot.masked()) {
+                out.append("    private static final Class<? extends MaskCondition>[] ").append(slot.constant())
+                        .append(" = new Class[]{")
+                        .append(slot.conditions().stream().map(c -> c + ".class").collect(Collectors.joining(", ")))
+                        .append("};\n");
+            }
+        }
+
+        out.append("\n    @Override\n    public ").append(typeName).append(" mask(").append(typeName)
+                .append(" source, MaskerSupport support) {\n");
+        boolean mayChange = slots.stream().anyMatch(Slot::mayChange);
+        if (!mayChange) {
+            out.append("        return source;\n    }\n}\n");
+            return out.toString();
+        }
+        out.append("        boolean changed = false;\n");
+        for (Slot slot : slots) {
+            renderSlot(out, slot);
+        }
+        out.append("        if (!changed) {\n            return source;\n        }\n");
+        if (isRecord) {
+            out.append("        return new ").append(typeName).append("(")
+                    .append(slots.stream().map(Slot::local).collect(Collectors.joining(", ")))
+                    .append(");\n");
+        } else {
+            out.append("        ").append(typeName).append(" target = new ").append(typeName).append("();\n");
+            for (Slot slot : slots) {
+                out.append("        ").append(String.format(slot.writeTemplate(), slot.local())).append(";\n");
+            }
+            out.append("        return target;\n");
+        }
+        out.append("    }\n}\n");
+        return out.toString();
+    }
+
+    private void renderSlot(StringBuilder out, Slot slot) {
+        String local = slot.local();
+        if (slot.masked()) {
+            out.append("        ").append(slot.typeName()).append(' ').append(local).append(" = ")
+                    .append(slot.readExpression()).append(";\n");
+            out.append("        if (support.shouldMask(").append(slot.constant()).append(", ").append(local)
+                    .append(", source)) {\n");
+            String primitiveConvert = primitiveConvert(slot);
+            if (primitiveConvert != null) {
+                out.append("            ").append(local).append(" = support.").append(primitiveConvert).append("(")
+                        .append(slot.maskValueLiteral()).append(", ").append(local).append(", source, \"")
+                        .append(slot.name()).append("\");\n");
+            } else {
+                out.append("            ").append(local).append(" = (").append(slot.boxedName()).append(") support.convert(")
+                        .append(slot.maskValueLiteral()).append(", ").append(slot.typeName()).append(".class, ")
+                        .append(local).append(", source, \"").append(slot.name()).append("\");\n");
+            }
+            out.append("            changed = true;\n");
+            if (slot.embedded()) {
+                // Unmasked embedded values are still processed, as in the reflective engine
+                out.append("        } else {\n");
+                out.append("            ").append(local).append(" = support.processEmbedded(").append(local).append(");\n");
+                out.append("            changed |= ").append(local).append(" != ").append(slot.readExpression()).append(";\n");
+            }
+            out.append("        }\n");
+        } else if (slot.embedded()) {
+            out.append("        ").append(slot.typeName()).append(' ').append(local)
+                    .append(" = support.processEmbedded(").append(slot.readExpression()).append(");\n");
+            out.append("        changed |= ").append(local).append(" != ").append(slot.readExpression()).append(";\n");
+        } else {
+            out.append("        ").append(slot.typeName()).append(' ').append(local).append(" = ")
+                    .append(slot.readExpression()).append(";\n");
+        }
+    }
+
+    /**
+     * @return the unboxed MaskerSupport conversion for int, long and double slots, null for other types
+     */
+    private static String primitiveConvert(Slot slot) {
+        if (!slot.primitive()) {
+            return null;
+        }
+        return switch (slot.typeName()) {
+            case "int" -> "convertInt";
+            case "long" -> "convertLong";
+            case "double" -> "convertDouble";
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,286 @@
+package com.javamsdt.masking.maskme.processor;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("MaskMeProcessor Tests")
+class MaskMeProcessorTest {
+
+    private static final String API = """
+            package com.javamsdt.masking.maskme.api.masking;
+            """;
+
+    @TempDir
+    Path workDir;
+
+    @Nested
+    @DisplayName("record types")
+    class RecordTypes {
+
+        @Test
+        @DisplayName("should generate masker reading components and calling the canonical constructor")
+        void shouldGenerateRecordMasker() throws IOException {
+            // Given
+            source("com/acme/Card.java", """
+                    package com.acme;
+                    import com.javamsdt.masking.maskme.api.masking.MaskMe;
+                    public record Card(@MaskMe(conditions = {Always.class}, maskValue = "0000") String number,
+                                       int cvv, Owner owner) {}
+                    """);
+            source("com/acme/Owner.java", "package com.acme; public record Owner(String name) {}");
+
+            // When
+            compile();
+            String masker = generated("com/acme/CardMasker.java");
+
+            // Then
+            assertTrue(masker.contains("public final class CardMasker implements GeneratedMasker<com.acme.Card>"));
+            assertTrue(masker.contains("if (support.shouldMask(NUMBER_CONDITIONS, number, source))"));
+            assertTrue(masker.contains("support.convert(\"0000\", java.lang.String.class, number, source, \"number\")"));
+            assertTrue(masker.contains("int cvv = source.cvv();"));
+            assertTrue(masker.contains("com.acme.Owner owner = support.processEmbedded(source.owner());"));
+            assertTrue(masker.contains("return new com.acme.Card(number, cvv, owner);"));
+        }
+
+        @Test
+        @DisplayName("should process masked embedded components when their conditions do not apply")
+        void shouldProcessUnmaskedEmbeddedComponents() throws IOException {
+            // Given
+            source("com/acme/Account.java", """
+                    package com.acme;
+                    import com.javamsdt.masking.maskme.api.masking.MaskMe;
+                    public record Account(@MaskMe(conditions = {Always.class}) Owner owner) {}
+                    """);
+            source("com/acme/Owner.java", "package com.acme; public record Owner(String name) {}");
+
+            // When
+            compile();
+            String masker = generated("com/acme/AccountMasker.java");
+
+            // Then
+            assertTrue(masker.contains("if (support.shouldMask(OWNER_CONDITIONS, owner, source))"));
+            assertTrue(masker.contains("} else {\n            owner = support.processEmbedded(owner);"));
+            assertTrue(masker.contains("changed |= owner != source.owner();"));
+        }
+
+        @Test
+        @DisplayName("should convert int, long and double components without boxing")
+        void shouldConvertPrimitivesWithoutBoxing() throws IOException {
+            // Given
+            source("com/acme/Reading.java", """
+                    package com.acme;
+                    import com.javamsdt.masking.maskme.api.masking.MaskMe;
+                    public record Reading(@MaskMe(conditions = {Always.class}, maskValue = "0") int count,
+                                          @MaskMe(conditions = {Always.class}, maskValue = "0") long total,
+                                          @MaskMe(conditions = {Always.class}, maskValue = "0.0") double value,
+                                          @MaskMe(conditions = {Always.class}, maskValue = "0") short code) {}
+                    """);
+
+            // When
+            compile();
+            String masker = generated("com/acme/ReadingMasker.java");
+
+            // Then
+            assertTrue(masker.contains("count = support.convertInt(\"0\", count, source, \"count\");"));
+            assertTrue(masker.contains("total = support.convertLong(\"0\", total, source, \"total\");"));
+            assertTrue(masker.contains("value = support.convertDouble(\"0.0\", value, source, \"value\");"));
+            assertTrue(masker.contains("code = (java.lang.Short) support.convert(\"0\", short.class, code, source, \"code\");"));
+        }
+
+        @Test
+        @DisplayName("should route containers of embedded types through processEmbedded")
+        void shouldProcessContainerComponents() throws IOException {
+            // Given
+            source("com/acme/Wallet.java", """
+                    package com.acme;
+                    import com.javamsdt.masking.maskme.api.masking.MaskMe;
+                    import java.util.List;
+                    import java.util.Map;
+                    public record Wallet(@MaskMe(conditions = {Always.class}) String id,
+                                         List<Owner> owners, Map<String, Owner> byName,
+                                         Owner[] history, List<String> tags) {}
+                    """);
+            source("com/acme/Owner.java", "package com.acme; public record Owner(String name) {}");
+
+            // When
+            compile();
+            String masker = generated("com/acme/WalletMasker.java");
+
+            // Then
+            assertTrue(masker.contains("java.util.List owners = support.processEmbedded(source.owners());"));
+            assertTrue(masker.contains("java.util.Map byName = support.processEmbedded(source.byName());"));
+            assertTrue(masker.contains("com.acme.Owner[] history = support.processEmbedded(source.history());"));
+            assertTrue(masker.contains("java.util.List tags = source.tags();"));
+        }
+
+        @Test
+        @DisplayName("should return the source when no value changed")
+        void shouldReturnSourceWhenUnchanged() throws IOException {
+            // Given
+            source("com/acme/Card.java", """
+                    package com.acme;
+                    import com.javamsdt.masking.maskme.api.masking.MaskMe;
+                    public record Card(@MaskMe(conditions = {Always.class}, maskValue = "0000") String number,
+                                       int cvv, Owner owner) {}
+                    """);
+            source("com/acme/Owner.java", "package com.acme; public record Owner(String name) {}");
+
+            // When
+            compile();
+            String masker = generated("com/acme/CardMasker.java");
+
+            // Then
+            assertTrue(masker.contains("boolean changed = false;"));
+            assertTrue(masker.contains("changed = true;"));
+            assertTrue(masker.contains("changed |= owner != source.owner();"));
+            assertTrue(masker.indexOf("if (!changed) {") < masker.indexOf("return new com.acme.Card("));
+        }
+
+        @Test
+        @DisplayName("should skip private nested records")
+        void shouldSkipPrivateNestedRecords() throws IOException {
+            // Given
+            source("com/acme/Holder.java", """
+                    package com.acme;
+                    import com.javamsdt.masking.maskme.api.masking.MaskMe;
+                    public class Holder {
+                        private record Secret(@MaskMe(conditions = {Always.class}) String value) {}
+                    }
+                    """);
+
+            // When
+            compile();
+
+            // Then
+            assertFalse(Files.exists(workDir.resolve("generated/com/acme/Holder_SecretMasker.java")));
+        }
+    }
+
+    @Nested
+    @DisplayName("regular classes")
+    class RegularClasses {
+
+        @Test
+        @DisplayName("should use setters and getters for private fields")
+        void shouldUseAccessorsForPrivateFields() throws IOException {
+            // Given
+            source("com/acme/Account.java", """
+                    package com.acme;
+                    import com.javamsdt.masking.maskme.api.masking.MaskMe;
+                    public class Account {
+                        @MaskMe(conditions = {Always.class})
+                        private String iban;
+                        private boolean active;
+                        public String getIban() { return iban; }
+                        public void setIban(String iban) { this.iban = iban; }
+                        public boolean isActive() { return active; }
+                        public void setActive(boolean active) { this.active = active; }
+                    }
+                    """);
+
+            // When
+            compile();
+            String masker = generated("com/acme/AccountMasker.java");
+
+            // Then
+            assertTrue(masker.contains("java.lang.String iban = source.getIban();"));
+            assertTrue(masker.contains("target.setIban(iban);"));
+            assertTrue(masker.contains("target.setActive(active);"));
+        }
+
+        @Test
+        @DisplayName("should skip classes without accessors for private fields")
+        void shouldSkipClassesWithoutAccessors() throws IOException {
+            // Given
+            source("com/acme/Hidden.java", """
+                    package com.acme;
+                    import com.javamsdt.masking.maskme.api.masking.MaskMe;
+                    public class Hidden {
+                        @MaskMe(conditions = {Always.class})
+                        private String value;
+                    }
+                    """);
+
+            // When
+            compile();
+
+            // Then
+            assertFalse(Files.exists(workDir.resolve("generated/com/acme/HiddenMasker.java")));
+        }
+    }
+
+    private void source(String path, String content) throws IOException {
+        Path file = workDir.resolve("src").resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+
+    private String generated(String path) throws IOException {
+        return Files.readString(workDir.resolve("generated").resolve(path));
+    }
+
+    private void compile() throws IOException {
+        source("com/javamsdt/masking/maskme/api/masking/MaskMe.java", API + """
+                import java.lang.annotation.*;
+                @Target({ElementType.FIELD, ElementType.PARAMETER, ElementType.RECORD_COMPONENT})
+                @Retention(RetentionPolicy.RUNTIME)
+                public @interface MaskMe {
+                    Class<? extends MaskCondition>[] conditions();
+                    String maskValue() default "****";
+                }
+                """);
+        source("com/javamsdt/masking/maskme/api/masking/MaskCondition.java", API + """
+                public interface MaskCondition { boolean shouldMask(Object fieldValue, Object containingObject); }
+                """);
+        source("com/javamsdt/masking/maskme/api/masking/GeneratedMasker.java", API + """
+                public interface GeneratedMasker<T> { T mask(T source, MaskerSupport support); }
+                """);
+        source("com/javamsdt/masking/maskme/api/masking/MaskerSupport.java", API + """
+                public interface MaskerSupport {
+                    boolean shouldMask(Class<? extends MaskCondition>[] conditions, Object fieldValue, Object containingObject);
+                    Object convert(String maskValue, Class<?> fieldType, Object originalValue, Object containingObject, String fieldName);
+                    int convertInt(String maskValue, int originalValue, Object containingObject, String fieldName);
+                    long convertLong(String maskValue, long originalValue, Object containingObject, String fieldName);
+                    double convertDouble(String maskValue, double originalValue, Object containingObject, String fieldName);
+                    <V> V processEmbedded(V value);
+                }
+                """);
+        source("com/acme/Always.java", """
+                package com.acme;
+                public class Always implements com.javamsdt.masking.maskme.api.masking.MaskCondition {
+                    public boolean shouldMask(Object fieldValue, Object containingObject) { return true; }
+                }
+                """);
+
+        List<String> arguments = new ArrayList<>(List.of(
+                "-proc:full",
+                "-processor", MaskMeProcessor.class.getName(),
+                "-s", Files.createDirectories(workDir.resolve("generated")).toString(),
+                "-d", Files.createDirectories(workDir.resolve("classes")).toString()));
+        try (Stream<Path> files = Files.walk(workDir.resolve("src"))) {
+            files.filter(file -> file.toString().endsWith(".java")).map(Path::toString).forEach(arguments::add);
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        ByteArrayOutputStream errors = new ByteArrayOutputStream();
+        int result = compiler.run(null, null, errors, arguments.toArray(String[]::new));
+        assertEquals(0, result, () -> "Compilation failed:\n" + errors.toString(StandardCharsets.UTF_8));
+    }
+}